@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import lombok.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.CachedRSocketRequesterRegistry;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of the lookup path of {@link CachedRSocketRequesterRegistry}.
+ * <p>
+ * Compares the lock-free read path with the former {@code ConcurrentHashMap#compute} based lookup,
+ * all threads are looking up the same handful of uris which is the common case of connector invocations.
+ * No connection is established since the rsocket requester connects lazily.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CachedRSocketRequesterRegistryBenchmark {
+
+    private static final int URI_COUNT = 4;
+
+    @Param({"lock-free", "compute"})
+    public String lookup;
+
+    private CachedRSocketRequesterRegistry registry;
+    private URI[] transportURIs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RSocketRequester.Builder builder = RSocketRequester.builder();
+        this.registry = "compute".equals(lookup)
+                ? new ComputeRSocketRequesterRegistry(builder)
+                : new CachedRSocketRequesterRegistry(builder);
+        this.transportURIs = new URI[URI_COUNT];
+        for (int i = 0; i < URI_COUNT; i++) {
+            this.transportURIs[i] = URI.create("tcp://127.0.0.1:" + (23400 + i));
+            this.registry.getRSocketRequester(this.transportURIs[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.registry.destroy();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RSocketRequester threads1(ThreadIndex threadIndex) {
+        return registry.getRSocketRequester(transportURIs[threadIndex.next()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RSocketRequester threads8(ThreadIndex threadIndex) {
+        return registry.getRSocketRequester(transportURIs[threadIndex.next()]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public RSocketRequester threads64(ThreadIndex threadIndex) {
+        return registry.getRSocketRequester(transportURIs[threadIndex.next()]);
+    }
+
+    /**
+     * The per thread uri index.
+     */
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+
+        private int index;
+
+        /**
+         * Gets next uri index.
+         *
+         * @return the next uri index
+         */
+        public int next() {
+            int current = index;
+            index = (current + 1) & (URI_COUNT - 1);
+            return current;
+        }
+    }
+
+    /**
+     * The rsocket requester registry which looks up the requester with {@code ConcurrentHashMap#compute} on every call.
+     */
+    static class ComputeRSocketRequesterRegistry extends CachedRSocketRequesterRegistry {
+
+        ComputeRSocketRequesterRegistry(RSocketRequester.Builder builder) {
+            super(builder);
+        }
+
+        @Override
+        public RSocketRequester getRSocketRequester(@NonNull URI transportURI) {
+            return rSocketRequesterCache.compute(transportURI, (uri, rSocketRequester) -> {
+                if (Objects.isNull(rSocketRequester) || rSocketRequester.isDisposed()) {
+                    return this.newRSocketRequester(uri);
+                }
+                return rSocketRequester;
+            });
+        }
+    }
+}
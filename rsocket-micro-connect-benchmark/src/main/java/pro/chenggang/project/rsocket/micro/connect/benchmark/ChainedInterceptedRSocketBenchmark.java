@@ -0,0 +1,243 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.util.DefaultPayload;
+import io.rsocket.util.RSocketProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.DefaultRSocketExchange;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RSocketExecutionAfterInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RSocketExecutionBeforeInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
+import pro.chenggang.project.rsocket.micro.connect.core.interceptor.ChainedInterceptedRSocket;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType.REQUEST_RESPONSE;
+import static pro.chenggang.project.rsocket.micro.connect.core.defaults.DefaultRSocketExchange.newExchange;
+
+/**
+ * The benchmark of the interceptor overhead of a request-response execution.
+ * <p>
+ * Compares the fused interceptor pipeline of {@link ChainedInterceptedRSocket} with the previous
+ * {@code Mono.usingWhen} based pipeline, with 0, 2 and 8 pass-through interceptors around an in-memory rsocket.
+ * The {@code fused-sync} pipeline uses {@link SyncRSocketExecutionInterceptor}s instead of reactive interceptors.
+ * Run with {@code -prof gc} to get the allocations per call.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainedInterceptedRSocketBenchmark {
+
+    private static final RemoteRSocketInfo REMOTE_RSOCKET_INFO = RemoteRSocketInfo.builder()
+            .host("127.0.0.1")
+            .port(23408)
+            .build();
+
+    @Param({"0", "2", "8"})
+    private int interceptorCount;
+
+    @Param({"fused", "fused-sync", "using-when"})
+    private String pipeline;
+
+    private RSocket rSocket;
+    private Payload payload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<RSocketExecutionBeforeInterceptor> beforeInterceptors = new ArrayList<>();
+        List<RSocketExecutionAfterInterceptor> afterInterceptors = new ArrayList<>();
+        for (int i = 0; i < interceptorCount; i++) {
+            if ("fused-sync".equals(pipeline)) {
+                SyncPassThroughInterceptor interceptor = new SyncPassThroughInterceptor();
+                beforeInterceptors.add(interceptor);
+                afterInterceptors.add(interceptor);
+            } else {
+                PassThroughInterceptor interceptor = new PassThroughInterceptor();
+                beforeInterceptors.add(interceptor);
+                afterInterceptors.add(interceptor);
+            }
+        }
+        RSocket source = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                return Mono.just(payload);
+            }
+        };
+        if (pipeline.startsWith("fused")) {
+            this.rSocket = new BenchmarkChainedInterceptedRSocket(source, beforeInterceptors, afterInterceptors);
+        } else {
+            this.rSocket = new UsingWhenInterceptedRSocket(source, beforeInterceptors, afterInterceptors);
+        }
+        this.payload = DefaultPayload.create("data");
+    }
+
+    @Benchmark
+    public Payload requestResponse() {
+        return rSocket.requestResponse(payload).block();
+    }
+
+    /**
+     * The interceptor delegating to the chain directly.
+     */
+    static class PassThroughInterceptor implements RSocketExecutionBeforeInterceptor, RSocketExecutionAfterInterceptor {
+
+        @Override
+        public Mono<Void> interceptBefore(RSocketExchange exchange, RSocketInterceptorChain chain) {
+            return chain.next(exchange);
+        }
+
+        @Override
+        public Mono<Void> interceptAfter(RSocketExchange exchange, RSocketInterceptorChain chain) {
+            return chain.next(exchange);
+        }
+    }
+
+    /**
+     * The synchronous interceptor doing nothing.
+     */
+    static class SyncPassThroughInterceptor implements SyncRSocketExecutionInterceptor {
+
+    }
+
+    /**
+     * The chained intercepted rsocket with the known remote rsocket info.
+     */
+    static class BenchmarkChainedInterceptedRSocket extends ChainedInterceptedRSocket {
+
+        BenchmarkChainedInterceptedRSocket(RSocket source,
+                                           List<RSocketExecutionBeforeInterceptor> beforeInterceptors,
+                                           List<RSocketExecutionAfterInterceptor> afterInterceptors) {
+            super(source,
+                    WellKnownMimeType.APPLICATION_CBOR,
+                    WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA,
+                    REMOTE_RSOCKET_INFO,
+                    beforeInterceptors,
+                    afterInterceptors
+            );
+        }
+    }
+
+    /**
+     * The request-response part of the previous {@code Mono.usingWhen} based pipeline.
+     */
+    static class UsingWhenInterceptedRSocket extends RSocketProxy {
+
+        private final RSocketExecutionBeforeInterceptorChain beforeChain;
+        private final RSocketExecutionAfterInterceptorChain afterChain;
+        private final Cache<RSocket, RemoteRSocketInfo> remoteRSocketInfoCache;
+
+        UsingWhenInterceptedRSocket(RSocket source,
+                                    List<RSocketExecutionBeforeInterceptor> beforeInterceptors,
+                                    List<RSocketExecutionAfterInterceptor> afterInterceptors) {
+            super(source);
+            this.beforeChain = new RSocketExecutionBeforeInterceptorChain(beforeInterceptors);
+            this.afterChain = new RSocketExecutionAfterInterceptorChain(afterInterceptors);
+            this.remoteRSocketInfoCache = Caffeine.newBuilder()
+                    .initialCapacity(1)
+                    .weakKeys()
+                    .build();
+            this.remoteRSocketInfoCache.put(source, REMOTE_RSOCKET_INFO);
+        }
+
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            Mono<Payload> monoExecution = Mono.defer(() -> super.requestResponse(payload));
+            return Mono.deferContextual(contextView -> Mono.justOrEmpty(contextView)
+                    .defaultIfEmpty(Context.empty())
+                    .flatMap(context -> {
+                        return Mono.usingWhen(
+                                        initializeAttributes(),
+                                        attributes -> {
+                                            return Mono.just(this.beforeChain)
+                                                    .flatMap(chain -> {
+                                                        return Mono.defer(() -> {
+                                                            DefaultRSocketExchange exchange = newExchange(REQUEST_RESPONSE,
+                                                                    payload,
+                                                                    WellKnownMimeType.APPLICATION_CBOR,
+                                                                    WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA,
+                                                                    attributes
+                                                            );
+                                                            return chain.next(exchange);
+                                                        });
+                                                    })
+                                                    .then(monoExecution);
+                                        },
+                                        attributes -> invokeAfter(attributes, null),
+                                        (attributes, err) -> invokeAfter(attributes, err),
+                                        attributes -> invokeAfter(attributes, null)
+                                )
+                                .contextWrite(context);
+                    })
+            );
+        }
+
+        private Mono<Map<String, Object>> initializeAttributes() {
+            return Mono.fromSupplier(() -> {
+                final ConcurrentHashMap<String, Object> attributes = new ConcurrentHashMap<>();
+                RemoteRSocketInfo remoteRSocketInfo = this.remoteRSocketInfoCache.get(source, rsocket -> null);
+                if (remoteRSocketInfo != null) {
+                    attributes.putIfAbsent(RemoteRSocketInfo.class.getName(), remoteRSocketInfo);
+                }
+                return attributes;
+            });
+        }
+
+        private Mono<Void> invokeAfter(Map<String, Object> attributes, Throwable err) {
+            DefaultRSocketExchange exchange = newExchange(REQUEST_RESPONSE,
+                    WellKnownMimeType.APPLICATION_CBOR,
+                    WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA,
+                    attributes,
+                    err
+            );
+            return afterChain.next(exchange);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborDecoder;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+
+/**
+ * The benchmark of decoding connector header metadata on the server side.
+ * <p>
+ * Compares the Jackson CBOR decoder with the lazy CBOR decoder when the handler reads a single header,
+ * the metadata is encoded either by the Jackson encoder or by the compact encoder.
+ * Run with {@code -prof gc} to get the allocations per call.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectorMetadataDecoderBenchmark {
+
+    private static final ResolvableType HEADERS_TYPE = ResolvableType.forClass(HttpHeaders.class);
+    private static final ResolvableType ENCODE_TYPE = ResolvableType.forClass(MultiValueMap.class);
+    private static final String READ_HEADER_NAME = "X-Trace-Id";
+
+    @Param({"jackson", "compact"})
+    private String encoding;
+
+    private NettyDataBufferFactory bufferFactory;
+    private Jackson2CborDecoder jacksonDecoder;
+    private ConnectorMetadataCborDecoder lazyDecoder;
+    private ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        ObjectMapper objectMapper = new ObjectMapper(new CBORFactory());
+        this.jacksonDecoder = new Jackson2CborDecoder(objectMapper, CONNECTOR_HEADER_MEDIA_TYPE);
+        this.lazyDecoder = new ConnectorMetadataCborDecoder();
+        LinkedMultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+        headers.add("x-user-id", "user-1");
+        headers.add("x-token", "0c2f6a3e-4a0b-4f55-9a45-6f1d2b1c1e0d");
+        headers.add("x-trace-id", "6f1d2b1c1e0d4a0b");
+        headers.add("accept-language", "zh-CN");
+        headers.add("accept-language", "en-US");
+        headers.add("user-agent", "rsocket-micro-connect");
+        headers.add("x-forwarded-for", "10.0.0.1");
+        headers.add("x-forwarded-for", "10.0.0.2");
+        DataBuffer dataBuffer;
+        if ("jackson".equals(encoding)) {
+            dataBuffer = new Jackson2CborEncoder(objectMapper, CONNECTOR_HEADER_MEDIA_TYPE)
+                    .encodeValue(headers, bufferFactory, ENCODE_TYPE, CONNECTOR_HEADER_MEDIA_TYPE, Collections.emptyMap());
+        } else {
+            dataBuffer = new ConnectorMetadataCborEncoder()
+                    .encodeValue(headers, bufferFactory, ENCODE_TYPE, CONNECTOR_HEADER_MEDIA_TYPE, Collections.emptyMap());
+        }
+        this.encoded = ((NettyDataBuffer) dataBuffer).getNativeBuffer();
+        this.verifyCompatibility(headers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.encoded.release();
+    }
+
+    @Benchmark
+    public List<String> jackson() {
+        HttpHeaders httpHeaders = (HttpHeaders) jacksonDecoder.decode(this.retainedBuffer(),
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        return httpHeaders.get(READ_HEADER_NAME);
+    }
+
+    @Benchmark
+    public List<String> lazy() {
+        MultiValueMap<String, String> httpHeaders = lazyDecoder.decode(this.retainedBuffer(),
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        return httpHeaders.get(READ_HEADER_NAME);
+    }
+
+    private DataBuffer retainedBuffer() {
+        return bufferFactory.wrap(encoded.retainedDuplicate());
+    }
+
+    private void verifyCompatibility(MultiValueMap<String, String> headers) {
+        HttpHeaders expected = new HttpHeaders();
+        expected.addAll(headers);
+        Object jacksonDecoded = jacksonDecoder.decode(this.retainedBuffer(),
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        MultiValueMap<String, String> lazyDecoded = lazyDecoder.decode(this.retainedBuffer(),
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        if (!expected.get(READ_HEADER_NAME).equals(lazyDecoded.get(READ_HEADER_NAME))
+                || !expected.get("accept-language").equals(lazyDecoded.get("ACCEPT-LANGUAGE"))
+                || lazyDecoded.get("x-absent") != null
+                || !lazyDecoded.equals(jacksonDecoded)) {
+            throw new IllegalStateException("Lazy decoded headers do not match: " + lazyDecoded + " vs " + jacksonDecoded);
+        }
+    }
+}
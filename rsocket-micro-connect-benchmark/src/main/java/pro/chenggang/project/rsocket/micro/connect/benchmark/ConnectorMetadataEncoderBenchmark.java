@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+
+/**
+ * The benchmark of encoding connector header metadata.
+ * <p>
+ * Compares the Jackson CBOR encoder with the compact CBOR encoder, both write into pooled buffers.
+ * Run with {@code -prof gc} to get the allocations per call.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectorMetadataEncoderBenchmark {
+
+    private static final ResolvableType HEADERS_TYPE = ResolvableType.forClass(MultiValueMap.class);
+
+    private NettyDataBufferFactory bufferFactory;
+    private Jackson2CborEncoder jacksonEncoder;
+    private ConnectorMetadataCborEncoder compactEncoder;
+    private MultiValueMap<String, String> headers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        ObjectMapper objectMapper = new ObjectMapper(new CBORFactory());
+        this.jacksonEncoder = new Jackson2CborEncoder(objectMapper, CONNECTOR_HEADER_MEDIA_TYPE);
+        this.compactEncoder = new ConnectorMetadataCborEncoder();
+        LinkedMultiValueMap<String, String> multiValueMap = new LinkedMultiValueMap<>();
+        multiValueMap.add("x-user-id", "user-1");
+        multiValueMap.add("x-token", "0c2f6a3e-4a0b-4f55-9a45-6f1d2b1c1e0d");
+        multiValueMap.add("x-trace-id", "6f1d2b1c1e0d4a0b");
+        multiValueMap.add("accept-language", "zh-CN");
+        multiValueMap.add("accept-language", "en-US");
+        this.headers = CollectionUtils.unmodifiableMultiValueMap(multiValueMap);
+        this.verifyCompatibility(objectMapper);
+    }
+
+    @Benchmark
+    public int jackson() {
+        DataBuffer dataBuffer = jacksonEncoder.encodeValue(headers,
+                bufferFactory,
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        int size = dataBuffer.readableByteCount();
+        DataBufferUtils.release(dataBuffer);
+        return size;
+    }
+
+    @Benchmark
+    public int compact() {
+        DataBuffer dataBuffer = compactEncoder.encodeValue(headers,
+                bufferFactory,
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        int size = dataBuffer.readableByteCount();
+        DataBufferUtils.release(dataBuffer);
+        return size;
+    }
+
+    private void verifyCompatibility(ObjectMapper objectMapper) {
+        Jackson2CborDecoder jacksonDecoder = new Jackson2CborDecoder(objectMapper, CONNECTOR_HEADER_MEDIA_TYPE);
+        DataBuffer dataBuffer = compactEncoder.encodeValue(headers,
+                bufferFactory,
+                HEADERS_TYPE,
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        Object decoded = jacksonDecoder.decode(dataBuffer,
+                ResolvableType.forClass(HttpHeaders.class),
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                Collections.emptyMap()
+        );
+        if (!(decoded instanceof HttpHeaders httpHeaders) || !httpHeaders.equals(new HttpHeaders(headers))) {
+            throw new IllegalStateException("Compact encoded headers can not be decoded by jackson: " + decoded);
+        }
+    }
+}
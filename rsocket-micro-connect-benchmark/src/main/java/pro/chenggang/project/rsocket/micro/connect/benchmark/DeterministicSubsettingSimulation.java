@@ -0,0 +1,126 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketSubsetFilter;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketSubsetFilter.SubsetCoordinate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The simulation of deterministic subsetting between a client fleet and a server fleet.
+ * <p>
+ * Every client spreads the same count of requests evenly over the servers it connects to.
+ * The total connections, the connections per server and the requests per server are reported for the full mesh,
+ * the subsets of the hashed coordinates and the subsets of the peer-indexed coordinates,
+ * along with the connections changed by removing one server.
+ * <pre>
+ * java -cp rsocket-micro-connect-benchmark/target/benchmarks.jar \
+ *   pro.chenggang.project.rsocket.micro.connect.benchmark.DeterministicSubsettingSimulation 400 300 10
+ * </pre>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class DeterministicSubsettingSimulation {
+
+    private static final int REQUESTS_PER_CLIENT = 10_000;
+
+    public static void main(String[] args) {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int servers = args.length > 1 ? Integer.parseInt(args[1]) : 300;
+        int subsetSize = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        List<URI> serverURIs = new ArrayList<>(servers);
+        for (int i = 0; i < servers; i++) {
+            serverURIs.add(URI.create("tcp://10.0." + (i / 250) + "." + (i % 250 + 1) + ":23408"));
+        }
+        System.out.printf("clients: %d, servers: %d, subset size: %d%n", clients, servers, subsetSize);
+        System.out.printf("%-14s %12s %10s %10s %10s %14s %14s %12s%n",
+                "mode", "connections", "conn-min", "conn-max", "conn-cv", "requests-min", "requests-max", "churn");
+        simulate("full-mesh", clients, serverURIs, servers);
+        simulate("hashed", clients, serverURIs, subsetSize);
+        simulate("peer-indexed", clients, serverURIs, subsetSize);
+    }
+
+    private static void simulate(String mode, int clients, List<URI> serverURIs, int subsetSize) {
+        Map<URI, Integer> connections = new HashMap<>();
+        Map<URI, Double> requests = new HashMap<>();
+        List<List<URI>> subsets = subsets(mode, clients, serverURIs, subsetSize);
+        for (List<URI> subset : subsets) {
+            for (URI uri : subset) {
+                connections.merge(uri, 1, Integer::sum);
+                requests.merge(uri, (double) REQUESTS_PER_CLIENT / subset.size(), Double::sum);
+            }
+        }
+        List<URI> remainingURIs = new ArrayList<>(serverURIs);
+        URI removedURI = remainingURIs.remove(serverURIs.size() / 2);
+        List<List<URI>> remainingSubsets = subsets(mode, clients, remainingURIs, subsetSize);
+        long churn = 0;
+        long totalConnections = 0;
+        for (int i = 0; i < clients; i++) {
+            Set<URI> before = new HashSet<>(subsets.get(i));
+            before.remove(removedURI);
+            Set<URI> after = new HashSet<>(remainingSubsets.get(i));
+            for (URI uri : after) {
+                if (!before.remove(uri)) {
+                    churn++;
+                }
+            }
+            churn += before.size();
+            totalConnections += subsets.get(i).size();
+        }
+        int minConnections = Integer.MAX_VALUE;
+        int maxConnections = 0;
+        double minRequests = Double.MAX_VALUE;
+        double maxRequests = 0;
+        double sum = 0;
+        double squareSum = 0;
+        for (URI uri : serverURIs) {
+            int serverConnections = connections.getOrDefault(uri, 0);
+            double serverRequests = requests.getOrDefault(uri, 0D);
+            minConnections = Math.min(minConnections, serverConnections);
+            maxConnections = Math.max(maxConnections, serverConnections);
+            minRequests = Math.min(minRequests, serverRequests);
+            maxRequests = Math.max(maxRequests, serverRequests);
+            sum += serverConnections;
+            squareSum += (double) serverConnections * serverConnections;
+        }
+        double mean = sum / serverURIs.size();
+        double cv = mean == 0 ? 0 : Math.sqrt(Math.max(squareSum / serverURIs.size() - mean * mean, 0)) / mean;
+        System.out.printf("%-14s %12d %10d %10d %10.3f %14.0f %14.0f %12d%n",
+                mode, totalConnections, minConnections, maxConnections, cv, minRequests, maxRequests, churn);
+    }
+
+    private static List<List<URI>> subsets(String mode, int clients, List<URI> serverURIs, int subsetSize) {
+        List<List<URI>> subsets = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            SubsetCoordinate coordinate = switch (mode) {
+                case "hashed" -> SubsetCoordinate.hashed("client-" + i + ":8080");
+                case "peer-indexed" -> new SubsetCoordinate((double) i / clients, clients);
+                default -> new SubsetCoordinate(0D, 0);
+            };
+            subsets.add(RSocketSubsetFilter.subset(serverURIs, coordinate, subsetSize));
+        }
+        return subsets;
+    }
+}
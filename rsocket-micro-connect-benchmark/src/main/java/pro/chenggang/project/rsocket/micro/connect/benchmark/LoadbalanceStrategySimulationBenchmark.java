@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import io.rsocket.Payload;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.loadbalance.LoadbalanceRSocketClient;
+import io.rsocket.loadbalance.LoadbalanceStrategy;
+import io.rsocket.loadbalance.LoadbalanceTarget;
+import io.rsocket.loadbalance.RoundRobinLoadbalanceStrategy;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.util.DefaultPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.PowerOfTwoChoicesLoadbalanceStrategy;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The load-balance simulation of heterogeneous loopback rsocket servers.
+ * <p>
+ * Three healthy servers answer in 1 ms and a degraded one answers in 10 ms, the request-responses are sent
+ * from many threads through a {@link LoadbalanceRSocketClient} with either round-robin or power-of-two-choices,
+ * so the strategy sees the pooled connections of the load-balancer just like in production.
+ * Compare the {@code p0.99} of the sampled latencies.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadbalanceStrategySimulationBenchmark {
+
+    private static final Duration[] SERVER_LATENCIES = {
+            Duration.ofMillis(1),
+            Duration.ofMillis(1),
+            Duration.ofMillis(1),
+            Duration.ofMillis(10)
+    };
+
+    @Param({"round-robin", "power-of-two-choices"})
+    public String strategy;
+
+    private List<CloseableChannel> servers;
+    private LoadbalanceRSocketClient rSocketClient;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.servers = new ArrayList<>(SERVER_LATENCIES.length);
+        List<LoadbalanceTarget> targets = new ArrayList<>(SERVER_LATENCIES.length);
+        for (Duration latency : SERVER_LATENCIES) {
+            CloseableChannel server = RSocketServer.create(SocketAcceptor.forRequestResponse(payload -> Mono.delay(latency)
+                            .thenReturn(payload)))
+                    .bind(TcpServerTransport.create("127.0.0.1", 0))
+                    .block();
+            this.servers.add(server);
+            int port = server.address().getPort();
+            targets.add(LoadbalanceTarget.from("127.0.0.1:" + port, TcpClientTransport.create("127.0.0.1", port)));
+        }
+        LoadbalanceStrategy loadbalanceStrategy = "round-robin".equals(strategy)
+                ? new RoundRobinLoadbalanceStrategy()
+                : new PowerOfTwoChoicesLoadbalanceStrategy(Duration.ofSeconds(1));
+        this.rSocketClient = LoadbalanceRSocketClient.builder(Mono.just(targets))
+                .connector(RSocketConnector.create())
+                .loadbalanceStrategy(loadbalanceStrategy)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.rSocketClient.dispose();
+        this.servers.forEach(CloseableChannel::dispose);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String requestResponse() {
+        return rSocketClient.requestResponse(Mono.fromSupplier(() -> DefaultPayload.create("data")))
+                .map(payload -> {
+                    String data = payload.getDataUtf8();
+                    payload.release();
+                    return data;
+                })
+                .block();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import io.rsocket.SocketAcceptor;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.util.DefaultPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.util.MimeTypeUtils;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.CachedRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.PooledRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRequesterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The request-response throughput benchmark of the pooled rsocket requester registry.
+ * <p>
+ * Runs a loopback tcp echo server and sends blocking request-responses from many threads through either
+ * the single connection of {@link CachedRSocketRequesterRegistry} or a {@link PooledRSocketRequesterRegistry}
+ * of the given size. The throughput only scales with the pool size when there are enough cores for the
+ * event loops of the connections.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PooledRSocketRequesterRegistryBenchmark {
+
+    @Param({"cached", "1", "2", "4", "8"})
+    public String poolSize;
+
+    private CloseableChannel server;
+    private RSocketRequesterRegistry registry;
+    private URI transportURI;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.server = RSocketServer.create(SocketAcceptor.forRequestResponse(payload -> {
+                    String data = payload.getDataUtf8();
+                    payload.release();
+                    return Mono.just(DefaultPayload.create(data));
+                }))
+                .bind(TcpServerTransport.create("127.0.0.1", 0))
+                .block();
+        this.transportURI = URI.create("tcp://127.0.0.1:" + server.address().getPort());
+        this.registry = "cached".equals(poolSize)
+                ? new CachedRSocketRequesterRegistry(newBuilder())
+                : new PooledRSocketRequesterRegistry(PooledRSocketRequesterRegistryBenchmark::newBuilder, Integer.parseInt(poolSize));
+        String echo = this.requestResponse();
+        if (!"data".equals(echo)) {
+            throw new IllegalStateException("Unexpected response: " + echo);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        ((DisposableBean) this.registry).destroy();
+        this.server.dispose();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String requestResponse() {
+        return registry.getRSocketRequester(transportURI)
+                .route("echo")
+                .data("data")
+                .retrieveMono(String.class)
+                .block();
+    }
+
+    private static RSocketRequester.Builder newBuilder() {
+        return RSocketRequester.builder().dataMimeType(MimeTypeUtils.TEXT_PLAIN);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.RSocketMicroConnector;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.CachedRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RSocketMicroConnectorMethod;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of binding connector method args into a connector execution.
+ * <p>
+ * The returned publisher is not subscribed, so only the arg binding and request assembly are measured.
+ * Run with {@code -prof gc} to get the allocations per call.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RSocketMicroConnectorMethodBenchmark {
+
+    private CachedRSocketRequesterRegistry registry;
+    private RSocketMicroConnectorMethod noArgMethod;
+    private RSocketMicroConnectorMethod fullArgsMethod;
+    private Object[] fullArgs;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.registry = new CachedRSocketRequesterRegistry(RSocketRequester.builder());
+        this.noArgMethod = new RSocketMicroConnectorMethod(BenchmarkConnector.class,
+                BenchmarkConnector.class.getMethod("getData"),
+                null,
+                Collections.emptyList()
+        );
+        this.fullArgsMethod = new RSocketMicroConnectorMethod(BenchmarkConnector.class,
+                BenchmarkConnector.class.getMethod("postData",
+                        String.class,
+                        String.class,
+                        String.class,
+                        String.class,
+                        Integer.class,
+                        BenchmarkBody.class
+                ),
+                null,
+                Collections.emptyList()
+        );
+        this.fullArgs = new Object[]{"user-1", "token", "trace-1", "2025-01-01", 10, new BenchmarkBody("body")};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.registry.destroy();
+    }
+
+    @Benchmark
+    public Publisher<?> noArg() {
+        return noArgMethod.execute(registry, null);
+    }
+
+    @Benchmark
+    public Publisher<?> fullArgs() {
+        return fullArgsMethod.execute(registry, fullArgs);
+    }
+
+    /**
+     * The benchmark body.
+     *
+     * @param value the value
+     */
+    public record BenchmarkBody(String value) {
+    }
+
+    /**
+     * The benchmark connector.
+     */
+    @RSocketMicroConnector("tcp://127.0.0.1:23408")
+    public interface BenchmarkConnector {
+
+        @MessageMapping("/server/data")
+        Mono<String> getData();
+
+        @MessageMapping("/server/data/{userId}")
+        Mono<String> postData(@PathVariable("userId") String userId,
+                              @RequestHeader(name = "x-token") String token,
+                              @RequestHeader(name = "x-trace") String trace,
+                              @RequestParam("date") String date,
+                              @RequestParam("size") Integer size,
+                              @RequestBody BenchmarkBody body);
+    }
+}
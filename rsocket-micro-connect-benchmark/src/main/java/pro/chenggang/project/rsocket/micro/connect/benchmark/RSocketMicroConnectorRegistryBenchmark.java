@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import pro.chenggang.project.rsocket.micro.connect.benchmark.RSocketMicroConnectorMethodBenchmark.BenchmarkBody;
+import pro.chenggang.project.rsocket.micro.connect.benchmark.RSocketMicroConnectorMethodBenchmark.BenchmarkConnector;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.CachedRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.DefaultRSocketMicroConnectorRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RSocketMicroConnectorProxy;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RSocketMicroConnectorRegistry;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of looking up a connector dynamically and invoking it.
+ * <p>
+ * Compares the cached connector instance of {@link DefaultRSocketMicroConnectorRegistry} with the former
+ * behavior of a new proxy with an empty method cache per lookup, which compiles the connector method again.
+ * The returned publisher is not subscribed. Run with {@code -prof gc} to get the allocations per call.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RSocketMicroConnectorRegistryBenchmark {
+
+    @Param({"cached", "new-proxy"})
+    public String lookup;
+
+    private CachedRSocketRequesterRegistry registry;
+    private RSocketMicroConnectorRegistry connectorRegistry;
+    private BenchmarkBody body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.registry = new CachedRSocketRequesterRegistry(RSocketRequester.builder());
+        this.connectorRegistry = "new-proxy".equals(lookup)
+                ? new NewProxyRSocketMicroConnectorRegistry(registry)
+                : new DefaultRSocketMicroConnectorRegistry(registry, null, Collections.emptyList());
+        this.body = new BenchmarkBody("body");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.registry.destroy();
+    }
+
+    @Benchmark
+    public Publisher<?> lookupAndInvoke() {
+        return connectorRegistry.getRSocketConnectorInstance(BenchmarkConnector.class)
+                .postData("user-1", "token", "trace-1", "2025-01-01", 10, body);
+    }
+
+    /**
+     * The connector registry which creates a new proxy with an empty method cache on every lookup.
+     *
+     * @param registry the rsocket requester registry
+     */
+    record NewProxyRSocketMicroConnectorRegistry(CachedRSocketRequesterRegistry registry) implements RSocketMicroConnectorRegistry {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getRSocketConnectorInstance(Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(),
+                    new Class[]{type},
+                    new RSocketMicroConnectorProxy<>(type, registry, null, Collections.emptyList())
+            );
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.benchmark;
+
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.util.pattern.PathPatternRouteMatcher;
+import pro.chenggang.project.rsocket.micro.connect.core.interceptor.SetupSocketAcceptorInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.AttributeLifecycleRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborDecoder;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.SharedMetadataExtractor;
+import pro.chenggang.project.rsocket.micro.connect.spring.server.EnhancedRSocketMessageHandler;
+import pro.chenggang.project.rsocket.micro.connect.spring.server.argument.ConnectorHeaderHandlerMethodArgumentResolver;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_METADATA_KEY;
+
+/**
+ * The end-to-end request-response benchmark of the server side metadata extraction.
+ * <p>
+ * Runs a loopback tcp server with the attribute lifecycle interceptor and the enhanced message handler,
+ * either extracting the request metadata in both or sharing the metadata extracted by the interceptor.
+ * Run with {@code -prof gc} to get the allocations per request.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SharedMetadataExtractorBenchmark {
+
+    private static final MimeType CONNECTOR_HEADER_MIME_TYPE = MimeTypeUtils.parseMimeType(CONNECTOR_HEADER_MEDIA_TYPE.toString());
+
+    @Param({"false", "true"})
+    private boolean shared;
+
+    private CloseableChannel server;
+    private RSocketRequester requester;
+    private HttpHeaders headers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RSocketStrategies strategies = RSocketStrategies.builder()
+                .encoders(encoders -> encoders.add(0, new ConnectorMetadataCborEncoder()))
+                .decoders(decoders -> decoders.add(0, new ConnectorMetadataCborDecoder()))
+                .routeMatcher(new PathPatternRouteMatcher())
+                .metadataExtractorRegistry(metadataExtractorRegistry -> {
+                    metadataExtractorRegistry.metadataToExtract(CONNECTOR_HEADER_MEDIA_TYPE,
+                            HttpHeaders.class,
+                            CONNECTOR_HEADER_METADATA_KEY
+                    );
+                })
+                .build();
+        SharedMetadataExtractor sharedMetadataExtractor = new SharedMetadataExtractor(strategies.metadataExtractor());
+        EnhancedRSocketMessageHandler handler = new EnhancedRSocketMessageHandler();
+        handler.setRouteMatcher(strategies.routeMatcher());
+        handler.setRSocketStrategies(strategies);
+        if (shared) {
+            handler.setMetadataExtractor(sharedMetadataExtractor);
+        }
+        handler.getArgumentResolverConfigurer()
+                .addCustomResolver(new ConnectorHeaderHandlerMethodArgumentResolver(handler.getConversionService()));
+        handler.setHandlers(List.of(new BenchmarkController()));
+        handler.afterPropertiesSet();
+        AttributeLifecycleRSocketInterceptor interceptor = new AttributeLifecycleRSocketInterceptor(strategies);
+        this.server = RSocketServer.create(handler.responder())
+                .interceptors(interceptorRegistry -> {
+                    interceptorRegistry.forSocketAcceptor(new SetupSocketAcceptorInterceptor(List.of(interceptor), List.of(interceptor)));
+                })
+                .bind(TcpServerTransport.create("127.0.0.1", 0))
+                .block();
+        this.requester = RSocketRequester.builder()
+                .rsocketStrategies(strategies)
+                .dataMimeType(MimeTypeUtils.TEXT_PLAIN)
+                .tcp(server.address().getHostString(), server.address().getPort());
+        this.headers = new HttpHeaders();
+        this.headers.add("x-user-id", "user-1");
+        this.headers.add("x-token", "0c2f6a3e-4a0b-4f55-9a45-6f1d2b1c1e0d");
+        this.headers.add("x-trace-id", "6f1d2b1c1e0d4a0b");
+        String echo = this.requestResponse();
+        if (!"data-6f1d2b1c1e0d4a0b".equals(echo)) {
+            throw new IllegalStateException("Unexpected response: " + echo);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.requester.dispose();
+        this.server.dispose();
+    }
+
+    @Benchmark
+    public String requestResponse() {
+        return requester.route("/benchmark/echo")
+                .metadata(headers, CONNECTOR_HEADER_MIME_TYPE)
+                .data("data")
+                .retrieveMono(String.class)
+                .block();
+    }
+
+    @Controller
+    public static class BenchmarkController {
+
+        @MessageMapping("/benchmark/echo")
+        public Mono<String> echo(@Payload String data, @RequestHeader("x-trace-id") String traceId) {
+            return Mono.just(data + "-" + traceId);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreaker;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerListener;
+
+import java.util.Locale;
+
+/**
+ * The circuit breaker listener which exposes the circuit breakers as micrometer metrics.
+ * <ul>
+ *     <li>{@code rsocket.micro.connect.circuit-breaker.state}: the gauge of the state, 0 closed, 1 open and 2 half-open</li>
+ *     <li>{@code rsocket.micro.connect.circuit-breaker.failure-rate}: the gauge of the failure rate in percentage</li>
+ *     <li>{@code rsocket.micro.connect.circuit-breaker.slow-call-rate}: the gauge of the slow call rate in percentage</li>
+ *     <li>{@code rsocket.micro.connect.circuit-breaker.not-permitted}: the counter of the calls which are not permitted</li>
+ * </ul>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class MicrometerCircuitBreakerListener implements RSocketCircuitBreakerListener {
+
+    private static final String STATE_METER_NAME = "rsocket.micro.connect.circuit-breaker.state";
+    private static final String FAILURE_RATE_METER_NAME = "rsocket.micro.connect.circuit-breaker.failure-rate";
+    private static final String SLOW_CALL_RATE_METER_NAME = "rsocket.micro.connect.circuit-breaker.slow-call-rate";
+    private static final String NOT_PERMITTED_METER_NAME = "rsocket.micro.connect.circuit-breaker.not-permitted";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerCircuitBreakerListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onCircuitBreakerCreated(RSocketCircuitBreaker circuitBreaker) {
+        Tags tags = Tags.of("name", circuitBreaker.getName(),
+                "scope", circuitBreaker.getScope().name().toLowerCase(Locale.ROOT)
+        );
+        Gauge.builder(STATE_METER_NAME, circuitBreaker, breaker -> breaker.getState().getValue())
+                .description("The circuit breaker state, 0 closed, 1 open and 2 half-open")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(FAILURE_RATE_METER_NAME, circuitBreaker, RSocketCircuitBreaker::getFailureRate)
+                .description("The failure rate of the circuit breaker sliding window, -1 if there are not enough calls")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(SLOW_CALL_RATE_METER_NAME, circuitBreaker, RSocketCircuitBreaker::getSlowCallRate)
+                .description("The slow call rate of the circuit breaker sliding window, -1 if there are not enough calls")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(NOT_PERMITTED_METER_NAME, circuitBreaker, RSocketCircuitBreaker::getNotPermittedCount)
+                .description("The calls which are not permitted by the circuit breaker")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimiter;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimiterListener;
+
+import java.util.Objects;
+
+/**
+ * The concurrency limiter listener which exposes the concurrency limiters as micrometer metrics.
+ * <ul>
+ *     <li>{@code rsocket.micro.connect.concurrency.limit}: the gauge of the current concurrency limit</li>
+ *     <li>{@code rsocket.micro.connect.concurrency.in-flight}: the gauge of the in-flight executions</li>
+ *     <li>{@code rsocket.micro.connect.concurrency.queue}: the gauge of the executions waiting for a permit</li>
+ *     <li>{@code rsocket.micro.connect.concurrency.rejected}: the counter of the rejected executions</li>
+ * </ul>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class MicrometerConcurrencyLimiterListener implements RSocketConcurrencyLimiterListener {
+
+    private static final String LIMIT_METER_NAME = "rsocket.micro.connect.concurrency.limit";
+    private static final String IN_FLIGHT_METER_NAME = "rsocket.micro.connect.concurrency.in-flight";
+    private static final String QUEUE_METER_NAME = "rsocket.micro.connect.concurrency.queue";
+    private static final String REJECTED_METER_NAME = "rsocket.micro.connect.concurrency.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerConcurrencyLimiterListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onConcurrencyLimiterCreated(RSocketConcurrencyLimiter concurrencyLimiter) {
+        Tags tags = Tags.of("service", String.valueOf(concurrencyLimiter.getTransportURI().getHost()),
+                "transport", concurrencyLimiter.getTransportURI().toString(),
+                "route", Objects.isNull(concurrencyLimiter.getRoute()) ? "*" : concurrencyLimiter.getRoute()
+        );
+        Gauge.builder(LIMIT_METER_NAME, concurrencyLimiter, RSocketConcurrencyLimiter::getLimit)
+                .description("The adaptive concurrency limit of the request-response executions")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METER_NAME, concurrencyLimiter, RSocketConcurrencyLimiter::getInFlight)
+                .description("The in-flight request-response executions")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_METER_NAME, concurrencyLimiter, RSocketConcurrencyLimiter::getQueueDepth)
+                .description("The request-response executions waiting for a concurrency permit")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(REJECTED_METER_NAME, concurrencyLimiter, RSocketConcurrencyLimiter::getRejectedCount)
+                .description("The request-response executions rejected by the concurrency limit")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBuffer;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBufferListener;
+
+/**
+ * The fire-and-forget buffer listener which exposes the fire-and-forget buffers as micrometer metrics.
+ * <ul>
+ *     <li>{@code rsocket.micro.connect.fire-and-forget-buffer.flushed}: the counter of the messages sent successfully</li>
+ *     <li>{@code rsocket.micro.connect.fire-and-forget-buffer.flushed-batches}: the counter of the batches sent successfully</li>
+ *     <li>{@code rsocket.micro.connect.fire-and-forget-buffer.dropped}: the counter of the messages dropped by the overflow policy</li>
+ *     <li>{@code rsocket.micro.connect.fire-and-forget-buffer.failed}: the counter of the messages of the failed batches</li>
+ *     <li>{@code rsocket.micro.connect.fire-and-forget-buffer.in-flight}: the gauge of the messages which are buffered or not acknowledged yet</li>
+ * </ul>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class MicrometerFireAndForgetBufferListener implements RSocketFireAndForgetBufferListener {
+
+    private static final String FLUSHED_METER_NAME = "rsocket.micro.connect.fire-and-forget-buffer.flushed";
+    private static final String FLUSHED_BATCHES_METER_NAME = "rsocket.micro.connect.fire-and-forget-buffer.flushed-batches";
+    private static final String DROPPED_METER_NAME = "rsocket.micro.connect.fire-and-forget-buffer.dropped";
+    private static final String FAILED_METER_NAME = "rsocket.micro.connect.fire-and-forget-buffer.failed";
+    private static final String IN_FLIGHT_METER_NAME = "rsocket.micro.connect.fire-and-forget-buffer.in-flight";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerFireAndForgetBufferListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onFireAndForgetBufferCreated(RSocketFireAndForgetBuffer fireAndForgetBuffer) {
+        Tags tags = Tags.of("name", fireAndForgetBuffer.getName());
+        FunctionCounter.builder(FLUSHED_METER_NAME, fireAndForgetBuffer, RSocketFireAndForgetBuffer::getFlushedCount)
+                .description("The messages of the fire-and-forget buffer sent successfully")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(FLUSHED_BATCHES_METER_NAME, fireAndForgetBuffer, RSocketFireAndForgetBuffer::getFlushedBatchCount)
+                .description("The batches of the fire-and-forget buffer sent successfully")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(DROPPED_METER_NAME, fireAndForgetBuffer, RSocketFireAndForgetBuffer::getDroppedCount)
+                .description("The messages of the fire-and-forget buffer dropped by the overflow policy")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(FAILED_METER_NAME, fireAndForgetBuffer, RSocketFireAndForgetBuffer::getFailedCount)
+                .description("The messages of the fire-and-forget buffer whose batches failed to be sent")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METER_NAME, fireAndForgetBuffer, RSocketFireAndForgetBuffer::getInFlight)
+                .description("The messages of the fire-and-forget buffer which are buffered or not acknowledged yet")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
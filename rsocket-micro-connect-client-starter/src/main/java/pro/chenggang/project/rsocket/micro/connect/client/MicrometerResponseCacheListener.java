@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCache;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheListener;
+
+/**
+ * The response cache listener which exposes the client-side response caches as micrometer metrics.
+ * <ul>
+ *     <li>{@code rsocket.micro.connect.response-cache.hits}: the counter of the cache hits</li>
+ *     <li>{@code rsocket.micro.connect.response-cache.misses}: the counter of the cache misses</li>
+ *     <li>{@code rsocket.micro.connect.response-cache.evictions}: the counter of the evictions by the ttl or the max size</li>
+ *     <li>{@code rsocket.micro.connect.response-cache.size}: the gauge of the estimated number of the cached responses</li>
+ * </ul>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class MicrometerResponseCacheListener implements RSocketResponseCacheListener {
+
+    private static final String HITS_METER_NAME = "rsocket.micro.connect.response-cache.hits";
+    private static final String MISSES_METER_NAME = "rsocket.micro.connect.response-cache.misses";
+    private static final String EVICTIONS_METER_NAME = "rsocket.micro.connect.response-cache.evictions";
+    private static final String SIZE_METER_NAME = "rsocket.micro.connect.response-cache.size";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerResponseCacheListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onResponseCacheCreated(RSocketResponseCache responseCache) {
+        Tags tags = Tags.of("name", responseCache.getName());
+        Cache<?, ?> nativeCache = responseCache.getNativeCache();
+        FunctionCounter.builder(HITS_METER_NAME, nativeCache, cache -> cache.stats().hitCount())
+                .description("The cache hits of the client-side response cache")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(MISSES_METER_NAME, nativeCache, cache -> cache.stats().missCount())
+                .description("The cache misses of the client-side response cache")
+                .tags(tags)
+                .register(meterRegistry);
+        FunctionCounter.builder(EVICTIONS_METER_NAME, nativeCache, cache -> cache.stats().evictionCount())
+                .description("The evictions of the client-side response cache by the ttl or the max size")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METER_NAME, nativeCache, Cache::estimatedSize)
+                .description("The estimated number of the cached responses")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
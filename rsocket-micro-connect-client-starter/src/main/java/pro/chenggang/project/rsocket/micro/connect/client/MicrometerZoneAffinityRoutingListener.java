@@ -0,0 +1,89 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.ZoneAffinityRoutingDecision;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.ZoneAffinityRoutingListener;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The zone affinity routing listener which exposes the routing decisions as micrometer metrics.
+ * <ul>
+ *     <li>{@code rsocket.micro.connect.zone.routing}: the counter of the routing decisions, tagged by outcome (local or spill-over)</li>
+ *     <li>{@code rsocket.micro.connect.zone.instances}: the gauge of the latest instance count, tagged by scope (local or total)</li>
+ *     <li>{@code rsocket.micro.connect.zone.spill-over}: the gauge of whether the latest decision spills over (1) or not (0)</li>
+ * </ul>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class MicrometerZoneAffinityRoutingListener implements ZoneAffinityRoutingListener {
+
+    private static final String ROUTING_METER_NAME = "rsocket.micro.connect.zone.routing";
+    private static final String INSTANCES_METER_NAME = "rsocket.micro.connect.zone.instances";
+    private static final String SPILL_OVER_METER_NAME = "rsocket.micro.connect.zone.spill-over";
+
+    private final Map<URI, ZoneAffinityRoutingDecision> latestRoutingDecisions = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerZoneAffinityRoutingListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onRoutingDecision(ZoneAffinityRoutingDecision routingDecision) {
+        URI transportURI = routingDecision.transportURI();
+        Tags tags = Tags.of("service", String.valueOf(transportURI.getHost()),
+                "transport", transportURI.toString(),
+                "zone", routingDecision.zone()
+        );
+        if (Objects.isNull(latestRoutingDecisions.put(transportURI, routingDecision))) {
+            this.registerGauges(transportURI, tags);
+        }
+        Counter.builder(ROUTING_METER_NAME)
+                .description("The zone affinity routing decisions of the discovered rsocket server instances")
+                .tags(tags)
+                .tag("outcome", routingDecision.spillOver() ? "spill-over" : "local")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerGauges(URI transportURI, Tags tags) {
+        Gauge.builder(INSTANCES_METER_NAME, latestRoutingDecisions, decisions -> decisions.get(transportURI).localInstances())
+                .description("The discovered rsocket server instances of the latest zone affinity routing decision")
+                .tags(tags)
+                .tag("scope", "local")
+                .register(meterRegistry);
+        Gauge.builder(INSTANCES_METER_NAME, latestRoutingDecisions, decisions -> decisions.get(transportURI).totalInstances())
+                .description("The discovered rsocket server instances of the latest zone affinity routing decision")
+                .tags(tags)
+                .tag("scope", "total")
+                .register(meterRegistry);
+        Gauge.builder(SPILL_OVER_METER_NAME, latestRoutingDecisions, decisions -> decisions.get(transportURI).spillOver() ? 1 : 0)
+                .description("Whether the latest zone affinity routing decision spills over to all zones")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -17,11 +17,15 @@ package pro.chenggang.project.rsocket.micro.connect.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.rsocket.RSocket;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -33,9 +37,12 @@ import org.springframework.boot.autoconfigure.rsocket.RSocketStrategiesAutoConfi
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.rsocket.messaging.RSocketStrategiesCustomizer;
 import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.cbor.Jackson2CborDecoder;
 import org.springframework.http.codec.cbor.Jackson2CborEncoder;
@@ -45,6 +52,7 @@ import org.springframework.messaging.rsocket.RSocketConnectorConfigurer;
 import org.springframework.messaging.rsocket.RSocketRequester;
 import org.springframework.messaging.rsocket.RSocketRequester.Builder;
 import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.util.StringUtils;
 import org.springframework.web.util.pattern.PathPatternParser;
 import org.springframework.web.util.pattern.PathPatternRouteMatcher;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
@@ -54,17 +62,52 @@ import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionInte
 import pro.chenggang.project.rsocket.micro.connect.core.interceptor.ChainedRSocketInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.CachedRSocketRequesterRegistry;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.ClientLoggingRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.PooledRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketHedgeProperties;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketMicroConnectClientProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketMicroConnectorWarmUp;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRequesterPoolProperties;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketTransportConnectorConfigurer;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRetryProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerListener;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBufferListener;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBufferRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheListener;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.ResponseCacheInvalidationRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimiterListener;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimiterRegistry;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.DefaultRSocketLoadBalanceStrategies;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.DiscoverRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.CircuitBreakerRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.OutlierDetectionRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketLoadBalanceProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketOutlierDetectionProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketOutlierDetector;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketLoadBalanceStrategies;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketSubsetFilter;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketSubsettingProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketZoneAffinityFilter;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketZoneAffinityProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.ZoneAffinityRoutingListener;
 import pro.chenggang.project.rsocket.micro.connect.spring.common.AttributeLifecycleRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborDecoder;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.ConnectorExecutionPolicies;
 import pro.chenggang.project.rsocket.micro.connect.spring.proxy.DefaultRSocketMicroConnectorRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.HedgeBudget;
 import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RSocketMicroConnectorExecutionCustomizer;
 import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RSocketMicroConnectorRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RetryBudgetRegistry;
 
+import java.net.URI;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static org.springframework.beans.factory.config.ConfigurableBeanFactory.SCOPE_PROTOTYPE;
 import static pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketMicroConnectClientProperties.PROPERTIES_PREFIX;
@@ -113,6 +156,14 @@ public class RSocketMicroConnectClientAutoConfiguration {
         };
     }
 
+    @Bean
+    public RSocketStrategiesCustomizer connectorMetadataRSocketStrategyCustomizer() {
+        return strategies -> {
+            strategies.encoders(encoders -> encoders.add(0, new ConnectorMetadataCborEncoder()));
+            strategies.decoders(decoders -> decoders.add(0, new ConnectorMetadataCborDecoder()));
+        };
+    }
+
     @Bean
     @ConditionalOnClass({ObjectMapper.class, CBORFactory.class})
     @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
@@ -190,6 +241,15 @@ public class RSocketMicroConnectClientAutoConfiguration {
                 );
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX, value = "enable-response-cache-invalidation", havingValue = "true")
+    public RSocketTransportConnectorConfigurer responseCacheInvalidationRSocketTransportConnectorConfigurer(RSocketResponseCacheRegistry rSocketResponseCacheRegistry) {
+        return (transportURI, connector) -> connector
+                .interceptors(interceptorRegistry -> interceptorRegistry
+                        .forResponder(new ResponseCacheInvalidationRSocketInterceptor(rSocketResponseCacheRegistry, transportURI))
+                );
+    }
+
     @Bean
     @Scope(SCOPE_PROTOTYPE)
     public RSocketRequester.Builder rSocketRequesterBuilder(RSocketStrategies strategies,
@@ -202,41 +262,303 @@ public class RSocketMicroConnectClientAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean(RSocketRequesterRegistry.class)
     @ConditionalOnProperty(prefix = PROPERTIES_PREFIX, value = "enable-discover", havingValue = "false", matchIfMissing = true)
-    public RSocketRequesterRegistry cachedRSocketRequesterRegistry(RSocketRequester.Builder rSocketRequesterBuilder) {
-        return new CachedRSocketRequesterRegistry(rSocketRequesterBuilder);
+    public RSocketRequesterRegistry cachedRSocketRequesterRegistry(ObjectProvider<RSocketRequester.Builder> rSocketRequesterBuilders,
+                                                                   ObjectProvider<RSocketTransportConnectorConfigurer> transportConnectorConfigurers,
+                                                                   RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties) {
+        RSocketRequesterPoolProperties poolProperties = rSocketMicroConnectClientProperties.getPool();
+        if (Objects.nonNull(poolProperties) && poolProperties.isEnabled()) {
+            return new PooledRSocketRequesterRegistry(rSocketRequesterBuilders::getObject,
+                    poolProperties.getSize(),
+                    transportConnectorConfigurers.orderedStream().toList()
+            );
+        }
+        return new CachedRSocketRequesterRegistry(rSocketRequesterBuilders::getObject, transportConnectorConfigurers.orderedStream().toList());
     }
 
     @Bean
     @ConditionalOnBean(ReactiveDiscoveryClient.class)
     @ConditionalOnMissingBean(RSocketLoadBalanceStrategies.class)
     @ConditionalOnProperty(prefix = PROPERTIES_PREFIX, value = "enable-discover", havingValue = "true")
-    public RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies() {
-        return new DefaultRSocketLoadBalanceStrategies();
+    public RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies(RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties,
+                                                                     ObjectProvider<RSocketOutlierDetector> outlierDetectors,
+                                                                     RSocketCircuitBreakerRegistry rSocketCircuitBreakerRegistry) {
+        RSocketLoadBalanceProperties loadBalanceProperties = rSocketMicroConnectClientProperties.getLoadBalance();
+        if (Objects.isNull(loadBalanceProperties)) {
+            return new DefaultRSocketLoadBalanceStrategies(new RSocketLoadBalanceProperties(), null, rSocketCircuitBreakerRegistry);
+        }
+        return new DefaultRSocketLoadBalanceStrategies(loadBalanceProperties,
+                outlierDetectors.getIfAvailable(),
+                rSocketCircuitBreakerRegistry
+        );
     }
 
     @Bean
     @ConditionalOnBean(ReactiveDiscoveryClient.class)
     @ConditionalOnMissingBean(RSocketRequesterRegistry.class)
     @ConditionalOnProperty(prefix = PROPERTIES_PREFIX, value = "enable-discover", havingValue = "true")
-    public RSocketRequesterRegistry discoverRSocketRequesterRegistry(RSocketRequester.Builder rSocketRequesterBuilder,
+    public RSocketRequesterRegistry discoverRSocketRequesterRegistry(ObjectProvider<RSocketRequester.Builder> rSocketRequesterBuilders,
+                                                                     ObjectProvider<RSocketTransportConnectorConfigurer> transportConnectorConfigurers,
                                                                      ReactiveDiscoveryClient reactiveDiscoveryClient,
                                                                      RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies,
-                                                                     RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties) {
-        return new DiscoverRSocketRequesterRegistry(rSocketRequesterBuilder,
+                                                                     RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties,
+                                                                     ObjectProvider<ZoneAffinityRoutingListener> zoneAffinityRoutingListeners,
+                                                                     ObjectProvider<Registration> registrations,
+                                                                     Environment environment) {
+        return new DiscoverRSocketRequesterRegistry(rSocketRequesterBuilders::getObject,
+                transportConnectorConfigurers.orderedStream().toList(),
                 reactiveDiscoveryClient,
                 rSocketLoadBalanceStrategies,
-                rSocketMicroConnectClientProperties.getRefreshDiscoverInterval()
+                rSocketMicroConnectClientProperties.getRefreshDiscoverInterval(),
+                newRSocketZoneAffinityFilter(rSocketMicroConnectClientProperties.getLoadBalance(),
+                        zoneAffinityRoutingListeners,
+                        environment
+                ),
+                newRSocketSubsetFilter(rSocketMicroConnectClientProperties.getLoadBalance(), registrations, environment)
+        );
+    }
+
+    private static RSocketSubsetFilter newRSocketSubsetFilter(@Nullable RSocketLoadBalanceProperties loadBalanceProperties,
+                                                              ObjectProvider<Registration> registrations,
+                                                              Environment environment) {
+        if (Objects.isNull(loadBalanceProperties) || Objects.isNull(loadBalanceProperties.getSubsetting())) {
+            return RSocketSubsetFilter.NONE;
+        }
+        RSocketSubsettingProperties subsettingProperties = loadBalanceProperties.getSubsetting();
+        if (!subsettingProperties.isEnabled()) {
+            return RSocketSubsetFilter.NONE;
+        }
+        Registration registration = registrations.getIfUnique();
+        String clientId = subsettingProperties.getClientId();
+        if (!StringUtils.hasText(clientId) && Objects.nonNull(registration)) {
+            clientId = registration.getInstanceId();
+        }
+        if (!StringUtils.hasText(clientId)) {
+            clientId = environment.getProperty("spring.cloud.client.hostname", "localhost") + ":" + ProcessHandle.current().pid();
+        }
+        String clientServiceId = Objects.nonNull(registration)
+                ? registration.getServiceId()
+                : environment.getProperty("spring.application.name");
+        return new RSocketSubsetFilter(subsettingProperties, clientId, clientServiceId);
+    }
+
+    private static RSocketZoneAffinityFilter newRSocketZoneAffinityFilter(@Nullable RSocketLoadBalanceProperties loadBalanceProperties,
+                                                                         ObjectProvider<ZoneAffinityRoutingListener> zoneAffinityRoutingListeners,
+                                                                         Environment environment) {
+        if (Objects.isNull(loadBalanceProperties) || Objects.isNull(loadBalanceProperties.getZoneAffinity())) {
+            return RSocketZoneAffinityFilter.NONE;
+        }
+        RSocketZoneAffinityProperties zoneAffinityProperties = loadBalanceProperties.getZoneAffinity();
+        if (!zoneAffinityProperties.isEnabled()) {
+            return RSocketZoneAffinityFilter.NONE;
+        }
+        String zone = zoneAffinityProperties.getZone();
+        if (!StringUtils.hasText(zone)) {
+            zone = environment.getProperty("spring.cloud.loadbalancer.zone");
+        }
+        if (!StringUtils.hasText(zone)) {
+            log.warn("Zone affinity of rsocket load-balance is enabled, but no zone is configured, it will be ignored");
+            return RSocketZoneAffinityFilter.NONE;
+        }
+        List<ZoneAffinityRoutingListener> routingListeners = zoneAffinityRoutingListeners.orderedStream().toList();
+        return new RSocketZoneAffinityFilter(zone,
+                zoneAffinityProperties.getSpillOverThreshold(),
+                routingDecision -> routingListeners.forEach(routingListener -> routingListener.onRoutingDecision(routingDecision))
         );
     }
 
+    @Bean
+    @ConditionalOnMissingBean(RSocketMicroConnectorWarmUp.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".warm-up", value = "enabled", havingValue = "true")
+    public RSocketMicroConnectorWarmUp rSocketMicroConnectorWarmUp(RSocketRequesterRegistry rSocketRequesterRegistry,
+                                                                   RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties) {
+        return new RSocketMicroConnectorWarmUp(rSocketRequesterRegistry, rSocketMicroConnectClientProperties.getWarmUp());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RSocketConcurrencyLimiterRegistry.class)
+    public RSocketConcurrencyLimiterRegistry rSocketConcurrencyLimiterRegistry(RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties,
+                                                                               ObjectProvider<RSocketConcurrencyLimiterListener> concurrencyLimiterListeners) {
+        return new RSocketConcurrencyLimiterRegistry(rSocketMicroConnectClientProperties.getConcurrencyLimit(),
+                concurrencyLimiterListeners.orderedStream().toList()
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RSocketCircuitBreakerRegistry.class)
+    public RSocketCircuitBreakerRegistry rSocketCircuitBreakerRegistry(RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties,
+                                                                       ObjectProvider<RSocketCircuitBreakerListener> circuitBreakerListeners) {
+        return new RSocketCircuitBreakerRegistry(rSocketMicroConnectClientProperties.getCircuitBreaker(),
+                circuitBreakerListeners.orderedStream().toList(),
+                rSocketMicroConnectClientProperties.isEnableDiscover()
+                        ? DiscoverRSocketRequesterRegistry::isLoadBalanced
+                        : transportURI -> false
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RSocketResponseCacheRegistry.class)
+    public RSocketResponseCacheRegistry rSocketResponseCacheRegistry(ObjectProvider<RSocketResponseCacheListener> responseCacheListeners) {
+        return new RSocketResponseCacheRegistry(responseCacheListeners.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RSocketFireAndForgetBufferRegistry.class)
+    public RSocketFireAndForgetBufferRegistry rSocketFireAndForgetBufferRegistry(ObjectProvider<RSocketFireAndForgetBufferListener> fireAndForgetBufferListeners) {
+        return new RSocketFireAndForgetBufferRegistry(fireAndForgetBufferListeners.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ConnectorExecutionPolicies.class)
+    public ConnectorExecutionPolicies connectorExecutionPolicies(RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties,
+                                                                 RSocketConcurrencyLimiterRegistry rSocketConcurrencyLimiterRegistry,
+                                                                 RSocketCircuitBreakerRegistry rSocketCircuitBreakerRegistry,
+                                                                 RSocketResponseCacheRegistry rSocketResponseCacheRegistry,
+                                                                 RSocketFireAndForgetBufferRegistry rSocketFireAndForgetBufferRegistry) {
+        RSocketHedgeProperties hedgeProperties = rSocketMicroConnectClientProperties.getHedge();
+        RSocketRetryProperties retryProperties = rSocketMicroConnectClientProperties.getRetry();
+        return ConnectorExecutionPolicies.builder()
+                .hedgeBudget(new HedgeBudget(hedgeProperties.getBudgetRatio(), hedgeProperties.getBudgetBurst()))
+                .concurrencyLimiterRegistry(rSocketConcurrencyLimiterRegistry)
+                .retryBudgetRegistry(new RetryBudgetRegistry(retryProperties.getBudgetRatio(), retryProperties.getBudgetBurst()))
+                .circuitBreakerRegistry(rSocketCircuitBreakerRegistry)
+                .responseCacheRegistry(rSocketResponseCacheRegistry)
+                .fireAndForgetBufferRegistry(rSocketFireAndForgetBufferRegistry)
+                .build();
+    }
+
     @Bean
     @ConditionalOnMissingBean(RSocketMicroConnectorRegistry.class)
     public RSocketMicroConnectorRegistry rSocketMicroConnectorRegistry(RSocketRequesterRegistry rSocketRequesterRegistry,
                                                                        @Autowired(required = false) ConversionService conversionService,
-                                                                       ObjectProvider<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers) {
+                                                                       ObjectProvider<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers,
+                                                                       ConnectorExecutionPolicies connectorExecutionPolicies) {
         return new DefaultRSocketMicroConnectorRegistry(rSocketRequesterRegistry,
                 conversionService,
-                connectorExecutionCustomizers.orderedStream().toList()
+                connectorExecutionCustomizers.orderedStream().toList(),
+                connectorExecutionPolicies
         );
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(ReactiveDiscoveryClient.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX, value = "enable-discover", havingValue = "true")
+    static class RSocketOutlierDetectionConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(RSocketOutlierDetector.class)
+        @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".load-balance.outlier-detection", value = "enabled", havingValue = "true")
+        public RSocketOutlierDetector rSocketOutlierDetector(RSocketMicroConnectClientProperties rSocketMicroConnectClientProperties) {
+            RSocketLoadBalanceProperties loadBalanceProperties = rSocketMicroConnectClientProperties.getLoadBalance();
+            if (Objects.isNull(loadBalanceProperties) || Objects.isNull(loadBalanceProperties.getOutlierDetection())) {
+                return new RSocketOutlierDetector(new RSocketOutlierDetectionProperties());
+            }
+            return new RSocketOutlierDetector(loadBalanceProperties.getOutlierDetection());
+        }
+
+        @Bean
+        @ConditionalOnBean(RSocketOutlierDetector.class)
+        public OutlierDetectionRSocketInterceptor outlierDetectionRSocketInterceptor(RSocketOutlierDetector rSocketOutlierDetector) {
+            return new OutlierDetectionRSocketInterceptor(rSocketOutlierDetector);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(CircuitBreakerRSocketInterceptor.class)
+        @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".circuit-breaker", value = "enabled", havingValue = "true")
+        public CircuitBreakerRSocketInterceptor circuitBreakerRSocketInterceptor(RSocketCircuitBreakerRegistry rSocketCircuitBreakerRegistry) {
+            return new CircuitBreakerRSocketInterceptor(rSocketCircuitBreakerRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".load-balance.zone-affinity", value = "enabled", havingValue = "true")
+    static class RSocketZoneAffinityMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MicrometerZoneAffinityRoutingListener.class)
+        public MicrometerZoneAffinityRoutingListener micrometerZoneAffinityRoutingListener(MeterRegistry meterRegistry) {
+            return new MicrometerZoneAffinityRoutingListener(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".concurrency-limit", value = "enabled", havingValue = "true")
+    static class RSocketConcurrencyLimitMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MicrometerConcurrencyLimiterListener.class)
+        public MicrometerConcurrencyLimiterListener micrometerConcurrencyLimiterListener(MeterRegistry meterRegistry) {
+            return new MicrometerConcurrencyLimiterListener(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".circuit-breaker", value = "enabled", havingValue = "true")
+    static class RSocketCircuitBreakerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MicrometerCircuitBreakerListener.class)
+        public MicrometerCircuitBreakerListener micrometerCircuitBreakerListener(MeterRegistry meterRegistry) {
+            return new MicrometerCircuitBreakerListener(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    static class RSocketResponseCacheMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MicrometerResponseCacheListener.class)
+        public MicrometerResponseCacheListener micrometerResponseCacheListener(MeterRegistry meterRegistry) {
+            return new MicrometerResponseCacheListener(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    static class RSocketFireAndForgetBufferMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MicrometerFireAndForgetBufferListener.class)
+        public MicrometerFireAndForgetBufferListener micrometerFireAndForgetBufferListener(MeterRegistry meterRegistry) {
+            return new MicrometerFireAndForgetBufferListener(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(HealthIndicator.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".warm-up", value = "enabled", havingValue = "true")
+    static class RSocketMicroConnectorWarmUpHealthConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "rSocketMicroConnectorWarmUpHealthIndicator")
+        public HealthIndicator rSocketMicroConnectorWarmUpHealthIndicator(RSocketMicroConnectorWarmUp rSocketMicroConnectorWarmUp) {
+            return () -> {
+                if (!rSocketMicroConnectorWarmUp.isCompleted()) {
+                    return Health.outOfService()
+                            .withDetail("transportURIs", rSocketMicroConnectorWarmUp.getTransportURIs())
+                            .build();
+                }
+                Map<URI, Throwable> failures = rSocketMicroConnectorWarmUp.getFailures();
+                if (failures.isEmpty()) {
+                    return Health.up()
+                            .withDetail("transportURIs", rSocketMicroConnectorWarmUp.getTransportURIs())
+                            .build();
+                }
+                Map<String, String> failureDetails = new LinkedHashMap<>();
+                failures.forEach((transportURI, throwable) -> failureDetails.put(transportURI.toString(), String.valueOf(throwable)));
+                return Health.down()
+                        .withDetail("transportURIs", rSocketMicroConnectorWarmUp.getTransportURIs())
+                        .withDetail("failures", failureDetails)
+                        .build();
+            };
+        }
+    }
 }
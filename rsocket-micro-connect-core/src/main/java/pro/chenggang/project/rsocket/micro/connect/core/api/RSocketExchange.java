@@ -30,11 +30,17 @@ import java.util.function.Function;
  * The RSocket Interceptor Exchange.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public interface RSocketExchange {
 
+    /**
+     * The reactor context key of the exchange attributes, the intercepted execution can read the attributes
+     * of its exchange from the reactor context by this key.
+     */
+    String ATTRIBUTES_CONTEXT_KEY = RSocketExchange.class.getName() + ".attributes";
+
     /**
      * Gets RSocket exchange type.
      *
@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.core.api;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * The synchronous RSocket execution interceptor for the interceptors never doing I/O.
+ * <p/>
+ * <li>The callbacks are invoked directly, consecutive synchronous interceptors are inlined into a single loop by the interceptor chains.</li>
+ * <li>Throwing an exception from the callbacks is the same as returning an error {@code Mono} from the reactive callbacks.</li>
+ * <li>It can still be used as a reactive interceptor through the default reactive callbacks.</li>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public interface SyncRSocketExecutionInterceptor extends RSocketExecutionBeforeInterceptor, RSocketExecutionAfterInterceptor {
+
+    /**
+     * Intercept the execution of an RSocket <i>before</i> its invocation synchronously.
+     * <p/>
+     * <li>This execution will invoke in <b>ASCENDING</b> order.</li>
+     * <li><b>This execution only execute ONCE with first payload when using REQUEST-CHANNEL of RSocket such as in file-uploading scenario.</b></li>
+     *
+     * @param exchange the current rsocket exchange
+     * @return the verdict whether to continue with the remaining before interceptors
+     */
+    default Verdict beforeExecution(RSocketExchange exchange) {
+        return Verdict.CONTINUE;
+    }
+
+    /**
+     * Intercept the execution of an RSocket <i>after</i> its invocation synchronously.
+     * <p/>
+     * <li>This execution will invoke in <b>DESCENDING</b> order.</li>
+     *
+     * @param exchange the current rsocket exchange
+     */
+    default void afterExecution(RSocketExchange exchange) {
+
+    }
+
+    @Override
+    default Mono<Void> interceptBefore(RSocketExchange exchange, RSocketInterceptorChain chain) {
+        if (Verdict.CONTINUE.equals(beforeExecution(exchange))) {
+            return chain.next(exchange);
+        }
+        return Mono.empty();
+    }
+
+    @Override
+    default Mono<Void> interceptAfter(RSocketExchange exchange, RSocketInterceptorChain chain) {
+        afterExecution(exchange);
+        return chain.next(exchange);
+    }
+
+    /**
+     * The verdict of a synchronous before interception.
+     */
+    enum Verdict {
+
+        /**
+         * Continue with the remaining before interceptors.
+         */
+        CONTINUE,
+
+        /**
+         * Skip the remaining before interceptors, the execution still proceeds.
+         */
+        SKIP_REMAINING,
+
+        ;
+    }
+}
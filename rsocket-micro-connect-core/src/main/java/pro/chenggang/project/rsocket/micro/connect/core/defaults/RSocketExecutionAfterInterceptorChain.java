@@ -19,37 +19,60 @@ import lombok.extern.slf4j.Slf4j;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
 
 /**
  * The RSocket execution after interceptor chain.
+ * <p>
+ * Consecutive {@link SyncRSocketExecutionInterceptor}s are inlined into a single chain node invoked in a loop.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
 public class RSocketExecutionAfterInterceptorChain implements RSocketInterceptorChain {
 
+    private static final SyncRSocketExecutionInterceptor[] NO_SYNC_INTERCEPTORS = new SyncRSocketExecutionInterceptor[0];
+
     private final RSocketExecutionAfterInterceptor currentInterceptor;
+    private final SyncRSocketExecutionInterceptor[] syncInterceptors;
     private final RSocketExecutionAfterInterceptorChain next;
 
     public RSocketExecutionAfterInterceptorChain(List<RSocketExecutionAfterInterceptor> interceptors) {
         RSocketExecutionAfterInterceptorChain interceptor = init(interceptors);
         this.currentInterceptor = interceptor.currentInterceptor;
+        this.syncInterceptors = interceptor.syncInterceptors;
         this.next = interceptor.next;
     }
 
     private RSocketExecutionAfterInterceptorChain init(List<RSocketExecutionAfterInterceptor> interceptors) {
-        RSocketExecutionAfterInterceptorChain interceptor = new RSocketExecutionAfterInterceptorChain(null, null);
+        RSocketExecutionAfterInterceptorChain interceptor = new RSocketExecutionAfterInterceptorChain(null, null, null);
         if (Objects.nonNull(interceptors) && !interceptors.isEmpty()) {
+            Deque<SyncRSocketExecutionInterceptor> syncRun = new ArrayDeque<>();
             ListIterator<? extends RSocketExecutionAfterInterceptor> iterator = interceptors.listIterator(0);
             while (iterator.hasNext()) {
-                interceptor = new RSocketExecutionAfterInterceptorChain(iterator.next(), interceptor);
+                RSocketExecutionAfterInterceptor current = iterator.next();
+                if (current instanceof SyncRSocketExecutionInterceptor syncInterceptor) {
+                    syncRun.addFirst(syncInterceptor);
+                    continue;
+                }
+                if (!syncRun.isEmpty()) {
+                    interceptor = new RSocketExecutionAfterInterceptorChain(null, syncRun.toArray(NO_SYNC_INTERCEPTORS), interceptor);
+                    syncRun.clear();
+                }
+                interceptor = new RSocketExecutionAfterInterceptorChain(current, null, interceptor);
+            }
+            if (!syncRun.isEmpty()) {
+                interceptor = new RSocketExecutionAfterInterceptorChain(null, syncRun.toArray(NO_SYNC_INTERCEPTORS), interceptor);
             }
         } else {
             log.debug("RSocket execution after interceptors is empty");
@@ -58,27 +81,64 @@ public class RSocketExecutionAfterInterceptorChain implements RSocketInterceptor
     }
 
     private RSocketExecutionAfterInterceptorChain(RSocketExecutionAfterInterceptor currentInterceptor,
+                                                  SyncRSocketExecutionInterceptor[] syncInterceptors,
                                                   RSocketExecutionAfterInterceptorChain next) {
         this.currentInterceptor = currentInterceptor;
+        this.syncInterceptors = syncInterceptors;
         this.next = next;
     }
 
     @Override
     public Mono<Void> next(RSocketExchange exchange) {
-        return Mono.defer(() -> {
-            if (shouldIntercept()) {
-                return this.currentInterceptor.interceptAfter(exchange, this.next);
-            }
+        return Mono.defer(() -> this.intercept(exchange));
+    }
+
+    /**
+     * Whether the chain only consists of synchronous interceptors, so it can be invoked by {@link #invokeSynchronously(RSocketExchange)}.
+     *
+     * @return the true or false
+     */
+    public boolean isSynchronous() {
+        return Objects.isNull(this.next) || (Objects.nonNull(this.syncInterceptors) && Objects.isNull(this.next.next));
+    }
+
+    /**
+     * Invoke the synchronous chain directly.
+     *
+     * @param exchange the current rsocket exchange
+     * @throws IllegalStateException if the chain is not synchronous
+     */
+    public void invokeSynchronously(RSocketExchange exchange) {
+        if (!isSynchronous()) {
+            throw new IllegalStateException("RSocket execution after interceptor chain is not synchronous");
+        }
+        if (Objects.nonNull(this.syncInterceptors)) {
+            this.invokeSyncInterceptors(exchange);
+        }
+    }
+
+    private Mono<Void> intercept(RSocketExchange exchange) {
+        if (Objects.isNull(this.next)) {
             return Mono.empty();
-        });
+        }
+        if (Objects.nonNull(this.syncInterceptors)) {
+            this.invokeSyncInterceptors(exchange);
+            return this.next.intercept(exchange);
+        }
+        return this.currentInterceptor.interceptAfter(exchange, this.next);
     }
 
-    private boolean shouldIntercept() {
-        return this.currentInterceptor != null && this.next != null;
+    private void invokeSyncInterceptors(RSocketExchange exchange) {
+        for (SyncRSocketExecutionInterceptor syncInterceptor : this.syncInterceptors) {
+            syncInterceptor.afterExecution(exchange);
+        }
     }
 
     @Override
     public String toString() {
+        if (Objects.nonNull(this.syncInterceptors)) {
+            return getClass().getSimpleName() + "[syncInterceptors=" + Arrays.toString(this.syncInterceptors) + "]";
+        }
         return getClass().getSimpleName() + "[currentInterceptor=" + this.currentInterceptor + "]";
     }
 }
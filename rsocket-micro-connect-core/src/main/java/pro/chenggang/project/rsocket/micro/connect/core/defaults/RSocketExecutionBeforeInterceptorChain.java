@@ -19,37 +19,61 @@ import lombok.extern.slf4j.Slf4j;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor.Verdict;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
 
 /**
  * The RSocket execution before interceptor chain.
+ * <p>
+ * Consecutive {@link SyncRSocketExecutionInterceptor}s are inlined into a single chain node invoked in a loop.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
 public class RSocketExecutionBeforeInterceptorChain implements RSocketInterceptorChain {
 
+    private static final SyncRSocketExecutionInterceptor[] NO_SYNC_INTERCEPTORS = new SyncRSocketExecutionInterceptor[0];
+
     private final RSocketExecutionBeforeInterceptor currentInterceptor;
+    private final SyncRSocketExecutionInterceptor[] syncInterceptors;
     private final RSocketExecutionBeforeInterceptorChain next;
 
     public RSocketExecutionBeforeInterceptorChain(List<RSocketExecutionBeforeInterceptor> interceptors) {
         RSocketExecutionBeforeInterceptorChain interceptor = init(interceptors);
         this.currentInterceptor = interceptor.currentInterceptor;
+        this.syncInterceptors = interceptor.syncInterceptors;
         this.next = interceptor.next;
     }
 
     private RSocketExecutionBeforeInterceptorChain init(List<RSocketExecutionBeforeInterceptor> interceptors) {
-        RSocketExecutionBeforeInterceptorChain interceptor = new RSocketExecutionBeforeInterceptorChain(null, null);
+        RSocketExecutionBeforeInterceptorChain interceptor = new RSocketExecutionBeforeInterceptorChain(null, null, null);
         if (Objects.nonNull(interceptors) && !interceptors.isEmpty()) {
+            Deque<SyncRSocketExecutionInterceptor> syncRun = new ArrayDeque<>();
             ListIterator<? extends RSocketExecutionBeforeInterceptor> iterator = interceptors.listIterator(interceptors.size());
             while (iterator.hasPrevious()) {
-                interceptor = new RSocketExecutionBeforeInterceptorChain(iterator.previous(), interceptor);
+                RSocketExecutionBeforeInterceptor previous = iterator.previous();
+                if (previous instanceof SyncRSocketExecutionInterceptor syncInterceptor) {
+                    syncRun.addFirst(syncInterceptor);
+                    continue;
+                }
+                if (!syncRun.isEmpty()) {
+                    interceptor = new RSocketExecutionBeforeInterceptorChain(null, syncRun.toArray(NO_SYNC_INTERCEPTORS), interceptor);
+                    syncRun.clear();
+                }
+                interceptor = new RSocketExecutionBeforeInterceptorChain(previous, null, interceptor);
+            }
+            if (!syncRun.isEmpty()) {
+                interceptor = new RSocketExecutionBeforeInterceptorChain(null, syncRun.toArray(NO_SYNC_INTERCEPTORS), interceptor);
             }
         }else {
             log.debug("RSocket execution before interceptors is empty");
@@ -58,27 +82,69 @@ public class RSocketExecutionBeforeInterceptorChain implements RSocketIntercepto
     }
 
     private RSocketExecutionBeforeInterceptorChain(RSocketExecutionBeforeInterceptor currentInterceptor,
+                                                   SyncRSocketExecutionInterceptor[] syncInterceptors,
                                                    RSocketExecutionBeforeInterceptorChain next) {
         this.currentInterceptor = currentInterceptor;
+        this.syncInterceptors = syncInterceptors;
         this.next = next;
     }
 
     @Override
     public Mono<Void> next(RSocketExchange exchange) {
-        return Mono.defer(() -> {
-            if (shouldIntercept()) {
-                return this.currentInterceptor.interceptBefore(exchange, this.next);
-            }
+        return Mono.defer(() -> this.intercept(exchange));
+    }
+
+    /**
+     * Whether the chain only consists of synchronous interceptors, so it can be invoked by {@link #invokeSynchronously(RSocketExchange)}.
+     *
+     * @return the true or false
+     */
+    public boolean isSynchronous() {
+        return Objects.isNull(this.next) || (Objects.nonNull(this.syncInterceptors) && Objects.isNull(this.next.next));
+    }
+
+    /**
+     * Invoke the synchronous chain directly.
+     *
+     * @param exchange the current rsocket exchange
+     * @throws IllegalStateException if the chain is not synchronous
+     */
+    public void invokeSynchronously(RSocketExchange exchange) {
+        if (!isSynchronous()) {
+            throw new IllegalStateException("RSocket execution before interceptor chain is not synchronous");
+        }
+        if (Objects.nonNull(this.syncInterceptors)) {
+            this.invokeSyncInterceptors(exchange);
+        }
+    }
+
+    private Mono<Void> intercept(RSocketExchange exchange) {
+        if (Objects.isNull(this.next)) {
             return Mono.empty();
-        });
+        }
+        if (Objects.nonNull(this.syncInterceptors)) {
+            if (!this.invokeSyncInterceptors(exchange)) {
+                return Mono.empty();
+            }
+            return this.next.intercept(exchange);
+        }
+        return this.currentInterceptor.interceptBefore(exchange, this.next);
     }
 
-    private boolean shouldIntercept() {
-        return this.currentInterceptor != null && this.next != null;
+    private boolean invokeSyncInterceptors(RSocketExchange exchange) {
+        for (SyncRSocketExecutionInterceptor syncInterceptor : this.syncInterceptors) {
+            if (!Verdict.CONTINUE.equals(syncInterceptor.beforeExecution(exchange))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
+        if (Objects.nonNull(this.syncInterceptors)) {
+            return getClass().getSimpleName() + "[syncInterceptors=" + Arrays.toString(this.syncInterceptors) + "]";
+        }
         return getClass().getSimpleName() + "[currentInterceptor=" + this.currentInterceptor + "]";
     }
 }
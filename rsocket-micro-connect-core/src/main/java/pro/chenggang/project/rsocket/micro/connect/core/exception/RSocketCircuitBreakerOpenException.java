@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.core.exception;
+
+import io.rsocket.RSocketErrorException;
+import io.rsocket.frame.ErrorFrameCodec;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Serial;
+
+/**
+ * The rsocket circuit breaker open exception, the request is rejected on the client side without being sent.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketCircuitBreakerOpenException extends RSocketErrorException {
+
+    @Serial
+    private static final long serialVersionUID = -4581236730592135513L;
+
+    @Getter
+    private final String circuitBreakerName;
+
+    public RSocketCircuitBreakerOpenException(@NonNull String circuitBreakerName) {
+        super(ErrorFrameCodec.REJECTED, "Circuit breaker of " + circuitBreakerName + " is open, the request is not permitted");
+        this.circuitBreakerName = circuitBreakerName;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+}
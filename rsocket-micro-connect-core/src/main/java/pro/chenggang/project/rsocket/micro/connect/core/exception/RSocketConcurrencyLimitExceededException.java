@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.core.exception;
+
+import io.rsocket.RSocketErrorException;
+import io.rsocket.frame.ErrorFrameCodec;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Serial;
+import java.net.URI;
+
+/**
+ * The rsocket concurrency limit exceeded exception, the request is rejected on the client side without being sent.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketConcurrencyLimitExceededException extends RSocketErrorException {
+
+    @Serial
+    private static final long serialVersionUID = 2860153315402914727L;
+
+    @Getter
+    private final URI uri;
+
+    public RSocketConcurrencyLimitExceededException(@NonNull URI uri, int limit, String reason) {
+        super(ErrorFrameCodec.REJECTED, "Concurrency limit " + limit + " of transport " + uri + " is exceeded, " + reason);
+        this.uri = uri;
+    }
+
+}
@@ -15,14 +15,15 @@
  */
 package pro.chenggang.project.rsocket.micro.connect.core.interceptor;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import io.rsocket.Payload;
 import io.rsocket.RSocket;
 import io.rsocket.metadata.WellKnownMimeType;
 import io.rsocket.util.RSocketProxy;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
@@ -31,15 +32,18 @@ import pro.chenggang.project.rsocket.micro.connect.core.defaults.RSocketExecutio
 import pro.chenggang.project.rsocket.micro.connect.core.defaults.RSocketExecutionBeforeInterceptorChain;
 import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
 import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
+import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
 import reactor.util.context.Context;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Function;
 
 import static pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType.FIRE_AND_FORGET;
 import static pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType.METADATA_PUSH;
@@ -50,9 +54,15 @@ import static pro.chenggang.project.rsocket.micro.connect.core.defaults.DefaultR
 
 /**
  * The Chained intercepted rsocket.
+ * <p>
+ * The before and after interceptor chains of an execution are driven by a single fused subscriber per exchange,
+ * and the execution is passed through untouched when there is no interceptor at all.
+ * Synchronous interceptor chains are invoked directly by the subscriber without subscribing to them.
+ * The remote rsocket info is resolved once when the connection is intercepted.
+ * The exchange attributes are available to the execution in its reactor context by {@link RSocketExchange#ATTRIBUTES_CONTEXT_KEY}.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
@@ -62,206 +72,416 @@ public class ChainedInterceptedRSocket extends RSocketProxy {
     private final WellKnownMimeType metadataMimeType;
     private final RSocketExecutionBeforeInterceptorChain beforeChain;
     private final RSocketExecutionAfterInterceptorChain afterChain;
-    private final Cache<RSocket, RemoteRSocketInfo> remoteRSocketInfoCache;
+    @Nullable
+    private final RemoteRSocketInfo remoteRSocketInfo;
+    private final boolean interceptBefore;
+    private final boolean interceptAfter;
+    private final boolean passThrough;
 
     protected ChainedInterceptedRSocket(RSocket source,
                                         WellKnownMimeType dataMimeType,
                                         WellKnownMimeType metadataMimeType,
                                         List<RSocketExecutionBeforeInterceptor> beforeInterceptors,
                                         List<RSocketExecutionAfterInterceptor> afterInterceptors) {
-        this(source, dataMimeType, metadataMimeType, null, beforeInterceptors, afterInterceptors);
+        this(source,
+                dataMimeType,
+                metadataMimeType,
+                RSocketMicroConnectUtil.getRemoteRSocketInfo(source).orElse(null),
+                beforeInterceptors,
+                afterInterceptors
+        );
     }
 
     protected ChainedInterceptedRSocket(RSocket source,
                                         WellKnownMimeType dataMimeType,
                                         WellKnownMimeType metadataMimeType,
-                                        RemoteRSocketInfo remoteRSocketInfo,
+                                        @Nullable RemoteRSocketInfo remoteRSocketInfo,
                                         List<RSocketExecutionBeforeInterceptor> beforeInterceptors,
                                         List<RSocketExecutionAfterInterceptor> afterInterceptors) {
         super(source);
         this.dataMimeType = dataMimeType;
         this.metadataMimeType = metadataMimeType;
-        if (Objects.nonNull(remoteRSocketInfo)) {
-            this.remoteRSocketInfoCache = Caffeine.newBuilder()
-                    .initialCapacity(1)
-                    .weakKeys()
-                    .build();
-            this.remoteRSocketInfoCache.put(source, remoteRSocketInfo);
-        } else {
-            this.remoteRSocketInfoCache = Caffeine.newBuilder()
-                    .initialCapacity(3)
-                    .weakKeys()
-                    .build();
+        this.remoteRSocketInfo = remoteRSocketInfo;
+        if (Objects.isNull(remoteRSocketInfo)) {
+            log.debug("Can not get remote rsocket info from RSocket instance :{}", source);
         }
         this.beforeChain = new RSocketExecutionBeforeInterceptorChain(beforeInterceptors);
         this.afterChain = new RSocketExecutionAfterInterceptorChain(afterInterceptors);
+        this.interceptBefore = Objects.nonNull(beforeInterceptors) && !beforeInterceptors.isEmpty();
+        this.interceptAfter = Objects.nonNull(afterInterceptors) && !afterInterceptors.isEmpty();
+        this.passThrough = !this.interceptBefore && !this.interceptAfter;
     }
 
     @Override
     public Mono<Void> fireAndForget(Payload payload) {
+        if (this.passThrough) {
+            return super.fireAndForget(payload);
+        }
         return this.interceptMono(payload, FIRE_AND_FORGET, Mono.defer(() -> super.fireAndForget(payload)));
     }
 
     @Override
     public Mono<Payload> requestResponse(Payload payload) {
+        if (this.passThrough) {
+            return super.requestResponse(payload);
+        }
         return this.interceptMono(payload, REQUEST_RESPONSE, Mono.defer(() -> super.requestResponse(payload)));
     }
 
     @Override
     public Flux<Payload> requestStream(Payload payload) {
+        if (this.passThrough) {
+            return super.requestStream(payload);
+        }
         return this.interceptFlux(payload, REQUEST_STREAM, Flux.defer(() -> super.requestStream(payload)));
     }
 
     @Override
     public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
-        return Flux.deferContextual(contextView -> Mono.justOrEmpty(contextView)
-                .defaultIfEmpty(Context.empty())
-                .flatMapMany(context -> {
-                    return Flux.usingWhen(
-                                    initializeAttributes(),
-                                    attributes -> {
-                                        return Mono.just(this.beforeChain)
-                                                .flatMapMany(chain -> {
-                                                    return Flux.from(payloads)
-                                                            .switchOnFirst(((signal, payloadFlux) -> {
-                                                                if (signal.hasValue()) {
-                                                                    DefaultRSocketExchange exchange = newExchange(
-                                                                            REQUEST_CHANNEL,
-                                                                            signal.get(),
-                                                                            dataMimeType,
-                                                                            metadataMimeType,
-                                                                            attributes
-                                                                    );
-                                                                    return chain.next(exchange)
-                                                                            .thenMany(payloadFlux);
-                                                                }
-                                                                return payloadFlux;
-                                                            }));
-                                                })
-                                                .as(super::requestChannel);
-                                    },
-                                    attributes -> invokeOnComplete(REQUEST_CHANNEL, attributes),
-                                    (attributes, err) -> invokeOnError(REQUEST_CHANNEL, attributes, err),
-                                    attributes -> invokeOnCancel(REQUEST_CHANNEL, attributes)
-                            )
-                            .contextWrite(context);
-                })
-        );
+        if (this.passThrough) {
+            return super.requestChannel(payloads);
+        }
+        return new InterceptedFlux<>(REQUEST_CHANNEL, null, attributes -> {
+            if (!this.interceptBefore) {
+                return super.requestChannel(payloads);
+            }
+            return Flux.from(payloads)
+                    .switchOnFirst(((signal, payloadFlux) -> {
+                        if (signal.hasValue()) {
+                            DefaultRSocketExchange exchange = newExchange(
+                                    REQUEST_CHANNEL,
+                                    signal.get(),
+                                    dataMimeType,
+                                    metadataMimeType,
+                                    attributes
+                            );
+                            if (this.beforeChain.isSynchronous()) {
+                                this.beforeChain.invokeSynchronously(exchange);
+                                return payloadFlux;
+                            }
+                            return this.beforeChain.next(exchange)
+                                    .thenMany(payloadFlux);
+                        }
+                        return payloadFlux;
+                    }))
+                    .as(super::requestChannel);
+        }, false);
     }
 
     @Override
     public Mono<Void> metadataPush(Payload payload) {
+        if (this.passThrough) {
+            return super.metadataPush(payload);
+        }
         return this.interceptMono(payload, METADATA_PUSH, Mono.defer(() -> super.metadataPush(payload)));
     }
 
     protected <T> Mono<T> interceptMono(Payload payload, RSocketExchangeType rSocketExchangeType, Mono<T> monoExecution) {
-        return Mono.deferContextual(contextView -> Mono.justOrEmpty(contextView)
-                .defaultIfEmpty(Context.empty())
-                .flatMap(context -> {
-                    return Mono.usingWhen(
-                                    initializeAttributes(),
-                                    attributes -> {
-                                        return Mono.just(this.beforeChain)
-                                                .flatMap(chain -> {
-                                                    return Mono.defer(() -> {
-                                                        DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
-                                                                payload,
-                                                                dataMimeType,
-                                                                metadataMimeType,
-                                                                attributes
-                                                        );
-                                                        return chain.next(exchange);
-                                                    });
-                                                })
-                                                .then(monoExecution);
-                                    },
-                                    attributes -> invokeOnComplete(rSocketExchangeType, attributes),
-                                    (attributes, err) -> invokeOnError(rSocketExchangeType, attributes, err),
-                                    attributes -> invokeOnCancel(rSocketExchangeType, attributes)
-                            )
-                            .contextWrite(context);
-                })
-        );
+        return new InterceptedMono<>(rSocketExchangeType, payload, attributes -> monoExecution, this.interceptBefore);
     }
 
     protected <T> Flux<T> interceptFlux(Payload payload, RSocketExchangeType rSocketExchangeType, Flux<T> fluxExecution) {
-        return Flux.deferContextual(contextView -> Mono.justOrEmpty(contextView)
-                .defaultIfEmpty(Context.empty())
-                .flatMapMany(context -> {
-                    return Flux.usingWhen(
-                                    initializeAttributes(),
-                                    attributes -> {
-                                        return Mono.just(this.beforeChain)
-                                                .flatMap(chain -> {
-                                                    return Mono.defer(() -> {
-                                                        DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
-                                                                payload,
-                                                                dataMimeType,
-                                                                metadataMimeType,
-                                                                attributes
-                                                        );
-                                                        return chain.next(exchange);
-                                                    });
-                                                })
-                                                .thenMany(fluxExecution);
-                                    },
-                                    attributes -> invokeOnComplete(rSocketExchangeType, attributes),
-                                    (attributes, err) -> invokeOnError(rSocketExchangeType, attributes, err),
-                                    attributes -> invokeOnCancel(rSocketExchangeType, attributes)
-                            )
-                            .contextWrite(context);
-                })
-        );
+        return new InterceptedFlux<>(rSocketExchangeType, payload, attributes -> fluxExecution, this.interceptBefore);
     }
 
-    private Mono<Map<String, Object>> initializeAttributes() {
-        return Mono.fromSupplier(() -> {
-            final ConcurrentHashMap<String, Object> attributes = new ConcurrentHashMap<>();
-            RemoteRSocketInfo remoteRSocketInfo = this.remoteRSocketInfoCache.get(source,
-                    rsocket -> {
-                        Optional<RemoteRSocketInfo> optionalInfo = RSocketMicroConnectUtil.getRemoteRSocketInfo(source);
-                        if (optionalInfo.isEmpty()) {
-                            log.debug("Can not get remote rsocket info from RSocket instance :{}", source);
-                            return null;
-                        }
-                        return optionalInfo.get();
-                    }
-            );
-            if (Objects.nonNull(remoteRSocketInfo)) {
-                attributes.putIfAbsent(RemoteRSocketInfo.class.getName(), remoteRSocketInfo);
-            }
-            return attributes;
-        });
+    private Map<String, Object> initializeAttributes() {
+        final ConcurrentHashMap<String, Object> attributes = new ConcurrentHashMap<>();
+        if (Objects.nonNull(this.remoteRSocketInfo)) {
+            attributes.put(RemoteRSocketInfo.class.getName(), this.remoteRSocketInfo);
+        }
+        return attributes;
     }
 
-    private Mono<Void> invokeOnComplete(RSocketExchangeType rSocketExchangeType, Map<String, Object> attributes) {
-        DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
-                dataMimeType,
-                metadataMimeType,
-                attributes
-        );
-        return afterChain.next(exchange);
-    }
+    /**
+     * The intercepted mono execution.
+     *
+     * @param <T> the element type
+     */
+    private final class InterceptedMono<T> extends Mono<T> {
 
-    private Mono<Void> invokeOnError(RSocketExchangeType rSocketExchangeType, Map<String, Object> attributes, Throwable err) {
-        DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
-                dataMimeType,
-                metadataMimeType,
-                attributes,
-                err
-        );
-        return afterChain.next(exchange);
+        private final RSocketExchangeType rSocketExchangeType;
+        private final Payload payload;
+        private final Function<Map<String, Object>, ? extends Publisher<T>> executionFunction;
+        private final boolean interceptBefore;
+
+        private InterceptedMono(RSocketExchangeType rSocketExchangeType,
+                                Payload payload,
+                                Function<Map<String, Object>, ? extends Publisher<T>> executionFunction,
+                                boolean interceptBefore) {
+            this.rSocketExchangeType = rSocketExchangeType;
+            this.payload = payload;
+            this.executionFunction = executionFunction;
+            this.interceptBefore = interceptBefore;
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super T> actual) {
+            new InterceptedSubscriber<T>(actual, rSocketExchangeType, payload, executionFunction, interceptBefore).start();
+        }
     }
 
-    private Mono<Void> invokeOnCancel(RSocketExchangeType rSocketExchangeType, Map<String, Object> attributes) {
-        DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
-                dataMimeType,
-                metadataMimeType,
-                attributes
-        );
-        return afterChain.next(exchange);
+    /**
+     * The intercepted flux execution.
+     *
+     * @param <T> the element type
+     */
+    private final class InterceptedFlux<T> extends Flux<T> {
+
+        private final RSocketExchangeType rSocketExchangeType;
+        private final Payload payload;
+        private final Function<Map<String, Object>, ? extends Publisher<T>> executionFunction;
+        private final boolean interceptBefore;
+
+        private InterceptedFlux(RSocketExchangeType rSocketExchangeType,
+                                Payload payload,
+                                Function<Map<String, Object>, ? extends Publisher<T>> executionFunction,
+                                boolean interceptBefore) {
+            this.rSocketExchangeType = rSocketExchangeType;
+            this.payload = payload;
+            this.executionFunction = executionFunction;
+            this.interceptBefore = interceptBefore;
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super T> actual) {
+            new InterceptedSubscriber<T>(actual, rSocketExchangeType, payload, executionFunction, interceptBefore).start();
+        }
     }
 
+    /**
+     * The fused subscriber of an intercepted execution.
+     * <p>
+     * It subscribes the before interceptor chain, the execution and the after interceptor chain one after another,
+     * only the signals of the execution are forwarded and the terminal signal is delayed until the after interceptor chain completes.
+     * The after interceptor chain is invoked on cancellation as well, without waiting for it,
+     * and the running before or after interceptor chain is cancelled.
+     *
+     * @param <T> the element type
+     */
+    private final class InterceptedSubscriber<T> extends Operators.DeferredSubscription implements CoreSubscriber<T> {
+
+        private static final int PHASE_BEFORE = 0;
+        private static final int PHASE_EXECUTION = 1;
+        private static final int PHASE_AFTER = 2;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<InterceptedSubscriber> TERMINATED =
+                AtomicIntegerFieldUpdater.newUpdater(InterceptedSubscriber.class, "terminated");
+
+        private final CoreSubscriber<? super T> actual;
+        private final RSocketExchangeType rSocketExchangeType;
+        private final Payload payload;
+        private final Function<Map<String, Object>, ? extends Publisher<T>> executionFunction;
+        private final boolean interceptBefore;
+        private Map<String, Object> attributes;
+        private Context context;
+        private volatile int phase;
+        @SuppressWarnings("UnusedVariable") // accessed through TERMINATED
+        private volatile int terminated;
+        private volatile Subscription chainSubscription;
+        private Throwable error;
+
+        private InterceptedSubscriber(CoreSubscriber<? super T> actual,
+                                      RSocketExchangeType rSocketExchangeType,
+                                      Payload payload,
+                                      Function<Map<String, Object>, ? extends Publisher<T>> executionFunction,
+                                      boolean interceptBefore) {
+            this.actual = actual;
+            this.rSocketExchangeType = rSocketExchangeType;
+            this.payload = payload;
+            this.executionFunction = executionFunction;
+            this.interceptBefore = interceptBefore;
+        }
+
+        private void start() {
+            try {
+                this.attributes = initializeAttributes();
+                this.context = this.actual.currentContext().put(RSocketExchange.ATTRIBUTES_CONTEXT_KEY, this.attributes);
+            } catch (Throwable e) {
+                Operators.error(this.actual, Operators.onOperatorError(e, this.actual.currentContext()));
+                return;
+            }
+            this.actual.onSubscribe(this);
+            if (isCancelled()) {
+                return;
+            }
+            if (!this.interceptBefore) {
+                this.subscribeExecution();
+                return;
+            }
+            Mono<Void> beforeExecution;
+            try {
+                DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
+                        payload,
+                        dataMimeType,
+                        metadataMimeType,
+                        attributes
+                );
+                if (beforeChain.isSynchronous()) {
+                    beforeChain.invokeSynchronously(exchange);
+                    beforeExecution = null;
+                } else {
+                    beforeExecution = beforeChain.next(exchange);
+                }
+            } catch (Throwable e) {
+                this.onError(e);
+                return;
+            }
+            if (Objects.isNull(beforeExecution)) {
+                this.subscribeExecution();
+                return;
+            }
+            this.subscribeChain(beforeExecution);
+        }
+
+        private void subscribeExecution() {
+            this.phase = PHASE_EXECUTION;
+            Publisher<T> execution;
+            try {
+                execution = Objects.requireNonNull(this.executionFunction.apply(this.attributes), "The execution publisher is null");
+            } catch (Throwable e) {
+                this.onError(e);
+                return;
+            }
+            execution.subscribe(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void subscribeChain(Mono<Void> chainExecution) {
+            ((Mono<T>) (Mono<?>) chainExecution).subscribe(this);
+        }
+
+        @Override
+        public Context currentContext() {
+            Context context = this.context;
+            return Objects.isNull(context) ? this.actual.currentContext() : context;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (this.phase == PHASE_EXECUTION) {
+                set(subscription);
+                return;
+            }
+            this.chainSubscription = subscription;
+            if (isCancelled()) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (this.phase == PHASE_EXECUTION) {
+                this.actual.onNext(t);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (this.phase == PHASE_AFTER) {
+                if (Objects.nonNull(this.error)) {
+                    if (throwable != this.error) {
+                        this.error.addSuppressed(throwable);
+                    }
+                    this.actual.onError(this.error);
+                } else {
+                    this.actual.onError(throwable);
+                }
+                return;
+            }
+            this.terminate(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (this.phase == PHASE_BEFORE) {
+                if (!isCancelled()) {
+                    this.subscribeExecution();
+                }
+                return;
+            }
+            if (this.phase == PHASE_AFTER) {
+                if (Objects.nonNull(this.error)) {
+                    this.actual.onError(this.error);
+                } else {
+                    this.actual.onComplete();
+                }
+                return;
+            }
+            this.terminate(null);
+        }
+
+        @Override
+        public void cancel() {
+            if (isCancelled()) {
+                return;
+            }
+            super.cancel();
+            Subscription subscription = this.chainSubscription;
+            if (Objects.nonNull(subscription) && this.phase != PHASE_EXECUTION) {
+                subscription.cancel();
+            }
+            if (!TERMINATED.compareAndSet(this, 0, 1) || !interceptAfter) {
+                return;
+            }
+            DefaultRSocketExchange exchange = newExchange(rSocketExchangeType,
+                    dataMimeType,
+                    metadataMimeType,
+                    attributes
+            );
+            if (afterChain.isSynchronous()) {
+                try {
+                    afterChain.invokeSynchronously(exchange);
+                } catch (Throwable e) {
+                    log.warn("Invoke after interceptors on cancel failed", e);
+                }
+                return;
+            }
+            afterChain.next(exchange)
+                    .contextWrite(currentContext())
+                    .subscribe(null, e -> log.warn("Invoke after interceptors on cancel failed", e));
+        }
+
+        private void terminate(Throwable throwable) {
+            if (!TERMINATED.compareAndSet(this, 0, 1)) {
+                if (Objects.nonNull(throwable)) {
+                    Operators.onErrorDropped(throwable, currentContext());
+                }
+                return;
+            }
+            if (!interceptAfter) {
+                if (Objects.nonNull(throwable)) {
+                    this.actual.onError(throwable);
+                } else {
+                    this.actual.onComplete();
+                }
+                return;
+            }
+            this.phase = PHASE_AFTER;
+            this.error = throwable;
+            Mono<Void> afterExecution;
+            try {
+                DefaultRSocketExchange exchange = Objects.isNull(throwable)
+                        ? newExchange(rSocketExchangeType, dataMimeType, metadataMimeType, attributes)
+                        : newExchange(rSocketExchangeType, dataMimeType, metadataMimeType, attributes, throwable);
+                if (afterChain.isSynchronous()) {
+                    afterChain.invokeSynchronously(exchange);
+                    afterExecution = null;
+                } else {
+                    afterExecution = afterChain.next(exchange);
+                }
+            } catch (Throwable e) {
+                this.onError(e);
+                return;
+            }
+            if (Objects.isNull(afterExecution)) {
+                this.onComplete();
+                return;
+            }
+            this.subscribeChain(afterExecution);
+        }
+    }
 
     @Override
     public String toString() {
@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
 import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
 import reactor.core.publisher.Mono;
 
@@ -34,7 +35,7 @@ import java.util.Objects;
  * The Setup socket acceptor.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
@@ -54,24 +55,20 @@ public class SetupSocketAcceptor implements SocketAcceptor {
         WellKnownMimeType dataMimeType = parseMimeType(setup.dataMimeType(), this.defaultDataMimeType);
         WellKnownMimeType metadataMimeType = parseMimeType(setup.metadataMimeType(), this.defaultMetadataMimeType);
         return this.delegate.accept(setup, sendingSocket)
-                .flatMap(rSocket -> Mono.fromCallable(() -> RSocketMicroConnectUtil.getRemoteRSocketInfo(sendingSocket))
-                        .flatMap(Mono::justOrEmpty)
-                        .doOnNext(remoteRSocketInfo -> {
-                            log.info("RSocketClient[{}] connected successfully", remoteRSocketInfo.getInfo());
-                        })
-                        .map(remoteRSocketInfo -> new ChainedInterceptedRSocket(rSocket,
-                                dataMimeType,
-                                metadataMimeType,
-                                remoteRSocketInfo,
-                                beforeInterceptors,
-                                afterInterceptors
-                        ))
-                        .defaultIfEmpty(new ChainedInterceptedRSocket(rSocket,
-                                dataMimeType,
-                                metadataMimeType,
-                                beforeInterceptors,
-                                afterInterceptors
-                        )));
+                .map(rSocket -> {
+                    RemoteRSocketInfo remoteRSocketInfo = RSocketMicroConnectUtil.getRemoteRSocketInfo(sendingSocket)
+                            .orElse(null);
+                    if (Objects.nonNull(remoteRSocketInfo)) {
+                        log.info("RSocketClient[{}] connected successfully", remoteRSocketInfo.getInfo());
+                    }
+                    return new ChainedInterceptedRSocket(rSocket,
+                            dataMimeType,
+                            metadataMimeType,
+                            remoteRSocketInfo,
+                            beforeInterceptors,
+                            afterInterceptors
+                    );
+                });
     }
 
     protected WellKnownMimeType parseMimeType(String str, WellKnownMimeType defaultMimeType) {
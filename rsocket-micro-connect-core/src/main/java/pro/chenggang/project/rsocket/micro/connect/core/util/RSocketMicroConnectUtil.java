@@ -22,6 +22,8 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
@@ -46,12 +48,22 @@ import java.util.Optional;
  * The type RSocket micro connect util.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
 public abstract class RSocketMicroConnectUtil {
 
+    private static final ClassValue<Optional<VarHandle>> CONNECTION_FIELD_HANDLES = new ClassValue<>() {
+        @Override
+        protected Optional<VarHandle> computeValue(Class<?> rSocketType) {
+            return Optional.ofNullable(findFieldHandle(rSocketType, "connection", DuplexConnection.class));
+        }
+    };
+    private static final VarHandle RSOCKET_PROXY_SOURCE_HANDLE = findFieldHandle(RSocketProxy.class,
+            "source",
+            RSocket.class
+    );
     private static ClassLoader systemClassLoader;
 
     static {
@@ -69,27 +81,22 @@ public abstract class RSocketMicroConnectUtil {
      * @return the remote rsocket info
      */
     public static Optional<RemoteRSocketInfo> getRemoteRSocketInfo(@NonNull RSocket rSocket) {
-        try {
-            RSocket unwrapedRsocket = unwrapRSocketProxy(rSocket);
-            Field connectionField = findField(unwrapedRsocket.getClass(), "connection", DuplexConnection.class);
-            if (Objects.isNull(connectionField)) {
-                log.warn("Unable to get DuplexConnection field from RSocket: {}", unwrapedRsocket);
-                return Optional.empty();
-            }
-            connectionField.trySetAccessible();
-            DuplexConnection duplexConnection = (DuplexConnection) connectionField.get(unwrapedRsocket);
-            SocketAddress socketAddress = duplexConnection.remoteAddress();
-            if (socketAddress instanceof InetSocketAddress inetSocketAddress) {
-                RemoteRSocketInfo remoteRSocketInfo = RemoteRSocketInfo.builder()
-                        .host(inetSocketAddress.getHostString())
-                        .port(inetSocketAddress.getPort())
-                        .build();
-                return Optional.of(remoteRSocketInfo);
-            }
-            log.warn("Unable to get remote rsocket info from SocketAddress: {} of RSocket: {}", socketAddress, unwrapedRsocket);
-        } catch (IllegalAccessException e) {
-            log.warn("Unable to get remote rsocket info from RSocket: {}", rSocket, e);
-        }
+        RSocket unwrapedRsocket = unwrapRSocketProxy(rSocket);
+        Optional<VarHandle> connectionHandle = CONNECTION_FIELD_HANDLES.get(unwrapedRsocket.getClass());
+        if (connectionHandle.isEmpty()) {
+            log.warn("Unable to get DuplexConnection field from RSocket: {}", unwrapedRsocket);
+            return Optional.empty();
+        }
+        DuplexConnection duplexConnection = (DuplexConnection) connectionHandle.get().get(unwrapedRsocket);
+        SocketAddress socketAddress = duplexConnection.remoteAddress();
+        if (socketAddress instanceof InetSocketAddress inetSocketAddress) {
+            RemoteRSocketInfo remoteRSocketInfo = RemoteRSocketInfo.builder()
+                    .host(inetSocketAddress.getHostString())
+                    .port(inetSocketAddress.getPort())
+                    .build();
+            return Optional.of(remoteRSocketInfo);
+        }
+        log.warn("Unable to get remote rsocket info from SocketAddress: {} of RSocket: {}", socketAddress, unwrapedRsocket);
         return Optional.empty();
     }
 
@@ -98,19 +105,13 @@ public abstract class RSocketMicroConnectUtil {
      *
      * @param rSocket the rsocket
      * @return the rsocket
-     * @throws IllegalAccessException the illegal access exception
      */
-    public static RSocket unwrapRSocketProxy(@NonNull RSocket rSocket) throws IllegalAccessException {
-        if (!(rSocket instanceof RSocketProxy)) {
-            return rSocket;
+    public static RSocket unwrapRSocketProxy(@NonNull RSocket rSocket) {
+        RSocket current = rSocket;
+        while (current instanceof RSocketProxy && Objects.nonNull(RSOCKET_PROXY_SOURCE_HANDLE)) {
+            current = (RSocket) RSOCKET_PROXY_SOURCE_HANDLE.get(current);
         }
-        Field field = findField(RSocketProxy.class, "source", RSocket.class);
-        if (Objects.isNull(field)) {
-            return rSocket;
-        }
-        field.trySetAccessible();
-        RSocket source = (RSocket) field.get(rSocket);
-        return unwrapRSocketProxy(source);
+        return current;
     }
 
     /**
@@ -135,6 +136,28 @@ public abstract class RSocketMicroConnectUtil {
         return null;
     }
 
+    /**
+     * Find field and resolve it as a var handle.
+     *
+     * @param clazz the clazz
+     * @param name  the name
+     * @param type  the type
+     * @return the var handle, or null if the field is absent or inaccessible
+     */
+    public static VarHandle findFieldHandle(@NonNull Class<?> clazz, String name, Class<?> type) {
+        Field field = findField(clazz, name, type);
+        if (Objects.isNull(field)) {
+            return null;
+        }
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectVarHandle(field);
+        } catch (IllegalAccessException | SecurityException e) {
+            log.warn("Unable to access field {} of class {}", field.getName(), field.getDeclaringClass().getName(), e);
+            return null;
+        }
+    }
+
     /**
      * Is an ip address.
      *
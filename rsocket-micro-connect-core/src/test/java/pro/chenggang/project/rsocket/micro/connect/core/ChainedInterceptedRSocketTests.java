@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.core;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.interceptor.ChainedRSocketInterceptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ChainedInterceptedRSocketTests {
+
+    @Test
+    void testAfterInterceptorReEmitsExecutionError() {
+        IllegalStateException executionError = new IllegalStateException("execution failed");
+        RSocket source = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                payload.release();
+                return Mono.error(executionError);
+            }
+        };
+        RSocketExecutionAfterInterceptor reEmitting = (exchange, chain) -> exchange.getError()
+                .map(Mono::<Void>error)
+                .orElseGet(() -> chain.next(exchange));
+        intercept(source, List.of(), List.of(reEmitting))
+                .requestResponse(DefaultPayload.create("request-and-response"))
+                .as(StepVerifier::create)
+                .expectErrorSatisfies(throwable -> {
+                    assertThat(throwable).isSameAs(executionError);
+                    assertThat(throwable.getSuppressed()).isEmpty();
+                })
+                .verify();
+    }
+
+    @Test
+    void testAfterInterceptorErrorIsSuppressed() {
+        IllegalStateException executionError = new IllegalStateException("execution failed");
+        IllegalArgumentException afterError = new IllegalArgumentException("after failed");
+        RSocket source = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                payload.release();
+                return Mono.error(executionError);
+            }
+        };
+        RSocketExecutionAfterInterceptor failing = (exchange, chain) -> Mono.error(afterError);
+        intercept(source, List.of(), List.of(failing))
+                .requestResponse(DefaultPayload.create("request-and-response"))
+                .as(StepVerifier::create)
+                .expectErrorSatisfies(throwable -> {
+                    assertThat(throwable).isSameAs(executionError);
+                    assertThat(throwable.getSuppressed()).containsExactly(afterError);
+                })
+                .verify();
+    }
+
+    @Test
+    void testCancelDuringAfterChain() {
+        AtomicBoolean afterChainCancelled = new AtomicBoolean();
+        RSocket source = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                return Mono.just(payload);
+            }
+        };
+        RSocketExecutionAfterInterceptor pending = (exchange, chain) -> Mono.<Void>never()
+                .doOnCancel(() -> afterChainCancelled.set(true));
+        intercept(source, List.of(), List.of(pending))
+                .requestResponse(DefaultPayload.create("request-and-response"))
+                .as(StepVerifier::create)
+                .consumeNextWith(Payload::release)
+                .thenCancel()
+                .verify();
+        assertThat(afterChainCancelled).isTrue();
+    }
+
+    @Test
+    void testAttributesInExecutionContext() {
+        AtomicReference<Map<String, Object>> executionAttributes = new AtomicReference<>();
+        RSocket source = new RSocket() {
+            @Override
+            public Mono<Void> fireAndForget(Payload payload) {
+                payload.release();
+                return Mono.deferContextual(contextView -> {
+                    executionAttributes.set(contextView.getOrDefault(RSocketExchange.ATTRIBUTES_CONTEXT_KEY, null));
+                    return Mono.empty();
+                });
+            }
+        };
+        SyncRSocketExecutionInterceptor attributeInterceptor = new SyncRSocketExecutionInterceptor() {
+            @Override
+            public Verdict beforeExecution(RSocketExchange exchange) {
+                exchange.getAttributes().put("attribute-key", "attribute-value");
+                return Verdict.CONTINUE;
+            }
+        };
+        intercept(source, List.of(attributeInterceptor), List.of())
+                .fireAndForget(DefaultPayload.create("fire-and-forget"))
+                .as(StepVerifier::create)
+                .verifyComplete();
+        assertThat(executionAttributes.get()).containsEntry("attribute-key", "attribute-value");
+    }
+
+    @Test
+    void testAttributesInAfterChainContextOnCancel() {
+        AtomicReference<Map<String, Object>> afterAttributes = new AtomicReference<>();
+        RSocket source = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                payload.release();
+                return Mono.never();
+            }
+        };
+        SyncRSocketExecutionInterceptor attributeInterceptor = new SyncRSocketExecutionInterceptor() {
+            @Override
+            public Verdict beforeExecution(RSocketExchange exchange) {
+                exchange.getAttributes().put("attribute-key", "attribute-value");
+                return Verdict.CONTINUE;
+            }
+        };
+        RSocketExecutionAfterInterceptor contextual = (exchange, chain) -> Mono.deferContextual(contextView -> {
+            afterAttributes.set(contextView.getOrDefault(RSocketExchange.ATTRIBUTES_CONTEXT_KEY, null));
+            return chain.next(exchange);
+        });
+        intercept(source, List.of(attributeInterceptor), List.of(contextual))
+                .requestResponse(DefaultPayload.create("request-and-response"))
+                .as(StepVerifier::create)
+                .expectSubscription()
+                .thenCancel()
+                .verify();
+        assertThat(afterAttributes.get()).containsEntry("attribute-key", "attribute-value");
+    }
+
+    private static RSocket intercept(RSocket source,
+                                     List<RSocketExecutionBeforeInterceptor> beforeInterceptors,
+                                     List<RSocketExecutionAfterInterceptor> afterInterceptors) {
+        return new ChainedRSocketInterceptor(WellKnownMimeType.TEXT_PLAIN,
+                WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA,
+                beforeInterceptors,
+                afterInterceptors
+        ).apply(source);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.core;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.client.ContextClientSideInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.client.SimpleClientSideInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.client.SyncClientSideInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RSocketExecutionAfterInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RSocketExecutionBeforeInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.interceptor.ChainedRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.server.ContextServerSideInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.server.SimpleServerSideInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.server.SyncServerSideInterceptor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class SyncRSocketExecutionInterceptorTests {
+
+    @Test
+    void testOrderingOfSyncAndAsyncInterceptors() {
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        RSocket source = recordingSource(invocations);
+        RecordingSyncInterceptor sync1 = new RecordingSyncInterceptor("sync-1", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingAsyncInterceptor async2 = new RecordingAsyncInterceptor("async-2", invocations);
+        RecordingSyncInterceptor sync3 = new RecordingSyncInterceptor("sync-3", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingSyncInterceptor sync4 = new RecordingSyncInterceptor("sync-4", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        intercept(source, List.of(sync1, async2, sync3, sync4), List.of(sync1, async2, sync3, sync4))
+                .requestResponse(DefaultPayload.create("request-and-response"))
+                .as(StepVerifier::create)
+                .consumeNextWith(Payload::release)
+                .verifyComplete();
+        assertThat(invocations).containsExactly(
+                "before:sync-1", "before:async-2", "before:sync-3", "before:sync-4",
+                "execution",
+                "after:sync-4", "after:sync-3", "after:async-2", "after:sync-1"
+        );
+    }
+
+    @Test
+    void testSkipRemainingVerdict() {
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        RSocket source = recordingSource(invocations);
+        RecordingSyncInterceptor sync1 = new RecordingSyncInterceptor("sync-1", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingSyncInterceptor sync2 = new RecordingSyncInterceptor("sync-2", invocations, SyncRSocketExecutionInterceptor.Verdict.SKIP_REMAINING);
+        RecordingSyncInterceptor sync3 = new RecordingSyncInterceptor("sync-3", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingAsyncInterceptor async4 = new RecordingAsyncInterceptor("async-4", invocations);
+        intercept(source, List.of(sync1, sync2, sync3, async4), List.of(sync1, sync2, sync3, async4))
+                .requestResponse(DefaultPayload.create("request-and-response"))
+                .as(StepVerifier::create)
+                .consumeNextWith(Payload::release)
+                .verifyComplete();
+        assertThat(invocations).containsExactly(
+                "before:sync-1", "before:sync-2",
+                "execution",
+                "after:async-4", "after:sync-3", "after:sync-2", "after:sync-1"
+        );
+    }
+
+    @Test
+    void testSynchronousChains() {
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        RecordingSyncInterceptor sync1 = new RecordingSyncInterceptor("sync-1", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingSyncInterceptor sync2 = new RecordingSyncInterceptor("sync-2", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingAsyncInterceptor async3 = new RecordingAsyncInterceptor("async-3", invocations);
+        assertThat(new RSocketExecutionBeforeInterceptorChain(List.of()).isSynchronous()).isTrue();
+        assertThat(new RSocketExecutionBeforeInterceptorChain(List.of(sync1, sync2)).isSynchronous()).isTrue();
+        assertThat(new RSocketExecutionBeforeInterceptorChain(List.of(sync1, async3)).isSynchronous()).isFalse();
+        assertThat(new RSocketExecutionBeforeInterceptorChain(List.of(async3)).isSynchronous()).isFalse();
+        assertThat(new RSocketExecutionAfterInterceptorChain(List.of()).isSynchronous()).isTrue();
+        assertThat(new RSocketExecutionAfterInterceptorChain(List.of(sync1, sync2)).isSynchronous()).isTrue();
+        assertThat(new RSocketExecutionAfterInterceptorChain(List.of(sync1, async3)).isSynchronous()).isFalse();
+        assertThat(new RSocketExecutionAfterInterceptorChain(List.of(async3)).isSynchronous()).isFalse();
+    }
+
+    @Test
+    void testInlinedRunCompletesOnSubscribe() {
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        RSocket source = recordingSource(invocations);
+        RecordingSyncInterceptor sync1 = new RecordingSyncInterceptor("sync-1", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        RecordingSyncInterceptor sync2 = new RecordingSyncInterceptor("sync-2", invocations, SyncRSocketExecutionInterceptor.Verdict.CONTINUE);
+        AtomicBoolean completed = new AtomicBoolean();
+        intercept(source, List.of(sync1, sync2), List.of(sync1, sync2))
+                .fireAndForget(DefaultPayload.create("fire-and-forget"))
+                .subscribe(null, null, () -> completed.set(true));
+        assertThat(completed).isTrue();
+        assertThat(invocations).containsExactly(
+                "before:sync-1", "before:sync-2",
+                "execution",
+                "after:sync-2", "after:sync-1"
+        );
+    }
+
+    @Test
+    void testMixedChainsOfEveryInteraction() {
+        SyncClientSideInterceptor syncClientSideInterceptor = new SyncClientSideInterceptor();
+        SyncServerSideInterceptor syncServerSideInterceptor = new SyncServerSideInterceptor();
+        RSocket serverRSocket = intercept(new TestRSocket("hello world", "metadata"),
+                List.of(syncServerSideInterceptor, new SimpleServerSideInterceptor(), new ContextServerSideInterceptor()),
+                List.of(syncServerSideInterceptor, new SimpleServerSideInterceptor(), new ContextServerSideInterceptor())
+        );
+        RSocket clientRSocket = intercept(serverRSocket,
+                List.of(new SimpleClientSideInterceptor(), new ContextClientSideInterceptor(), syncClientSideInterceptor),
+                List.of(new SimpleClientSideInterceptor(), new ContextClientSideInterceptor(), syncClientSideInterceptor)
+        );
+        Context context = Context.of("context-key", "context-value");
+
+        clientRSocket.fireAndForget(DefaultPayload.create("fire-and-forget", "metadata"))
+                .contextWrite(context)
+                .as(StepVerifier::create)
+                .verifyComplete();
+        assertInvocations("FIRE_AND_FORGET", syncClientSideInterceptor, syncServerSideInterceptor);
+
+        clientRSocket.requestResponse(DefaultPayload.create("request-and-response", "metadata"))
+                .contextWrite(context)
+                .as(StepVerifier::create)
+                .consumeNextWith(payload -> assertThat(payload.getDataUtf8()).isEqualTo("hello world"))
+                .verifyComplete();
+        assertInvocations("REQUEST_RESPONSE", syncClientSideInterceptor, syncServerSideInterceptor);
+
+        clientRSocket.requestStream(DefaultPayload.create("request-stream", "metadata"))
+                .contextWrite(context)
+                .count()
+                .as(StepVerifier::create)
+                .expectNext(10_000L)
+                .verifyComplete();
+        assertInvocations("REQUEST_STREAM", syncClientSideInterceptor, syncServerSideInterceptor);
+
+        clientRSocket.requestChannel(Mono.just(DefaultPayload.create("request-channel", "metadata")))
+                .contextWrite(context)
+                .as(StepVerifier::create)
+                .consumeNextWith(payload -> assertThat(payload.getDataUtf8()).isEqualTo("request-channel"))
+                .verifyComplete();
+        assertInvocations("REQUEST_CHANNEL", syncClientSideInterceptor, syncServerSideInterceptor);
+
+        clientRSocket.metadataPush(DefaultPayload.create("metadata-push", "metadata"))
+                .contextWrite(context)
+                .as(StepVerifier::create)
+                .verifyComplete();
+        assertInvocations("METADATA_PUSH", syncClientSideInterceptor, syncServerSideInterceptor);
+    }
+
+    private static void assertInvocations(String exchangeType,
+                                          SyncClientSideInterceptor syncClientSideInterceptor,
+                                          SyncServerSideInterceptor syncServerSideInterceptor) {
+        List<String> expected = List.of("before:" + exchangeType, "after:" + exchangeType);
+        assertThat(syncClientSideInterceptor.getInvocations()).isEqualTo(expected);
+        assertThat(syncServerSideInterceptor.getInvocations()).isEqualTo(expected);
+        syncClientSideInterceptor.reset();
+        syncServerSideInterceptor.reset();
+    }
+
+    private static RSocket recordingSource(List<String> invocations) {
+        return new RSocket() {
+            @Override
+            public Mono<Void> fireAndForget(Payload payload) {
+                payload.release();
+                invocations.add("execution");
+                return Mono.empty();
+            }
+
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                return Mono.fromSupplier(() -> {
+                    invocations.add("execution");
+                    return payload;
+                });
+            }
+        };
+    }
+
+    private static RSocket intercept(RSocket source,
+                                     List<RSocketExecutionBeforeInterceptor> beforeInterceptors,
+                                     List<RSocketExecutionAfterInterceptor> afterInterceptors) {
+        return new ChainedRSocketInterceptor(WellKnownMimeType.TEXT_PLAIN,
+                WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA,
+                beforeInterceptors,
+                afterInterceptors
+        ).apply(source);
+    }
+
+    private record RecordingSyncInterceptor(String name,
+                                            List<String> invocations,
+                                            SyncRSocketExecutionInterceptor.Verdict verdict) implements SyncRSocketExecutionInterceptor {
+
+        @Override
+        public Verdict beforeExecution(RSocketExchange exchange) {
+            invocations.add("before:" + name);
+            return verdict;
+        }
+
+        @Override
+        public void afterExecution(RSocketExchange exchange) {
+            invocations.add("after:" + name);
+        }
+    }
+
+    private record RecordingAsyncInterceptor(String name,
+                                             List<String> invocations) implements RSocketExecutionBeforeInterceptor, RSocketExecutionAfterInterceptor {
+
+        @Override
+        public Mono<Void> interceptBefore(RSocketExchange exchange, RSocketInterceptorChain chain) {
+            return Mono.fromRunnable(() -> invocations.add("before:" + name))
+                    .then(chain.next(exchange));
+        }
+
+        @Override
+        public Mono<Void> interceptAfter(RSocketExchange exchange, RSocketInterceptorChain chain) {
+            return Mono.fromRunnable(() -> invocations.add("after:" + name))
+                    .then(chain.next(exchange));
+        }
+    }
+}
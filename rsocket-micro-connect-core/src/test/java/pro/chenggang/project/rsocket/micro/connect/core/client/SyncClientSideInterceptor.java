@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.core.client;
+
+import lombok.extern.slf4j.Slf4j;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class SyncClientSideInterceptor implements SyncRSocketExecutionInterceptor {
+
+    private final List<String> invocations = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Verdict beforeExecution(RSocketExchange exchange) {
+        log.info("[Sync-Client-Side](Before):{}",exchange);
+        invocations.add("before:" + exchange.getType().name());
+        return Verdict.CONTINUE;
+    }
+
+    @Override
+    public void afterExecution(RSocketExchange exchange) {
+        log.info("[Sync-Client-Side](After):{}",exchange);
+        invocations.add("after:" + exchange.getType().name());
+    }
+
+    public List<String> getInvocations() {
+        return List.copyOf(invocations);
+    }
+
+    public void reset() {
+        invocations.clear();
+    }
+}
@@ -50,8 +50,12 @@ import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionInte
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionInterceptor.InterceptorType;
 import pro.chenggang.project.rsocket.micro.connect.core.interceptor.SetupSocketAcceptorInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.spring.common.AttributeLifecycleRSocketInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborDecoder;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.SharedMetadataExtractor;
 import pro.chenggang.project.rsocket.micro.connect.spring.server.EnhancedRSocketMessageHandler;
+import pro.chenggang.project.rsocket.micro.connect.spring.server.RSocketBatchHandlerAdapter;
 import pro.chenggang.project.rsocket.micro.connect.spring.server.RSocketMicroConnectServerProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.server.RSocketResponseCacheInvalidator;
 import pro.chenggang.project.rsocket.micro.connect.spring.server.ServerLoggingRSocketInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.spring.server.argument.ConnectorHeaderHandlerMethodArgumentResolver;
 import pro.chenggang.project.rsocket.micro.connect.spring.server.argument.ConnectorHeaderMapHandlerMethodArgumentResolver;
@@ -110,12 +114,19 @@ public class RSocketMicroConnectServerAutoConfiguration {
         };
     }
 
+    @Bean
+    public RSocketStrategiesCustomizer connectorMetadataRSocketStrategyCustomizer() {
+        // registered ahead of the jackson cbor decoders, which are only the fallback of the other target types
+        return strategies -> strategies.decoders(decoders -> decoders.add(0, new ConnectorMetadataCborDecoder()));
+    }
+
     @Bean
     @ConditionalOnClass({ObjectMapper.class, CBORFactory.class})
     @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
     public RSocketStrategiesCustomizer jacksonCborHttpHeaderRSocketStrategyCustomizer(Jackson2ObjectMapperBuilder builder) {
         return strategies -> {
             ObjectMapper objectMapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+            // the fallback decoder, the header metadata is decoded by the connector metadata cbor decoder
             strategies.decoder(new Jackson2CborDecoder(objectMapper, CONNECTOR_HEADER_MEDIA_TYPE));
             strategies.encoder(new Jackson2CborEncoder(objectMapper, CONNECTOR_HEADER_MEDIA_TYPE));
             strategies.metadataExtractorRegistry(metadataExtractorRegistry -> {
@@ -133,6 +144,7 @@ public class RSocketMicroConnectServerAutoConfiguration {
     public RSocketStrategiesCustomizer jacksonCborHttpQueryRSocketStrategyCustomizer(Jackson2ObjectMapperBuilder builder) {
         return strategies -> {
             ObjectMapper objectMapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+            // the fallback decoder, the query metadata is decoded by the connector metadata cbor decoder
             strategies.decoder(new Jackson2CborDecoder(objectMapper, CONNECTOR_QUERY_MEDIA_TYPE));
             strategies.encoder(new Jackson2CborEncoder(objectMapper, CONNECTOR_QUERY_MEDIA_TYPE));
             strategies.metadataExtractorRegistry(metadataExtractorRegistry -> {
@@ -184,12 +196,19 @@ public class RSocketMicroConnectServerAutoConfiguration {
         };
     }
 
+    @Bean
+    public SharedMetadataExtractor sharedMetadataExtractor(RSocketStrategies rSocketStrategies) {
+        return new SharedMetadataExtractor(rSocketStrategies.metadataExtractor());
+    }
+
     @Bean
     public RSocketMessageHandler rsocketMessageHandler(RSocketStrategies rSocketStrategies,
+                                                       SharedMetadataExtractor sharedMetadataExtractor,
                                                        ObjectProvider<RSocketMessageHandlerCustomizer> customizers) {
         EnhancedRSocketMessageHandler handler = new EnhancedRSocketMessageHandler();
         handler.setRouteMatcher(rSocketStrategies.routeMatcher());
         handler.setRSocketStrategies(rSocketStrategies);
+        handler.setMetadataExtractor(sharedMetadataExtractor);
         customizers.orderedStream().forEach(customizer -> customizer.customize(handler));
         return handler;
     }
@@ -223,10 +242,37 @@ public class RSocketMicroConnectServerAutoConfiguration {
     }
 
     @Bean
-    public RSocketServerCustomizer rSocketMicroConnectServerCustomizer(SetupSocketAcceptorInterceptor setupSocketAcceptorInterceptor) {
+    @ConditionalOnMissingBean(RSocketBatchHandlerAdapter.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX + ".batch", value = "enabled", havingValue = "true")
+    public RSocketBatchHandlerAdapter rSocketBatchHandlerAdapter(RSocketMicroConnectServerProperties rSocketMicroConnectServerProperties) {
+        return new RSocketBatchHandlerAdapter(rSocketMicroConnectServerProperties.getBatch().getMaxConcurrency());
+    }
+
+    @Bean
+    public RSocketServerCustomizer rSocketMicroConnectServerCustomizer(SetupSocketAcceptorInterceptor setupSocketAcceptorInterceptor,
+                                                                       ObjectProvider<RSocketBatchHandlerAdapter> rSocketBatchHandlerAdapter) {
         return rSocketServer -> {
             rSocketServer.interceptors(interceptorRegistry -> {
                 interceptorRegistry.forSocketAcceptor(setupSocketAcceptorInterceptor);
+                // registered after the setup socket acceptor interceptor to intercept every batched request as usual
+                rSocketBatchHandlerAdapter.ifAvailable(interceptorRegistry::forSocketAcceptor);
+            });
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RSocketResponseCacheInvalidator.class)
+    @ConditionalOnProperty(prefix = PROPERTIES_PREFIX, value = "enable-response-cache-invalidation", havingValue = "true")
+    public RSocketResponseCacheInvalidator rSocketResponseCacheInvalidator() {
+        return new RSocketResponseCacheInvalidator();
+    }
+
+    @Bean
+    @ConditionalOnBean(RSocketResponseCacheInvalidator.class)
+    public RSocketServerCustomizer rSocketResponseCacheInvalidatorServerCustomizer(RSocketResponseCacheInvalidator rSocketResponseCacheInvalidator) {
+        return rSocketServer -> {
+            rSocketServer.interceptors(interceptorRegistry -> {
+                interceptorRegistry.forSocketAcceptor(rSocketResponseCacheInvalidator);
             });
         };
     }
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Batch the request-response executions of a connector method.
+ * <p>
+ * The executions within the batch window are sent together as one request-channel once the window elapses
+ * or the batch is full, each of them keeps its own route, headers, query params and body,
+ * and receives its own response. The server should enable the batch handler adapter,
+ * which dispatches the batched requests to the existing request-response handler methods.
+ * The executions with a routing key, a streaming body or a request part are never batched.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Batched {
+
+    /**
+     * The maximum executions of a batch, the batch is sent immediately once it's full.
+     *
+     * @return the maximum batch size
+     */
+    int maxSize() default 64;
+
+    /**
+     * The batch window, such as {@code 2ms} or {@code PT0.002S}, which is started by the first execution of a batch.
+     *
+     * @return the batch window
+     */
+    String window() default "2ms";
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.annotation;
+
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetOverflowPolicy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Buffer the fire-and-forget executions of a connector method.
+ * <p>
+ * The messages are buffered and sent together as a single batch frame once the flush window elapses
+ * or the batch is full, the server should enable the batch handler adapter, which dispatches every message
+ * to the existing fire-and-forget handler method and acknowledges the batch. The execution completes once its message
+ * is buffered, and the messages which are buffered or not acknowledged yet are limited by the in-flight budget,
+ * the new messages beyond it are handled by the overflow policy.
+ * The executions with a routing key, a streaming body or a request part are never buffered.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BufferedFireAndForget {
+
+    /**
+     * The maximum messages of a batch, the batch is sent immediately once it's full.
+     *
+     * @return the maximum batch size
+     */
+    int maxSize() default 256;
+
+    /**
+     * The flush window, such as {@code 10ms} or {@code PT0.01S}, which is started by the first buffered message of a batch.
+     *
+     * @return the flush window
+     */
+    String window() default "10ms";
+
+    /**
+     * The maximum messages which are buffered or not acknowledged yet, which also bounds the executions held by
+     * {@link RSocketFireAndForgetOverflowPolicy#BLOCK}.
+     *
+     * @return the maximum in-flight messages
+     */
+    int maxInFlight() default 10000;
+
+    /**
+     * The overflow policy when the in-flight budget is exhausted.
+     *
+     * @return the overflow policy
+     */
+    RSocketFireAndForgetOverflowPolicy overflow() default RSocketFireAndForgetOverflowPolicy.DROP_NEWEST;
+}
@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cache the responses of a request-response connector method on the client side.
+ * <p>
+ * The executions with the same route, path variables, query params, selected headers and body share one cached response
+ * until it expires after the ttl, or it's evicted by the max size, or it's invalidated by the server through metadata push,
+ * see {@code RSocketResponseCacheInvalidator}. The empty responses are not cached.
+ * The cached response is the decoded response object, which is not copied, every execution hitting it receives the same instance.
+ * So the response should be immutable, and only annotate the idempotent (read-only) methods whose response object
+ * is not modified by the callers.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+
+    /**
+     * The time to live of the cached response after it's written, e.g. {@code 30s}, {@code 5m}.
+     *
+     * @return the ttl
+     */
+    String ttl() default "1m";
+
+    /**
+     * The max number of the cached responses of the connector method.
+     *
+     * @return the max size
+     */
+    long maxSize() default 1000;
+
+    /**
+     * The names of the headers compared to share the cached responses, case-insensitive.
+     *
+     * @return the header names
+     */
+    String[] headers() default {};
+}
@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesce the identical in-flight request-response executions of a connector method.
+ * <p>
+ * The executions with the same route, path variables, query params, selected headers and body share one request,
+ * the later executions join the in-flight request instead of sending another one.
+ * The request is cancelled only when all the joined executions are cancelled.
+ * <p>
+ * Note that:
+ * <ul>
+ *     <li>The shared request runs with the subscriber context of the first execution, e.g. its tracing and security context,
+ *     the contexts of the joined executions are ignored. So don't coalesce the executions whose request depends on
+ *     the subscriber context, or select the headers which carry it.</li>
+ *     <li>All the joined executions receive the same response instance, which is not copied. So the response should be
+ *     treated as immutable, and only annotate the idempotent (read-only) methods whose response object is not modified by the callers.</li>
+ *     <li>The headers which are not selected are not compared, so select the headers which change the response, e.g. the credentials.</li>
+ * </ul>
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+
+    /**
+     * The names of the headers compared to coalesce the executions, case-insensitive.
+     *
+     * @return the header names
+     */
+    String[] headers() default {};
+}
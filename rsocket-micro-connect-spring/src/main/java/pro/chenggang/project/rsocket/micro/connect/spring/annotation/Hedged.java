@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Hedge the request-response executions of a connector method.
+ * <p>
+ * When the response is not received within the hedge delay, a duplicate request is sent through the load-balancer,
+ * the first response wins and the other request is cancelled.
+ * The hedged requests are limited by the hedge budget shared by all the connector methods,
+ * so only annotate the idempotent (read-only) methods.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Hedged {
+
+    /**
+     * The fixed hedge delay, such as {@code 50ms} or {@code PT0.05S}.
+     * When it's blank, the delay is the observed latency percentile of the method.
+     *
+     * @return the fixed hedge delay
+     */
+    String delay() default "";
+
+    /**
+     * The observed latency percentile used as the hedge delay when there is no fixed delay.
+     *
+     * @return the latency percentile, between 0 and 1
+     */
+    double percentile() default 0.95D;
+
+    /**
+     * The minimum observed latency samples before the percentile hedge delay is used.
+     * The executions are not hedged until there are enough samples.
+     *
+     * @return the minimum observed latency samples
+     */
+    int minSamples() default 100;
+}
@@ -0,0 +1,83 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retry the failed request-response or fire-and-forget executions of a connector method with a jittered exponential backoff.
+ * <p>
+ * The retries are limited by the retry budget of the transport uri shared by all the connector methods,
+ * and each retry is dispatched by the load-balancer again.
+ * The executions which are rejected or not sent at all (such as {@link io.rsocket.exceptions.Retryable}) are always retried,
+ * the other failures are only retried when the method is {@link #idempotent()}.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Retry {
+
+    /**
+     * The maximum attempts including the first execution.
+     *
+     * @return the maximum attempts
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * The first backoff, such as {@code 50ms} or {@code PT0.05S}, which doubles on each retry.
+     *
+     * @return the first backoff
+     */
+    String backoff() default "50ms";
+
+    /**
+     * The maximum backoff.
+     *
+     * @return the maximum backoff
+     */
+    String maxBackoff() default "1s";
+
+    /**
+     * The jitter factor of the backoff, between 0 and 1.
+     *
+     * @return the jitter factor
+     */
+    double jitter() default 0.5D;
+
+    /**
+     * Whether the method is idempotent, which means it's safe to retry even if the request may have been processed.
+     *
+     * @return true if the method is idempotent
+     */
+    boolean idempotent() default false;
+
+    /**
+     * The exception classes retried when the method is {@link #idempotent()}.
+     * When it's empty, the I/O exceptions, timeouts and connection closes are retried.
+     *
+     * @return the retried exception classes
+     */
+    Class<? extends Throwable>[] retryOn() default {};
+}
@@ -17,32 +17,62 @@ package pro.chenggang.project.rsocket.micro.connect.spring.client;
 
 import io.rsocket.transport.ClientTransport;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.messaging.rsocket.RSocketRequester;
 
 import java.net.URI;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * The default rsocket requester registry.
+ * <p>
+ * A cached rsocket requester is read lock-free, the cache entry is only locked when the
+ * requester is missing or disposed, so that a single new rsocket requester is created
+ * no matter how many threads are requesting the same uri concurrently.
+ * With the {@link RSocketTransportConnectorConfigurer}s, each transport uri gets a new rsocket requester builder
+ * configured by them.
  *
  * @author Gang Cheng
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class CachedRSocketRequesterRegistry implements RSocketRequesterRegistry, DisposableBean {
 
     protected final RSocketRequester.Builder builder;
     protected final Map<URI, RSocketRequester> rSocketRequesterCache = new ConcurrentHashMap<>();
+    private final Supplier<RSocketRequester.Builder> builderSupplier;
+    private final List<RSocketTransportConnectorConfigurer> transportConnectorConfigurers;
+
+    public CachedRSocketRequesterRegistry(@NonNull RSocketRequester.Builder builder) {
+        this(() -> builder, Collections.emptyList());
+    }
+
+    /**
+     * Instantiates a new cached rsocket requester registry.
+     *
+     * @param builderSupplier               the supplier of a new rsocket requester builder
+     * @param transportConnectorConfigurers the configurers of the rsocket connectors of each transport uri
+     */
+    public CachedRSocketRequesterRegistry(@NonNull Supplier<RSocketRequester.Builder> builderSupplier,
+                                          @NonNull List<RSocketTransportConnectorConfigurer> transportConnectorConfigurers) {
+        this.builder = builderSupplier.get();
+        this.builderSupplier = builderSupplier;
+        this.transportConnectorConfigurers = transportConnectorConfigurers;
+    }
 
     @Override
     public RSocketRequester getRSocketRequester(@NonNull URI transportURI) {
+        RSocketRequester rSocketRequester = rSocketRequesterCache.get(transportURI);
+        if (Objects.nonNull(rSocketRequester) && !rSocketRequester.isDisposed()) {
+            return rSocketRequester;
+        }
         return rSocketRequesterCache.compute(transportURI, this::initialize);
     }
 
@@ -74,7 +104,22 @@ public class CachedRSocketRequesterRegistry implements RSocketRequesterRegistry,
     protected RSocketRequester newRSocketRequester(@NonNull URI transportURI) {
         ClientTransport clientTransport = getClientTransport(transportURI)
                 .orElseThrow(() -> new IllegalArgumentException("Un supported rsocket transport uri: " + transportURI));
-        return builder.transport(clientTransport);
+        return this.getBuilder(transportURI).transport(clientTransport);
+    }
+
+    /**
+     * Gets the rsocket requester builder of the transport uri.
+     * The shared builder is returned if there is no transport connector configurer, otherwise a new one is configured.
+     *
+     * @param transportURI the transport uri
+     * @return the rsocket requester builder
+     */
+    protected RSocketRequester.Builder getBuilder(@NonNull URI transportURI) {
+        if (transportConnectorConfigurers.isEmpty()) {
+            return builder;
+        }
+        return builderSupplier.get()
+                .rsocketConnector(connector -> transportConnectorConfigurers.forEach(configurer -> configurer.configure(transportURI, connector)));
     }
 
     @Override
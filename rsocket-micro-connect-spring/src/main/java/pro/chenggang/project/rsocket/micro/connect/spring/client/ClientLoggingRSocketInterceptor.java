@@ -21,12 +21,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.util.StringUtils;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType;
-import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
-import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
-import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
 import pro.chenggang.project.rsocket.micro.connect.spring.common.LoggingProperties;
-import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -44,31 +41,31 @@ import static pro.chenggang.project.rsocket.micro.connect.spring.common.LoggingP
  * The Client side logging rsocket execution interceptor.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
 @RequiredArgsConstructor
-public class ClientLoggingRSocketInterceptor implements RSocketExecutionBeforeInterceptor, RSocketExecutionAfterInterceptor {
+public class ClientLoggingRSocketInterceptor implements SyncRSocketExecutionInterceptor {
 
     private final RSocketMicroConnectClientProperties clientProperties;
 
     @Override
-    public Mono<Void> interceptBefore(RSocketExchange exchange, RSocketInterceptorChain chain) {
+    public Verdict beforeExecution(RSocketExchange exchange) {
         RSocketExchangeType exchangeType = exchange.getType();
         if (!exchangeType.isRequest()) {
-            return chain.next(exchange);
+            return Verdict.CONTINUE;
         }
         String route = exchange.getAttribute(ROUTE_ATTR_KEY);
         if (!StringUtils.hasText(route)) {
-            return Mono.error(new IllegalStateException("Route is missing in the RSocket exchange attributes."));
+            throw new IllegalStateException("Route is missing in the RSocket exchange attributes.");
         }
         LoggingProperties properties = clientProperties.getLogging();
         boolean loggingFlag = Objects.isNull(properties) || properties.isLoggingRoute(route);
         Map<String, Object> attributes = exchange.getAttributes();
         attributes.put(LOGGING_ATTR_KEY, loggingFlag);
         if (!loggingFlag) {
-            return chain.next(exchange);
+            return Verdict.CONTINUE;
         }
         Optional<RemoteRSocketInfo> optionalInfo = exchange.getRemoteRSocketInfo();
         if (optionalInfo.isPresent()) {
@@ -84,22 +81,22 @@ public class ClientLoggingRSocketInterceptor implements RSocketExecutionBeforeIn
                 }
             });
         }
-        return chain.next(exchange);
+        return Verdict.CONTINUE;
     }
 
     @Override
-    public Mono<Void> interceptAfter(RSocketExchange exchange, RSocketInterceptorChain chain) {
+    public void afterExecution(RSocketExchange exchange) {
         RSocketExchangeType rSocketExchangeType = exchange.getType();
         if (!rSocketExchangeType.isRequest()) {
-            return chain.next(exchange);
+            return;
         }
         String route = exchange.getAttribute(ROUTE_ATTR_KEY);
         if (!StringUtils.hasText(route)) {
-            return Mono.error(new IllegalStateException("Route is missing in the RSocket exchange attributes."));
+            throw new IllegalStateException("Route is missing in the RSocket exchange attributes.");
         }
         boolean loggingFlag = exchange.getAttributeOrDefault(LOGGING_ATTR_KEY, true);
         if (!loggingFlag) {
-            return chain.next(exchange);
+            return;
         }
         Instant executionInstant = exchange.getAttributeOrDefault(EXECUTION_INSTANT_ATTR_KEY, Instant.now());
         Duration costDuration = Duration.between(executionInstant, Instant.now());
@@ -132,7 +129,6 @@ public class ClientLoggingRSocketInterceptor implements RSocketExecutionBeforeIn
                 log.info("<== RSocket[{}]: {}, Cost: {} ms", rSocketExchangeType, route, costDuration.toMillis());
             }
         }
-        return chain.next(exchange);
     }
 
     @Override
@@ -0,0 +1,299 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.plugins.RSocketInterceptor;
+import io.rsocket.transport.ClientTransport;
+import io.rsocket.util.RSocketProxy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The pooled rsocket requester registry.
+ * <p>
+ * Keeps a pool of up to {@code size} rsocket requesters (one connection each) per transport uri
+ * and hands out the one with the least outstanding requests.
+ * The connections are opened lazily, a new one is only opened when every opened connection is busy,
+ * and a disposed rsocket requester is replaced on the next lookup.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class PooledRSocketRequesterRegistry implements RSocketRequesterRegistry, DisposableBean {
+
+    private final Supplier<RSocketRequester.Builder> builderSupplier;
+    private final int size;
+    private final List<RSocketTransportConnectorConfigurer> transportConnectorConfigurers;
+    private final Map<URI, RSocketRequesterPool> rSocketRequesterPoolCache = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new pooled rsocket requester registry.
+     *
+     * @param builderSupplier the supplier of a new rsocket requester builder for each pooled connection
+     * @param size            the max connections per transport uri
+     */
+    public PooledRSocketRequesterRegistry(@NonNull Supplier<RSocketRequester.Builder> builderSupplier, int size) {
+        this(builderSupplier, size, Collections.emptyList());
+    }
+
+    /**
+     * Instantiates a new pooled rsocket requester registry.
+     *
+     * @param builderSupplier               the supplier of a new rsocket requester builder for each pooled connection
+     * @param size                          the max connections per transport uri
+     * @param transportConnectorConfigurers the configurers of the rsocket connectors of each transport uri
+     */
+    public PooledRSocketRequesterRegistry(@NonNull Supplier<RSocketRequester.Builder> builderSupplier,
+                                          int size,
+                                          @NonNull List<RSocketTransportConnectorConfigurer> transportConnectorConfigurers) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("RSocket requester pool size must be positive");
+        }
+        this.builderSupplier = builderSupplier;
+        this.size = size;
+        this.transportConnectorConfigurers = transportConnectorConfigurers;
+    }
+
+    @Override
+    public RSocketRequester getRSocketRequester(@NonNull URI transportURI) {
+        RSocketRequesterPool rSocketRequesterPool = rSocketRequesterPoolCache.get(transportURI);
+        if (Objects.isNull(rSocketRequesterPool)) {
+            rSocketRequesterPool = rSocketRequesterPoolCache.computeIfAbsent(transportURI, RSocketRequesterPool::new);
+        }
+        return rSocketRequesterPool.select();
+    }
+
+    /**
+     * Gets all the rsocket requesters of the pool, the connections which are not opened yet are opened.
+     *
+     * @param transportURI the transport uri
+     * @return the rsocket requesters of the pool
+     */
+    @Override
+    public List<RSocketRequester> getRSocketRequesters(@NonNull URI transportURI) {
+        return rSocketRequesterPoolCache.computeIfAbsent(transportURI, RSocketRequesterPool::new).fill();
+    }
+
+    /**
+     * New pooled connection.
+     *
+     * @param transportURI the transport uri
+     * @return the pooled connection
+     */
+    protected PooledConnection newPooledConnection(@NonNull URI transportURI) {
+        ClientTransport clientTransport = getClientTransport(transportURI)
+                .orElseThrow(() -> new IllegalArgumentException("Un supported rsocket transport uri: " + transportURI));
+        RSocketRequester.Builder builder = builderSupplier.get();
+        if (!transportConnectorConfigurers.isEmpty()) {
+            builder.rsocketConnector(connector -> transportConnectorConfigurers.forEach(configurer -> configurer.configure(transportURI, connector)));
+        }
+        return new PooledConnection(builder, clientTransport);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.rSocketRequesterPoolCache.forEach((uri, rSocketRequesterPool) -> {
+            rSocketRequesterPool.dispose();
+            log.info("Dispose rsocket requester pool for uri: {}", uri);
+        });
+        this.rSocketRequesterPoolCache.clear();
+    }
+
+    /**
+     * The rsocket requester pool of a transport uri.
+     */
+    private final class RSocketRequesterPool {
+
+        private final URI transportURI;
+        private final AtomicReferenceArray<PooledConnection> connections;
+        private volatile int opened;
+
+        RSocketRequesterPool(URI transportURI) {
+            this.transportURI = transportURI;
+            this.connections = new AtomicReferenceArray<>(size);
+        }
+
+        RSocketRequester select() {
+            int opened = this.opened;
+            PooledConnection selected = null;
+            int leastOutstanding = Integer.MAX_VALUE;
+            for (int i = 0; i < opened; i++) {
+                PooledConnection candidate = connections.get(i);
+                if (candidate.isDisposed()) {
+                    candidate = this.replace(i, candidate);
+                }
+                int outstanding = candidate.getOutstanding();
+                if (outstanding < leastOutstanding) {
+                    selected = candidate;
+                    leastOutstanding = outstanding;
+                    if (outstanding == 0) {
+                        break;
+                    }
+                }
+            }
+            if (Objects.isNull(selected) || (leastOutstanding > 0 && opened < size)) {
+                return this.grow(selected).getRSocketRequester();
+            }
+            return selected.getRSocketRequester();
+        }
+
+        /**
+         * Open a new pooled connection, or fall back to the selected one if the pool has been filled concurrently.
+         */
+        private synchronized PooledConnection grow(PooledConnection selected) {
+            int opened = this.opened;
+            if (opened >= size) {
+                return Objects.nonNull(selected) ? selected : connections.get(0);
+            }
+            log.info("Opening pooled rsocket requester [{}/{}] for {}", opened + 1, size, transportURI);
+            PooledConnection connection = newPooledConnection(transportURI);
+            connections.set(opened, connection);
+            this.opened = opened + 1;
+            return connection;
+        }
+
+        private synchronized List<RSocketRequester> fill() {
+            List<RSocketRequester> rSocketRequesters = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                PooledConnection connection = i < this.opened ? connections.get(i) : this.grow(null);
+                if (connection.isDisposed()) {
+                    connection = this.replace(i, connection);
+                }
+                rSocketRequesters.add(connection.getRSocketRequester());
+            }
+            return rSocketRequesters;
+        }
+
+        private synchronized PooledConnection replace(int index, PooledConnection disposed) {
+            PooledConnection current = connections.get(index);
+            if (current != disposed) {
+                return current;
+            }
+            log.info("Pooled rsocket requester [{}/{}] is disposed, creating a new one for {}", index + 1, size, transportURI);
+            PooledConnection connection = newPooledConnection(transportURI);
+            connections.set(index, connection);
+            return connection;
+        }
+
+        private synchronized void dispose() {
+            for (int i = 0; i < this.opened; i++) {
+                PooledConnection connection = connections.get(i);
+                if (!connection.isDisposed()) {
+                    connection.getRSocketRequester().dispose();
+                }
+            }
+        }
+    }
+
+    /**
+     * The pooled connection which counts the outstanding requests of its rsocket requester.
+     */
+    protected static class PooledConnection implements RSocketInterceptor {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final Consumer<Subscription> onRequestStart = subscription -> outstanding.incrementAndGet();
+        private final Consumer<SignalType> onRequestEnd = signalType -> outstanding.decrementAndGet();
+        private final RSocketRequester rSocketRequester;
+
+        /**
+         * Instantiates a new pooled connection.
+         *
+         * @param builder         the rsocket requester builder dedicated to this connection
+         * @param clientTransport the client transport
+         */
+        protected PooledConnection(RSocketRequester.Builder builder, ClientTransport clientTransport) {
+            this.rSocketRequester = builder
+                    .rsocketConnector(connector -> connector.interceptors(registry -> registry.forRequester(this)))
+                    .transport(clientTransport);
+        }
+
+        /**
+         * Gets rsocket requester.
+         *
+         * @return the rsocket requester
+         */
+        public RSocketRequester getRSocketRequester() {
+            return rSocketRequester;
+        }
+
+        /**
+         * Gets the outstanding requests.
+         *
+         * @return the outstanding requests
+         */
+        public int getOutstanding() {
+            return outstanding.get();
+        }
+
+        /**
+         * Whether the rsocket requester is disposed.
+         *
+         * @return true if disposed
+         */
+        public boolean isDisposed() {
+            return rSocketRequester.isDisposed();
+        }
+
+        @Override
+        public RSocket apply(RSocket rSocket) {
+            return new RSocketProxy(rSocket) {
+
+                @Override
+                public Mono<Void> fireAndForget(Payload payload) {
+                    return super.fireAndForget(payload).doOnSubscribe(onRequestStart).doFinally(onRequestEnd);
+                }
+
+                @Override
+                public Mono<Payload> requestResponse(Payload payload) {
+                    return super.requestResponse(payload).doOnSubscribe(onRequestStart).doFinally(onRequestEnd);
+                }
+
+                @Override
+                public Flux<Payload> requestStream(Payload payload) {
+                    return super.requestStream(payload).doOnSubscribe(onRequestStart).doFinally(onRequestEnd);
+                }
+
+                @Override
+                public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+                    return super.requestChannel(payloads).doOnSubscribe(onRequestStart).doFinally(onRequestEnd);
+                }
+            };
+        }
+    }
+}
@@ -19,6 +19,9 @@ import io.rsocket.metadata.WellKnownMimeType;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimitProperties;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketLoadBalanceProperties;
 import pro.chenggang.project.rsocket.micro.connect.spring.common.LoggingProperties;
 
 import java.time.Duration;
@@ -28,7 +31,7 @@ import java.util.List;
  * The RSocket micro connect server properties.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Getter
@@ -57,6 +60,12 @@ public class RSocketMicroConnectClientProperties {
      */
     public boolean enableDiscover = false;
 
+    /**
+     * Whether the cached responses are invalidated by the metadata push of the servers.
+     * Default value is false.
+     */
+    public boolean enableResponseCacheInvalidation = false;
+
     /**
      * The Micro connector package.
      * If there are other packages need to be scanned, this should be configured
@@ -68,6 +77,48 @@ public class RSocketMicroConnectClientProperties {
      */
     public Duration refreshDiscoverInterval = Duration.ofSeconds(10);
 
+    /**
+     * The load-balance properties of the discovered rsocket server instances.
+     */
+    @NestedConfigurationProperty
+    public RSocketLoadBalanceProperties loadBalance = new RSocketLoadBalanceProperties();
+
+    /**
+     * The rsocket requester pool properties.
+     */
+    @NestedConfigurationProperty
+    public RSocketRequesterPoolProperties pool = new RSocketRequesterPoolProperties();
+
+    /**
+     * The rsocket micro connector warm-up properties.
+     */
+    @NestedConfigurationProperty
+    public RSocketMicroConnectorWarmUpProperties warmUp = new RSocketMicroConnectorWarmUpProperties();
+
+    /**
+     * The hedged request properties of the hedged connector methods.
+     */
+    @NestedConfigurationProperty
+    public RSocketHedgeProperties hedge = new RSocketHedgeProperties();
+
+    /**
+     * The retry properties of the retried connector methods.
+     */
+    @NestedConfigurationProperty
+    public RSocketRetryProperties retry = new RSocketRetryProperties();
+
+    /**
+     * The adaptive concurrency limit properties of the request-response executions.
+     */
+    @NestedConfigurationProperty
+    public RSocketConcurrencyLimitProperties concurrencyLimit = new RSocketConcurrencyLimitProperties();
+
+    /**
+     * The circuit breaker properties of the transport uris and the load-balanced targets.
+     */
+    @NestedConfigurationProperty
+    public RSocketCircuitBreakerProperties circuitBreaker = new RSocketCircuitBreakerProperties();
+
     /**
      * The Default data mime type.
      */
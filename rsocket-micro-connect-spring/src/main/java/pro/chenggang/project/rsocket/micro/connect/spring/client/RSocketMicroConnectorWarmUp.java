@@ -0,0 +1,192 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.util.StringUtils;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.RSocketMicroConnector;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.scanner.RSocketMicroConnectorFactoryBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The rsocket micro connector warm-up.
+ * <p>
+ * Collects the distinct transport uris of all the scanned rsocket micro connectors once the application context is started,
+ * and opens their connections in parallel, optionally sending a ping route through each of them.
+ * Every connection of a pooled registry is opened, while a load-balanced transport uri of the discover registry
+ * only opens the connection of the instance selected by its load-balance strategy.
+ * Since it blocks until every transport uri is warmed up or timed out, the application only reports ready afterward.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RSocketMicroConnectorWarmUp implements ApplicationListener<ApplicationStartedEvent>, BeanFactoryAware {
+
+    private static final String FACTORY_BEAN_OBJECT_TYPE_ATTRIBUTE = "factoryBeanObjectType";
+
+    @NonNull
+    private final RSocketRequesterRegistry rSocketRequesterRegistry;
+    @NonNull
+    private final RSocketMicroConnectorWarmUpProperties warmUpProperties;
+    private ConfigurableListableBeanFactory beanFactory;
+    private volatile Set<URI> transportURIs = Set.of();
+    private volatile Map<URI, Throwable> failures;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (beanFactory instanceof ConfigurableListableBeanFactory configurableListableBeanFactory) {
+            this.beanFactory = configurableListableBeanFactory;
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        if (this.isCompleted()) {
+            return;
+        }
+        Set<URI> transportURIs = this.collectTransportURIs();
+        this.transportURIs = transportURIs;
+        if (transportURIs.isEmpty()) {
+            this.failures = Map.of();
+            return;
+        }
+        Duration timeout = warmUpProperties.getTimeout();
+        log.info("Warming up rsocket micro connector transport uris: {}", transportURIs);
+        long startNanos = System.nanoTime();
+        Map<URI, Throwable> failures = new ConcurrentHashMap<>();
+        Flux.fromIterable(transportURIs)
+                .flatMap(transportURI -> this.warmUp(transportURI)
+                        .timeout(timeout)
+                        .onErrorResume(throwable -> {
+                            failures.put(transportURI, throwable);
+                            log.warn("Failed to warm up rsocket micro connector transport uri: {}", transportURI, throwable);
+                            return Mono.empty();
+                        })
+                )
+                .blockLast();
+        this.failures = Map.copyOf(failures);
+        if (!failures.isEmpty() && warmUpProperties.isFailFast()) {
+            throw new IllegalStateException("Failed to warm up rsocket micro connector transport uris: " + failures.keySet());
+        }
+        log.info("Warmed up {}/{} rsocket micro connector transport uris in {} ms",
+                transportURIs.size() - failures.size(),
+                transportURIs.size(),
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis()
+        );
+    }
+
+    /**
+     * Warm up the given transport uri.
+     *
+     * @param transportURI the transport uri
+     * @return the warm-up completion
+     */
+    protected Mono<Void> warmUp(@NonNull URI transportURI) {
+        return Mono.defer(() -> {
+            String pingRoute = warmUpProperties.getPingRoute();
+            return Flux.fromIterable(rSocketRequesterRegistry.getRSocketRequesters(transportURI))
+                    .flatMap(rSocketRequester -> {
+                        if (StringUtils.hasText(pingRoute)) {
+                            return rSocketRequester.route(pingRoute).retrieveMono(Void.class);
+                        }
+                        return rSocketRequester.rsocketClient().source().then();
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Whether the warm-up is completed.
+     *
+     * @return true if completed
+     */
+    public boolean isCompleted() {
+        return Objects.nonNull(this.failures);
+    }
+
+    /**
+     * Gets the transport uris to warm up.
+     *
+     * @return the transport uris
+     */
+    public Set<URI> getTransportURIs() {
+        return this.transportURIs;
+    }
+
+    /**
+     * Gets the warm-up failures of the transport uris, empty before the warm-up is completed.
+     *
+     * @return the warm-up failures
+     */
+    public Map<URI, Throwable> getFailures() {
+        Map<URI, Throwable> failures = this.failures;
+        return Objects.isNull(failures) ? Map.of() : failures;
+    }
+
+    private Set<URI> collectTransportURIs() {
+        if (Objects.isNull(this.beanFactory)) {
+            return Set.of();
+        }
+        Set<URI> transportURIs = new LinkedHashSet<>();
+        for (String beanName : this.beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = this.beanFactory.getBeanDefinition(beanName);
+            if (!RSocketMicroConnectorFactoryBean.class.getName().equals(beanDefinition.getBeanClassName())) {
+                continue;
+            }
+            if (!(beanDefinition.getAttribute(FACTORY_BEAN_OBJECT_TYPE_ATTRIBUTE) instanceof Class<?> connectorInterface)) {
+                continue;
+            }
+            RSocketMicroConnector rSocketMicroConnector = AnnotationUtils.findAnnotation(connectorInterface,
+                    RSocketMicroConnector.class
+            );
+            if (Objects.isNull(rSocketMicroConnector) || !StringUtils.hasText(rSocketMicroConnector.value())) {
+                continue;
+            }
+            try {
+                URI transportURI = URI.create(rSocketMicroConnector.value());
+                if (StringUtils.hasText(transportURI.getScheme()) && StringUtils.hasText(transportURI.getHost())) {
+                    transportURIs.add(transportURI);
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Skip warming up invalid rsocket transport uri of {}: {}", connectorInterface.getName(), rSocketMicroConnector.value());
+            }
+        }
+        return transportURIs;
+    }
+}
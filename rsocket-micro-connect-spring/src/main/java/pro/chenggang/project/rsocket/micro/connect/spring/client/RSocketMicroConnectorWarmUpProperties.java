@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * The rsocket micro connector warm-up properties.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketMicroConnectorWarmUpProperties {
+
+    /**
+     * Whether to open the connections of all the rsocket micro connectors at startup.
+     * Default value is false, which means the connections are opened on the first request.
+     * Every pooled connection of a transport uri is opened, but a load-balanced transport uri of the discovery
+     * only opens the connection of one instance, the other instances are still connected on demand.
+     */
+    public boolean enabled = false;
+
+    /**
+     * The ping route sent through every warmed up connection.
+     * When it's blank, the connections are only opened without sending any request.
+     */
+    public String pingRoute;
+
+    /**
+     * The warm-up timeout of each transport uri.
+     */
+    public Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Whether to fail the application startup when any transport uri fails to warm up.
+     * Default value is false, which means the failures are only logged.
+     */
+    public boolean failFast = false;
+}
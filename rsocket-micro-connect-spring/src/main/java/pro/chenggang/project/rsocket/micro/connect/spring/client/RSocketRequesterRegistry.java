@@ -22,13 +22,14 @@ import lombok.NonNull;
 import org.springframework.messaging.rsocket.RSocketRequester;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * The interface RSocket requester registry.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public interface RSocketRequesterRegistry {
@@ -41,6 +42,17 @@ public interface RSocketRequesterRegistry {
      */
     RSocketRequester getRSocketRequester(@NonNull URI transportURI);
 
+    /**
+     * Gets all the rsocket requesters of the transport uri, e.g. every connection of a pool.
+     * Default returns the single rsocket requester of {@link #getRSocketRequester(URI)}.
+     *
+     * @param transportURI the transport uri
+     * @return the rsocket requesters
+     */
+    default List<RSocketRequester> getRSocketRequesters(@NonNull URI transportURI) {
+        return List.of(getRSocketRequester(transportURI));
+    }
+
     /**
      * Gets client transport.
      *
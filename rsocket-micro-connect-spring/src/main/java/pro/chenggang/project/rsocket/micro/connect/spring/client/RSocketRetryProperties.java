@@ -0,0 +1,43 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RetryBudget;
+
+/**
+ * The retry properties of the connector methods annotated with {@code @Retry}.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketRetryProperties {
+
+    /**
+     * The retry budget ratio of each transport uri, the maximum ratio of the retries to the executions.
+     * Default value is 0.1, which means at most 10% extra requests.
+     */
+    public double budgetRatio = RetryBudget.DEFAULT_RATIO;
+
+    /**
+     * The retry budget burst of each transport uri, the maximum retries which can be sent in a burst.
+     */
+    public int budgetBurst = RetryBudget.DEFAULT_BURST;
+}
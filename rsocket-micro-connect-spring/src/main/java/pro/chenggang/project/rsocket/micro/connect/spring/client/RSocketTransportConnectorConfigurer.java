@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client;
+
+import io.rsocket.core.RSocketConnector;
+
+import java.net.URI;
+
+/**
+ * The configurer of the rsocket connectors of a transport uri.
+ * <p>
+ * Unlike the {@code RSocketConnectorConfigurer} applied to every rsocket connector, it's applied by the rsocket requester registry
+ * to the rsocket connectors it creates for the transport uri, so that the configured interceptors know their transport uri.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@FunctionalInterface
+public interface RSocketTransportConnectorConfigurer {
+
+    /**
+     * Configure the rsocket connector of the transport uri.
+     *
+     * @param transportURI     the transport uri
+     * @param rSocketConnector the rsocket connector
+     */
+    void configure(URI transportURI, RSocketConnector rSocketConnector);
+}
@@ -0,0 +1,401 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.breaker;
+
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.CustomRSocketException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketCircuitBreakerOpenException;
+import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketConcurrencyLimitExceededException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The circuit breaker of a transport uri or a load-balanced target.
+ * <p>
+ * The outcomes of the latest calls are kept in a count-based sliding window, the circuit opens when the failure rate
+ * or the slow call rate reaches its threshold, and the calls are rejected with {@link RSocketCircuitBreakerOpenException}
+ * without being sent. After the wait duration, a few probing calls are permitted (half-open),
+ * the circuit closes if their failure rate and slow call rate are below the thresholds, otherwise it opens again.
+ * <p>
+ * The application errors of the server are not failures since the server is reachable,
+ * and the requests rejected on the client side are not recorded at all.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketCircuitBreaker {
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * The circuit breaker name, the transport uri or the address of the load-balanced target
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * The circuit breaker scope
+     */
+    @Getter
+    private final Scope scope;
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final long waitDurationNanos;
+    private final int permittedCallsInHalfOpenState;
+    private final byte[] slidingWindow;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final LongAdder notPermittedCount = new LongAdder();
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+    private int windowSlowCalls;
+    private int halfOpenCalls;
+    private int halfOpenFailures;
+    private int halfOpenSlowCalls;
+    private volatile State state = State.CLOSED;
+    private volatile long stateSinceNanos = System.nanoTime();
+
+    public RSocketCircuitBreaker(String name, Scope scope, RSocketCircuitBreakerProperties properties) {
+        Assert.isTrue(properties.getSlidingWindowSize() >= 1, "Circuit breaker sliding window size should be greater than 0");
+        Assert.isTrue(properties.getPermittedCallsInHalfOpenState() >= 1, "Circuit breaker permitted calls in half-open state should be greater than 0");
+        this.name = name;
+        this.scope = scope;
+        this.slidingWindowSize = properties.getSlidingWindowSize();
+        this.minimumCalls = Math.max(1, Math.min(properties.getMinimumCalls(), this.slidingWindowSize));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+        this.slowCallDurationNanos = properties.getSlowCallDuration().toNanos();
+        this.waitDurationNanos = properties.getWaitDurationInOpenState().toNanos();
+        this.permittedCallsInHalfOpenState = properties.getPermittedCallsInHalfOpenState();
+        this.slidingWindow = new byte[this.slidingWindowSize];
+    }
+
+    /**
+     * Whether a call is permitted now, without acquiring the permission.
+     *
+     * @return true if a call is permitted
+     */
+    public boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - stateSinceNanos >= waitDurationNanos;
+            case HALF_OPEN -> halfOpenPermits.get() > 0 || System.nanoTime() - stateSinceNanos >= waitDurationNanos;
+        };
+    }
+
+    /**
+     * Try to acquire the permission of a call.
+     * The outcome of a permitted call should be recorded by {@link #onSuccess(long)} or {@link #onError(Throwable, long)},
+     * or the permission should be released by {@link #releasePermission()} if the call is cancelled.
+     *
+     * @return true if the call is permitted
+     */
+    public boolean tryAcquirePermission() {
+        State currentState = state;
+        if (State.CLOSED == currentState) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - stateSinceNanos >= waitDurationNanos) {
+            this.transitionToHalfOpen(currentState, now);
+        }
+        int permits;
+        do {
+            if (State.HALF_OPEN != state) {
+                return State.CLOSED == state;
+            }
+            permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+        } while (!halfOpenPermits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    /**
+     * Release the acquired permission of a call without recording its outcome.
+     */
+    public void releasePermission() {
+        if (State.HALF_OPEN == state) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record a successful call.
+     *
+     * @param durationNanos the call duration in nanoseconds, or a negative value if the call can't be slow
+     */
+    public void onSuccess(long durationNanos) {
+        this.record(this.isSlow(durationNanos) ? SLOW : 0);
+    }
+
+    /**
+     * Record a failed call.
+     *
+     * @param throwable     the failure
+     * @param durationNanos the call duration in nanoseconds, or a negative value if the call can't be slow
+     */
+    public void onError(Throwable throwable, long durationNanos) {
+        if (throwable instanceof RSocketCircuitBreakerOpenException || throwable instanceof RSocketConcurrencyLimitExceededException) {
+            this.releasePermission();
+            return;
+        }
+        byte slow = this.isSlow(durationNanos) ? SLOW : 0;
+        if (throwable instanceof ApplicationErrorException || throwable instanceof CustomRSocketException) {
+            this.record(slow);
+            return;
+        }
+        this.record((byte) (FAILURE | slow));
+    }
+
+    /**
+     * New circuit breaker open exception of a call which is not permitted.
+     *
+     * @return the circuit breaker open exception
+     */
+    public RSocketCircuitBreakerOpenException callNotPermitted() {
+        notPermittedCount.increment();
+        return new RSocketCircuitBreakerOpenException(name);
+    }
+
+    /**
+     * Decorate the request, every subscription of the request mono acquires a permission and records its outcome.
+     *
+     * @param request the request mono
+     * @param <R>     the response type
+     * @return the decorated request mono
+     */
+    public <R> Mono<R> decorate(Mono<R> request) {
+        return Mono.defer(() -> {
+            if (!this.tryAcquirePermission()) {
+                return Mono.error(this.callNotPermitted());
+            }
+            long startNanos = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return request
+                    .doOnSuccess(response -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.onSuccess(System.nanoTime() - startNanos);
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.onError(throwable, System.nanoTime() - startNanos);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Decorate the request stream, every subscription of the request flux acquires a permission and records its outcome.
+     * A stream is never a slow call.
+     *
+     * @param request the request flux
+     * @param <R>     the response type
+     * @return the decorated request flux
+     */
+    public <R> Flux<R> decorate(Flux<R> request) {
+        return Flux.defer(() -> {
+            if (!this.tryAcquirePermission()) {
+                return Flux.error(this.callNotPermitted());
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return request
+                    .doOnComplete(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.onSuccess(-1L);
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.onError(throwable, -1L);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Gets the current state.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the failure rate of the sliding window in percentage.
+     *
+     * @return the failure rate, or -1 if there are less calls than the minimum calls
+     */
+    public synchronized float getFailureRate() {
+        return windowCalls < minimumCalls ? -1F : windowFailures * 100F / windowCalls;
+    }
+
+    /**
+     * Gets the slow call rate of the sliding window in percentage.
+     *
+     * @return the slow call rate, or -1 if there are less calls than the minimum calls
+     */
+    public synchronized float getSlowCallRate() {
+        return windowCalls < minimumCalls ? -1F : windowSlowCalls * 100F / windowCalls;
+    }
+
+    /**
+     * Gets the count of the calls which are not permitted.
+     *
+     * @return the not permitted call count
+     */
+    public long getNotPermittedCount() {
+        return notPermittedCount.sum();
+    }
+
+    private boolean isSlow(long durationNanos) {
+        return durationNanos >= 0 && durationNanos >= slowCallDurationNanos;
+    }
+
+    private synchronized void record(byte outcome) {
+        switch (state) {
+            case CLOSED -> {
+                if (windowCalls == slidingWindowSize) {
+                    byte evicted = slidingWindow[windowIndex];
+                    windowFailures -= evicted & FAILURE;
+                    windowSlowCalls -= (evicted & SLOW) >> 1;
+                } else {
+                    windowCalls++;
+                }
+                slidingWindow[windowIndex] = outcome;
+                windowIndex = (windowIndex + 1) % slidingWindowSize;
+                windowFailures += outcome & FAILURE;
+                windowSlowCalls += (outcome & SLOW) >> 1;
+                if (windowCalls >= minimumCalls && this.isExceeded(windowCalls, windowFailures, windowSlowCalls)) {
+                    this.transitionToOpen();
+                }
+            }
+            case HALF_OPEN -> {
+                halfOpenCalls++;
+                halfOpenFailures += outcome & FAILURE;
+                halfOpenSlowCalls += (outcome & SLOW) >> 1;
+                if (halfOpenCalls < permittedCallsInHalfOpenState) {
+                    return;
+                }
+                if (this.isExceeded(halfOpenCalls, halfOpenFailures, halfOpenSlowCalls)) {
+                    this.transitionToOpen();
+                } else {
+                    this.transitionToClosed();
+                }
+            }
+            default -> {
+                // the outcomes of the calls permitted before the circuit opened are dropped
+            }
+        }
+    }
+
+    private boolean isExceeded(int calls, int failures, int slowCalls) {
+        return failures * 100F / calls >= failureRateThreshold || slowCalls * 100F / calls >= slowCallRateThreshold;
+    }
+
+    private synchronized void transitionToHalfOpen(State expectedState, long now) {
+        if (state != expectedState || now - stateSinceNanos < waitDurationNanos) {
+            return;
+        }
+        halfOpenCalls = 0;
+        halfOpenFailures = 0;
+        halfOpenSlowCalls = 0;
+        halfOpenPermits.set(permittedCallsInHalfOpenState);
+        stateSinceNanos = now;
+        state = State.HALF_OPEN;
+        log.info("Circuit breaker of {} is half-open", name);
+    }
+
+    private void transitionToOpen() {
+        stateSinceNanos = System.nanoTime();
+        state = State.OPEN;
+        log.warn("Circuit breaker of {} is open", name);
+    }
+
+    private void transitionToClosed() {
+        windowIndex = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+        windowSlowCalls = 0;
+        stateSinceNanos = System.nanoTime();
+        state = State.CLOSED;
+        log.info("Circuit breaker of {} is closed", name);
+    }
+
+    /**
+     * The circuit breaker state.
+     */
+    @Getter
+    public enum State {
+
+        CLOSED(0),
+        OPEN(1),
+        HALF_OPEN(2),
+        ;
+
+        /**
+         * The numeric value of the state, e.g. for a metric gauge
+         */
+        private final int value;
+
+        State(int value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * The circuit breaker scope.
+     */
+    public enum Scope {
+
+        /**
+         * The circuit breaker of a transport uri
+         */
+        TRANSPORT,
+
+        /**
+         * The circuit breaker of a load-balanced target
+         */
+        TARGET,
+    }
+}
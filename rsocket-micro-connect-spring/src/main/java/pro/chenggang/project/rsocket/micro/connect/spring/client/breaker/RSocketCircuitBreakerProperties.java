@@ -0,0 +1,81 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.breaker;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * The circuit breaker properties of the transport uris and the load-balanced targets.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketCircuitBreakerProperties {
+
+    /**
+     * Whether to break the circuit of each transport uri.
+     * Default value is false.
+     */
+    public boolean enabled = false;
+
+    /**
+     * Whether to break the circuit of each load-balanced target instead of the load-balanced transport uri when the discovery is enabled.
+     * The load-balancer skips the targets whose circuit is open, the calls fail immediately if the circuits of all the targets are open.
+     */
+    public boolean perTarget = true;
+
+    /**
+     * The size of the sliding window of the latest call outcomes.
+     */
+    public int slidingWindowSize = 100;
+
+    /**
+     * The minimum calls in the sliding window before the failure rate and slow call rate are evaluated.
+     */
+    public int minimumCalls = 20;
+
+    /**
+     * The failure rate threshold in percentage, the circuit opens when the failure rate reaches it.
+     */
+    public float failureRateThreshold = 50F;
+
+    /**
+     * The slow call rate threshold in percentage, the circuit opens when the slow call rate reaches it.
+     * Default value is 100, which means the circuit only opens when all the calls are slow.
+     */
+    public float slowCallRateThreshold = 100F;
+
+    /**
+     * The duration above which a call is slow.
+     */
+    public Duration slowCallDuration = Duration.ofSeconds(5);
+
+    /**
+     * The duration the circuit stays open before permitting the probing calls.
+     */
+    public Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+    /**
+     * The probing calls permitted while the circuit is half-open, the circuit closes or opens again by their outcomes.
+     */
+    public int permittedCallsInHalfOpenState = 5;
+}
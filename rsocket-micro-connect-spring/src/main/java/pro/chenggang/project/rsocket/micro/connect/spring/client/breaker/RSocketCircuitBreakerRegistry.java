@@ -0,0 +1,164 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.breaker;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreaker.Scope;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The registry of the circuit breakers of each transport uri and each load-balanced target.
+ * <p>
+ * If the circuit breakers of the load-balanced targets are enabled, the load-balanced transport uri has no circuit breaker,
+ * since the failures of a few targets would open it while the other targets are healthy,
+ * its calls fail immediately when the circuit breakers of all its targets are open.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketCircuitBreakerRegistry {
+
+    /**
+     * The circuit breaker properties
+     */
+    @Getter
+    private final RSocketCircuitBreakerProperties properties;
+
+    private final List<RSocketCircuitBreakerListener> listeners;
+    private final Predicate<URI> loadBalancedTransports;
+    private final Map<String, RSocketCircuitBreaker> transportCircuitBreakers = new ConcurrentHashMap<>();
+    private final Set<String> loadBalancedTransportURIs = ConcurrentHashMap.newKeySet();
+    private final Map<String, RSocketCircuitBreaker> targetCircuitBreakers = new ConcurrentHashMap<>();
+
+    public RSocketCircuitBreakerRegistry(@NonNull RSocketCircuitBreakerProperties properties,
+                                         List<RSocketCircuitBreakerListener> listeners) {
+        this(properties, listeners, transportURI -> false);
+    }
+
+    /**
+     * Instantiates a new circuit breaker registry.
+     *
+     * @param properties             the circuit breaker properties
+     * @param listeners              the circuit breaker listeners
+     * @param loadBalancedTransports the predicate of the load-balanced transport uris
+     */
+    public RSocketCircuitBreakerRegistry(@NonNull RSocketCircuitBreakerProperties properties,
+                                         List<RSocketCircuitBreakerListener> listeners,
+                                         @NonNull Predicate<URI> loadBalancedTransports) {
+        this.properties = properties;
+        this.listeners = Objects.isNull(listeners) ? Collections.emptyList() : listeners;
+        this.loadBalancedTransports = loadBalancedTransports;
+    }
+
+    /**
+     * New disabled circuit breaker registry.
+     *
+     * @return the disabled circuit breaker registry
+     */
+    public static RSocketCircuitBreakerRegistry disabled() {
+        return new RSocketCircuitBreakerRegistry(new RSocketCircuitBreakerProperties(), Collections.emptyList());
+    }
+
+    /**
+     * Whether the circuit breakers of the load-balanced targets are enabled.
+     *
+     * @return true if the circuit breakers of the load-balanced targets are enabled
+     */
+    public boolean isPerTargetEnabled() {
+        return properties.isEnabled() && properties.isPerTarget();
+    }
+
+    /**
+     * Gets the circuit breaker of the transport uri, it's created on the first time.
+     *
+     * @param transportURI the transport uri
+     * @return the circuit breaker or null if the circuit breaker is disabled,
+     * or the transport uri is load-balanced and guarded by the circuit breakers of its targets
+     */
+    @Nullable
+    public RSocketCircuitBreaker getCircuitBreaker(@NonNull URI transportURI) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        String name = transportURI.toString();
+        RSocketCircuitBreaker circuitBreaker = transportCircuitBreakers.get(name);
+        if (Objects.nonNull(circuitBreaker)) {
+            return circuitBreaker;
+        }
+        if (this.isPerTargetEnabled()) {
+            if (loadBalancedTransportURIs.contains(name)) {
+                return null;
+            }
+            if (loadBalancedTransports.test(transportURI)) {
+                loadBalancedTransportURIs.add(name);
+                return null;
+            }
+        }
+        return this.getOrCreate(transportCircuitBreakers, name, Scope.TRANSPORT);
+    }
+
+    /**
+     * Gets the circuit breaker of the load-balanced target, it's created on the first time.
+     *
+     * @param targetAddress the address of the load-balanced target
+     * @return the circuit breaker or null if the circuit breakers of the load-balanced targets are disabled
+     */
+    @Nullable
+    public RSocketCircuitBreaker getTargetCircuitBreaker(@NonNull String targetAddress) {
+        if (!this.isPerTargetEnabled()) {
+            return null;
+        }
+        return this.getOrCreate(targetCircuitBreakers, targetAddress, Scope.TARGET);
+    }
+
+    /**
+     * Gets all the created circuit breakers.
+     *
+     * @return the circuit breakers
+     */
+    public Collection<RSocketCircuitBreaker> getCircuitBreakers() {
+        List<RSocketCircuitBreaker> circuitBreakers = new ArrayList<>(transportCircuitBreakers.values());
+        circuitBreakers.addAll(targetCircuitBreakers.values());
+        return Collections.unmodifiableList(circuitBreakers);
+    }
+
+    private RSocketCircuitBreaker getOrCreate(Map<String, RSocketCircuitBreaker> circuitBreakers, String name, Scope scope) {
+        RSocketCircuitBreaker circuitBreaker = circuitBreakers.get(name);
+        if (Objects.nonNull(circuitBreaker)) {
+            return circuitBreaker;
+        }
+        RSocketCircuitBreaker created = new RSocketCircuitBreaker(name, scope, properties);
+        circuitBreaker = circuitBreakers.putIfAbsent(name, created);
+        if (Objects.nonNull(circuitBreaker)) {
+            return circuitBreaker;
+        }
+        listeners.forEach(listener -> listener.onCircuitBreakerCreated(created));
+        return created;
+    }
+}
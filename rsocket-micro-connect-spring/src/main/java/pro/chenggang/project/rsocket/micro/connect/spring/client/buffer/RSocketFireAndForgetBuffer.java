@@ -0,0 +1,353 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.buffer;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.rsocket.Payload;
+import io.rsocket.core.RSocketClient;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The fire-and-forget buffer of a connector method.
+ * <p>
+ * The buffered messages are sent as one batch once the flush window started by the first buffered message
+ * elapses or the max batch size is reached, see {@link ConnectorBatchMetadataCodec}.
+ * The batch is sent as a request-response which the batch handler adapter acknowledges once the batch is handled,
+ * since a fire-and-forget completes as soon as its frame is queued rather than written, the budget of a batch
+ * is held until the server has received it.
+ * The in-flight messages, which are buffered or not acknowledged yet, are limited by the in-flight budget, the new messages
+ * beyond the budget are handled by the overflow policy, at most max in-flight executions are held by {@code BLOCK}
+ * and the messages beyond them are dropped. A buffered execution completes once its message is buffered,
+ * so the failures of the batch are only counted.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketFireAndForgetBuffer {
+
+    /**
+     * The buffer name, e.g. {@code com.example.EventClient#report(com.example.Event)}
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * The buffered route, which is only used for logging
+     */
+    @Getter
+    private final String route;
+
+    /**
+     * The max number of the messages of a batch
+     */
+    @Getter
+    private final int maxSize;
+
+    /**
+     * The flush window
+     */
+    @Getter
+    private final Duration window;
+
+    /**
+     * The max number of the in-flight messages
+     */
+    @Getter
+    private final int maxInFlight;
+
+    /**
+     * The overflow policy
+     */
+    @Getter
+    private final RSocketFireAndForgetOverflowPolicy overflowPolicy;
+
+    private final long windowNanos;
+    private final Scheduler scheduler = Schedulers.parallel();
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder flushedBatchCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final List<Payload> pendingPayloads = new ArrayList<>();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    @Nullable
+    private RSocketClient pendingClient;
+    private long pendingGeneration;
+    private int inFlight;
+
+    public RSocketFireAndForgetBuffer(@NonNull String name,
+                                      @NonNull String route,
+                                      int maxSize,
+                                      @NonNull Duration window,
+                                      int maxInFlight,
+                                      @NonNull RSocketFireAndForgetOverflowPolicy overflowPolicy) {
+        if (maxSize <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("The max size and the max in-flight of the fire-and-forget buffer should be positive, name: " + name);
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("The window of the fire-and-forget buffer should be positive, name: " + name);
+        }
+        this.name = name;
+        this.route = route;
+        this.maxSize = maxSize;
+        this.window = window;
+        this.windowNanos = window.toNanos();
+        this.maxInFlight = maxInFlight;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Offer the fire-and-forget payload to the buffer.
+     *
+     * @param rSocketClient the rsocket client which sends the batch
+     * @param payload       the fire-and-forget payload
+     * @return the mono completes when the payload is buffered or dropped
+     */
+    public Mono<Void> offer(@NonNull RSocketClient rSocketClient, @NonNull Payload payload) {
+        return Mono.create(sink -> this.offer(rSocketClient, payload, sink));
+    }
+
+    /**
+     * Gets the number of the messages sent successfully.
+     *
+     * @return the flushed message count
+     */
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    /**
+     * Gets the number of the batches sent successfully.
+     *
+     * @return the flushed batch count
+     */
+    public long getFlushedBatchCount() {
+        return flushedBatchCount.sum();
+    }
+
+    /**
+     * Gets the number of the blocked executions which wait for the in-flight budget.
+     *
+     * @return the blocked execution count
+     */
+    public synchronized int getBlocked() {
+        return waiters.size();
+    }
+
+    /**
+     * Gets the number of the messages dropped by the overflow policy.
+     *
+     * @return the dropped message count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Gets the number of the messages of the batches which failed to be sent.
+     *
+     * @return the failed message count
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Gets the number of the in-flight messages, which are buffered or not acknowledged yet.
+     *
+     * @return the in-flight message count
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void offer(RSocketClient rSocketClient, Payload payload, MonoSink<Void> sink) {
+        List<Payload> batch = null;
+        RSocketClient batchClient = null;
+        Payload dropped = null;
+        Waiter waiter = null;
+        synchronized (this) {
+            if (inFlight < maxInFlight) {
+                inFlight++;
+                batchClient = this.pendingClientOrDefault(rSocketClient);
+                batch = this.append(rSocketClient, payload);
+            } else if (overflowPolicy == RSocketFireAndForgetOverflowPolicy.DROP_OLDEST && !pendingPayloads.isEmpty()) {
+                dropped = pendingPayloads.remove(0);
+                batchClient = this.pendingClientOrDefault(rSocketClient);
+                batch = this.append(rSocketClient, payload);
+            } else if (overflowPolicy == RSocketFireAndForgetOverflowPolicy.BLOCK && waiters.size() < maxInFlight) {
+                waiter = new Waiter(rSocketClient, payload, sink);
+                waiters.add(waiter);
+            } else {
+                dropped = payload;
+            }
+        }
+        if (Objects.nonNull(waiter)) {
+            Waiter blocked = waiter;
+            sink.onCancel(() -> this.cancel(blocked));
+            return;
+        }
+        if (Objects.nonNull(dropped)) {
+            dropped.release();
+            droppedCount.increment();
+            log.debug("Fire-and-forget message is dropped by the overflow policy {}, buffer: {}", overflowPolicy, name);
+        }
+        sink.success();
+        if (Objects.nonNull(batch)) {
+            this.send(batchClient, batch);
+        }
+    }
+
+    /**
+     * Append the payload to the pending batch, the flush window is started by the first payload.
+     * Must be called while holding the lock.
+     *
+     * @return the pending batch if it's full, otherwise null
+     */
+    @Nullable
+    private List<Payload> append(RSocketClient rSocketClient, Payload payload) {
+        if (pendingPayloads.isEmpty()) {
+            pendingClient = rSocketClient;
+            long generation = pendingGeneration;
+            scheduler.schedule(() -> this.flush(generation), windowNanos, TimeUnit.NANOSECONDS);
+        }
+        pendingPayloads.add(payload);
+        if (pendingPayloads.size() < maxSize) {
+            return null;
+        }
+        return this.drain();
+    }
+
+    private RSocketClient pendingClientOrDefault(RSocketClient rSocketClient) {
+        return Objects.isNull(pendingClient) ? rSocketClient : pendingClient;
+    }
+
+    /**
+     * Drain the pending batch, must be called while holding the lock.
+     */
+    private List<Payload> drain() {
+        List<Payload> batch = new ArrayList<>(pendingPayloads);
+        pendingPayloads.clear();
+        pendingClient = null;
+        pendingGeneration++;
+        return batch;
+    }
+
+    private void flush(long generation) {
+        List<Payload> batch;
+        RSocketClient batchClient;
+        synchronized (this) {
+            if (generation != pendingGeneration || pendingPayloads.isEmpty()) {
+                return;
+            }
+            batchClient = pendingClient;
+            batch = this.drain();
+        }
+        this.send(batchClient, batch);
+    }
+
+    private void send(RSocketClient rSocketClient, List<Payload> batch) {
+        int size = batch.size();
+        Payload batchPayload;
+        try {
+            batchPayload = ConnectorBatchMetadataCodec.encodeFireAndForgetBatch(ByteBufAllocator.DEFAULT, route, batch);
+        } catch (Throwable t) {
+            this.onSent(size, t);
+            return;
+        }
+        rSocketClient.requestResponse(Mono.just(batchPayload))
+                .subscribe(Payload::release, throwable -> this.onSent(size, throwable), () -> this.onSent(size, null));
+    }
+
+    private void onSent(int size, @Nullable Throwable throwable) {
+        if (Objects.isNull(throwable)) {
+            flushedCount.add(size);
+            flushedBatchCount.increment();
+        } else {
+            failedCount.add(size);
+            log.warn("Failed to send {} buffered fire-and-forget messages, buffer: {}, message: {}", size, name, throwable.getMessage());
+        }
+        this.release(size);
+    }
+
+    /**
+     * Release the in-flight budget of the acknowledged messages and admit the blocked messages.
+     */
+    private void release(int size) {
+        List<Waiter> admitted = null;
+        List<List<Payload>> batches = null;
+        List<RSocketClient> batchClients = null;
+        synchronized (this) {
+            inFlight -= size;
+            while (inFlight < maxInFlight && !waiters.isEmpty()) {
+                Waiter waiter = waiters.poll();
+                inFlight++;
+                if (Objects.isNull(admitted)) {
+                    admitted = new ArrayList<>();
+                }
+                admitted.add(waiter);
+                RSocketClient batchClient = this.pendingClientOrDefault(waiter.rSocketClient);
+                List<Payload> batch = this.append(waiter.rSocketClient, waiter.payload);
+                if (Objects.nonNull(batch)) {
+                    if (Objects.isNull(batches)) {
+                        batches = new ArrayList<>();
+                        batchClients = new ArrayList<>();
+                    }
+                    batches.add(batch);
+                    batchClients.add(batchClient);
+                }
+            }
+        }
+        if (Objects.nonNull(admitted)) {
+            admitted.forEach(waiter -> waiter.sink.success());
+        }
+        if (Objects.nonNull(batches)) {
+            for (int i = 0; i < batches.size(); i++) {
+                this.send(batchClients.get(i), batches.get(i));
+            }
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        boolean removed;
+        synchronized (this) {
+            removed = waiters.remove(waiter);
+        }
+        if (removed) {
+            waiter.payload.release();
+        }
+    }
+
+    private record Waiter(RSocketClient rSocketClient, Payload payload, MonoSink<Void> sink) {
+    }
+}
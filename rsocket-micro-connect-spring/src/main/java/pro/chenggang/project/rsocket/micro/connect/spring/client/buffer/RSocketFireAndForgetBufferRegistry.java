@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.buffer;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the fire-and-forget buffers of the connector methods.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketFireAndForgetBufferRegistry {
+
+    private final List<RSocketFireAndForgetBufferListener> listeners;
+    private final Map<String, RSocketFireAndForgetBuffer> fireAndForgetBuffers = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new fire-and-forget buffer registry.
+     *
+     * @param listeners the fire-and-forget buffer listeners
+     */
+    public RSocketFireAndForgetBufferRegistry(List<RSocketFireAndForgetBufferListener> listeners) {
+        this.listeners = Objects.isNull(listeners) ? Collections.emptyList() : listeners;
+    }
+
+    /**
+     * New fire-and-forget buffer registry without listeners.
+     *
+     * @return the fire-and-forget buffer registry
+     */
+    public static RSocketFireAndForgetBufferRegistry withoutListeners() {
+        return new RSocketFireAndForgetBufferRegistry(Collections.emptyList());
+    }
+
+    /**
+     * Gets the fire-and-forget buffer, it's created on the first time.
+     *
+     * @param name           the buffer name
+     * @param route          the buffered route
+     * @param maxSize        the max number of the messages of a batch
+     * @param window         the flush window
+     * @param maxInFlight    the max number of the in-flight messages
+     * @param overflowPolicy the overflow policy
+     * @return the fire-and-forget buffer
+     */
+    public RSocketFireAndForgetBuffer getFireAndForgetBuffer(@NonNull String name,
+                                                             @NonNull String route,
+                                                             int maxSize,
+                                                             @NonNull Duration window,
+                                                             int maxInFlight,
+                                                             @NonNull RSocketFireAndForgetOverflowPolicy overflowPolicy) {
+        RSocketFireAndForgetBuffer fireAndForgetBuffer = fireAndForgetBuffers.get(name);
+        if (Objects.nonNull(fireAndForgetBuffer)) {
+            return fireAndForgetBuffer;
+        }
+        RSocketFireAndForgetBuffer created = new RSocketFireAndForgetBuffer(name, route, maxSize, window, maxInFlight, overflowPolicy);
+        fireAndForgetBuffer = fireAndForgetBuffers.putIfAbsent(name, created);
+        if (Objects.nonNull(fireAndForgetBuffer)) {
+            return fireAndForgetBuffer;
+        }
+        listeners.forEach(listener -> listener.onFireAndForgetBufferCreated(created));
+        return created;
+    }
+
+    /**
+     * Gets all the created fire-and-forget buffers.
+     *
+     * @return the fire-and-forget buffers
+     */
+    public Collection<RSocketFireAndForgetBuffer> getFireAndForgetBuffers() {
+        return Collections.unmodifiableCollection(fireAndForgetBuffers.values());
+    }
+}
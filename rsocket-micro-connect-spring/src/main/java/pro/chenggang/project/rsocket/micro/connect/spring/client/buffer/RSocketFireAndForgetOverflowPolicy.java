@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.buffer;
+
+/**
+ * The overflow policy of a fire-and-forget buffer whose in-flight budget is exhausted.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public enum RSocketFireAndForgetOverflowPolicy {
+
+    /**
+     * Drop the oldest buffered message which is not sent yet to accept the new one,
+     * the new message is dropped if all the in-flight messages are sent and not acknowledged yet.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drop the new message.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Hold the execution without completing it until the in-flight budget is available,
+     * at most max in-flight executions are held and the new messages beyond them are dropped.
+     */
+    BLOCK,
+    ;
+}
@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The client-side response cache of a connector method.
+ * <p>
+ * The response received by an execution which started before an invalidation is discarded,
+ * so an invalidation is not undone by a request in flight.
+ * The cached response instance is returned to every execution which hits it without being copied,
+ * so the cached responses should be immutable.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketResponseCache {
+
+    /**
+     * The cache name, e.g. {@code com.example.UserClient#getUser(java.lang.String)}
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * The transport uri of the connector method, only the invalidations pushed by its servers are applied
+     */
+    @Getter
+    private final URI transportURI;
+
+    /**
+     * The time to live of the cached responses
+     */
+    @Getter
+    private final Duration ttl;
+
+    /**
+     * The native caffeine cache
+     */
+    @Getter
+    private final Cache<RSocketResponseCacheKey, Object> nativeCache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public RSocketResponseCache(@NonNull String name, @NonNull URI transportURI, @NonNull Duration ttl, long maxSize) {
+        this.name = name;
+        this.transportURI = transportURI;
+        this.ttl = ttl;
+        this.nativeCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets the current generation, which is increased on each invalidation.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Gets the cached response.
+     *
+     * @param key the cache key
+     * @return the cached response or null if absent
+     */
+    @Nullable
+    public Object get(@NonNull RSocketResponseCacheKey key) {
+        return nativeCache.getIfPresent(key);
+    }
+
+    /**
+     * Put the response received by an execution started at the generation.
+     *
+     * @param key        the cache key
+     * @param response   the response
+     * @param generation the generation when the execution started
+     */
+    public void put(@NonNull RSocketResponseCacheKey key, @NonNull Object response, long generation) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+        nativeCache.put(key, response);
+        if (this.generation.get() != generation) {
+            nativeCache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidate the cached responses of the destination.
+     *
+     * @param destination the destination
+     */
+    public void invalidate(@NonNull String destination) {
+        generation.incrementAndGet();
+        nativeCache.asMap().keySet().removeIf(key -> destination.equals(key.getDestination()));
+    }
+
+    /**
+     * Invalidate the cached responses whose destinations start with the prefix.
+     *
+     * @param destinationPrefix the destination prefix
+     */
+    public void invalidatePrefix(@NonNull String destinationPrefix) {
+        generation.incrementAndGet();
+        nativeCache.asMap().keySet().removeIf(key -> key.getDestination().startsWith(destinationPrefix));
+    }
+
+    /**
+     * Invalidate all the cached responses.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        nativeCache.invalidateAll();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.cache;
+
+/**
+ * The key of a cached response.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public interface RSocketResponseCacheKey {
+
+    /**
+     * Gets the destination of the cached response, the route whose variables are expanded, e.g. {@code /server/user/1}.
+     * The cached responses are invalidated by their destinations.
+     *
+     * @return the destination
+     */
+    String getDestination();
+}
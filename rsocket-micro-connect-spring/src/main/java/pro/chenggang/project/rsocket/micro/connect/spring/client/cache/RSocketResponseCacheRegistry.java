@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.cache;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the client-side response caches of the connector methods.
+ * <p>
+ * The invalidation keys are the destinations of the cached responses, e.g. {@code /server/user/1},
+ * a key ending with {@code *} invalidates the destinations starting with its prefix, e.g. {@code /server/user/*},
+ * and the key {@code *} invalidates all the cached responses.
+ * The invalidation keys pushed through the connections of a transport uri are only applied to the response caches
+ * of the same transport uri.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketResponseCacheRegistry {
+
+    /**
+     * The wildcard invalidation key
+     */
+    public static final String WILDCARD = "*";
+
+    private final List<RSocketResponseCacheListener> listeners;
+    private final Map<String, RSocketResponseCache> responseCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new response cache registry.
+     *
+     * @param listeners the response cache listeners
+     */
+    public RSocketResponseCacheRegistry(List<RSocketResponseCacheListener> listeners) {
+        this.listeners = Objects.isNull(listeners) ? Collections.emptyList() : listeners;
+    }
+
+    /**
+     * New response cache registry without listeners.
+     *
+     * @return the response cache registry
+     */
+    public static RSocketResponseCacheRegistry withoutListeners() {
+        return new RSocketResponseCacheRegistry(Collections.emptyList());
+    }
+
+    /**
+     * Gets the response cache, it's created on the first time.
+     *
+     * @param name         the cache name
+     * @param transportURI the transport uri of the cached responses
+     * @param ttl          the time to live of the cached responses
+     * @param maxSize      the max number of the cached responses
+     * @return the response cache
+     */
+    public RSocketResponseCache getResponseCache(@NonNull String name, @NonNull URI transportURI, @NonNull Duration ttl, long maxSize) {
+        RSocketResponseCache responseCache = responseCaches.get(name);
+        if (Objects.nonNull(responseCache)) {
+            return responseCache;
+        }
+        RSocketResponseCache created = new RSocketResponseCache(name, transportURI, ttl, maxSize);
+        responseCache = responseCaches.putIfAbsent(name, created);
+        if (Objects.nonNull(responseCache)) {
+            return responseCache;
+        }
+        listeners.forEach(listener -> listener.onResponseCacheCreated(created));
+        return created;
+    }
+
+    /**
+     * Gets all the created response caches.
+     *
+     * @return the response caches
+     */
+    public Collection<RSocketResponseCache> getResponseCaches() {
+        return Collections.unmodifiableCollection(responseCaches.values());
+    }
+
+    /**
+     * Invalidate the cached responses of the invalidation keys in the response caches of the transport uri.
+     *
+     * @param transportURI     the transport uri whose server pushed the invalidation keys
+     * @param invalidationKeys the invalidation keys
+     */
+    public void invalidate(@NonNull URI transportURI, @NonNull Collection<String> invalidationKeys) {
+        List<RSocketResponseCache> transportResponseCaches = responseCaches.values()
+                .stream()
+                .filter(responseCache -> transportURI.equals(responseCache.getTransportURI()))
+                .toList();
+        if (transportResponseCaches.isEmpty()) {
+            return;
+        }
+        for (String invalidationKey : invalidationKeys) {
+            if (WILDCARD.equals(invalidationKey)) {
+                transportResponseCaches.forEach(RSocketResponseCache::invalidateAll);
+            } else if (invalidationKey.endsWith(WILDCARD)) {
+                String destinationPrefix = invalidationKey.substring(0, invalidationKey.length() - WILDCARD.length());
+                transportResponseCaches.forEach(responseCache -> responseCache.invalidatePrefix(destinationPrefix));
+            } else {
+                transportResponseCaches.forEach(responseCache -> responseCache.invalidate(invalidationKey));
+            }
+            log.debug("Invalidated the cached responses of the key: {}, transport uri: {}", invalidationKey, transportURI);
+        }
+    }
+}
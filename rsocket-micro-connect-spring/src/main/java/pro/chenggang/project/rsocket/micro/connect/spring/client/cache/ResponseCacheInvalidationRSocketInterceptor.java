@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.CompositeMetadata;
+import io.rsocket.plugins.RSocketInterceptor;
+import io.rsocket.util.RSocketProxy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE;
+
+/**
+ * The responder interceptor of the connections of a transport uri, which invalidates the cached responses of the transport uri
+ * on the metadata push of the server.
+ * <p>
+ * The metadata push carrying the composite metadata entry of {@code application/connector-cache-invalidation}
+ * is consumed here, its entry is the UTF-8 invalidation keys separated by line breaks,
+ * see {@link RSocketResponseCacheRegistry#invalidate(URI, java.util.Collection)}.
+ * The other metadata pushes are delegated to the responder.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class ResponseCacheInvalidationRSocketInterceptor implements RSocketInterceptor {
+
+    private static final String INVALIDATION_MIME_TYPE = CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE.toString();
+
+    private final RSocketResponseCacheRegistry responseCacheRegistry;
+    private final URI transportURI;
+
+    public ResponseCacheInvalidationRSocketInterceptor(@NonNull RSocketResponseCacheRegistry responseCacheRegistry,
+                                                       @NonNull URI transportURI) {
+        this.responseCacheRegistry = responseCacheRegistry;
+        this.transportURI = transportURI;
+    }
+
+    @Override
+    public RSocket apply(RSocket rSocket) {
+        return new RSocketProxy(rSocket) {
+
+            @Override
+            public Mono<Void> metadataPush(Payload payload) {
+                List<String> invalidationKeys;
+                try {
+                    invalidationKeys = resolveInvalidationKeys(payload.metadata());
+                } catch (Throwable t) {
+                    payload.release();
+                    return Mono.error(t);
+                }
+                if (Objects.isNull(invalidationKeys)) {
+                    return super.metadataPush(payload);
+                }
+                payload.release();
+                responseCacheRegistry.invalidate(transportURI, invalidationKeys);
+                return Mono.empty();
+            }
+        };
+    }
+
+    private static List<String> resolveInvalidationKeys(ByteBuf metadata) {
+        List<String> invalidationKeys = null;
+        for (CompositeMetadata.Entry entry : new CompositeMetadata(metadata, false)) {
+            if (!INVALIDATION_MIME_TYPE.equals(entry.getMimeType())) {
+                continue;
+            }
+            if (Objects.isNull(invalidationKeys)) {
+                invalidationKeys = new ArrayList<>();
+            }
+            for (String invalidationKey : entry.getContent().toString(StandardCharsets.UTF_8).split("\n")) {
+                String trimmed = invalidationKey.trim();
+                if (!trimmed.isEmpty()) {
+                    invalidationKeys.add(trimmed);
+                }
+            }
+        }
+        return invalidationKeys;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * The adaptive concurrency limit properties of the request-response executions.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketConcurrencyLimitProperties {
+
+    /**
+     * Whether to limit the in-flight request-response executions of each transport uri adaptively.
+     * Default value is false.
+     */
+    public boolean enabled = false;
+
+    /**
+     * Whether to limit each route of a transport uri separately.
+     * Default value is false, which means all the routes of a transport uri share one limit.
+     */
+    public boolean perRoute = false;
+
+    /**
+     * The initial concurrency limit.
+     */
+    public int initialLimit = 20;
+
+    /**
+     * The minimum concurrency limit.
+     */
+    public int minLimit = 5;
+
+    /**
+     * The maximum concurrency limit.
+     */
+    public int maxLimit = 500;
+
+    /**
+     * The tolerance of the short-term rtt increase over the long-term rtt before the limit is reduced.
+     */
+    public double rttTolerance = 1.5D;
+
+    /**
+     * The smoothing factor of the limit changes, between 0 and 1.
+     */
+    public double smoothing = 0.2D;
+
+    /**
+     * The sample count of the long-term rtt window.
+     */
+    public int longWindow = 600;
+
+    /**
+     * The maximum executions waiting for a permit when the limit is reached.
+     * Default value is 0, which means the executions are rejected immediately.
+     */
+    public int maxQueueSize = 0;
+
+    /**
+     * The maximum time an execution waits for a permit before being rejected.
+     */
+    public Duration queueTimeout = Duration.ofSeconds(1);
+}
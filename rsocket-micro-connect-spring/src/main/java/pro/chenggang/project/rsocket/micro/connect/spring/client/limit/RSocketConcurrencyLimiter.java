@@ -0,0 +1,295 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.limit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketConcurrencyLimitExceededException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The adaptive concurrency limiter of a transport uri (or a route of it).
+ * <p>
+ * The limit is adjusted by the gradient of the long-term rtt over the measured rtt (Gradient2):
+ * the limit grows while the rtt is steady and shrinks when the rtt rises above the tolerance of the long-term rtt.
+ * The limit is not changed while less than half of it is in use, the long-term rtt drifts down
+ * when it's far above the measured rtt so that the limit recovers after a slow period.
+ * <p>
+ * The executions over the limit wait in a bounded queue, or are rejected with
+ * {@link RSocketConcurrencyLimitExceededException} when the queue is full or the queue timeout elapses.
+ * Only the successful executions are sampled, the failed and cancelled executions only release their permits.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketConcurrencyLimiter {
+
+    private static final int LONG_RTT_WARM_UP = 10;
+    private static final int NOT_ACQUIRED = -1;
+
+    /**
+     * The limited transport uri
+     */
+    @Getter
+    private final URI transportURI;
+
+    /**
+     * The limited route or null if all the routes of the transport uri share the limiter
+     */
+    @Getter
+    @Nullable
+    private final String route;
+
+    private final RSocketConcurrencyLimitProperties properties;
+    private final ArrayDeque<LimitedExecution<?>> queue = new ArrayDeque<>();
+    private final LongAdder rejectedCount = new LongAdder();
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long longRttSamples;
+    private volatile int limit;
+    private volatile int inFlight;
+
+    public RSocketConcurrencyLimiter(URI transportURI,
+                                     @Nullable String route,
+                                     RSocketConcurrencyLimitProperties properties) {
+        Assert.isTrue(properties.getMinLimit() >= 1, "Min concurrency limit should be greater than 0");
+        Assert.isTrue(properties.getMaxLimit() >= properties.getMinLimit(), "Max concurrency limit should not be less than min limit");
+        Assert.isTrue(properties.getSmoothing() > 0D && properties.getSmoothing() <= 1D, "Concurrency limit smoothing should be in (0, 1]");
+        this.transportURI = transportURI;
+        this.route = route;
+        this.properties = properties;
+        this.estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), properties.getInitialLimit()));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    /**
+     * Limit the request, every subscription of the request mono acquires a permit before subscribing to the request.
+     *
+     * @param request the request mono
+     * @param <R>     the response type
+     * @return the limited request mono
+     */
+    public <R> Mono<R> limit(Mono<R> request) {
+        return Mono.create(sink -> {
+            LimitedExecution<R> execution = new LimitedExecution<>(sink, request);
+            sink.onCancel(execution::cancel);
+            int acquiredInFlight = NOT_ACQUIRED;
+            boolean queued = false;
+            synchronized (this) {
+                if (inFlight < limit) {
+                    acquiredInFlight = ++inFlight;
+                } else if (queue.size() < properties.getMaxQueueSize()) {
+                    queue.offer(execution);
+                    queued = true;
+                }
+            }
+            if (acquiredInFlight != NOT_ACQUIRED) {
+                execution.start(acquiredInFlight);
+            } else if (queued) {
+                execution.awaitPermit();
+            } else {
+                rejectedCount.increment();
+                sink.error(new RSocketConcurrencyLimitExceededException(transportURI, limit, "the queue is full"));
+            }
+        });
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     *
+     * @return the concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the in-flight executions.
+     *
+     * @return the in-flight execution count
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the executions waiting for a permit.
+     *
+     * @return the queue depth
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the rejected executions.
+     *
+     * @return the rejected execution count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private void release(long rttNanos, int acquiredInFlight) {
+        List<LimitedExecution<?>> dequeued = null;
+        synchronized (this) {
+            inFlight--;
+            if (rttNanos > 0) {
+                this.updateLimit(rttNanos, acquiredInFlight);
+            }
+            while (inFlight < limit && !queue.isEmpty()) {
+                LimitedExecution<?> next = queue.poll();
+                next.acquiredInFlight = ++inFlight;
+                if (Objects.isNull(dequeued)) {
+                    dequeued = new ArrayList<>(2);
+                }
+                dequeued.add(next);
+            }
+        }
+        if (Objects.nonNull(dequeued)) {
+            dequeued.forEach(execution -> execution.start(execution.acquiredInFlight));
+        }
+    }
+
+    private void updateLimit(long rttNanos, int acquiredInFlight) {
+        double shortRtt = rttNanos;
+        longRttSamples++;
+        if (longRttSamples <= LONG_RTT_WARM_UP) {
+            longRttNanos += (shortRtt - longRttNanos) / longRttSamples;
+        } else {
+            double factor = 2D / (properties.getLongWindow() + 1);
+            longRttNanos = longRttNanos * (1 - factor) + shortRtt * factor;
+        }
+        if (longRttNanos / shortRtt > 2D) {
+            longRttNanos *= 0.95D;
+        }
+        if (acquiredInFlight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5D, Math.min(1D, properties.getRttTolerance() * longRttNanos / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+        int previousLimit = limit;
+        limit = (int) estimatedLimit;
+        if (log.isDebugEnabled() && previousLimit != limit) {
+            log.debug("Concurrency limit of {}{} changed from {} to {}",
+                    transportURI,
+                    Objects.isNull(route) ? "" : " " + route,
+                    previousLimit,
+                    limit
+            );
+        }
+    }
+
+    private synchronized boolean dequeue(LimitedExecution<?> execution) {
+        return queue.remove(execution);
+    }
+
+    /**
+     * The limited execution.
+     * The queue timeout is kept apart from the request subscription, since a queued execution can be started
+     * by a concurrent release before its queue timeout is armed.
+     *
+     * @param <R> the response type
+     */
+    private final class LimitedExecution<R> {
+
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final MonoSink<R> sink;
+        private final Mono<R> request;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final Disposable.Swap subscription = Disposables.swap();
+        private final Disposable.Swap queueTimeout = Disposables.swap();
+        private int acquiredInFlight;
+        private long startNanos;
+
+        LimitedExecution(MonoSink<R> sink, Mono<R> request) {
+            this.sink = sink;
+            this.request = request.contextWrite(sink.contextView());
+        }
+
+        void awaitPermit() {
+            queueTimeout.update(Mono.delay(properties.getQueueTimeout()).subscribe(tick -> {
+                if (state.compareAndSet(PENDING, DONE)) {
+                    dequeue(this);
+                    rejectedCount.increment();
+                    sink.error(new RSocketConcurrencyLimitExceededException(transportURI, limit, "the queue timeout elapsed"));
+                }
+            }));
+        }
+
+        void start(int acquiredInFlight) {
+            if (!state.compareAndSet(PENDING, RUNNING)) {
+                release(0L, acquiredInFlight);
+                return;
+            }
+            queueTimeout.dispose();
+            this.acquiredInFlight = acquiredInFlight;
+            this.startNanos = System.nanoTime();
+            subscription.update(request.subscribe(this::onResponse, this::onError, () -> this.onResponse(null)));
+        }
+
+        void cancel() {
+            int previousState = state.getAndSet(DONE);
+            if (previousState == RUNNING) {
+                subscription.dispose();
+                release(0L, acquiredInFlight);
+            } else if (previousState == PENDING) {
+                queueTimeout.dispose();
+                dequeue(this);
+            }
+        }
+
+        private void onResponse(@Nullable R response) {
+            if (!state.compareAndSet(RUNNING, DONE)) {
+                return;
+            }
+            release(Math.max(1L, System.nanoTime() - startNanos), acquiredInFlight);
+            if (Objects.isNull(response)) {
+                sink.success();
+            } else {
+                sink.success(response);
+            }
+        }
+
+        private void onError(Throwable throwable) {
+            if (!state.compareAndSet(RUNNING, DONE)) {
+                return;
+            }
+            release(0L, acquiredInFlight);
+            sink.error(throwable);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.limit;
+
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the adaptive concurrency limiters of each transport uri, or each route of a transport uri.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketConcurrencyLimiterRegistry {
+
+    private final RSocketConcurrencyLimitProperties properties;
+    private final List<RSocketConcurrencyLimiterListener> listeners;
+    private final Map<LimiterKey, RSocketConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+
+    public RSocketConcurrencyLimiterRegistry(@NonNull RSocketConcurrencyLimitProperties properties,
+                                             List<RSocketConcurrencyLimiterListener> listeners) {
+        this.properties = properties;
+        this.listeners = Objects.isNull(listeners) ? Collections.emptyList() : listeners;
+    }
+
+    /**
+     * New disabled concurrency limiter registry.
+     *
+     * @return the disabled concurrency limiter registry
+     */
+    public static RSocketConcurrencyLimiterRegistry disabled() {
+        return new RSocketConcurrencyLimiterRegistry(new RSocketConcurrencyLimitProperties(), Collections.emptyList());
+    }
+
+    /**
+     * Gets the concurrency limiter of the transport uri and route, it's created on the first time.
+     *
+     * @param transportURI the transport uri
+     * @param route        the original route of the connector method
+     * @return the concurrency limiter or null if the concurrency limit is disabled
+     */
+    @Nullable
+    public RSocketConcurrencyLimiter getConcurrencyLimiter(@NonNull URI transportURI, String route) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        LimiterKey limiterKey = new LimiterKey(transportURI, properties.isPerRoute() ? route : null);
+        RSocketConcurrencyLimiter concurrencyLimiter = concurrencyLimiters.get(limiterKey);
+        if (Objects.nonNull(concurrencyLimiter)) {
+            return concurrencyLimiter;
+        }
+        RSocketConcurrencyLimiter created = new RSocketConcurrencyLimiter(limiterKey.transportURI(), limiterKey.route(), properties);
+        concurrencyLimiter = concurrencyLimiters.putIfAbsent(limiterKey, created);
+        if (Objects.nonNull(concurrencyLimiter)) {
+            return concurrencyLimiter;
+        }
+        listeners.forEach(listener -> listener.onConcurrencyLimiterCreated(created));
+        return created;
+    }
+
+    /**
+     * Gets all the created concurrency limiters.
+     *
+     * @return the concurrency limiters
+     */
+    public Collection<RSocketConcurrencyLimiter> getConcurrencyLimiters() {
+        return Collections.unmodifiableCollection(concurrencyLimiters.values());
+    }
+
+    private record LimiterKey(URI transportURI, @Nullable String route) {
+    }
+}
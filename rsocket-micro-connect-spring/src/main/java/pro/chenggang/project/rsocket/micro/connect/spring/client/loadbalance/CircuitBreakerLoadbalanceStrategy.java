@@ -0,0 +1,163 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.loadbalance.ClientLoadbalanceStrategy;
+import io.rsocket.loadbalance.LoadbalanceStrategy;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreaker;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The load-balance strategy which skips the instances whose circuit breaker is open before delegating the selection.
+ * <p>
+ * The selected instance acquires a permission of its circuit breaker, so only a few probing calls go through
+ * a half-open instance. The outcomes of the calls are recorded by the {@link CircuitBreakerRSocketInterceptor}.
+ * If the circuit breakers of all the instances are open, the call fails immediately without being sent.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class CircuitBreakerLoadbalanceStrategy implements ClientLoadbalanceStrategy {
+
+    private final RemoteAddressResolver addressResolver = new RemoteAddressResolver();
+    private final LoadbalanceStrategy delegate;
+    private final RSocketCircuitBreakerRegistry circuitBreakerRegistry;
+
+    public CircuitBreakerLoadbalanceStrategy(@NonNull LoadbalanceStrategy delegate,
+                                             @NonNull RSocketCircuitBreakerRegistry circuitBreakerRegistry) {
+        this.delegate = delegate;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+    }
+
+    @Override
+    public void initialize(RSocketConnector connector) {
+        if (delegate instanceof ClientLoadbalanceStrategy clientLoadbalanceStrategy) {
+            clientLoadbalanceStrategy.initialize(connector);
+        }
+    }
+
+    @Override
+    public RSocket select(List<RSocket> sockets) {
+        int size = sockets.size();
+        if (size == 0) {
+            return delegate.select(sockets);
+        }
+        RSocketCircuitBreaker openCircuitBreaker = null;
+        List<RSocket> admitted = null;
+        for (int i = 0; i < size; i++) {
+            RSocket rSocket = sockets.get(i);
+            RSocketCircuitBreaker circuitBreaker = this.getCircuitBreaker(rSocket);
+            if (Objects.nonNull(circuitBreaker) && !circuitBreaker.isCallPermitted()) {
+                if (Objects.isNull(admitted)) {
+                    admitted = new ArrayList<>(size - 1);
+                    for (int j = 0; j < i; j++) {
+                        admitted.add(sockets.get(j));
+                    }
+                }
+                openCircuitBreaker = circuitBreaker;
+                continue;
+            }
+            if (Objects.nonNull(admitted)) {
+                admitted.add(rSocket);
+            }
+        }
+        List<RSocket> candidates = Objects.isNull(admitted) ? sockets : admitted;
+        while (!candidates.isEmpty()) {
+            RSocket selected = delegate.select(candidates);
+            RSocketCircuitBreaker circuitBreaker = this.getCircuitBreaker(selected);
+            if (Objects.isNull(circuitBreaker) || circuitBreaker.tryAcquirePermission()) {
+                return selected;
+            }
+            // the half-open permissions are taken by the concurrent calls, select among the others
+            openCircuitBreaker = circuitBreaker;
+            List<RSocket> remaining = new ArrayList<>(candidates.size() - 1);
+            for (int i = 0; i < candidates.size(); i++) {
+                RSocket rSocket = candidates.get(i);
+                if (rSocket != selected) {
+                    remaining.add(rSocket);
+                }
+            }
+            if (remaining.size() == candidates.size()) {
+                return selected;
+            }
+            candidates = remaining;
+        }
+        return new CircuitBreakerOpenRSocket(Objects.requireNonNull(openCircuitBreaker));
+    }
+
+    @Nullable
+    private RSocketCircuitBreaker getCircuitBreaker(RSocket rSocket) {
+        String address = addressResolver.getAddress(rSocket);
+        if (RemoteAddressResolver.UNKNOWN_ADDRESS.equals(address)) {
+            return null;
+        }
+        return circuitBreakerRegistry.getTargetCircuitBreaker(address);
+    }
+
+    /**
+     * The rsocket which rejects every call since the circuit breakers of all the instances are open.
+     */
+    private static class CircuitBreakerOpenRSocket implements RSocket {
+
+        private final RSocketCircuitBreaker circuitBreaker;
+
+        CircuitBreakerOpenRSocket(RSocketCircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        @Override
+        public Mono<Void> fireAndForget(Payload payload) {
+            payload.release();
+            return Mono.error(circuitBreaker.callNotPermitted());
+        }
+
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            payload.release();
+            return Mono.error(circuitBreaker.callNotPermitted());
+        }
+
+        @Override
+        public Flux<Payload> requestStream(Payload payload) {
+            payload.release();
+            return Flux.error(circuitBreaker.callNotPermitted());
+        }
+
+        @Override
+        public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+            return Flux.error(circuitBreaker.callNotPermitted());
+        }
+
+        @Override
+        public Mono<Void> metadataPush(Payload payload) {
+            payload.release();
+            return Mono.error(circuitBreaker.callNotPermitted());
+        }
+    }
+}
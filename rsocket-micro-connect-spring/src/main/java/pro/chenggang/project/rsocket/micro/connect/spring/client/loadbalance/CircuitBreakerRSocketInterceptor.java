@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.RequiredArgsConstructor;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreaker;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import static pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType.REQUEST_RESPONSE;
+import static pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionInterceptor.InterceptorType.CLIENT;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.AttributeLifecycleRSocketInterceptor.EXECUTION_INSTANT_ATTR_KEY;
+
+/**
+ * The client side interceptor which records the outcome of every request to the circuit breaker of the load-balanced target,
+ * keyed by the remote address of the connection the request went through.
+ * Only request-response can be a slow call.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RequiredArgsConstructor
+public class CircuitBreakerRSocketInterceptor implements SyncRSocketExecutionInterceptor {
+
+    private final RSocketCircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Override
+    public void afterExecution(RSocketExchange exchange) {
+        RSocketExchangeType exchangeType = exchange.getType();
+        if (!exchangeType.isRequest()) {
+            return;
+        }
+        Optional<RemoteRSocketInfo> optionalInfo = exchange.getRemoteRSocketInfo();
+        if (optionalInfo.isEmpty()) {
+            return;
+        }
+        RSocketCircuitBreaker circuitBreaker = circuitBreakerRegistry.getTargetCircuitBreaker(optionalInfo.get().getInfo());
+        if (Objects.isNull(circuitBreaker)) {
+            return;
+        }
+        long durationNanos = -1L;
+        if (REQUEST_RESPONSE.equals(exchangeType)) {
+            Instant executionInstant = exchange.getAttribute(EXECUTION_INSTANT_ATTR_KEY);
+            if (Objects.nonNull(executionInstant)) {
+                durationNanos = Duration.between(executionInstant, Instant.now()).toNanos();
+            }
+        }
+        Optional<Throwable> optionalError = exchange.getError();
+        if (optionalError.isPresent()) {
+            circuitBreaker.onError(optionalError.get(), durationNanos);
+            return;
+        }
+        circuitBreaker.onSuccess(durationNanos);
+    }
+
+    @Override
+    public int order() {
+        return Integer.MIN_VALUE + 3;
+    }
+
+    @Override
+    public InterceptorType interceptorType() {
+        return CLIENT;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.loadbalance.ClientLoadbalanceStrategy;
+import io.rsocket.loadbalance.LoadbalanceStrategy;
+import io.rsocket.loadbalance.LoadbalanceTarget;
+import io.rsocket.plugins.RSocketInterceptor;
+import io.rsocket.util.RSocketProxy;
+import lombok.NonNull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
+import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.lang.invoke.VarHandle;
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * The consistent-hash load-balance strategy with bounded load.
+ * <p>
+ * The executions with a routing key (see {@link RoutingKeyContext}) go to the connection with the highest
+ * rendezvous hash of the routing key and the remote address of the connection, among the connections
+ * whose outstanding requests are within {@code loadFactor} times of the average.
+ * So only the keys of a joining or leaving instance move, and a hot key spills over to the next instance instead of overloading one.
+ * The executions without a routing key are load-balanced by the fallback strategy.
+ * <p>
+ * The outstanding requests and the address hash are tracked on the established connection as a requester interceptor,
+ * and found again by unwrapping the pooled connection handed over by the load-balancer.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConsistentHashLoadbalanceStrategy implements ClientLoadbalanceStrategy, RSocketInterceptor {
+
+    /**
+     * The load-balance target field of the pooled rsocket which is not connected yet
+     */
+    private static final ClassValue<Optional<VarHandle>> LOADBALANCE_TARGET_FIELD_HANDLES = new ClassValue<>() {
+        @Override
+        protected Optional<VarHandle> computeValue(Class<?> type) {
+            return Optional.ofNullable(RSocketMicroConnectUtil.findFieldHandle(type, "loadbalanceTarget", LoadbalanceTarget.class));
+        }
+    };
+
+    private final LoadbalanceStrategy fallbackStrategy;
+    private final double loadFactor;
+
+    /**
+     * Instantiates a new consistent-hash load-balance strategy.
+     *
+     * @param fallbackStrategy the strategy of the executions without a routing key
+     * @param loadFactor       the maximum ratio of the outstanding requests of a connection to the average, must be at least 1
+     */
+    public ConsistentHashLoadbalanceStrategy(@NonNull LoadbalanceStrategy fallbackStrategy, double loadFactor) {
+        if (loadFactor < 1D) {
+            throw new IllegalArgumentException("The load factor of consistent-hash must be at least 1");
+        }
+        this.fallbackStrategy = fallbackStrategy;
+        this.loadFactor = loadFactor;
+    }
+
+    @Override
+    public void initialize(RSocketConnector connector) {
+        if (fallbackStrategy instanceof ClientLoadbalanceStrategy clientLoadbalanceStrategy) {
+            clientLoadbalanceStrategy.initialize(connector);
+        }
+        connector.interceptors(interceptorRegistry -> interceptorRegistry.forRequester(this));
+    }
+
+    @Override
+    public RSocket apply(RSocket rSocket) {
+        return new HashedRSocket(rSocket);
+    }
+
+    @Override
+    public RSocket select(List<RSocket> sockets) {
+        String routingKey = RoutingKeyContext.currentRoutingKey();
+        int size = sockets.size();
+        if (Objects.isNull(routingKey) || size == 1) {
+            return fallbackStrategy.select(sockets);
+        }
+        long totalOutstanding = 0;
+        for (int i = 0; i < size; i++) {
+            totalOutstanding += outstanding(sockets.get(i));
+        }
+        double capacity = Math.ceil(loadFactor * (totalOutstanding + 1) / size);
+        long keyHash = mix(routingKey.hashCode());
+        RSocket selected = null;
+        long selectedScore = Long.MIN_VALUE;
+        RSocket fallback = null;
+        long fallbackScore = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            RSocket rSocket = sockets.get(i);
+            long score = mix(keyHash ^ addressHash(rSocket));
+            if (Objects.isNull(fallback) || score > fallbackScore) {
+                fallback = rSocket;
+                fallbackScore = score;
+            }
+            if (outstanding(rSocket) + 1 > capacity || !isAvailable(rSocket)) {
+                continue;
+            }
+            if (Objects.isNull(selected) || score > selectedScore) {
+                selected = rSocket;
+                selectedScore = score;
+            }
+        }
+        return Objects.isNull(selected) ? fallback : selected;
+    }
+
+    /**
+     * Whether the connection is available.
+     * The connection which is not connected yet is available, selecting it makes the connection.
+     *
+     * @param rSocket the rsocket
+     * @return the true if the connection is available
+     */
+    private static boolean isAvailable(RSocket rSocket) {
+        RSocket connectedRSocket = LoadbalanceRSocketUtil.unwrapPooledRSocket(rSocket);
+        return Objects.isNull(connectedRSocket) || connectedRSocket.availability() > 0;
+    }
+
+    private static int outstanding(RSocket rSocket) {
+        HashedRSocket hashedRSocket = LoadbalanceRSocketUtil.findRSocket(rSocket, HashedRSocket.class);
+        return Objects.isNull(hashedRSocket) ? 0 : hashedRSocket.outstanding;
+    }
+
+    /**
+     * Gets the address hash of a connection.
+     * The connection which is not connected yet is hashed by the address of its load-balance target,
+     * so the routing keys do not move once it gets connected.
+     *
+     * @param rSocket the rsocket
+     * @return the address hash
+     */
+    private static long addressHash(RSocket rSocket) {
+        HashedRSocket hashedRSocket = LoadbalanceRSocketUtil.findRSocket(rSocket, HashedRSocket.class);
+        if (Objects.nonNull(hashedRSocket)) {
+            return hashedRSocket.addressHash;
+        }
+        Optional<VarHandle> targetHandle = LOADBALANCE_TARGET_FIELD_HANDLES.get(rSocket.getClass());
+        if (targetHandle.isPresent()) {
+            LoadbalanceTarget loadbalanceTarget = (LoadbalanceTarget) targetHandle.get().get(rSocket);
+            try {
+                URI targetURI = URI.create(loadbalanceTarget.getKey());
+                if (Objects.nonNull(targetURI.getHost())) {
+                    return mix((targetURI.getHost() + ":" + targetURI.getPort()).hashCode());
+                }
+            } catch (IllegalArgumentException e) {
+                // the key of the load-balance target is not a uri
+            }
+        }
+        return mix(System.identityHashCode(rSocket));
+    }
+
+    /**
+     * The finalizer of splitmix64, spreads the bits of the hash
+     *
+     * @param hash the hash
+     * @return the mixed hash
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * The rsocket tracking the outstanding requests of a connection, with the hash of its remote address.
+     * The remote address is stable across reconnection, so the keys stay on the same instance.
+     */
+    static final class HashedRSocket extends RSocketProxy {
+
+        private static final AtomicIntegerFieldUpdater<HashedRSocket> OUTSTANDING =
+                AtomicIntegerFieldUpdater.newUpdater(HashedRSocket.class, "outstanding");
+
+        private final long addressHash;
+        private final Consumer<Subscription> onStart = subscription -> OUTSTANDING.incrementAndGet(this);
+        private final Consumer<SignalType> onEnd = signalType -> OUTSTANDING.decrementAndGet(this);
+        private volatile int outstanding;
+
+        HashedRSocket(RSocket source) {
+            super(source);
+            this.addressHash = RSocketMicroConnectUtil.getRemoteRSocketInfo(source)
+                    .map(RemoteRSocketInfo::getInfo)
+                    .map(address -> mix(address.hashCode()))
+                    .orElseGet(() -> mix(System.identityHashCode(source)));
+        }
+
+        /**
+         * The outstanding request is released once the response arrives, before it's propagated,
+         * so the next request of the same routing key issued on the response does not see it as outstanding.
+         */
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            return Mono.defer(() -> {
+                OUTSTANDING.incrementAndGet(this);
+                AtomicBoolean released = new AtomicBoolean();
+                Runnable release = () -> {
+                    if (released.compareAndSet(false, true)) {
+                        OUTSTANDING.decrementAndGet(this);
+                    }
+                };
+                return source.requestResponse(payload)
+                        .doOnTerminate(release)
+                        .doFinally(signalType -> release.run());
+            });
+        }
+
+        @Override
+        public Flux<Payload> requestStream(Payload payload) {
+            return source.requestStream(payload).doOnSubscribe(onStart).doFinally(onEnd);
+        }
+
+        @Override
+        public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+            return source.requestChannel(payloads).doOnSubscribe(onStart).doFinally(onEnd);
+        }
+    }
+}
@@ -18,22 +18,126 @@ package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
 import io.rsocket.loadbalance.LoadbalanceStrategy;
 import io.rsocket.loadbalance.RoundRobinLoadbalanceStrategy;
 import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketLoadBalanceProperties.StrategyType;
 
 import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * The default rsocket load-balance strategies.
+ * <p>
+ * Each service uses round-robin, power-of-two-choices or consistent-hash, selected by its service id.
+ * The outlier instances are skipped by the selection if a {@link RSocketOutlierDetector} is configured,
+ * and the instances whose circuit breaker is open are skipped if the per-target circuit breakers are enabled.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public class DefaultRSocketLoadBalanceStrategies implements RSocketLoadBalanceStrategies {
 
     private final LoadbalanceStrategy loadbalanceStrategy = new RoundRobinLoadbalanceStrategy();
+    private final LoadbalanceStrategy powerOfTwoChoicesStrategy;
+    private final LoadbalanceStrategy consistentHashStrategy;
+    private final StrategyType defaultStrategy;
+    private final Map<String, StrategyType> strategies;
+    @Nullable
+    private final RSocketOutlierDetector outlierDetector;
+    @Nullable
+    private final RSocketOutlierDetectionProperties outlierDetectionProperties;
+    @Nullable
+    private final RSocketCircuitBreakerRegistry circuitBreakerRegistry;
+
+    /**
+     * Instantiates a new default rsocket load-balance strategies which use round-robin for all the services.
+     */
+    public DefaultRSocketLoadBalanceStrategies() {
+        this(new RSocketLoadBalanceProperties());
+    }
+
+    /**
+     * Instantiates a new default rsocket load-balance strategies.
+     *
+     * @param loadBalanceProperties the load-balance properties
+     */
+    public DefaultRSocketLoadBalanceStrategies(@NonNull RSocketLoadBalanceProperties loadBalanceProperties) {
+        this(loadBalanceProperties, null);
+    }
+
+    /**
+     * Instantiates a new default rsocket load-balance strategies.
+     *
+     * @param loadBalanceProperties the load-balance properties
+     * @param outlierDetector       the outlier detector, the outlier instances are not skipped if it's null
+     */
+    public DefaultRSocketLoadBalanceStrategies(@NonNull RSocketLoadBalanceProperties loadBalanceProperties,
+                                               @Nullable RSocketOutlierDetector outlierDetector) {
+        this(loadBalanceProperties, outlierDetector, null);
+    }
+
+    /**
+     * Instantiates a new default rsocket load-balance strategies.
+     *
+     * @param loadBalanceProperties  the load-balance properties
+     * @param outlierDetector        the outlier detector, the outlier instances are not skipped if it's null
+     * @param circuitBreakerRegistry the circuit breaker registry, the instances are not skipped by their circuit breakers if it's null
+     */
+    public DefaultRSocketLoadBalanceStrategies(@NonNull RSocketLoadBalanceProperties loadBalanceProperties,
+                                               @Nullable RSocketOutlierDetector outlierDetector,
+                                               @Nullable RSocketCircuitBreakerRegistry circuitBreakerRegistry) {
+        this.outlierDetector = outlierDetector;
+        this.circuitBreakerRegistry = Objects.nonNull(circuitBreakerRegistry) && circuitBreakerRegistry.isPerTargetEnabled()
+                ? circuitBreakerRegistry
+                : null;
+        this.outlierDetectionProperties = Objects.isNull(outlierDetector)
+                ? null
+                : Objects.requireNonNullElseGet(loadBalanceProperties.getOutlierDetection(), RSocketOutlierDetectionProperties::new);
+        this.powerOfTwoChoicesStrategy = new PowerOfTwoChoicesLoadbalanceStrategy(loadBalanceProperties.getLatencyDecay());
+        this.consistentHashStrategy = new ConsistentHashLoadbalanceStrategy(new RoundRobinLoadbalanceStrategy(),
+                loadBalanceProperties.getConsistentHashLoadFactor()
+        );
+        this.defaultStrategy = Objects.requireNonNullElse(loadBalanceProperties.getDefaultStrategy(), StrategyType.ROUND_ROBIN);
+        this.strategies = new HashMap<>();
+        if (Objects.nonNull(loadBalanceProperties.getStrategies())) {
+            loadBalanceProperties.getStrategies()
+                    .forEach((serviceId, strategyType) -> this.strategies.put(serviceId.toLowerCase(Locale.ROOT), strategyType));
+        }
+    }
 
     @Override
     public LoadbalanceStrategy getLoadBalanceStrategy(@NonNull URI transportURI) {
-        return this.loadbalanceStrategy;
+        LoadbalanceStrategy strategy = switch (this.getStrategyType(transportURI)) {
+            case POWER_OF_TWO_CHOICES -> this.powerOfTwoChoicesStrategy;
+            case CONSISTENT_HASH -> this.consistentHashStrategy;
+            default -> this.loadbalanceStrategy;
+        };
+        if (Objects.nonNull(this.outlierDetector) && Objects.nonNull(this.outlierDetectionProperties)) {
+            strategy = new OutlierEjectingLoadbalanceStrategy(strategy,
+                    this.outlierDetector,
+                    this.outlierDetectionProperties.getLatencyEvaluationInterval(),
+                    this.outlierDetectionProperties.getMaxEjectionPercent()
+            );
+        }
+        if (Objects.isNull(this.circuitBreakerRegistry)) {
+            return strategy;
+        }
+        return new CircuitBreakerLoadbalanceStrategy(strategy, this.circuitBreakerRegistry);
+    }
+
+    @Override
+    public boolean isRoutingKeyAware(@NonNull URI transportURI) {
+        return StrategyType.CONSISTENT_HASH == this.getStrategyType(transportURI);
+    }
+
+    private StrategyType getStrategyType(URI transportURI) {
+        String host = transportURI.getHost();
+        return Objects.isNull(host)
+                ? this.defaultStrategy
+                : this.strategies.getOrDefault(host.toLowerCase(Locale.ROOT), this.defaultStrategy);
     }
 }
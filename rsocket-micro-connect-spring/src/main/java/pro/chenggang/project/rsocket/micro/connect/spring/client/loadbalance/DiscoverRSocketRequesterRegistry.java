@@ -16,12 +16,21 @@
 package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
 
 import io.rsocket.DuplexConnection;
+import io.rsocket.RSocket;
 import io.rsocket.loadbalance.LoadbalanceTarget;
 import io.rsocket.transport.ClientTransport;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.client.discovery.event.HeartbeatMonitor;
+import org.springframework.cloud.client.discovery.event.InstanceRegisteredEvent;
+import org.springframework.cloud.client.discovery.event.ParentHeartbeatEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
 import org.springframework.messaging.rsocket.RSocketRequester;
 import org.springframework.messaging.rsocket.RSocketRequester.Builder;
 import org.springframework.util.CollectionUtils;
@@ -30,6 +39,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketInstanceNotFoundException;
 import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.CachedRSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketTransportConnectorConfigurer;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RSocketSubsetFilter.SubsetCoordinate;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -45,196 +56,259 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.DiscoverRSocketRequesterRegistry.RSocketServiceInstanceData.CURRENT_REFRESHER_RUNNING_CONTEXT_KEY;
 import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.DISCOVER_ENABLE_RSOCKET_METADATA_KEY;
 import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.DISCOVER_RSOCKET_PORT_METADATA_KEY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.DISCOVER_RSOCKET_ZONE_METADATA_KEY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.DISCOVER_ZONE_METADATA_KEY;
 import static reactor.core.publisher.Sinks.EmitResult.FAIL_NON_SERIALIZED;
 
 /**
  * The discover rsocket requester registry for spring cloud.
  * This get a rsocket requester with load-balancing connector from a discovery like eureka or nacos
+ * <p>
+ * The discovery client is queried once per service id for all transport uris of that service,
+ * on a jittered interval, and immediately on spring cloud heartbeat or instance registered events.
+ * The same-zone instances are preferred if a {@link RSocketZoneAffinityFilter} is configured,
+ * and only a subset of the instances is connected if a {@link RSocketSubsetFilter} is enabled.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
-public class DiscoverRSocketRequesterRegistry extends CachedRSocketRequesterRegistry {
+public class DiscoverRSocketRequesterRegistry extends CachedRSocketRequesterRegistry implements SmartApplicationListener {
 
-    private final Map<URI, RSocketServiceInstanceData> rSocketServiceInstanceDataCache = new ConcurrentHashMap<>();
-    private final Map<URI, Disposable> rSocketServiceInstanceRefresherCache = new ConcurrentHashMap<>();
+    /**
+     * The maximum ratio of the refresh interval that each scheduled refresh is shifted by
+     */
+    private static final double REFRESH_JITTER_RATIO = 0.1D;
+
+    private final Map<String, RSocketServiceRefresher> rSocketServiceRefresherCache = new ConcurrentHashMap<>();
+    private final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor();
     private final ReactiveDiscoveryClient reactiveDiscoveryClient;
     private final RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies;
     private final Duration refreshInterval;
+    private final RSocketZoneAffinityFilter rSocketZoneAffinityFilter;
+    private final RSocketSubsetFilter rSocketSubsetFilter;
+    private final Mono<SubsetCoordinate> subsetCoordinate;
 
     public DiscoverRSocketRequesterRegistry(Builder builder,
                                             ReactiveDiscoveryClient reactiveDiscoveryClient,
                                             RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies,
                                             Duration refreshInterval) {
-        super(builder);
+        this(builder, reactiveDiscoveryClient, rSocketLoadBalanceStrategies, refreshInterval, RSocketZoneAffinityFilter.NONE);
+    }
+
+    public DiscoverRSocketRequesterRegistry(Builder builder,
+                                            ReactiveDiscoveryClient reactiveDiscoveryClient,
+                                            RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies,
+                                            Duration refreshInterval,
+                                            RSocketZoneAffinityFilter rSocketZoneAffinityFilter) {
+        this(builder,
+                reactiveDiscoveryClient,
+                rSocketLoadBalanceStrategies,
+                refreshInterval,
+                rSocketZoneAffinityFilter,
+                RSocketSubsetFilter.NONE
+        );
+    }
+
+    public DiscoverRSocketRequesterRegistry(Builder builder,
+                                            ReactiveDiscoveryClient reactiveDiscoveryClient,
+                                            RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies,
+                                            Duration refreshInterval,
+                                            RSocketZoneAffinityFilter rSocketZoneAffinityFilter,
+                                            RSocketSubsetFilter rSocketSubsetFilter) {
+        this(() -> builder,
+                Collections.emptyList(),
+                reactiveDiscoveryClient,
+                rSocketLoadBalanceStrategies,
+                refreshInterval,
+                rSocketZoneAffinityFilter,
+                rSocketSubsetFilter
+        );
+    }
+
+    public DiscoverRSocketRequesterRegistry(Supplier<Builder> builderSupplier,
+                                            List<RSocketTransportConnectorConfigurer> transportConnectorConfigurers,
+                                            ReactiveDiscoveryClient reactiveDiscoveryClient,
+                                            RSocketLoadBalanceStrategies rSocketLoadBalanceStrategies,
+                                            Duration refreshInterval,
+                                            RSocketZoneAffinityFilter rSocketZoneAffinityFilter,
+                                            RSocketSubsetFilter rSocketSubsetFilter) {
+        super(builderSupplier, transportConnectorConfigurers);
         this.reactiveDiscoveryClient = reactiveDiscoveryClient;
         this.rSocketLoadBalanceStrategies = rSocketLoadBalanceStrategies;
         this.refreshInterval = refreshInterval;
+        this.rSocketZoneAffinityFilter = rSocketZoneAffinityFilter;
+        this.rSocketSubsetFilter = rSocketSubsetFilter;
+        this.subsetCoordinate = rSocketSubsetFilter.isEnabled()
+                ? rSocketSubsetFilter.resolveCoordinate(reactiveDiscoveryClient)
+                .cache(coordinate -> refreshInterval, throwable -> Duration.ZERO, () -> Duration.ZERO)
+                : Mono.just(new SubsetCoordinate(0D, 0));
+    }
+
+    /**
+     * Whether the transport uri is load-balanced among the discovered instances,
+     * the transport uri with an ip address is connected directly.
+     *
+     * @param transportURI the transport uri
+     * @return true if the transport uri is load-balanced
+     */
+    public static boolean isLoadBalanced(@NonNull URI transportURI) {
+        return !RSocketMicroConnectUtil.isAnIpAddress(transportURI.getHost());
     }
 
     @Override
     protected RSocketRequester newRSocketRequester(@NonNull URI transportURI) {
-        String host = transportURI.getHost();
-        boolean anIpAddress = RSocketMicroConnectUtil.isAnIpAddress(host);
-        if (anIpAddress) {
+        if (!isLoadBalanced(transportURI)) {
             return super.newRSocketRequester(transportURI);
         }
-        RSocketServiceInstanceData rSocketServiceInstanceData = rSocketServiceInstanceDataCache.computeIfAbsent(transportURI,
-                uri -> new RSocketServiceInstanceData(transportURI)
+        String host = transportURI.getHost();
+        RSocketServiceRefresher rSocketServiceRefresher = rSocketServiceRefresherCache.computeIfAbsent(host,
+                RSocketServiceRefresher::new
         );
-        rSocketServiceInstanceRefresherCache.computeIfAbsent(transportURI, this::newRSocketServiceInstanceRefresher);
-        return builder.transports(rSocketServiceInstanceData.getInstances(),
+        RSocketServiceInstanceData rSocketServiceInstanceData = rSocketServiceRefresher.register(transportURI);
+        RSocketRequester rSocketRequester = this.getBuilder(transportURI).transports(rSocketServiceInstanceData.getInstances(),
                 rSocketLoadBalanceStrategies.getLoadBalanceStrategy(transportURI)
         );
+        if (!rSocketLoadBalanceStrategies.isRoutingKeyAware(transportURI) && !rSocketSubsetFilter.isEnabled()) {
+            return rSocketRequester;
+        }
+        RSocket rSocket = new RoutingKeyRSocket(rSocketRequester.rsocketClient());
+        if (rSocketSubsetFilter.isEnabled()) {
+            rSocket = new SubsetLoadRSocket(rSocket, rSocketServiceRefresher.subsetAperture);
+        }
+        return RSocketRequester.wrap(rSocket,
+                rSocketRequester.dataMimeType(),
+                rSocketRequester.metadataMimeType(),
+                rSocketRequester.strategies()
+        );
+    }
+
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return HeartbeatEvent.class.isAssignableFrom(eventType)
+                || ParentHeartbeatEvent.class.isAssignableFrom(eventType)
+                || InstanceRegisteredEvent.class.isAssignableFrom(eventType);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof HeartbeatEvent heartbeatEvent && !heartbeatMonitor.update(heartbeatEvent.getValue())) {
+            return;
+        }
+        if (event instanceof ParentHeartbeatEvent parentHeartbeatEvent && !heartbeatMonitor.update(parentHeartbeatEvent.getValue())) {
+            return;
+        }
+        log.debug("Refresh load-balanced target on discovery event: {}", event.getClass().getSimpleName());
+        rSocketServiceRefresherCache.values().forEach(RSocketServiceRefresher::refreshNow);
     }
 
     @Override
     public void destroy() throws Exception {
-        rSocketServiceInstanceRefresherCache.forEach((uri, disposable) -> {
-            if (!disposable.isDisposed()) {
-                disposable.dispose();
-                log.info("Dispose sinks refresher for uri:{}", uri);
-            }
+        rSocketServiceRefresherCache.forEach((serviceId, rSocketServiceRefresher) -> {
+            rSocketServiceRefresher.dispose();
+            log.info("Dispose sinks refresher for service:{}", serviceId);
         });
-        rSocketServiceInstanceRefresherCache.clear();
-        rSocketServiceInstanceDataCache.forEach((uri, rSocketServiceInstanceData) -> {
-            rSocketServiceInstanceData.emitComplete();
-            log.info("Complete sinks for uri:{}", uri);
-        });
-        rSocketServiceInstanceDataCache.clear();
+        rSocketServiceRefresherCache.clear();
         super.destroy();
     }
 
-    private Disposable newRSocketServiceInstanceRefresher(URI transportURI) {
-        return Flux.interval(Duration.ZERO, refreshInterval)
-                .flatMap(__ -> this.loadRSocketServiceInstance(transportURI))
-                .onErrorResume(Throwable.class, throwable -> {
-                            log.error("Exception occurred while loading LoadBalanceTarget from discover client", throwable);
-                            return Mono.empty();
-                        }
-                )
-                .subscribe();
+    /**
+     * Get the delay of next scheduled refresh, the refresh interval with a random jitter
+     *
+     * @return the delay of next scheduled refresh
+     */
+    private Duration nextRefreshDelay() {
+        long intervalMillis = refreshInterval.toMillis();
+        long jitterMillis = (long) (intervalMillis * REFRESH_JITTER_RATIO);
+        if (jitterMillis <= 0) {
+            return refreshInterval;
+        }
+        return Duration.ofMillis(intervalMillis - jitterMillis + ThreadLocalRandom.current().nextLong(2 * jitterMillis + 1));
     }
 
-    private Mono<Boolean> loadRSocketServiceInstance(URI transportURI) {
-        if (!rSocketServiceInstanceDataCache.containsKey(transportURI)) {
-            return Mono.error(new IllegalStateException("Can not found RSocketServiceInstanceData from cache"));
-        }
-        return Mono.usingWhen(
-                        Mono.fromSupplier(() -> rSocketServiceInstanceDataCache.get(transportURI))
-                                .switchIfEmpty(Mono.error(new IllegalStateException(
-                                        "Can not found RSocketServiceInstanceData from cache for" + transportURI))
-                                ),
-                        rSocketServiceInstanceData -> {
-                            if (rSocketServiceInstanceData.getRefreshRunning().compareAndSet(false, true)) {
-                                return Mono.deferContextual(contextView -> Mono.justOrEmpty(contextView.getOrEmpty(
-                                                        CURRENT_REFRESHER_RUNNING_CONTEXT_KEY))
-                                                .ofType(AtomicBoolean.class)
-                                                .switchIfEmpty(Mono.error(new IllegalStateException(
-                                                        "Can not find current refresher running flag from context"))
-                                                )
-                                        )
-                                        .flatMap(currentRunningFlag -> {
-                                            if (currentRunningFlag.compareAndSet(false, true)) {
-                                                return Mono.zip(
-                                                                this.getServiceInstancesFromDiscover(rSocketServiceInstanceData.getTransportURI()),
-                                                                this.getExistServiceInstance(rSocketServiceInstanceData)
-                                                        )
-                                                        .flatMap(tuple2 -> this.refreshLoadBalanceTarget(tuple2.getT1(),
-                                                                tuple2.getT2(),
-                                                                rSocketServiceInstanceData.getTransportURI(),
-                                                                rSocketServiceInstanceData
-                                                        ));
-                                            }
-                                            return Mono.just(false);
-                                        });
-                            }
-                            return Mono.just(false);
-                        },
-                        DiscoverRSocketRequesterRegistry::resetRunningFlag,
-                        (rSocketServiceInstanceData, throwable) -> resetRunningFlag(rSocketServiceInstanceData),
-                        DiscoverRSocketRequesterRegistry::resetRunningFlag
-                )
-                .contextWrite(context -> context.put(CURRENT_REFRESHER_RUNNING_CONTEXT_KEY, new AtomicBoolean(false)));
+    private Mono<List<LoadbalanceTarget>> getExistServiceInstance(RSocketServiceInstanceData rSocketServiceInstanceData) {
+        return rSocketServiceInstanceData.getInstances().next().defaultIfEmpty(Collections.emptyList());
     }
 
-    private static Mono<Object> resetRunningFlag(RSocketServiceInstanceData rSocketServiceInstanceData) {
-        return Mono.deferContextual(contextView -> Mono.justOrEmpty(contextView.getOrEmpty(
-                                CURRENT_REFRESHER_RUNNING_CONTEXT_KEY))
-                        .ofType(AtomicBoolean.class)
-                        .switchIfEmpty(Mono.error(new IllegalStateException(
-                                "Can not find current refresher running flag from context"))
-                        )
-                )
-                .filter(AtomicBoolean::get)
-                .flatMap(currentRunningFlag -> {
-                    if (currentRunningFlag.compareAndSet(true, false)) {
-                        rSocketServiceInstanceData.getRefreshRunning().compareAndSet(true, false);
-                        return Mono.empty();
-                    }
-                    return Mono.empty();
-                });
+    private List<URI> getRSocketServiceURIs(List<ServiceInstance> serviceInstances,
+                                            URI transportURI,
+                                            SubsetCoordinate subsetCoordinate,
+                                            int apertureSize) {
+        Map<URI, String> rSocketServiceURIZones = new LinkedHashMap<>();
+        for (ServiceInstance serviceInstance : serviceInstances) {
+            URI rSocketServiceURI = this.toRSocketServiceURI(serviceInstance, transportURI);
+            if (Objects.nonNull(rSocketServiceURI) && !rSocketServiceURIZones.containsKey(rSocketServiceURI)) {
+                rSocketServiceURIZones.put(rSocketServiceURI, getZone(serviceInstance));
+            }
+        }
+        List<URI> rSocketServiceURIs = rSocketZoneAffinityFilter.filter(transportURI, rSocketServiceURIZones);
+        return rSocketSubsetFilter.filter(rSocketServiceURIs, subsetCoordinate, apertureSize);
     }
 
-    private Mono<List<LoadbalanceTarget>> getExistServiceInstance(RSocketServiceInstanceData rSocketServiceInstanceData) {
-        return rSocketServiceInstanceData.getInstances().next().defaultIfEmpty(Collections.emptyList());
+    @Nullable
+    private static String getZone(ServiceInstance serviceInstance) {
+        Map<String, String> metadata = serviceInstance.getMetadata();
+        if (Objects.isNull(metadata) || metadata.isEmpty()) {
+            return null;
+        }
+        String zone = metadata.get(DISCOVER_RSOCKET_ZONE_METADATA_KEY);
+        if (StringUtils.hasText(zone)) {
+            return zone;
+        }
+        zone = metadata.get(DISCOVER_ZONE_METADATA_KEY);
+        return StringUtils.hasText(zone) ? zone : null;
     }
 
-    private Mono<List<URI>> getServiceInstancesFromDiscover(URI transportURI) {
-        return reactiveDiscoveryClient.getInstances(transportURI.getHost())
-                .mapNotNull(serviceInstance -> {
-                    Map<String, String> metadata = serviceInstance.getMetadata();
-                    if (Objects.nonNull(metadata) && !metadata.isEmpty()) {
-                        String discoverEnableRSocket = metadata.get(DISCOVER_ENABLE_RSOCKET_METADATA_KEY);
-                        if (!"true".equalsIgnoreCase(discoverEnableRSocket)) {
-                            log.debug("Disabled rsocket server {} from metadata: {}, metadata value: {}",
-                                    serviceInstance.getUri(),
-                                    DISCOVER_ENABLE_RSOCKET_METADATA_KEY,
-                                    discoverEnableRSocket
-                            );
-                            return null;
-                        }
-                        String rsocketServerPortFromMetadata = metadata.get(DISCOVER_RSOCKET_PORT_METADATA_KEY);
-                        if (StringUtils.hasText(rsocketServerPortFromMetadata)) {
-                            int port = -1;
-                            try {
-                                port = Integer.parseInt(rsocketServerPortFromMetadata);
-                            } catch (NumberFormatException e) {
-                                log.debug(
-                                        "Failed to parse custom rsocket server port {} from metadata: {}",
-                                        rsocketServerPortFromMetadata,
-                                        DISCOVER_RSOCKET_PORT_METADATA_KEY
-                                );
-                            }
-                            if (port > 0) {
-                                return UriComponentsBuilder.fromUri(transportURI)
-                                        .host(serviceInstance.getHost())
-                                        .port(port)
-                                        .build()
-                                        .toUri();
-                            }
-                            log.warn("Unsupported custom rsocket server port {} from metadata: {}, this instance will be ignored",
-                                    port,
-                                    DISCOVER_RSOCKET_PORT_METADATA_KEY
-                            );
-                            return null;
-                        }
-                    }
+    @Nullable
+    private URI toRSocketServiceURI(ServiceInstance serviceInstance, URI transportURI) {
+        Map<String, String> metadata = serviceInstance.getMetadata();
+        if (Objects.nonNull(metadata) && !metadata.isEmpty()) {
+            String discoverEnableRSocket = metadata.get(DISCOVER_ENABLE_RSOCKET_METADATA_KEY);
+            if (!"true".equalsIgnoreCase(discoverEnableRSocket)) {
+                log.debug("Disabled rsocket server {} from metadata: {}, metadata value: {}",
+                        serviceInstance.getUri(),
+                        DISCOVER_ENABLE_RSOCKET_METADATA_KEY,
+                        discoverEnableRSocket
+                );
+                return null;
+            }
+            String rsocketServerPortFromMetadata = metadata.get(DISCOVER_RSOCKET_PORT_METADATA_KEY);
+            if (StringUtils.hasText(rsocketServerPortFromMetadata)) {
+                int port = -1;
+                try {
+                    port = Integer.parseInt(rsocketServerPortFromMetadata);
+                } catch (NumberFormatException e) {
+                    log.debug(
+                            "Failed to parse custom rsocket server port {} from metadata: {}",
+                            rsocketServerPortFromMetadata,
+                            DISCOVER_RSOCKET_PORT_METADATA_KEY
+                    );
+                }
+                if (port > 0) {
                     return UriComponentsBuilder.fromUri(transportURI)
                             .host(serviceInstance.getHost())
+                            .port(port)
                             .build()
                             .toUri();
-                })
-                .distinct()
-                .collectList();
+                }
+                log.warn("Unsupported custom rsocket server port {} from metadata: {}, this instance will be ignored",
+                        port,
+                        DISCOVER_RSOCKET_PORT_METADATA_KEY
+                );
+                return null;
+            }
+        }
+        return UriComponentsBuilder.fromUri(transportURI)
+                .host(serviceInstance.getHost())
+                .build()
+                .toUri();
     }
 
     private Mono<Boolean> refreshLoadBalanceTarget(List<URI> uriList,
@@ -305,11 +379,111 @@ public class DiscoverRSocketRequesterRegistry extends CachedRSocketRequesterRegi
         }
     }
 
+    /**
+     * The refresher of a discovered service, shared by all transport uris of the same service id
+     */
+    class RSocketServiceRefresher {
+
+        private final String serviceId;
+        private final Map<URI, RSocketServiceInstanceData> rSocketServiceInstanceDataCache = new ConcurrentHashMap<>();
+        private final Sinks.Many<Boolean> refreshTrigger = Sinks.many().unicast().onBackpressureBuffer();
+        private final SubsetAperture subsetAperture = rSocketSubsetFilter.newAperture();
+        private final Disposable refresher;
+
+        RSocketServiceRefresher(String serviceId) {
+            this.serviceId = serviceId;
+            this.refresher = this.newRefresher();
+        }
+
+        /**
+         * Register the transport uri of this service, a newly registered uri triggers an immediate refresh
+         *
+         * @param transportURI the transport uri
+         * @return the rsocket service instance data of the transport uri
+         */
+        RSocketServiceInstanceData register(URI transportURI) {
+            RSocketServiceInstanceData existing = rSocketServiceInstanceDataCache.get(transportURI);
+            if (Objects.nonNull(existing)) {
+                return existing;
+            }
+            RSocketServiceInstanceData rSocketServiceInstanceData = rSocketServiceInstanceDataCache.computeIfAbsent(
+                    transportURI,
+                    RSocketServiceInstanceData::new
+            );
+            this.refreshNow();
+            return rSocketServiceInstanceData;
+        }
+
+        /**
+         * Trigger an immediate refresh, a trigger is dropped if another one is being emitted concurrently
+         */
+        void refreshNow() {
+            refreshTrigger.tryEmitNext(Boolean.TRUE);
+        }
+
+        void dispose() {
+            if (!refresher.isDisposed()) {
+                refresher.dispose();
+            }
+            refreshTrigger.tryEmitComplete();
+            rSocketServiceInstanceDataCache.forEach((uri, rSocketServiceInstanceData) -> {
+                rSocketServiceInstanceData.emitComplete();
+                log.info("Complete sinks for uri:{}", uri);
+            });
+            rSocketServiceInstanceDataCache.clear();
+        }
+
+        /**
+         * Every trigger refreshes immediately and restarts the jittered polling schedule,
+         * so polling only kicks in when no discovery event arrives within the refresh interval.
+         * Ticks arriving during a running refresh are coalesced into a single following refresh.
+         */
+        private Disposable newRefresher() {
+            return refreshTrigger.asFlux()
+                    .switchMap(__ -> Flux.concat(Mono.just(0L),
+                            Mono.defer(() -> Mono.delay(nextRefreshDelay())).repeat()
+                    ))
+                    .onBackpressureLatest()
+                    .concatMap(__ -> this.refresh()
+                            .onErrorResume(Throwable.class, throwable -> {
+                                        log.error("Exception occurred while loading LoadBalanceTarget from discover client",
+                                                throwable
+                                        );
+                                        return Mono.empty();
+                                    }
+                            ), 1)
+                    .subscribe();
+        }
+
+        private Mono<Void> refresh() {
+            if (rSocketServiceInstanceDataCache.isEmpty()) {
+                return Mono.empty();
+            }
+            return Mono.zip(reactiveDiscoveryClient.getInstances(serviceId).collectList(), subsetCoordinate)
+                    .flatMapMany(tuple2 -> {
+                        List<ServiceInstance> serviceInstances = tuple2.getT1();
+                        int apertureSize = rSocketSubsetFilter.isEnabled() ? subsetAperture.evaluate(serviceInstances.size()) : 0;
+                        return Flux.fromIterable(rSocketServiceInstanceDataCache.values())
+                                .concatMap(rSocketServiceInstanceData -> getExistServiceInstance(rSocketServiceInstanceData)
+                                        .flatMap(existsLoadBalanceTargetList -> refreshLoadBalanceTarget(
+                                                getRSocketServiceURIs(serviceInstances,
+                                                        rSocketServiceInstanceData.getTransportURI(),
+                                                        tuple2.getT2(),
+                                                        apertureSize
+                                                ),
+                                                existsLoadBalanceTargetList,
+                                                rSocketServiceInstanceData.getTransportURI(),
+                                                rSocketServiceInstanceData
+                                        ))
+                                );
+                    })
+                    .then();
+        }
+
+    }
+
     static class RSocketServiceInstanceData {
 
-        static final String CURRENT_REFRESHER_RUNNING_CONTEXT_KEY = RSocketServiceInstanceData.class + ".current-refresher-running-flag";
-        @Getter
-        private final AtomicBoolean refreshRunning = new AtomicBoolean(false);
         @Getter
         private final URI transportURI;
         private final Sinks.Many<List<LoadbalanceTarget>> sinks;
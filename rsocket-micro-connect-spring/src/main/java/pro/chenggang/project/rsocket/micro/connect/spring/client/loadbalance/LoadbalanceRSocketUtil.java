@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.RSocket;
+import io.rsocket.util.RSocketProxy;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
+
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * The util of the rsocket connections handed to the load-balance strategies.
+ * <p>
+ * The load-balancer hands its pooled connections to the strategies, whose established connection is only reachable
+ * through the package-private {@code PooledRSocket}, so the requester interceptors of the connector are found
+ * by unwrapping the pooled connection and then the rsocket proxies around the established connection.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+abstract class LoadbalanceRSocketUtil {
+
+    private static final String POOLED_RSOCKET_CLASS_NAME = "io.rsocket.loadbalance.PooledRSocket";
+    @Nullable
+    private static final Class<?> POOLED_RSOCKET_CLASS = resolvePooledRSocketClass();
+    @Nullable
+    private static final VarHandle POOLED_RSOCKET_VALUE_HANDLE = Objects.isNull(POOLED_RSOCKET_CLASS)
+            ? null
+            : RSocketMicroConnectUtil.findFieldHandle(POOLED_RSOCKET_CLASS, "value", Object.class);
+    @Nullable
+    private static final VarHandle RSOCKET_PROXY_SOURCE_HANDLE = RSocketMicroConnectUtil.findFieldHandle(RSocketProxy.class,
+            "source",
+            RSocket.class
+    );
+
+    /**
+     * Unwrap the pooled connection of the load-balancer to its established connection.
+     *
+     * @param rSocket the connection
+     * @return the established connection, the connection itself if it's not pooled, or null if it's not established yet
+     */
+    @Nullable
+    static RSocket unwrapPooledRSocket(RSocket rSocket) {
+        if (Objects.isNull(POOLED_RSOCKET_CLASS) || !POOLED_RSOCKET_CLASS.isInstance(rSocket)) {
+            return rSocket;
+        }
+        if (Objects.isNull(POOLED_RSOCKET_VALUE_HANDLE)) {
+            return null;
+        }
+        Object value = POOLED_RSOCKET_VALUE_HANDLE.getVolatile(rSocket);
+        return value instanceof RSocket connectedRSocket ? connectedRSocket : null;
+    }
+
+    /**
+     * Find the rsocket of the given type, e.g. the one applied by a requester interceptor of the connector,
+     * among the connection and the rsocket proxies it wraps. It neither locks nor allocates.
+     *
+     * @param rSocket the connection, which may be pooled
+     * @param type    the rsocket type
+     * @param <T>     the rsocket type
+     * @return the rsocket of the given type, or null if it's not found or the connection is not established yet
+     */
+    @Nullable
+    static <T extends RSocket> T findRSocket(RSocket rSocket, Class<T> type) {
+        RSocket current = unwrapPooledRSocket(rSocket);
+        while (Objects.nonNull(current)) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+            if (!(current instanceof RSocketProxy) || Objects.isNull(RSOCKET_PROXY_SOURCE_HANDLE)) {
+                return null;
+            }
+            current = (RSocket) RSOCKET_PROXY_SOURCE_HANDLE.get(current);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Class<?> resolvePooledRSocketClass() {
+        try {
+            return ClassUtils.forName(POOLED_RSOCKET_CLASS_NAME, LoadbalanceRSocketUtil.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.loadbalance.ClientLoadbalanceStrategy;
+import io.rsocket.loadbalance.LoadbalanceStrategy;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The load-balance strategy which skips the instances ejected by the {@link RSocketOutlierDetector}
+ * before delegating the selection, at most the max ejection percentage of the instances are skipped.
+ * <p>
+ * It is created for each load-balanced transport uri, so the latency z-score is evaluated among the instances of the same service.
+ * The pooled sockets only support indexed access, so they are never iterated or copied as a collection.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class OutlierEjectingLoadbalanceStrategy implements ClientLoadbalanceStrategy {
+
+    private static final AtomicLongFieldUpdater<OutlierEjectingLoadbalanceStrategy> NEXT_EVALUATION_NANOS =
+            AtomicLongFieldUpdater.newUpdater(OutlierEjectingLoadbalanceStrategy.class, "nextEvaluationNanos");
+
+    private final RemoteAddressResolver addressResolver = new RemoteAddressResolver();
+    private final LoadbalanceStrategy delegate;
+    private final RSocketOutlierDetector outlierDetector;
+    private final long evaluationIntervalNanos;
+    private final int maxEjectionPercent;
+    private volatile long nextEvaluationNanos = System.nanoTime();
+
+    public OutlierEjectingLoadbalanceStrategy(@NonNull LoadbalanceStrategy delegate,
+                                              @NonNull RSocketOutlierDetector outlierDetector,
+                                              @NonNull Duration evaluationInterval,
+                                              int maxEjectionPercent) {
+        this.delegate = delegate;
+        this.outlierDetector = outlierDetector;
+        this.evaluationIntervalNanos = evaluationInterval.toNanos();
+        this.maxEjectionPercent = Math.max(0, Math.min(100, maxEjectionPercent));
+    }
+
+    @Override
+    public void initialize(RSocketConnector connector) {
+        if (delegate instanceof ClientLoadbalanceStrategy clientLoadbalanceStrategy) {
+            clientLoadbalanceStrategy.initialize(connector);
+        }
+    }
+
+    @Override
+    public RSocket select(List<RSocket> sockets) {
+        int size = sockets.size();
+        if (size < 2) {
+            return delegate.select(sockets);
+        }
+        long now = System.nanoTime();
+        long nextEvaluation = this.nextEvaluationNanos;
+        if (now - nextEvaluation >= 0 && NEXT_EVALUATION_NANOS.compareAndSet(this, nextEvaluation, now + evaluationIntervalNanos)) {
+            this.evaluateLatency(sockets);
+        }
+        if (!outlierDetector.hasEjections()) {
+            return delegate.select(sockets);
+        }
+        int maxEjected = size * maxEjectionPercent / 100;
+        int ejected = 0;
+        List<RSocket> admitted = null;
+        for (int i = 0; i < size; i++) {
+            RSocket rSocket = sockets.get(i);
+            if (ejected < maxEjected && outlierDetector.isEjected(addressResolver.getAddress(rSocket))) {
+                if (Objects.isNull(admitted)) {
+                    admitted = new ArrayList<>(size - 1);
+                    for (int j = 0; j < i; j++) {
+                        admitted.add(sockets.get(j));
+                    }
+                }
+                ejected++;
+                continue;
+            }
+            if (Objects.nonNull(admitted)) {
+                admitted.add(rSocket);
+            }
+        }
+        return delegate.select(Objects.isNull(admitted) ? sockets : admitted);
+    }
+
+    private void evaluateLatency(List<RSocket> sockets) {
+        List<String> addresses = new ArrayList<>(sockets.size());
+        for (int i = 0; i < sockets.size(); i++) {
+            String address = addressResolver.getAddress(sockets.get(i));
+            if (!RemoteAddressResolver.UNKNOWN_ADDRESS.equals(address)) {
+                addresses.add(address);
+            }
+        }
+        outlierDetector.evaluateLatency(addresses);
+    }
+}
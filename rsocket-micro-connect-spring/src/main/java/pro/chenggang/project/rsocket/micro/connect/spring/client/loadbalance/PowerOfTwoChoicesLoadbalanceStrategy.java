@@ -0,0 +1,204 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.loadbalance.ClientLoadbalanceStrategy;
+import io.rsocket.plugins.RSocketInterceptor;
+import io.rsocket.util.RSocketProxy;
+import lombok.NonNull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * The power-of-two-choices load-balance strategy.
+ * <p>
+ * Every connection of a load-balanced target tracks its outstanding requests and a peak-sensitive EWMA
+ * of its request-response latency, which decays while the connection is idle so a slow target is probed again later.
+ * The selection picks two random connections and takes the one with the lower {@code latency * (outstanding + 1)} cost,
+ * it neither locks nor allocates. The statistics are updated with benign races since they only steer the selection.
+ * <p>
+ * The statistics are applied to the established connection as a requester interceptor, and found again by unwrapping
+ * the pooled connection handed over by the load-balancer. A pooled connection which is not established yet reports no availability,
+ * but it costs nothing here so that it's probed, while an established connection without availability is never preferred.
+ * The strategy keeps no per-target state itself, so a single instance can be shared by all the load-balanced clients.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class PowerOfTwoChoicesLoadbalanceStrategy implements ClientLoadbalanceStrategy, RSocketInterceptor {
+
+    /**
+     * The cost of a connection which has outstanding requests but no latency observed yet.
+     */
+    private static final double UNKNOWN_LATENCY_PENALTY_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final double decayNanos;
+
+    /**
+     * Instantiates a new power-of-two-choices load-balance strategy.
+     *
+     * @param decay the time window of the latency EWMA
+     */
+    public PowerOfTwoChoicesLoadbalanceStrategy(@NonNull Duration decay) {
+        if (decay.isNegative() || decay.isZero()) {
+            throw new IllegalArgumentException("The latency EWMA decay must be positive");
+        }
+        this.decayNanos = decay.toNanos();
+    }
+
+    @Override
+    public void initialize(RSocketConnector connector) {
+        connector.interceptors(interceptorRegistry -> interceptorRegistry.forRequester(this));
+    }
+
+    @Override
+    public RSocket apply(RSocket rSocket) {
+        return new LoadStatsRSocket(rSocket, decayNanos);
+    }
+
+    @Override
+    public RSocket select(List<RSocket> sockets) {
+        int size = sockets.size();
+        if (size == 1) {
+            return sockets.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        RSocket firstRSocket = sockets.get(first);
+        RSocket secondRSocket = sockets.get(second);
+        long nowNanos = System.nanoTime();
+        return cost(firstRSocket, nowNanos) <= cost(secondRSocket, nowNanos) ? firstRSocket : secondRSocket;
+    }
+
+    private static double cost(RSocket rSocket, long nowNanos) {
+        RSocket connectedRSocket = LoadbalanceRSocketUtil.unwrapPooledRSocket(rSocket);
+        if (Objects.isNull(connectedRSocket)) {
+            return 0;
+        }
+        if (connectedRSocket.availability() <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        LoadStatsRSocket loadStatsRSocket = LoadbalanceRSocketUtil.findRSocket(connectedRSocket, LoadStatsRSocket.class);
+        if (Objects.isNull(loadStatsRSocket)) {
+            return 0;
+        }
+        return loadStatsRSocket.cost(nowNanos);
+    }
+
+    /**
+     * The rsocket tracking the outstanding requests and the latency EWMA of a connection.
+     */
+    static final class LoadStatsRSocket extends RSocketProxy {
+
+        private static final AtomicIntegerFieldUpdater<LoadStatsRSocket> OUTSTANDING =
+                AtomicIntegerFieldUpdater.newUpdater(LoadStatsRSocket.class, "outstanding");
+
+        private final double decayNanos;
+        private final Consumer<Subscription> onStreamStart = subscription -> OUTSTANDING.incrementAndGet(this);
+        private final Consumer<SignalType> onStreamEnd = signalType -> OUTSTANDING.decrementAndGet(this);
+        private volatile int outstanding;
+        private volatile double ewmaNanos;
+        private volatile long lastObservedNanos = System.nanoTime();
+
+        LoadStatsRSocket(RSocket source, double decayNanos) {
+            super(source);
+            this.decayNanos = decayNanos;
+        }
+
+        @Override
+        public Mono<Void> fireAndForget(Payload payload) {
+            return source.fireAndForget(payload).doOnSubscribe(onStreamStart).doFinally(onStreamEnd);
+        }
+
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            return Mono.defer(() -> {
+                OUTSTANDING.incrementAndGet(this);
+                long startNanos = System.nanoTime();
+                return source.requestResponse(payload).doFinally(signalType -> this.onResponse(startNanos, signalType));
+            });
+        }
+
+        @Override
+        public Flux<Payload> requestStream(Payload payload) {
+            return source.requestStream(payload).doOnSubscribe(onStreamStart).doFinally(onStreamEnd);
+        }
+
+        @Override
+        public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+            return source.requestChannel(payloads).doOnSubscribe(onStreamStart).doFinally(onStreamEnd);
+        }
+
+        /**
+         * Gets the cost of the connection.
+         *
+         * @param nowNanos the current nano time
+         * @return the cost
+         */
+        double cost(long nowNanos) {
+            int outstanding = this.outstanding;
+            double latency = this.decayed(nowNanos);
+            if (latency == 0 && outstanding > 0) {
+                return UNKNOWN_LATENCY_PENALTY_NANOS + outstanding;
+            }
+            return latency * (outstanding + 1);
+        }
+
+        private double decayed(long nowNanos) {
+            double ewma = this.ewmaNanos;
+            if (ewma == 0) {
+                return 0;
+            }
+            long elapsed = Math.max(nowNanos - this.lastObservedNanos, 0);
+            return ewma * Math.exp(-elapsed / decayNanos);
+        }
+
+        private void onResponse(long startNanos, SignalType signalType) {
+            OUTSTANDING.decrementAndGet(this);
+            if (SignalType.CANCEL == signalType) {
+                return;
+            }
+            long nowNanos = System.nanoTime();
+            double latency = nowNanos - startNanos;
+            double ewma = this.ewmaNanos;
+            if (latency > ewma) {
+                this.ewmaNanos = latency;
+            } else {
+                double weight = Math.exp(-Math.max(nowNanos - this.lastObservedNanos, 0) / decayNanos);
+                this.ewmaNanos = ewma * weight + latency * (1 - weight);
+            }
+            this.lastObservedNanos = nowNanos;
+        }
+    }
+}
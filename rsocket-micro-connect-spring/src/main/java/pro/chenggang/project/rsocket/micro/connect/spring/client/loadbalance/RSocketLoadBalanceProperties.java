@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The rsocket load-balance properties of the discovered rsocket server instances.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketLoadBalanceProperties {
+
+    /**
+     * The default load-balance strategy of the services.
+     */
+    public StrategyType defaultStrategy = StrategyType.ROUND_ROBIN;
+
+    /**
+     * The load-balance strategy of each service, the key is the service id (the host of the transport uri).
+     */
+    public Map<String, StrategyType> strategies = new LinkedHashMap<>();
+
+    /**
+     * The time window of the latency EWMA used by the power-of-two-choices strategy.
+     */
+    public Duration latencyDecay = Duration.ofSeconds(1);
+
+    /**
+     * The maximum ratio of the outstanding requests of an instance to the average used by the consistent-hash strategy,
+     * the routing keys of an instance beyond it spill over to the next instance.
+     */
+    public double consistentHashLoadFactor = 1.25D;
+
+    /**
+     * The zone affinity of the discovered rsocket server instances.
+     */
+    @NestedConfigurationProperty
+    public RSocketZoneAffinityProperties zoneAffinity = new RSocketZoneAffinityProperties();
+
+    /**
+     * The passive outlier detection of the discovered rsocket server instances.
+     */
+    @NestedConfigurationProperty
+    public RSocketOutlierDetectionProperties outlierDetection = new RSocketOutlierDetectionProperties();
+
+    /**
+     * The deterministic subsetting of the discovered rsocket server instances.
+     */
+    @NestedConfigurationProperty
+    public RSocketSubsettingProperties subsetting = new RSocketSubsettingProperties();
+
+    /**
+     * The load-balance strategy type.
+     */
+    public enum StrategyType {
+
+        /**
+         * Round-robin over the rsocket server instances.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Power-of-two-choices over the rsocket server instances,
+         * weighing the outstanding requests and the latency EWMA of each one.
+         */
+        POWER_OF_TWO_CHOICES,
+
+        /**
+         * Consistent-hash over the rsocket server instances by the routing key of the execution with bounded load,
+         * the executions without a routing key fall back to round-robin.
+         */
+        CONSISTENT_HASH,
+        ;
+    }
+}
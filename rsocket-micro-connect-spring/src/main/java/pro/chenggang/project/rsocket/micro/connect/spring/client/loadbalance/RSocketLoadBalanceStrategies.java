@@ -24,7 +24,7 @@ import java.net.URI;
  * The rocket load-balance strategies.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public interface RSocketLoadBalanceStrategies {
@@ -36,4 +36,16 @@ public interface RSocketLoadBalanceStrategies {
      * @return the load-balance strategy
      */
     LoadbalanceStrategy getLoadBalanceStrategy(@NonNull URI transportURI);
+
+    /**
+     * Whether the load-balance strategy of the transport uri selects by the routing key of the execution.
+     * The routing key is only propagated to the strategy if it returns true.
+     *
+     * @param transportURI the transport uri
+     * @return the true if the strategy is routing key aware
+     * @see RoutingKeyContext
+     */
+    default boolean isRoutingKeyAware(@NonNull URI transportURI) {
+        return false;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * The passive outlier detection properties of the discovered rsocket server instances.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketOutlierDetectionProperties {
+
+    /**
+     * Whether to eject the outlier rsocket server instances from load-balancing temporarily.
+     */
+    public boolean enabled = false;
+
+    /**
+     * The consecutive failures of an instance that make it ejected.
+     */
+    public int consecutiveFailures = 5;
+
+    /**
+     * The z-score of the latency EWMA of an instance among the instances of the same service that makes it ejected,
+     * zero or negative value disables the latency based ejection.
+     */
+    public double latencyZScoreThreshold = 1.5D;
+
+    /**
+     * The minimum instances of a service with enough latency samples to evaluate the latency z-score.
+     */
+    public int latencyMinimumHosts = 3;
+
+    /**
+     * The minimum latency samples of an instance to be evaluated by the latency z-score.
+     */
+    public int latencyMinimumSamples = 10;
+
+    /**
+     * The interval of evaluating the latency z-score of the instances of a service.
+     */
+    public Duration latencyEvaluationInterval = Duration.ofSeconds(1);
+
+    /**
+     * The ejection time of the first ejection, it doubles on each consecutive ejection of the same instance.
+     */
+    public Duration baseEjectionTime = Duration.ofSeconds(30);
+
+    /**
+     * The maximum ejection time of an instance.
+     */
+    public Duration maxEjectionTime = Duration.ofMinutes(5);
+
+    /**
+     * The maximum percentage of the instances of a service that can be ejected at the same time.
+     */
+    public int maxEjectionPercent = 50;
+
+}
@@ -0,0 +1,263 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The passive outlier detector of the rsocket server instances, keyed by the remote address ({@code host:port}).
+ * <p>
+ * It is fed with the outcome of every request, and ejects an instance temporarily after consecutive failures,
+ * or when the latency EWMA of an instance is an outlier among the instances of the same service.
+ * The ejection time grows exponentially with the consecutive ejections of the same instance,
+ * an instance is re-admitted once its ejection time elapses.
+ * <p>
+ * The stats of an instance are evicted once it has neither been requested nor ejected for the max ejection time,
+ * the idle stats are swept at most once per max ejection time while recording the outcomes.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketOutlierDetector {
+
+    /**
+     * The weight of a new latency sample in the latency EWMA.
+     */
+    private static final double LATENCY_EWMA_ALPHA = 0.2D;
+
+    private static final AtomicLongFieldUpdater<RSocketOutlierDetector> NEXT_EVICTION_NANOS =
+            AtomicLongFieldUpdater.newUpdater(RSocketOutlierDetector.class, "nextEvictionNanos");
+
+    private final Map<String, OutlierStats> outlierStatsCache = new ConcurrentHashMap<>();
+    private final int consecutiveFailures;
+    private final double latencyZScoreThreshold;
+    private final int latencyMinimumHosts;
+    private final int latencyMinimumSamples;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private volatile long latestEjectedUntilNanos = System.nanoTime();
+    private volatile long nextEvictionNanos;
+
+    public RSocketOutlierDetector(@NonNull RSocketOutlierDetectionProperties outlierDetectionProperties) {
+        this.consecutiveFailures = Math.max(1, outlierDetectionProperties.getConsecutiveFailures());
+        this.latencyZScoreThreshold = outlierDetectionProperties.getLatencyZScoreThreshold();
+        this.latencyMinimumHosts = Math.max(2, outlierDetectionProperties.getLatencyMinimumHosts());
+        this.latencyMinimumSamples = Math.max(1, outlierDetectionProperties.getLatencyMinimumSamples());
+        this.baseEjectionNanos = outlierDetectionProperties.getBaseEjectionTime().toNanos();
+        this.maxEjectionNanos = Math.max(this.baseEjectionNanos, outlierDetectionProperties.getMaxEjectionTime().toNanos());
+        this.nextEvictionNanos = System.nanoTime() + this.maxEjectionNanos;
+    }
+
+    /**
+     * Record a successful request of an instance.
+     *
+     * @param address      the remote address of the instance
+     * @param latencyNanos the latency of the request, negative if the latency should not be sampled
+     */
+    public void onSuccess(@NonNull String address, long latencyNanos) {
+        OutlierStats outlierStats = this.getOutlierStats(address);
+        outlierStats.consecutiveFailures.set(0);
+        if (latencyNanos >= 0) {
+            outlierStats.sampleLatency(latencyNanos);
+        }
+    }
+
+    /**
+     * Record a failed request of an instance.
+     *
+     * @param address the remote address of the instance
+     */
+    public void onFailure(@NonNull String address) {
+        OutlierStats outlierStats = this.getOutlierStats(address);
+        int failures = outlierStats.consecutiveFailures.incrementAndGet();
+        if (failures >= consecutiveFailures) {
+            this.eject(address, outlierStats, "consecutive failures: " + failures);
+        }
+    }
+
+    /**
+     * Gets the number of the instances whose stats are tracked.
+     *
+     * @return the tracked instances
+     */
+    public int getTrackedInstances() {
+        return outlierStatsCache.size();
+    }
+
+    /**
+     * Whether any instance is ejected currently.
+     *
+     * @return whether any instance is ejected
+     */
+    public boolean hasEjections() {
+        return System.nanoTime() - latestEjectedUntilNanos < 0;
+    }
+
+    /**
+     * Whether the instance is ejected currently.
+     *
+     * @param address the remote address of the instance
+     * @return whether the instance is ejected
+     */
+    public boolean isEjected(@NonNull String address) {
+        OutlierStats outlierStats = outlierStatsCache.get(address);
+        return Objects.nonNull(outlierStats) && outlierStats.isEjected(System.nanoTime());
+    }
+
+    /**
+     * Evaluate the latency z-score of the instances of the same service and eject the outliers.
+     *
+     * @param addresses the remote addresses of the instances of the same service
+     */
+    public void evaluateLatency(@NonNull List<String> addresses) {
+        if (latencyZScoreThreshold <= 0 || addresses.size() < latencyMinimumHosts) {
+            return;
+        }
+        long now = System.nanoTime();
+        List<String> sampledAddresses = new ArrayList<>(addresses.size());
+        List<OutlierStats> sampledStats = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            OutlierStats outlierStats = outlierStatsCache.get(address);
+            if (Objects.nonNull(outlierStats) && !outlierStats.isEjected(now) && outlierStats.latencySamples >= latencyMinimumSamples) {
+                sampledAddresses.add(address);
+                sampledStats.add(outlierStats);
+            }
+        }
+        int size = sampledStats.size();
+        if (size < latencyMinimumHosts) {
+            return;
+        }
+        double sum = 0D;
+        for (OutlierStats outlierStats : sampledStats) {
+            sum += outlierStats.latencyEwmaNanos;
+        }
+        double mean = sum / size;
+        double squaredDeviationSum = 0D;
+        for (OutlierStats outlierStats : sampledStats) {
+            double deviation = outlierStats.latencyEwmaNanos - mean;
+            squaredDeviationSum += deviation * deviation;
+        }
+        double standardDeviation = Math.sqrt(squaredDeviationSum / size);
+        if (standardDeviation <= 0D) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            OutlierStats outlierStats = sampledStats.get(i);
+            double zScore = (outlierStats.latencyEwmaNanos - mean) / standardDeviation;
+            if (zScore > latencyZScoreThreshold) {
+                this.eject(sampledAddresses.get(i), outlierStats, String.format("latency z-score: %.2f", zScore));
+            }
+        }
+    }
+
+    private OutlierStats getOutlierStats(String address) {
+        long now = System.nanoTime();
+        long nextEviction = this.nextEvictionNanos;
+        if (now - nextEviction >= 0 && NEXT_EVICTION_NANOS.compareAndSet(this, nextEviction, now + maxEjectionNanos)) {
+            this.evictIdleStats(now);
+        }
+        OutlierStats outlierStats = outlierStatsCache.get(address);
+        if (Objects.isNull(outlierStats)) {
+            outlierStats = outlierStatsCache.computeIfAbsent(address, key -> new OutlierStats());
+        }
+        outlierStats.lastActiveNanos = now;
+        return outlierStats;
+    }
+
+    private void evictIdleStats(long now) {
+        outlierStatsCache.entrySet().removeIf(entry -> {
+            OutlierStats outlierStats = entry.getValue();
+            boolean idle = now - outlierStats.lastActiveNanos > maxEjectionNanos && now - outlierStats.ejectedUntilNanos > maxEjectionNanos;
+            if (idle) {
+                log.debug("Evict the idle outlier stats of rsocket server instance {}", entry.getKey());
+            }
+            return idle;
+        });
+    }
+
+    private void eject(String address, OutlierStats outlierStats, String reason) {
+        long ejectedUntil;
+        synchronized (outlierStats) {
+            long now = System.nanoTime();
+            if (outlierStats.isEjected(now)) {
+                return;
+            }
+            if (outlierStats.ejections > 0 && now - outlierStats.ejectedUntilNanos > maxEjectionNanos) {
+                outlierStats.ejections = 0;
+            }
+            int shift = Math.min(outlierStats.ejections, 30);
+            long ejectionNanos = Math.min(maxEjectionNanos, baseEjectionNanos << shift);
+            if (ejectionNanos < 0) {
+                ejectionNanos = maxEjectionNanos;
+            }
+            outlierStats.ejections++;
+            ejectedUntil = now + ejectionNanos;
+            outlierStats.ejectedUntilNanos = ejectedUntil;
+            outlierStats.consecutiveFailures.set(0);
+            outlierStats.latencySamples = 0;
+            outlierStats.latencyEwmaNanos = 0D;
+            log.warn("Eject rsocket server instance {} from load-balancing for {} ms, {}, ejections: {}",
+                    address,
+                    ejectionNanos / 1_000_000L,
+                    reason,
+                    outlierStats.ejections
+            );
+        }
+        synchronized (this) {
+            if (ejectedUntil - latestEjectedUntilNanos > 0) {
+                latestEjectedUntilNanos = ejectedUntil;
+            }
+        }
+    }
+
+    /**
+     * The outlier stats of an instance, the latency fields are updated with benign races.
+     */
+    private static final class OutlierStats {
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile double latencyEwmaNanos;
+        private volatile int latencySamples;
+        private volatile long ejectedUntilNanos = System.nanoTime();
+        private volatile long lastActiveNanos = System.nanoTime();
+        private int ejections;
+
+        private void sampleLatency(long latencyNanos) {
+            int samples = this.latencySamples;
+            this.latencyEwmaNanos = samples == 0
+                    ? latencyNanos
+                    : this.latencyEwmaNanos * (1 - LATENCY_EWMA_ALPHA) + latencyNanos * LATENCY_EWMA_ALPHA;
+            if (samples < Integer.MAX_VALUE) {
+                this.latencySamples = samples + 1;
+            }
+        }
+
+        private boolean isEjected(long now) {
+            return now - this.ejectedUntilNanos < 0;
+        }
+    }
+}
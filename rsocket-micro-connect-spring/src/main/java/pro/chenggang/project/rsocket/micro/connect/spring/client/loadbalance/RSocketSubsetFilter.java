@@ -0,0 +1,196 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The deterministic subsetting filter of the discovered rsocket server instances.
+ * <p>
+ * The instances of a service are placed on a ring in the order of their uris, and each client connects to
+ * the contiguous arc of the ring starting at its own coordinate, so a client keeps the same subset as long as
+ * the instances do not change. The coordinate is the index of the client among the instances of its own service
+ * if the client is found in the discovery, which spreads the clients evenly, otherwise it's derived from the hash of the client id.
+ * <p>
+ * The subset size of each service grows with the average outstanding requests per connection,
+ * see {@link SubsetAperture}.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketSubsetFilter {
+
+    /**
+     * The filter that does not apply any subsetting
+     */
+    public static final RSocketSubsetFilter NONE = new RSocketSubsetFilter(new RSocketSubsettingProperties(), "", null);
+
+    private final RSocketSubsettingProperties subsettingProperties;
+    private final String clientId;
+    @Nullable
+    private final String clientServiceId;
+
+    /**
+     * Instantiates a new rsocket subset filter.
+     *
+     * @param subsettingProperties the subsetting properties
+     * @param clientId             the identity of the current client
+     * @param clientServiceId      the service id of the current client, the coordinate is derived from the client id if it's null
+     */
+    public RSocketSubsetFilter(@NonNull RSocketSubsettingProperties subsettingProperties,
+                               @NonNull String clientId,
+                               @Nullable String clientServiceId) {
+        if (subsettingProperties.isEnabled() && subsettingProperties.getSubsetSize() < 1) {
+            throw new IllegalArgumentException("The subset size of rsocket load-balance must be positive");
+        }
+        this.subsettingProperties = subsettingProperties;
+        this.clientId = clientId;
+        this.clientServiceId = clientServiceId;
+    }
+
+    /**
+     * Whether the subsetting is enabled.
+     *
+     * @return the true if the subsetting is enabled
+     */
+    public boolean isEnabled() {
+        return subsettingProperties.isEnabled();
+    }
+
+    /**
+     * Resolve the coordinate of the current client on the ring.
+     *
+     * @param reactiveDiscoveryClient the reactive discovery client
+     * @return the coordinate
+     */
+    public Mono<SubsetCoordinate> resolveCoordinate(@NonNull ReactiveDiscoveryClient reactiveDiscoveryClient) {
+        SubsetCoordinate hashedCoordinate = SubsetCoordinate.hashed(clientId);
+        if (!StringUtils.hasText(clientServiceId)) {
+            return Mono.just(hashedCoordinate);
+        }
+        return reactiveDiscoveryClient.getInstances(clientServiceId)
+                .mapNotNull(ServiceInstance::getInstanceId)
+                .distinct()
+                .sort()
+                .collectList()
+                .map(clientIds -> {
+                    int index = clientIds.indexOf(clientId);
+                    if (index < 0) {
+                        log.debug("Client {} is not found in the instances of service {}, use hashed subset coordinate",
+                                clientId,
+                                clientServiceId
+                        );
+                        return hashedCoordinate;
+                    }
+                    return new SubsetCoordinate((double) index / clientIds.size(), clientIds.size());
+                })
+                .onErrorResume(Throwable.class, throwable -> {
+                    log.warn("Failed to resolve the subset coordinate of client {}, use hashed subset coordinate", clientId, throwable);
+                    return Mono.just(hashedCoordinate);
+                });
+    }
+
+    /**
+     * New aperture of a service, which sizes the subset of the service by its load.
+     *
+     * @return the subset aperture
+     */
+    SubsetAperture newAperture() {
+        return new SubsetAperture(subsettingProperties);
+    }
+
+    /**
+     * Filter the rsocket server instance uris of a service to the subset of the current client.
+     *
+     * @param rSocketServiceURIs the rsocket server instance uris
+     * @param coordinate         the coordinate of the current client
+     * @param apertureSize       the subset size of the service
+     * @return the rsocket server instance uris to be connected
+     */
+    public List<URI> filter(List<URI> rSocketServiceURIs, SubsetCoordinate coordinate, int apertureSize) {
+        if (!isEnabled()) {
+            return rSocketServiceURIs;
+        }
+        return subset(rSocketServiceURIs, coordinate, apertureSize);
+    }
+
+    /**
+     * Pick the subset of the rsocket server instance uris on the ring.
+     * The subset of a known peer count is at least as large as the instances divided by the peers,
+     * so every instance is covered by some client.
+     *
+     * @param rSocketServiceURIs the rsocket server instance uris
+     * @param coordinate         the coordinate of the client
+     * @param apertureSize       the subset size
+     * @return the subset
+     */
+    public static List<URI> subset(List<URI> rSocketServiceURIs, SubsetCoordinate coordinate, int apertureSize) {
+        int instances = rSocketServiceURIs.size();
+        int subsetSize = apertureSize;
+        if (coordinate.peers() > 0) {
+            subsetSize = Math.max(subsetSize, (instances + coordinate.peers() - 1) / coordinate.peers());
+        }
+        if (subsetSize >= instances) {
+            return rSocketServiceURIs;
+        }
+        List<URI> ring = new ArrayList<>(rSocketServiceURIs);
+        ring.sort(Comparator.comparing(URI::toString));
+        int start = Math.min((int) (coordinate.offset() * instances), instances - 1);
+        List<URI> subset = new ArrayList<>(subsetSize);
+        for (int i = 0; i < subsetSize; i++) {
+            subset.add(ring.get((start + i) % instances));
+        }
+        return subset;
+    }
+
+    /**
+     * The coordinate of a client on the ring.
+     *
+     * @param offset the offset on the ring in [0, 1)
+     * @param peers  the count of the clients of the same service, 0 if unknown
+     */
+    public record SubsetCoordinate(double offset, int peers) {
+
+        /**
+         * The coordinate derived from the hash of the client id.
+         *
+         * @param clientId the client id
+         * @return the coordinate
+         */
+        public static SubsetCoordinate hashed(@NonNull String clientId) {
+            long hash = clientId.hashCode();
+            hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+            hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+            hash = hash ^ (hash >>> 31);
+            return new SubsetCoordinate((hash >>> 11) * 0x1.0p-53, 0);
+        }
+    }
+
+}
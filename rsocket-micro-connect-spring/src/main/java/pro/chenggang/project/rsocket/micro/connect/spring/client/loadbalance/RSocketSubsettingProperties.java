@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The subsetting properties of the discovered rsocket server instances.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketSubsettingProperties {
+
+    /**
+     * Whether to connect to a subset of the rsocket server instances of each service instead of all of them.
+     */
+    public boolean enabled = false;
+
+    /**
+     * The identity of the current client used to pick its subset,
+     * falls back to the instance id of the service registration, or the host name and process id if not configured.
+     */
+    public String clientId;
+
+    /**
+     * The minimum count of the rsocket server instances that each client connects to.
+     */
+    public int subsetSize = 10;
+
+    /**
+     * The maximum count of the rsocket server instances that each client connects to, 0 means no limit.
+     */
+    public int maxSubsetSize = 0;
+
+    /**
+     * The average outstanding requests per connection above which the subset grows.
+     */
+    public double highLoadPerConnection = 2.0D;
+
+    /**
+     * The average outstanding requests per connection below which the subset shrinks back towards the subset size.
+     */
+    public double lowLoadPerConnection = 0.5D;
+
+}
@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The zone affinity filter of the discovered rsocket server instances.
+ * <p>
+ * Only the instances in the same zone are used, unless the count of them drops below
+ * the spill-over threshold of the average instances per zone, then the instances of all zones are used.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketZoneAffinityFilter {
+
+    /**
+     * The filter that does not apply any zone affinity
+     */
+    public static final RSocketZoneAffinityFilter NONE = new RSocketZoneAffinityFilter(null, 0D, routingDecision -> {
+    });
+
+    private final String zone;
+    private final double spillOverThreshold;
+    private final ZoneAffinityRoutingListener routingListener;
+
+    public RSocketZoneAffinityFilter(String zone, double spillOverThreshold, ZoneAffinityRoutingListener routingListener) {
+        this.zone = zone;
+        this.spillOverThreshold = spillOverThreshold;
+        this.routingListener = routingListener;
+    }
+
+    /**
+     * Filter the rsocket server instance uris of a transport uri by zone.
+     *
+     * @param transportURI           the transport uri
+     * @param rSocketServiceURIZones the rsocket server instance uris and their zones, the zone could be null
+     * @return the rsocket server instance uris to be load-balanced
+     */
+    public List<URI> filter(URI transportURI, Map<URI, String> rSocketServiceURIZones) {
+        if (!StringUtils.hasText(zone) || rSocketServiceURIZones.isEmpty()) {
+            return List.copyOf(rSocketServiceURIZones.keySet());
+        }
+        List<URI> localURIs = new ArrayList<>();
+        Set<String> zones = new HashSet<>();
+        rSocketServiceURIZones.forEach((uri, instanceZone) -> {
+            zones.add(Objects.isNull(instanceZone) ? "" : instanceZone.toLowerCase(Locale.ROOT));
+            if (zone.equalsIgnoreCase(instanceZone)) {
+                localURIs.add(uri);
+            }
+        });
+        int totalInstances = rSocketServiceURIZones.size();
+        double averageInstancesPerZone = (double) totalInstances / zones.size();
+        boolean spillOver = localURIs.isEmpty() || localURIs.size() < spillOverThreshold * averageInstancesPerZone;
+        routingListener.onRoutingDecision(new ZoneAffinityRoutingDecision(transportURI,
+                zone,
+                localURIs.size(),
+                totalInstances,
+                spillOver
+        ));
+        if (spillOver) {
+            log.debug("Spill over to all zones for {}, same-zone instances: {}, total instances: {}",
+                    transportURI,
+                    localURIs.size(),
+                    totalInstances
+            );
+            return List.copyOf(rSocketServiceURIZones.keySet());
+        }
+        return localURIs;
+    }
+
+}
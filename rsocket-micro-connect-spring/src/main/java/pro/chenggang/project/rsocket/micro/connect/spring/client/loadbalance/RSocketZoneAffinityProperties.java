@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The zone affinity properties of the discovered rsocket server instances.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketZoneAffinityProperties {
+
+    /**
+     * Whether to prefer the rsocket server instances in the same zone.
+     */
+    public boolean enabled = false;
+
+    /**
+     * The zone of the current application, falls back to 'spring.cloud.loadbalancer.zone' if not configured.
+     */
+    public String zone;
+
+    /**
+     * The minimum ratio of the same-zone instances to the average instances per zone,
+     * below which the requests spill over to the instances of all zones.
+     */
+    public double spillOverThreshold = 0.5D;
+
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.RSocket;
+import pro.chenggang.project.rsocket.micro.connect.core.defaults.RemoteRSocketInfo;
+import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resolver of the remote address of the load-balanced connections.
+ * The pooled connections of the load-balancer are unwrapped to their established connections,
+ * so the remote address matches the one the interceptors see, a pooled connection which is not established yet is unknown.
+ * The remote address of each connection is resolved once and cached until the connection is closed.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class RemoteAddressResolver {
+
+    /**
+     * The placeholder of the connections whose remote address can not be resolved
+     */
+    static final String UNKNOWN_ADDRESS = "";
+
+    private final Map<RSocket, String> addressCache = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the remote address of the connection.
+     *
+     * @param rSocket the connection
+     * @return the remote address or {@link #UNKNOWN_ADDRESS} if it can not be resolved
+     */
+    String getAddress(RSocket rSocket) {
+        String address = addressCache.get(rSocket);
+        if (Objects.nonNull(address)) {
+            return address;
+        }
+        RSocket connectedRSocket = LoadbalanceRSocketUtil.unwrapPooledRSocket(rSocket);
+        if (Objects.isNull(connectedRSocket)) {
+            return UNKNOWN_ADDRESS;
+        }
+        String resolvedAddress = RSocketMicroConnectUtil.getRemoteRSocketInfo(connectedRSocket)
+                .map(RemoteRSocketInfo::getInfo)
+                .orElse(UNKNOWN_ADDRESS);
+        String existingAddress = addressCache.putIfAbsent(rSocket, resolvedAddress);
+        if (Objects.nonNull(existingAddress)) {
+            return existingAddress;
+        }
+        rSocket.onClose()
+                .doFinally(signalType -> addressCache.remove(rSocket))
+                .subscribe(null, throwable -> {
+                });
+        return resolvedAddress;
+    }
+}
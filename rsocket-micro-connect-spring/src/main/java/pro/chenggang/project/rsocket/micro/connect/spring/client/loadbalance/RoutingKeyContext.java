@@ -0,0 +1,103 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * The routing key context of a load-balanced execution.
+ * <p>
+ * The routing key travels with the reactor context of the execution, and is exposed to the load-balance strategy
+ * through a thread local only while the load-balanced rsocket client selects a connection,
+ * which happens synchronously when the execution is subscribed.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public abstract class RoutingKeyContext {
+
+    /**
+     * The reactor context key of the routing key
+     */
+    public static final String CONTEXT_KEY = RoutingKeyContext.class.getName() + ".routing-key";
+
+    private static final ThreadLocal<String> CURRENT_ROUTING_KEY = new ThreadLocal<>();
+
+    /**
+     * Attach the routing key to the reactor context of the execution.
+     *
+     * @param execution  the execution
+     * @param routingKey the routing key, the execution is returned as-is if it's null
+     * @param <T>        the element type
+     * @return the execution with the routing key
+     */
+    public static <T> Mono<T> withRoutingKey(Mono<T> execution, @Nullable String routingKey) {
+        if (Objects.isNull(routingKey)) {
+            return execution;
+        }
+        return execution.contextWrite(context -> context.put(CONTEXT_KEY, routingKey));
+    }
+
+    /**
+     * Attach the routing key to the reactor context of the execution.
+     *
+     * @param execution  the execution
+     * @param routingKey the routing key, the execution is returned as-is if it's null
+     * @param <T>        the element type
+     * @return the execution with the routing key
+     */
+    public static <T> Flux<T> withRoutingKey(Flux<T> execution, @Nullable String routingKey) {
+        if (Objects.isNull(routingKey)) {
+            return execution;
+        }
+        return execution.contextWrite(context -> context.put(CONTEXT_KEY, routingKey));
+    }
+
+    /**
+     * Gets the routing key of the connection being selected on the current thread.
+     *
+     * @return the routing key or null if there is none
+     */
+    @Nullable
+    public static String currentRoutingKey() {
+        return CURRENT_ROUTING_KEY.get();
+    }
+
+    /**
+     * Subscribe the execution with the routing key exposed to the connection selection.
+     *
+     * @param routingKey the routing key
+     * @param subscribe  the subscription of the execution
+     */
+    static void subscribeWithRoutingKey(String routingKey, Runnable subscribe) {
+        String previous = CURRENT_ROUTING_KEY.get();
+        CURRENT_ROUTING_KEY.set(routingKey);
+        try {
+            subscribe.run();
+        } finally {
+            if (Objects.isNull(previous)) {
+                CURRENT_ROUTING_KEY.remove();
+            } else {
+                CURRENT_ROUTING_KEY.set(previous);
+            }
+        }
+    }
+}
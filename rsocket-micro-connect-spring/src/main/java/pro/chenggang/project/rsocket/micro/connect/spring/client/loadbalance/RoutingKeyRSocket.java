@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketClient;
+import org.reactivestreams.Publisher;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RoutingKeyContext.CONTEXT_KEY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RoutingKeyContext.subscribeWithRoutingKey;
+
+/**
+ * The rsocket in front of a load-balanced rsocket client,
+ * which exposes the routing key of each execution to the connection selection.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class RoutingKeyRSocket implements RSocket {
+
+    private final RSocketClient rSocketClient;
+
+    RoutingKeyRSocket(RSocketClient rSocketClient) {
+        this.rSocketClient = rSocketClient;
+    }
+
+    @Override
+    public Mono<Void> fireAndForget(Payload payload) {
+        return Mono.deferContextual(contextView -> routed(rSocketClient.fireAndForget(Mono.just(payload)),
+                contextView.getOrDefault(CONTEXT_KEY, null)
+        ));
+    }
+
+    @Override
+    public Mono<Payload> requestResponse(Payload payload) {
+        return Mono.deferContextual(contextView -> routed(rSocketClient.requestResponse(Mono.just(payload)),
+                contextView.getOrDefault(CONTEXT_KEY, null)
+        ));
+    }
+
+    @Override
+    public Flux<Payload> requestStream(Payload payload) {
+        return Flux.deferContextual(contextView -> routed(rSocketClient.requestStream(Mono.just(payload)),
+                contextView.getOrDefault(CONTEXT_KEY, null)
+        ));
+    }
+
+    @Override
+    public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+        return Flux.deferContextual(contextView -> routed(rSocketClient.requestChannel(payloads),
+                contextView.getOrDefault(CONTEXT_KEY, null)
+        ));
+    }
+
+    @Override
+    public Mono<Void> metadataPush(Payload payload) {
+        return rSocketClient.metadataPush(Mono.just(payload));
+    }
+
+    @Override
+    public Mono<Void> onClose() {
+        return rSocketClient.onClose();
+    }
+
+    @Override
+    public void dispose() {
+        rSocketClient.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return rSocketClient.isDisposed();
+    }
+
+    private static <T> Mono<T> routed(Mono<T> execution, String routingKey) {
+        if (Objects.isNull(routingKey)) {
+            return execution;
+        }
+        return new Mono<>() {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                subscribeWithRoutingKey(routingKey, () -> execution.subscribe(actual));
+            }
+        };
+    }
+
+    private static <T> Flux<T> routed(Flux<T> execution, String routingKey) {
+        if (Objects.isNull(routingKey)) {
+            return execution;
+        }
+        return new Flux<>() {
+            @Override
+            public void subscribe(CoreSubscriber<? super T> actual) {
+                subscribeWithRoutingKey(routingKey, () -> execution.subscribe(actual));
+            }
+        };
+    }
+}
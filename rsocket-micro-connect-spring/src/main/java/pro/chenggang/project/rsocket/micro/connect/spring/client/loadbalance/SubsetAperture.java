@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The aperture of a discovered service, which sizes the subset of the service by its load.
+ * <p>
+ * The average outstanding requests are measured by Little's law: the request-response latencies completed
+ * since the last evaluation divided by the elapsed time. The subset is resized to keep the average outstanding requests
+ * per connection between the low and high load, and never below the configured subset size.
+ * The aperture is evaluated on each refresh of the service.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+class SubsetAperture {
+
+    private final LongAdder busyNanos = new LongAdder();
+    private final int minSize;
+    private final int maxSize;
+    private final double highLoadPerConnection;
+    private final double lowLoadPerConnection;
+    private volatile int size;
+    private long lastEvaluationNanos = System.nanoTime();
+
+    SubsetAperture(RSocketSubsettingProperties subsettingProperties) {
+        this.minSize = Math.max(subsettingProperties.getSubsetSize(), 1);
+        this.maxSize = subsettingProperties.getMaxSubsetSize() > 0
+                ? Math.max(subsettingProperties.getMaxSubsetSize(), this.minSize)
+                : Integer.MAX_VALUE;
+        this.highLoadPerConnection = subsettingProperties.getHighLoadPerConnection();
+        this.lowLoadPerConnection = Math.min(subsettingProperties.getLowLoadPerConnection(), this.highLoadPerConnection);
+        this.size = this.minSize;
+    }
+
+    /**
+     * Record a completed request-response.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    void record(long latencyNanos) {
+        busyNanos.add(latencyNanos);
+    }
+
+    /**
+     * Evaluate the load since the last evaluation and resize the subset.
+     * It's invoked by the refresh of the service sequentially.
+     *
+     * @param instances the count of the instances of the service
+     * @return the subset size
+     */
+    int evaluate(int instances) {
+        long nowNanos = System.nanoTime();
+        long elapsedNanos = nowNanos - lastEvaluationNanos;
+        lastEvaluationNanos = nowNanos;
+        double busy = busyNanos.sumThenReset();
+        int currentSize = this.size;
+        if (elapsedNanos <= 0 || instances <= 0) {
+            return currentSize;
+        }
+        double outstanding = busy / elapsedNanos;
+        double loadPerConnection = outstanding / Math.min(currentSize, instances);
+        if (loadPerConnection <= highLoadPerConnection && loadPerConnection >= lowLoadPerConnection) {
+            return currentSize;
+        }
+        double targetLoadPerConnection = (highLoadPerConnection + lowLoadPerConnection) / 2;
+        int targetSize = (int) Math.ceil(outstanding / targetLoadPerConnection);
+        int newSize = Math.max(minSize, Math.min(maxSize, Math.min(targetSize, instances)));
+        if (newSize != currentSize) {
+            log.info("Resize rsocket subset from {} to {}, average outstanding requests: {}", currentSize, newSize, outstanding);
+            this.size = newSize;
+        }
+        return newSize;
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.util.RSocketProxy;
+import reactor.core.publisher.Mono;
+
+/**
+ * The rsocket in front of a subsetted service, which records the request-response latencies to its aperture.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class SubsetLoadRSocket extends RSocketProxy {
+
+    private final SubsetAperture subsetAperture;
+
+    SubsetLoadRSocket(RSocket source, SubsetAperture subsetAperture) {
+        super(source);
+        this.subsetAperture = subsetAperture;
+    }
+
+    @Override
+    public Mono<Payload> requestResponse(Payload payload) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return source.requestResponse(payload)
+                    .doFinally(signalType -> subsetAperture.record(System.nanoTime() - startNanos));
+        });
+    }
+}
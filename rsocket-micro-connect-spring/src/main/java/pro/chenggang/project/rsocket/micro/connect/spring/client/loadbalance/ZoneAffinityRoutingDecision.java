@@ -0,0 +1,38 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import java.net.URI;
+
+/**
+ * The zone affinity routing decision made for a transport uri on each discovery refresh.
+ *
+ * @param transportURI   the transport uri
+ * @param zone           the zone of the current application
+ * @param localInstances the count of the rsocket server instances in the same zone
+ * @param totalInstances the count of the rsocket server instances in all zones
+ * @param spillOver      whether the requests spill over to the instances of all zones
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public record ZoneAffinityRoutingDecision(URI transportURI,
+                                          String zone,
+                                          int localInstances,
+                                          int totalInstances,
+                                          boolean spillOver) {
+
+}
@@ -16,7 +16,6 @@
 package pro.chenggang.project.rsocket.micro.connect.spring.common;
 
 import io.rsocket.Payload;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.messaging.rsocket.MetadataExtractor;
@@ -25,11 +24,8 @@ import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
 import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchangeType;
-import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionAfterInterceptor;
-import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExecutionBeforeInterceptor;
-import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketInterceptorChain;
+import pro.chenggang.project.rsocket.micro.connect.core.api.SyncRSocketExecutionInterceptor;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketMicroConnectClientProperties;
-import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Map;
@@ -40,14 +36,16 @@ import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketM
 
 /**
  * The rsocket interceptor for attribute lifecycle.
+ * <p>
+ * The extracted metadata of the request is saved in the exchange attributes as well, so the message handler
+ * can take it by the {@link SharedMetadataExtractor} instead of extracting the request metadata again.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
-@RequiredArgsConstructor
-public class AttributeLifecycleRSocketInterceptor implements RSocketExecutionBeforeInterceptor, RSocketExecutionAfterInterceptor {
+public class AttributeLifecycleRSocketInterceptor implements SyncRSocketExecutionInterceptor {
 
     /**
      * The constant EXECUTION_INSTANT_ATTR_KEY for saving the execution instant in the RSocket exchange attributes.
@@ -64,18 +62,36 @@ public class AttributeLifecycleRSocketInterceptor implements RSocketExecutionBef
      */
     public static final String HEADERS_ATTR_KEY = RSocketMicroConnectClientProperties.class.getName() + ".http-headers";
 
-    private final RSocketStrategies strategies;
+    /**
+     * The constant METADATA_ATTR_KEY for saving the extracted request metadata in the RSocket exchange attributes.
+     */
+    public static final String METADATA_ATTR_KEY = AttributeLifecycleRSocketInterceptor.class.getName() + ".metadata";
+
+    /**
+     * The constant METADATA_MIME_TYPE_ATTR_KEY for saving the mime type of the extracted request metadata in the RSocket exchange attributes.
+     */
+    public static final String METADATA_MIME_TYPE_ATTR_KEY = AttributeLifecycleRSocketInterceptor.class.getName() + ".metadata-mime-type";
+
+    private final MetadataExtractor metadataExtractor;
+
+    public AttributeLifecycleRSocketInterceptor(RSocketStrategies strategies) {
+        this(strategies.metadataExtractor());
+    }
+
+    public AttributeLifecycleRSocketInterceptor(MetadataExtractor metadataExtractor) {
+        this.metadataExtractor = metadataExtractor;
+    }
 
     @Override
-    public Mono<Void> interceptBefore(RSocketExchange exchange, RSocketInterceptorChain chain) {
+    public Verdict beforeExecution(RSocketExchange exchange) {
         RSocketExchangeType rSocketExchangeType = exchange.getType();
         if (!rSocketExchangeType.isRequest()) {
-            return chain.next(exchange);
+            return Verdict.CONTINUE;
         }
         Map<String, Object> attributes = exchange.getAttributes();
         if (attributes.containsKey(EXECUTION_INSTANT_ATTR_KEY)) {
             log.debug("Execution instant attribute already exists in the exchange attributes, skipping interception.");
-            return chain.next(exchange);
+            return Verdict.CONTINUE;
         }
         attributes.put(EXECUTION_INSTANT_ATTR_KEY, Instant.now());
         Optional<Payload> optionalPayload = exchange.getPayload();
@@ -83,7 +99,9 @@ public class AttributeLifecycleRSocketInterceptor implements RSocketExecutionBef
         if (optionalPayload.isPresent()) {
             Payload payload = optionalPayload.get();
             MimeType metadataMimeType = exchange.getMetadataMimeType(MimeTypeUtils::parseMimeType);
-            Map<String, Object> extractedMetadata = strategies.metadataExtractor().extract(payload, metadataMimeType);
+            Map<String, Object> extractedMetadata = metadataExtractor.extract(payload, metadataMimeType);
+            attributes.put(METADATA_ATTR_KEY, extractedMetadata);
+            attributes.put(METADATA_MIME_TYPE_ATTR_KEY, metadataMimeType);
             String route = (String) extractedMetadata.get(MetadataExtractor.ROUTE_KEY);
             attributes.put(ROUTE_ATTR_KEY, route);
             HttpHeaders httpHeaders = (HttpHeaders) extractedMetadata.get(CONNECTOR_HEADER_METADATA_KEY);
@@ -93,15 +111,15 @@ public class AttributeLifecycleRSocketInterceptor implements RSocketExecutionBef
         } else {
             attributes.put(ROUTE_ATTR_KEY, "**NO ROUTE FOUND IN PAYLOAD**");
         }
-        return chain.next(exchange);
+        return Verdict.CONTINUE;
     }
 
     @Override
-    public Mono<Void> interceptAfter(RSocketExchange exchange, RSocketInterceptorChain chain) {
-        return Mono.justOrEmpty(exchange.getAttributes())
-                .filter(dataMap -> !dataMap.isEmpty())
-                .flatMap(dataMap -> Mono.fromRunnable(dataMap::clear))
-                .then(chain.next(exchange));
+    public void afterExecution(RSocketExchange exchange) {
+        Map<String, Object> attributes = exchange.getAttributes();
+        if (Objects.nonNull(attributes) && !attributes.isEmpty()) {
+            attributes.clear();
+        }
     }
 
     @Override
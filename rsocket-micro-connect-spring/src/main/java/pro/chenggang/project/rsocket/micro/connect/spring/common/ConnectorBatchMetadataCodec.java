@@ -0,0 +1,298 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.rsocket.Payload;
+import io.rsocket.RSocketErrorException;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.CanceledException;
+import io.rsocket.exceptions.CustomRSocketException;
+import io.rsocket.exceptions.InvalidException;
+import io.rsocket.exceptions.RejectedException;
+import io.rsocket.frame.ErrorFrameCodec;
+import io.rsocket.metadata.CompositeMetadata;
+import io.rsocket.metadata.CompositeMetadataCodec;
+import io.rsocket.metadata.TaggingMetadataCodec;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.util.ByteBufPayload;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_BATCH_MEDIA_TYPE;
+
+/**
+ * The codec of the connector batch metadata.
+ * <p>
+ * A batch is a request-channel whose first payload is the batch header, which carries an empty composite metadata entry
+ * of {@code application/connector-batch} and the routing of the batched route, the following payloads are the batched
+ * request-response payloads with their own metadata.
+ * Every response payload of the batch carries a composite metadata entry of {@code application/connector-batch},
+ * whose content is the index of the batched payload (4 bytes) and the result status (1 byte),
+ * followed by the rsocket error code (4 bytes) of an error result.
+ * The data of a value result is the response data, the data of an error result is the UTF-8 error message.
+ * <p>
+ * A fire-and-forget batch is a single fire-and-forget payload, whose {@code application/connector-batch} entry
+ * is the fire-and-forget mode (1 byte), and whose data is the batched payloads, each of them is written as the metadata length
+ * (4 bytes, -1 if there is no metadata), the metadata, the data length (4 bytes) and the data.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public abstract class ConnectorBatchMetadataCodec {
+
+    public static final byte STATUS_VALUE = 0;
+    public static final byte STATUS_EMPTY = 1;
+    public static final byte STATUS_ERROR = 2;
+
+    private static final byte MODE_FIRE_AND_FORGET = 1;
+    private static final String BATCH_MIME_TYPE = CONNECTOR_BATCH_MEDIA_TYPE.toString();
+    private static final int MAX_ROUTE_LENGTH = 255;
+    private static final int RESULT_LENGTH = 5;
+    private static final int ERROR_RESULT_LENGTH = 9;
+
+    /**
+     * Encode the composite metadata of the batch header.
+     *
+     * @param allocator the allocator
+     * @param route     the batched route, which is only used for logging
+     * @return the composite metadata
+     */
+    public static ByteBuf encodeBatchHeader(ByteBufAllocator allocator, String route) {
+        return encodeHeader(allocator, route, Unpooled.EMPTY_BUFFER);
+    }
+
+    /**
+     * Encode the fire-and-forget batch of the payloads, the payloads are released.
+     *
+     * @param allocator the allocator
+     * @param route     the batched route, which is only used for logging
+     * @param payloads  the batched fire-and-forget payloads
+     * @return the fire-and-forget batch payload
+     */
+    public static Payload encodeFireAndForgetBatch(ByteBufAllocator allocator, String route, List<Payload> payloads) {
+        int size = 0;
+        for (Payload payload : payloads) {
+            size += 8 + payload.data().readableBytes() + (payload.hasMetadata() ? payload.metadata().readableBytes() : 0);
+        }
+        ByteBuf data = allocator.buffer(size, size);
+        try {
+            for (Payload payload : payloads) {
+                if (payload.hasMetadata()) {
+                    ByteBuf metadata = payload.metadata();
+                    data.writeInt(metadata.readableBytes()).writeBytes(metadata, metadata.readerIndex(), metadata.readableBytes());
+                } else {
+                    data.writeInt(-1);
+                }
+                ByteBuf payloadData = payload.data();
+                data.writeInt(payloadData.readableBytes()).writeBytes(payloadData, payloadData.readerIndex(), payloadData.readableBytes());
+            }
+        } catch (Throwable t) {
+            data.release();
+            throw t;
+        } finally {
+            payloads.forEach(Payload::release);
+        }
+        ByteBuf mode = allocator.buffer(1, 1).writeByte(MODE_FIRE_AND_FORGET);
+        return ByteBufPayload.create(data, encodeHeader(allocator, route, mode));
+    }
+
+    /**
+     * Whether the payload is a fire-and-forget batch.
+     *
+     * @param payload the payload
+     * @return true if the payload carries the composite metadata entry of {@code application/connector-batch}
+     * with the fire-and-forget mode
+     */
+    public static boolean isFireAndForgetBatch(Payload payload) {
+        ByteBuf content = findBatchEntry(payload);
+        return Objects.nonNull(content)
+                && content.isReadable()
+                && content.getByte(content.readerIndex()) == MODE_FIRE_AND_FORGET;
+    }
+
+    /**
+     * Decode the batched payloads of the fire-and-forget batch, the batched payloads retain the data of the batch payload.
+     *
+     * @param payload the fire-and-forget batch payload
+     * @return the batched payloads
+     */
+    public static List<Payload> decodeFireAndForgetBatch(Payload payload) {
+        ByteBuf data = payload.data();
+        int readerIndex = data.readerIndex();
+        int writerIndex = data.writerIndex();
+        List<Payload> payloads = new ArrayList<>();
+        try {
+            while (readerIndex < writerIndex) {
+                int metadataLength = data.getInt(readerIndex);
+                readerIndex += 4;
+                ByteBuf metadata = null;
+                if (metadataLength >= 0) {
+                    metadata = data.retainedSlice(readerIndex, metadataLength);
+                    readerIndex += metadataLength;
+                }
+                int dataLength = data.getInt(readerIndex);
+                readerIndex += 4;
+                ByteBuf payloadData = data.retainedSlice(readerIndex, dataLength);
+                readerIndex += dataLength;
+                payloads.add(ByteBufPayload.create(payloadData, metadata));
+            }
+        } catch (Throwable t) {
+            payloads.forEach(Payload::release);
+            throw t;
+        }
+        return payloads;
+    }
+
+    private static ByteBuf encodeHeader(ByteBufAllocator allocator, String route, ByteBuf content) {
+        CompositeByteBuf metadata = allocator.compositeBuffer();
+        CompositeMetadataCodec.encodeAndAddMetadata(metadata, allocator, BATCH_MIME_TYPE, content);
+        if (ByteBufUtil.utf8Bytes(route) <= MAX_ROUTE_LENGTH) {
+            CompositeMetadataCodec.encodeAndAddMetadata(metadata,
+                    allocator,
+                    WellKnownMimeType.MESSAGE_RSOCKET_ROUTING,
+                    TaggingMetadataCodec.createTaggingContent(allocator, List.of(route))
+            );
+        }
+        return metadata;
+    }
+
+    /**
+     * Encode the composite metadata of a batch result.
+     *
+     * @param allocator the allocator
+     * @param index     the index of the batched payload
+     * @param status    the result status
+     * @return the composite metadata
+     */
+    public static ByteBuf encodeBatchResult(ByteBufAllocator allocator, int index, byte status) {
+        CompositeByteBuf metadata = allocator.compositeBuffer();
+        ByteBuf content = allocator.buffer(RESULT_LENGTH, RESULT_LENGTH)
+                .writeInt(index)
+                .writeByte(status);
+        CompositeMetadataCodec.encodeAndAddMetadata(metadata, allocator, BATCH_MIME_TYPE, content);
+        return metadata;
+    }
+
+    /**
+     * Encode the composite metadata of a batch error result.
+     *
+     * @param allocator the allocator
+     * @param index     the index of the batched payload
+     * @param throwable the error of the batched payload, the error code of a {@link RSocketErrorException} is kept,
+     *                  the other errors are application errors
+     * @return the composite metadata
+     */
+    public static ByteBuf encodeBatchErrorResult(ByteBufAllocator allocator, int index, Throwable throwable) {
+        int errorCode = throwable instanceof RSocketErrorException rSocketErrorException
+                ? rSocketErrorException.errorCode()
+                : ErrorFrameCodec.APPLICATION_ERROR;
+        CompositeByteBuf metadata = allocator.compositeBuffer();
+        ByteBuf content = allocator.buffer(ERROR_RESULT_LENGTH, ERROR_RESULT_LENGTH)
+                .writeInt(index)
+                .writeByte(STATUS_ERROR)
+                .writeInt(errorCode);
+        CompositeMetadataCodec.encodeAndAddMetadata(metadata, allocator, BATCH_MIME_TYPE, content);
+        return metadata;
+    }
+
+    /**
+     * Whether the payload is a batch header.
+     *
+     * @param payload the payload
+     * @return true if the payload carries the empty composite metadata entry of {@code application/connector-batch}
+     */
+    public static boolean isBatchHeader(Payload payload) {
+        ByteBuf content = findBatchEntry(payload);
+        return Objects.nonNull(content) && !content.isReadable();
+    }
+
+    /**
+     * Decode the batch result of the response payload.
+     *
+     * @param payload the response payload
+     * @return the batch result or null if the payload is not a batch result
+     */
+    @Nullable
+    public static BatchResult decodeBatchResult(Payload payload) {
+        ByteBuf content = findBatchEntry(payload);
+        if (Objects.isNull(content) || content.readableBytes() < RESULT_LENGTH) {
+            return null;
+        }
+        int readerIndex = content.readerIndex();
+        byte status = content.getByte(readerIndex + 4);
+        int errorCode = status == STATUS_ERROR && content.readableBytes() >= ERROR_RESULT_LENGTH
+                ? content.getInt(readerIndex + RESULT_LENGTH)
+                : ErrorFrameCodec.APPLICATION_ERROR;
+        return new BatchResult(content.getInt(readerIndex), status, errorCode);
+    }
+
+    /**
+     * New the error of a batch error result, which is the same error as the one of an error frame with the error code.
+     *
+     * @param errorCode the rsocket error code
+     * @param message   the error message
+     * @return the rsocket error exception
+     */
+    public static RSocketErrorException newBatchError(int errorCode, String message) {
+        return switch (errorCode) {
+            case ErrorFrameCodec.REJECTED -> new RejectedException(message);
+            case ErrorFrameCodec.CANCELED -> new CanceledException(message);
+            case ErrorFrameCodec.INVALID -> new InvalidException(message);
+            // the user allowed error codes are unsigned
+            default -> Integer.compareUnsigned(errorCode, ErrorFrameCodec.MIN_USER_ALLOWED_ERROR_CODE) >= 0
+                    && Integer.compareUnsigned(errorCode, ErrorFrameCodec.MAX_USER_ALLOWED_ERROR_CODE) <= 0
+                    ? new CustomRSocketException(errorCode, message)
+                    : new ApplicationErrorException(message);
+        };
+    }
+
+    @Nullable
+    private static ByteBuf findBatchEntry(Payload payload) {
+        if (!payload.hasMetadata()) {
+            return null;
+        }
+        try {
+            for (CompositeMetadata.Entry entry : new CompositeMetadata(payload.metadata(), false)) {
+                if (BATCH_MIME_TYPE.equals(entry.getMimeType())) {
+                    return entry.getContent();
+                }
+            }
+        } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+            // not a composite metadata
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * The result of a batched payload.
+     *
+     * @param index     the index of the batched payload
+     * @param status    the result status
+     * @param errorCode the rsocket error code of an error result
+     */
+    public record BatchResult(int index, byte status, int errorCode) {
+    }
+}
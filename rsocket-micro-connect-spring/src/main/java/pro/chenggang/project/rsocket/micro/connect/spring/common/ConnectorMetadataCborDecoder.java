@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MimeType;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_QUERY_MEDIA_TYPE;
+
+/**
+ * The lazy CBOR decoder for connector header and connector query metadata.
+ * <p>
+ * The metadata entry is only copied out of the payload and its structure is validated, the values are decoded on demand
+ * by the returned {@link HttpHeaders} view, so a handler reading a few headers does not pay for decoding the whole map,
+ * and a malformed entry still fails here with a {@link DecodingException}.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMetadataCborDecoder implements Decoder<MultiValueMap<String, String>> {
+
+    private final List<MimeType> decodableMimeTypes = List.of(CONNECTOR_HEADER_MEDIA_TYPE, CONNECTOR_QUERY_MEDIA_TYPE);
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        if (Objects.isNull(mimeType)) {
+            return false;
+        }
+        Class<?> targetType = elementType.toClass();
+        if (!HttpHeaders.class.equals(targetType) && !MultiValueMap.class.equals(targetType)) {
+            return false;
+        }
+        for (MimeType decodableMimeType : decodableMimeTypes) {
+            if (decodableMimeType.equalsTypeAndSubtype(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Flux<MultiValueMap<String, String>> decode(Publisher<DataBuffer> inputStream,
+                                                      ResolvableType elementType,
+                                                      @Nullable MimeType mimeType,
+                                                      @Nullable Map<String, Object> hints) {
+        return Flux.from(inputStream)
+                .map(dataBuffer -> this.decode(dataBuffer, elementType, mimeType, hints));
+    }
+
+    @Override
+    public Mono<MultiValueMap<String, String>> decodeToMono(Publisher<DataBuffer> inputStream,
+                                                            ResolvableType elementType,
+                                                            @Nullable MimeType mimeType,
+                                                            @Nullable Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream)
+                .map(dataBuffer -> this.decode(dataBuffer, elementType, mimeType, hints));
+    }
+
+    @Override
+    public MultiValueMap<String, String> decode(DataBuffer buffer,
+                                                ResolvableType targetType,
+                                                @Nullable MimeType mimeType,
+                                                @Nullable Map<String, Object> hints) throws DecodingException {
+        try {
+            byte[] encoded = new byte[buffer.readableByteCount()];
+            buffer.read(encoded);
+            if (encoded.length == 0) {
+                throw new DecodingException("Connector metadata is empty");
+            }
+            try {
+                LazyCborMultiValueMap.validate(encoded);
+            } catch (IllegalStateException e) {
+                throw new DecodingException("Malformed connector metadata: " + e.getMessage(), e);
+            }
+            return new HttpHeaders(new LazyCborMultiValueMap(encoded));
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return decodableMimeTypes;
+    }
+}
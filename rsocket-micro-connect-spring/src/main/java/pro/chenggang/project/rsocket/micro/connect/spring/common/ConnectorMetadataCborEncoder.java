@@ -0,0 +1,231 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import io.netty.buffer.ByteBufUtil;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_QUERY_MEDIA_TYPE;
+
+/**
+ * The compact CBOR encoder for connector header and connector query metadata.
+ * <p>
+ * The {@link MultiValueMap} is written as a definite-length CBOR map of text string arrays directly into
+ * a buffer allocated from the data buffer factory, which is the pooled allocator of the rsocket strategies.
+ * The encoded keys are cached since the header and query names are mostly constants, so they are spliced in as byte slices.
+ * The output can still be decoded by the Jackson CBOR decoder.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMetadataCborEncoder implements Encoder<MultiValueMap<String, String>> {
+
+    static final int MAJOR_TYPE_TEXT = 3;
+    static final int MAJOR_TYPE_ARRAY = 4;
+    static final int MAJOR_TYPE_MAP = 5;
+    static final int NULL_VALUE = 0xF6;
+    private static final int MAX_CACHED_KEY_SIZE = 1024;
+
+    private final List<MimeType> encodableMimeTypes = List.of(CONNECTOR_HEADER_MEDIA_TYPE, CONNECTOR_QUERY_MEDIA_TYPE);
+    private final Map<String, byte[]> encodedKeyCache = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        if (Objects.isNull(mimeType) || !MultiValueMap.class.isAssignableFrom(elementType.toClass())) {
+            return false;
+        }
+        // the type of a raw instance carries no generics, otherwise both generics should be strings
+        if (!elementType.hasUnresolvableGenerics()) {
+            ResolvableType multiValueMapType = elementType.as(MultiValueMap.class);
+            if (!String.class.equals(multiValueMapType.getGeneric(0).resolve())
+                    || !String.class.equals(multiValueMapType.getGeneric(1).resolve())) {
+                return false;
+            }
+        }
+        for (MimeType encodableMimeType : encodableMimeTypes) {
+            if (encodableMimeType.equalsTypeAndSubtype(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends MultiValueMap<String, String>> inputStream,
+                                   DataBufferFactory bufferFactory,
+                                   ResolvableType elementType,
+                                   @Nullable MimeType mimeType,
+                                   @Nullable Map<String, Object> hints) {
+        return Flux.from(inputStream)
+                .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(MultiValueMap<String, String> value,
+                                  DataBufferFactory bufferFactory,
+                                  ResolvableType valueType,
+                                  @Nullable MimeType mimeType,
+                                  @Nullable Map<String, Object> hints) {
+        int size = headLength(value.size());
+        for (Map.Entry<String, List<String>> entry : value.entrySet()) {
+            size += encodedKey(entry.getKey()).length;
+            List<String> values = entry.getValue();
+            if (Objects.isNull(values)) {
+                size += headLength(0);
+                continue;
+            }
+            size += headLength(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                String item = values.get(i);
+                if (Objects.isNull(item)) {
+                    size += 1;
+                } else {
+                    int itemLength = ByteBufUtil.utf8Bytes(item);
+                    size += headLength(itemLength) + itemLength;
+                }
+            }
+        }
+        DataBuffer dataBuffer = bufferFactory.allocateBuffer(size);
+        try {
+            writeHead(dataBuffer, MAJOR_TYPE_MAP, value.size());
+            for (Map.Entry<String, List<String>> entry : value.entrySet()) {
+                dataBuffer.write(encodedKey(entry.getKey()));
+                List<String> values = entry.getValue();
+                if (Objects.isNull(values)) {
+                    writeHead(dataBuffer, MAJOR_TYPE_ARRAY, 0);
+                    continue;
+                }
+                writeHead(dataBuffer, MAJOR_TYPE_ARRAY, values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    String item = values.get(i);
+                    if (Objects.isNull(item)) {
+                        dataBuffer.write((byte) NULL_VALUE);
+                    } else {
+                        writeHead(dataBuffer, MAJOR_TYPE_TEXT, ByteBufUtil.utf8Bytes(item));
+                        dataBuffer.write(item, StandardCharsets.UTF_8);
+                    }
+                }
+            }
+            return dataBuffer;
+        } catch (Throwable e) {
+            DataBufferUtils.release(dataBuffer);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return encodableMimeTypes;
+    }
+
+    /**
+     * Gets the encoded CBOR text string of the key.
+     *
+     * @param key the key
+     * @return the encoded key
+     */
+    private byte[] encodedKey(String key) {
+        byte[] encodedKey = encodedKeyCache.get(key);
+        if (Objects.nonNull(encodedKey)) {
+            return encodedKey;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int headLength = headLength(keyBytes.length);
+        encodedKey = new byte[headLength + keyBytes.length];
+        writeHead(encodedKey, MAJOR_TYPE_TEXT, keyBytes.length);
+        System.arraycopy(keyBytes, 0, encodedKey, headLength, keyBytes.length);
+        if (encodedKeyCache.size() < MAX_CACHED_KEY_SIZE) {
+            encodedKeyCache.put(key, encodedKey);
+        }
+        return encodedKey;
+    }
+
+    /**
+     * Gets the length of a CBOR head with the argument.
+     *
+     * @param argument the length argument
+     * @return the head length
+     */
+    static int headLength(int argument) {
+        if (argument < 24) {
+            return 1;
+        }
+        if (argument < 0x100) {
+            return 2;
+        }
+        if (argument < 0x10000) {
+            return 3;
+        }
+        return 5;
+    }
+
+    private static void writeHead(DataBuffer dataBuffer, int majorType, int argument) {
+        int initialByte = majorType << 5;
+        if (argument < 24) {
+            dataBuffer.write((byte) (initialByte | argument));
+        } else if (argument < 0x100) {
+            dataBuffer.write((byte) (initialByte | 24));
+            dataBuffer.write((byte) argument);
+        } else if (argument < 0x10000) {
+            dataBuffer.write((byte) (initialByte | 25));
+            dataBuffer.write((byte) (argument >> 8));
+            dataBuffer.write((byte) argument);
+        } else {
+            dataBuffer.write((byte) (initialByte | 26));
+            dataBuffer.write((byte) (argument >> 24));
+            dataBuffer.write((byte) (argument >> 16));
+            dataBuffer.write((byte) (argument >> 8));
+            dataBuffer.write((byte) argument);
+        }
+    }
+
+    private static void writeHead(byte[] target, int majorType, int argument) {
+        int initialByte = majorType << 5;
+        if (argument < 24) {
+            target[0] = (byte) (initialByte | argument);
+        } else if (argument < 0x100) {
+            target[0] = (byte) (initialByte | 24);
+            target[1] = (byte) argument;
+        } else if (argument < 0x10000) {
+            target[0] = (byte) (initialByte | 25);
+            target[1] = (byte) (argument >> 8);
+            target[2] = (byte) argument;
+        } else {
+            target[0] = (byte) (initialByte | 26);
+            target[1] = (byte) (argument >> 24);
+            target[2] = (byte) (argument >> 16);
+            target[3] = (byte) (argument >> 8);
+            target[4] = (byte) argument;
+        }
+    }
+}
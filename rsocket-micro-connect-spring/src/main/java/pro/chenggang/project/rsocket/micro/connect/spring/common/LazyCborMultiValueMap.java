@@ -0,0 +1,416 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder.MAJOR_TYPE_ARRAY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder.MAJOR_TYPE_MAP;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder.MAJOR_TYPE_TEXT;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorMetadataCborEncoder.NULL_VALUE;
+
+/**
+ * The lazy case-insensitive {@link MultiValueMap} view of a CBOR encoded connector metadata entry.
+ * <p>
+ * A single key lookup scans the encoded entry and only decodes the values of the matched key,
+ * the whole map is decoded on the first bulk or mutating operation. The structure of the encoded entry is checked
+ * by {@link #validate(byte[])} up front, so the lazy decoding can not fail on a malformed entry.
+ * Both the definite-length maps of {@link ConnectorMetadataCborEncoder} and the indefinite-length maps of Jackson are supported.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class LazyCborMultiValueMap extends AbstractMap<String, List<String>> implements MultiValueMap<String, String> {
+
+    private static final int BREAK = 0xFF;
+    private static final int INDEFINITE_LENGTH = -1;
+
+    private final byte[] encoded;
+    @Nullable
+    private MultiValueMap<String, String> decoded;
+
+    LazyCborMultiValueMap(byte[] encoded) {
+        this.encoded = encoded;
+    }
+
+    @Override
+    @Nullable
+    public List<String> get(Object key) {
+        if (Objects.nonNull(this.decoded)) {
+            return this.decoded.get(key);
+        }
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        return this.scan(name);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return Objects.nonNull(this.get(key));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (Objects.nonNull(this.decoded)) {
+            return this.decoded.isEmpty();
+        }
+        if (this.encoded.length == 0) {
+            return true;
+        }
+        int initialByte = this.encoded[0] & 0xFF;
+        return initialByte == (MAJOR_TYPE_MAP << 5)
+                || (initialByte == ((MAJOR_TYPE_MAP << 5) | 31) && this.encoded.length > 1 && (this.encoded[1] & 0xFF) == BREAK);
+    }
+
+    @Override
+    public int size() {
+        return this.decoded().size();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return this.decoded().entrySet();
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        return this.decoded().put(key, value);
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        return this.decoded().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.decoded().clear();
+    }
+
+    @Override
+    @Nullable
+    public String getFirst(String key) {
+        List<String> values = this.get(key);
+        return Objects.isNull(values) || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public void add(String key, @Nullable String value) {
+        this.decoded().add(key, value);
+    }
+
+    @Override
+    public void addAll(String key, List<? extends String> values) {
+        this.decoded().addAll(key, values);
+    }
+
+    @Override
+    public void addAll(MultiValueMap<String, String> values) {
+        this.decoded().addAll(values);
+    }
+
+    @Override
+    public void set(String key, @Nullable String value) {
+        this.decoded().set(key, value);
+    }
+
+    @Override
+    public void setAll(Map<String, String> values) {
+        this.decoded().setAll(values);
+    }
+
+    @Override
+    public Map<String, String> toSingleValueMap() {
+        return this.decoded().toSingleValueMap();
+    }
+
+    /**
+     * Validate the structure of the encoded map without decoding the keys and values,
+     * the encoded map should be a map of text string keys and arrays of text strings or nulls without trailing bytes.
+     *
+     * @param encoded the encoded map
+     * @throws IllegalStateException if the encoded map is malformed or truncated
+     */
+    static void validate(byte[] encoded) {
+        Reader reader = new Reader(encoded);
+        try {
+            int size = reader.readHead(MAJOR_TYPE_MAP);
+            for (int i = 0; size == INDEFINITE_LENGTH || i < size; i++) {
+                if (size == INDEFINITE_LENGTH && reader.readBreak()) {
+                    break;
+                }
+                reader.skipText();
+                reader.skipTextArray();
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Truncated CBOR map at " + reader.position, e);
+        }
+        if (reader.position != encoded.length) {
+            throw new IllegalStateException("Unexpected trailing bytes of CBOR map at " + reader.position);
+        }
+    }
+
+    /**
+     * Scan the encoded map for the values of the key, the last matched entry wins like the decoded map.
+     *
+     * @param name the key
+     * @return the values or null if the key is absent
+     */
+    @Nullable
+    private List<String> scan(String name) {
+        Reader reader = new Reader(this.encoded);
+        int size = reader.readHead(MAJOR_TYPE_MAP);
+        List<String> matched = null;
+        for (int i = 0; size == INDEFINITE_LENGTH || i < size; i++) {
+            if (size == INDEFINITE_LENGTH && reader.readBreak()) {
+                break;
+            }
+            if (reader.keyEqualsIgnoreCase(name)) {
+                matched = reader.readTextArray();
+            } else {
+                reader.skipItem();
+            }
+        }
+        return matched;
+    }
+
+    private MultiValueMap<String, String> decoded() {
+        MultiValueMap<String, String> decodedMap = this.decoded;
+        if (Objects.nonNull(decodedMap)) {
+            return decodedMap;
+        }
+        Reader reader = new Reader(this.encoded);
+        int size = reader.readHead(MAJOR_TYPE_MAP);
+        LinkedCaseInsensitiveMap<List<String>> targetMap = new LinkedCaseInsensitiveMap<>(Math.max(size, 8), Locale.ROOT);
+        for (int i = 0; size == INDEFINITE_LENGTH || i < size; i++) {
+            if (size == INDEFINITE_LENGTH && reader.readBreak()) {
+                break;
+            }
+            String key = reader.readText();
+            targetMap.put(key, reader.readTextArray());
+        }
+        decodedMap = CollectionUtils.toMultiValueMap(targetMap);
+        this.decoded = decodedMap;
+        return decodedMap;
+    }
+
+    /**
+     * The cursor over the encoded CBOR data.
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private boolean readBreak() {
+            if ((this.bytes[this.position] & 0xFF) == BREAK) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private int readHead(int expectedMajorType) {
+            int initialByte = this.bytes[this.position] & 0xFF;
+            int majorType = initialByte >>> 5;
+            if (majorType != expectedMajorType) {
+                throw new IllegalStateException("Unexpected CBOR major type " + majorType + " at " + this.position
+                        + ", expected " + expectedMajorType);
+            }
+            return this.readArgument();
+        }
+
+        private int readArgument() {
+            int additionalInfo = this.bytes[this.position++] & 0x1F;
+            if (additionalInfo < 24) {
+                return additionalInfo;
+            }
+            switch (additionalInfo) {
+                case 24:
+                    return this.bytes[this.position++] & 0xFF;
+                case 25:
+                    return ((this.bytes[this.position++] & 0xFF) << 8) | (this.bytes[this.position++] & 0xFF);
+                case 26:
+                    int value = ((this.bytes[this.position++] & 0xFF) << 24)
+                            | ((this.bytes[this.position++] & 0xFF) << 16)
+                            | ((this.bytes[this.position++] & 0xFF) << 8)
+                            | (this.bytes[this.position++] & 0xFF);
+                    if (value < 0) {
+                        throw new IllegalStateException("Unsupported CBOR length at " + this.position);
+                    }
+                    return value;
+                case 31:
+                    return INDEFINITE_LENGTH;
+                default:
+                    throw new IllegalStateException("Unsupported CBOR additional info " + additionalInfo + " at " + this.position);
+            }
+        }
+
+        private String readText() {
+            int length = this.readHead(MAJOR_TYPE_TEXT);
+            if (length != INDEFINITE_LENGTH) {
+                String text = new String(this.bytes, this.position, length, StandardCharsets.UTF_8);
+                this.position += length;
+                return text;
+            }
+            StringBuilder builder = new StringBuilder();
+            while (!this.readBreak()) {
+                builder.append(this.readText());
+            }
+            return builder.toString();
+        }
+
+        private void skipText() {
+            int length = this.readHead(MAJOR_TYPE_TEXT);
+            if (length == INDEFINITE_LENGTH) {
+                while (!this.readBreak()) {
+                    this.skipText();
+                }
+                return;
+            }
+            if (length > this.bytes.length - this.position) {
+                throw new IllegalStateException("Truncated CBOR text string at " + this.position);
+            }
+            this.position += length;
+        }
+
+        private void skipTextArray() {
+            int size = this.readHead(MAJOR_TYPE_ARRAY);
+            for (int i = 0; size == INDEFINITE_LENGTH || i < size; i++) {
+                if (size == INDEFINITE_LENGTH && this.readBreak()) {
+                    break;
+                }
+                if ((this.bytes[this.position] & 0xFF) == NULL_VALUE) {
+                    this.position++;
+                } else {
+                    this.skipText();
+                }
+            }
+        }
+
+        private boolean keyEqualsIgnoreCase(String name) {
+            int start = this.position;
+            int length = this.readHead(MAJOR_TYPE_TEXT);
+            if (length != name.length() || length == INDEFINITE_LENGTH) {
+                this.position = start;
+                if (length == INDEFINITE_LENGTH || hasNonAscii(name)) {
+                    return this.readText().toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT));
+                }
+                this.skipItem();
+                return false;
+            }
+            boolean matched = true;
+            for (int i = 0; i < length; i++) {
+                int b = this.bytes[this.position + i];
+                char c = name.charAt(i);
+                if (b < 0 || c >= 0x80) {
+                    this.position = start;
+                    return this.readText().toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT));
+                }
+                matched = matched && Character.toLowerCase((char) b) == Character.toLowerCase(c);
+            }
+            this.position += length;
+            return matched;
+        }
+
+        private List<String> readTextArray() {
+            int size = this.readHead(MAJOR_TYPE_ARRAY);
+            if (size == 0) {
+                return new ArrayList<>(0);
+            }
+            List<String> values = new ArrayList<>(size == INDEFINITE_LENGTH ? 4 : size);
+            for (int i = 0; size == INDEFINITE_LENGTH || i < size; i++) {
+                if (size == INDEFINITE_LENGTH && this.readBreak()) {
+                    break;
+                }
+                if ((this.bytes[this.position] & 0xFF) == NULL_VALUE) {
+                    this.position++;
+                    values.add(null);
+                } else {
+                    values.add(this.readText());
+                }
+            }
+            return values;
+        }
+
+        private void skipItem() {
+            int initialByte = this.bytes[this.position] & 0xFF;
+            int majorType = initialByte >>> 5;
+            if (majorType == 7) {
+                this.position += switch (initialByte & 0x1F) {
+                    case 24 -> 2;
+                    case 25 -> 3;
+                    case 26 -> 5;
+                    case 27 -> 9;
+                    default -> 1;
+                };
+                return;
+            }
+            int argument = this.readArgument();
+            switch (majorType) {
+                case 2, 3 -> {
+                    if (argument == INDEFINITE_LENGTH) {
+                        while (!this.readBreak()) {
+                            this.skipItem();
+                        }
+                    } else {
+                        this.position += argument;
+                    }
+                }
+                case 4, 5 -> {
+                    int items = majorType == 5 && argument != INDEFINITE_LENGTH ? argument * 2 : argument;
+                    for (int i = 0; items == INDEFINITE_LENGTH || i < items; i++) {
+                        if (items == INDEFINITE_LENGTH && this.readBreak()) {
+                            break;
+                        }
+                        this.skipItem();
+                    }
+                }
+                case 6 -> this.skipItem();
+                default -> {
+                    // integers carry their value in the argument
+                }
+            }
+        }
+
+        private static boolean hasNonAscii(String name) {
+            for (int i = 0; i < name.length(); i++) {
+                if (name.charAt(i) >= 0x80) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
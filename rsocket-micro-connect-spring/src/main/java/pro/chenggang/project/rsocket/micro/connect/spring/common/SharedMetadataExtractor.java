@@ -0,0 +1,194 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import io.netty.buffer.ByteBuf;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.util.RSocketProxy;
+import lombok.NonNull;
+import org.springframework.messaging.rsocket.MetadataExtractor;
+import org.springframework.util.MimeType;
+import pro.chenggang.project.rsocket.micro.connect.core.api.RSocketExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.AttributeLifecycleRSocketInterceptor.METADATA_ATTR_KEY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.AttributeLifecycleRSocketInterceptor.METADATA_MIME_TYPE_ATTR_KEY;
+
+/**
+ * The metadata extractor sharing the extracted metadata of a request between the interceptors and the message handler.
+ * <p>
+ * The {@link AttributeLifecycleRSocketInterceptor} saves the extracted metadata of the request in the exchange attributes,
+ * which are available to the execution in its reactor context. The responder decorated by {@link #share(RSocket)}
+ * attaches the saved metadata to the request payload handed to the message handler, so the message handler takes it
+ * instead of extracting the metadata again. The requests without saved metadata are extracted by the delegate as usual.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class SharedMetadataExtractor implements MetadataExtractor {
+
+    private final MetadataExtractor delegate;
+
+    public SharedMetadataExtractor(@NonNull MetadataExtractor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Map<String, Object> extract(Payload payload, MimeType metadataMimeType) {
+        if (payload instanceof SharedMetadataPayload sharedMetadataPayload
+                && sharedMetadataPayload.metadataMimeType.equals(metadataMimeType)) {
+            return sharedMetadataPayload.extractedMetadata;
+        }
+        return this.delegate.extract(payload, metadataMimeType);
+    }
+
+    /**
+     * Decorate the responder to attach the saved metadata of the exchange to the request payload.
+     * The request-channel and the metadata-push are delegated to the responder untouched.
+     *
+     * @param responder the responder
+     * @return the decorated responder
+     */
+    public RSocket share(@NonNull RSocket responder) {
+        return new SharedMetadataRSocket(responder);
+    }
+
+    private static Payload attach(Payload payload, ContextView contextView) {
+        Map<String, Object> attributes = contextView.getOrDefault(RSocketExchange.ATTRIBUTES_CONTEXT_KEY, null);
+        if (Objects.isNull(attributes)) {
+            return payload;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> extractedMetadata = (Map<String, Object>) attributes.get(METADATA_ATTR_KEY);
+        MimeType metadataMimeType = (MimeType) attributes.get(METADATA_MIME_TYPE_ATTR_KEY);
+        if (Objects.isNull(extractedMetadata) || Objects.isNull(metadataMimeType)) {
+            return payload;
+        }
+        return new SharedMetadataPayload(payload, metadataMimeType, extractedMetadata);
+    }
+
+    /**
+     * The responder attaching the saved metadata of the exchange to the request payload.
+     */
+    private static final class SharedMetadataRSocket extends RSocketProxy {
+
+        SharedMetadataRSocket(RSocket source) {
+            super(source);
+        }
+
+        @Override
+        public Mono<Void> fireAndForget(Payload payload) {
+            return Mono.deferContextual(contextView -> source.fireAndForget(attach(payload, contextView)));
+        }
+
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            return Mono.deferContextual(contextView -> source.requestResponse(attach(payload, contextView)));
+        }
+
+        @Override
+        public Flux<Payload> requestStream(Payload payload) {
+            return Flux.deferContextual(contextView -> source.requestStream(attach(payload, contextView)));
+        }
+    }
+
+    /**
+     * The request payload carrying its extracted metadata, the other methods are delegated to the request payload.
+     */
+    private static final class SharedMetadataPayload implements Payload {
+
+        private final Payload delegate;
+        private final MimeType metadataMimeType;
+        private final Map<String, Object> extractedMetadata;
+
+        SharedMetadataPayload(Payload delegate, MimeType metadataMimeType, Map<String, Object> extractedMetadata) {
+            this.delegate = delegate;
+            this.metadataMimeType = metadataMimeType;
+            this.extractedMetadata = extractedMetadata;
+        }
+
+        @Override
+        public boolean hasMetadata() {
+            return delegate.hasMetadata();
+        }
+
+        @Override
+        public ByteBuf sliceMetadata() {
+            return delegate.sliceMetadata();
+        }
+
+        @Override
+        public ByteBuf sliceData() {
+            return delegate.sliceData();
+        }
+
+        @Override
+        public ByteBuf data() {
+            return delegate.data();
+        }
+
+        @Override
+        public ByteBuf metadata() {
+            return delegate.metadata();
+        }
+
+        @Override
+        public int refCnt() {
+            return delegate.refCnt();
+        }
+
+        @Override
+        public Payload retain() {
+            delegate.retain();
+            return this;
+        }
+
+        @Override
+        public Payload retain(int increment) {
+            delegate.retain(increment);
+            return this;
+        }
+
+        @Override
+        public Payload touch() {
+            delegate.touch();
+            return this;
+        }
+
+        @Override
+        public Payload touch(Object hint) {
+            delegate.touch(hint);
+            return this;
+        }
+
+        @Override
+        public boolean release() {
+            return delegate.release();
+        }
+
+        @Override
+        public boolean release(int decrement) {
+            return delegate.release(decrement);
+        }
+    }
+}
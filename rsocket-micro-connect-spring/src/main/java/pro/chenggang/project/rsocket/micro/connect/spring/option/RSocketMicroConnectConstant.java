@@ -21,7 +21,7 @@ import org.springframework.http.MediaType;
  * The rSocket micro connect constant.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public abstract class RSocketMicroConnectConstant {
@@ -34,6 +34,12 @@ public abstract class RSocketMicroConnectConstant {
             "connector-file-part-name"
     );
 
+    public static final MediaType CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE = new MediaType("application",
+            "connector-cache-invalidation"
+    );
+
+    public static final MediaType CONNECTOR_BATCH_MEDIA_TYPE = new MediaType("application", "connector-batch");
+
     public static final String CONNECTOR_HEADER_METADATA_KEY = "connector-header";
 
     public static final String CONNECTOR_QUERY_METADATA_KEY = "connector-query";
@@ -43,4 +49,8 @@ public abstract class RSocketMicroConnectConstant {
     public static final String DISCOVER_ENABLE_RSOCKET_METADATA_KEY = "rsocket-micro-connect.enable";
 
     public static final String DISCOVER_RSOCKET_PORT_METADATA_KEY = "rsocket-micro-connect.port";
+
+    public static final String DISCOVER_RSOCKET_ZONE_METADATA_KEY = "rsocket-micro-connect.zone";
+
+    public static final String DISCOVER_ZONE_METADATA_KEY = "zone";
 }
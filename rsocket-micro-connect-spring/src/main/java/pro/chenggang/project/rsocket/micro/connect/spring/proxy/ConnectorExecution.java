@@ -17,6 +17,7 @@ package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
 
 import lombok.Getter;
 import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
@@ -33,7 +34,7 @@ import java.util.Objects;
  * The Connector execution.
  *
  * @author Gang Cheng
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public final class ConnectorExecution {
@@ -46,6 +47,9 @@ public final class ConnectorExecution {
     private Object bodyData;
     @Getter
     private String requestPartName;
+    @Getter
+    @Nullable
+    private String routingKey;
     private final Map<String, String> pathVariables = new HashMap<>();
     private final MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
     private final MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
@@ -54,6 +58,7 @@ public final class ConnectorExecution {
                                @NonNull String route,
                                Object bodyData,
                                String requestPartName,
+                               @Nullable String routingKey,
                                Map<String, String> pathVariables,
                                MultiValueMap<String, String> headers,
                                MultiValueMap<String, String> queryParams) {
@@ -61,6 +66,7 @@ public final class ConnectorExecution {
         this.route = route;
         this.bodyData = bodyData;
         this.requestPartName = requestPartName;
+        this.routingKey = routingKey;
         if (Objects.nonNull(pathVariables) && !pathVariables.isEmpty()) {
             this.pathVariables.putAll(pathVariables);
         }
@@ -94,6 +100,7 @@ public final class ConnectorExecution {
                 connectorExecution.getRoute(),
                 connectorExecution.getBodyData(),
                 connectorExecution.getRequestPartName(),
+                connectorExecution.getRoutingKey(),
                 connectorExecution.getPathVariables(),
                 connectorExecution.getHeaders(),
                 connectorExecution.getQueryParams()
@@ -161,6 +168,19 @@ public final class ConnectorExecution {
         return this;
     }
 
+    /**
+     * Configure routing key.
+     * The executions with the same routing key go to the same rsocket server instance
+     * if the consistent-hash load-balance strategy is used.
+     *
+     * @param routingKey the routing key can be null
+     * @return the connector execution
+     */
+    public ConnectorExecution routingKey(@Nullable String routingKey) {
+        this.routingKey = routingKey;
+        return this;
+    }
+
     /**
      * Add path variable.
      *
@@ -361,6 +381,7 @@ public final class ConnectorExecution {
         private String route;
         private Object bodyData;
         private String requestPartName;
+        private String routingKey;
         private Map<String, String> pathVariables;
         private MultiValueMap<String, String> headers;
         private MultiValueMap<String, String> queryParams;
@@ -410,6 +431,17 @@ public final class ConnectorExecution {
             return this;
         }
 
+        /**
+         * Configure routing key.
+         *
+         * @param routingKey the routing key
+         * @return the connector execution builder
+         */
+        ConnectorExecutionBuilder routingKey(final String routingKey) {
+            this.routingKey = routingKey;
+            return this;
+        }
+
         /**
          * Configure path variables.
          *
@@ -453,6 +485,7 @@ public final class ConnectorExecution {
                     this.route,
                     this.bodyData,
                     this.requestPartName,
+                    this.routingKey,
                     this.pathVariables,
                     this.headers,
                     this.queryParams
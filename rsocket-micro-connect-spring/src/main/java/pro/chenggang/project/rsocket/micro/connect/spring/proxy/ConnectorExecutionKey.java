@@ -0,0 +1,181 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.util.MultiValueMap;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * The key of a resolved connector execution, which consists of the route, path variables, query params,
+ * selected headers and body. The body is compared by its equality.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class ConnectorExecutionKey implements RSocketResponseCacheKey {
+
+    private final String route;
+    private final Map<String, String> pathVariables;
+    private final MultiValueMap<String, String> queryParams;
+    private final Map<String, List<String>> headers;
+    @Nullable
+    private final Object body;
+    private final int hash;
+    @Nullable
+    private String destination;
+
+    private ConnectorExecutionKey(String route,
+                                  Map<String, String> pathVariables,
+                                  MultiValueMap<String, String> queryParams,
+                                  Map<String, List<String>> headers,
+                                  @Nullable Object body) {
+        this.route = route;
+        this.pathVariables = pathVariables;
+        this.queryParams = queryParams;
+        this.headers = headers;
+        this.body = body;
+        this.hash = Objects.hash(route, pathVariables, queryParams, headers, Arrays.deepHashCode(new Object[]{body}));
+    }
+
+    /**
+     * Normalize the names of the selected headers.
+     *
+     * @param headerNames the names of the selected headers
+     * @return the lower-case distinct header names
+     */
+    static String[] normalizeHeaderNames(String[] headerNames) {
+        return Arrays.stream(headerNames)
+                .map(headerName -> headerName.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Resolve the key of the resolved connector execution.
+     *
+     * @param connectorExecution the resolved connector execution
+     * @param headerNames        the normalized names of the selected headers
+     * @return the key, or null if the execution has a streaming body or a request part
+     */
+    @Nullable
+    static ConnectorExecutionKey of(ConnectorExecution connectorExecution, String[] headerNames) {
+        Object bodyData = connectorExecution.getBodyData();
+        if (bodyData instanceof Publisher || Objects.nonNull(connectorExecution.getRequestPartName())) {
+            return null;
+        }
+        Map<String, List<String>> headers = Collections.emptyMap();
+        if (headerNames.length > 0) {
+            MultiValueMap<String, String> executionHeaders = connectorExecution.getHeaders();
+            if (!executionHeaders.isEmpty()) {
+                headers = new TreeMap<>();
+                for (Map.Entry<String, List<String>> entry : executionHeaders.entrySet()) {
+                    String headerName = entry.getKey().toLowerCase(Locale.ROOT);
+                    if (isSelected(headerNames, headerName)) {
+                        headers.computeIfAbsent(headerName, name -> new ArrayList<>()).addAll(entry.getValue());
+                    }
+                }
+            }
+        }
+        return new ConnectorExecutionKey(connectorExecution.getRoute(),
+                connectorExecution.getPathVariables(),
+                connectorExecution.getQueryParams(),
+                headers,
+                bodyData
+        );
+    }
+
+    @Override
+    public String getDestination() {
+        String resolvedDestination = this.destination;
+        if (Objects.isNull(resolvedDestination)) {
+            resolvedDestination = this.expandRoute();
+            this.destination = resolvedDestination;
+        }
+        return resolvedDestination;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConnectorExecutionKey that)) {
+            return false;
+        }
+        return hash == that.hash
+                && route.equals(that.route)
+                && pathVariables.equals(that.pathVariables)
+                && queryParams.equals(that.queryParams)
+                && headers.equals(that.headers)
+                && Objects.deepEquals(body, that.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.getDestination();
+    }
+
+    private String expandRoute() {
+        int start = route.indexOf('{');
+        if (start < 0 || pathVariables.isEmpty()) {
+            return route;
+        }
+        StringBuilder builder = new StringBuilder(route.length() + 16);
+        int index = 0;
+        while (start >= 0) {
+            int end = route.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            String value = pathVariables.get(route.substring(start + 1, end));
+            builder.append(route, index, start);
+            if (Objects.isNull(value)) {
+                builder.append(route, start, end + 1);
+            } else {
+                builder.append(value);
+            }
+            index = end + 1;
+            start = route.indexOf('{', index);
+        }
+        return builder.append(route, index, route.length()).toString();
+    }
+
+    private static boolean isSelected(String[] headerNames, String headerName) {
+        for (String selectedHeaderName : headerNames) {
+            if (selectedHeaderName.equals(headerName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -28,7 +28,7 @@ import java.lang.reflect.Parameter;
  * The connector execution metadata.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Getter
@@ -39,8 +39,33 @@ public class ConnectorExecutionMetadata {
     private final String originalRoute;
     private final Class<?> connectorInterface;
     private final Method connectorMethod;
+    @Getter(AccessLevel.NONE)
     private final Parameter[] parameters;
+    @Getter(AccessLevel.NONE)
     private final Annotation[][] parameterAnnotations;
     private final Object[] args;
 
+    /**
+     * Gets the parameters of the connector method.
+     * The parameters are shared by all the executions of the connector method, so a copy is returned.
+     *
+     * @return the copy of the parameters
+     */
+    public Parameter[] getParameters() {
+        return parameters.clone();
+    }
+
+    /**
+     * Gets the parameter annotations of the connector method.
+     * The parameter annotations are shared by all the executions of the connector method, so a copy is returned.
+     *
+     * @return the copy of the parameter annotations
+     */
+    public Annotation[][] getParameterAnnotations() {
+        Annotation[][] copied = new Annotation[parameterAnnotations.length][];
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            copied[i] = parameterAnnotations[i].clone();
+        }
+        return copied;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import lombok.Builder;
+import lombok.Getter;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreakerRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBufferRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimiterRegistry;
+
+/**
+ * The execution policies shared by all the connector methods of a rsocket micro connector registry.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Builder
+public class ConnectorExecutionPolicies {
+
+    /**
+     * The hedge budget of the hedged connector methods
+     */
+    @Builder.Default
+    private final HedgeBudget hedgeBudget = new HedgeBudget();
+
+    /**
+     * The concurrency limiters of the request-response executions
+     */
+    @Builder.Default
+    private final RSocketConcurrencyLimiterRegistry concurrencyLimiterRegistry = RSocketConcurrencyLimiterRegistry.disabled();
+
+    /**
+     * The retry budgets of the retried connector methods
+     */
+    @Builder.Default
+    private final RetryBudgetRegistry retryBudgetRegistry = new RetryBudgetRegistry();
+
+    /**
+     * The circuit breakers of the transport uris
+     */
+    @Builder.Default
+    private final RSocketCircuitBreakerRegistry circuitBreakerRegistry = RSocketCircuitBreakerRegistry.disabled();
+
+    /**
+     * The client-side response caches of the cached connector methods
+     */
+    @Builder.Default
+    private final RSocketResponseCacheRegistry responseCacheRegistry = RSocketResponseCacheRegistry.withoutListeners();
+
+    /**
+     * The fire-and-forget buffers of the buffered connector methods
+     */
+    @Builder.Default
+    private final RSocketFireAndForgetBufferRegistry fireAndForgetBufferRegistry = RSocketFireAndForgetBufferRegistry.withoutListeners();
+
+    /**
+     * New connector execution policies with the default settings.
+     *
+     * @return the connector execution policies
+     */
+    public static ConnectorExecutionPolicies defaults() {
+        return ConnectorExecutionPolicies.builder().build();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The latency tracker of a connector method.
+ * <p>
+ * The latencies are counted in log-linear buckets (4 buckets per power of two, from 16 microseconds to about 4.5 minutes),
+ * the counts are halved once every window samples, so the percentile follows the recent latencies.
+ * The percentile is recomputed every few samples rather than on every execution.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class ConnectorLatencyTracker {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = 14;
+    private static final int MAX_EXPONENT = 37;
+    private static final int BUCKETS = (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS + 1;
+    private static final int RECOMPUTE_INTERVAL = 16;
+    private static final long WINDOW = 1024L;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private volatile long percentileNanos = -1L;
+
+    ConnectorLatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    void record(long latencyNanos) {
+        counts.incrementAndGet(bucketOf(latencyNanos));
+        long currentSamples = samples.incrementAndGet();
+        if (currentSamples >= 2 * WINDOW) {
+            this.decay();
+        }
+        if (recorded.incrementAndGet() % RECOMPUTE_INTERVAL == 0) {
+            this.percentileNanos = this.computePercentile();
+        }
+    }
+
+    /**
+     * Gets the latency percentile.
+     *
+     * @param minSamples the minimum samples
+     * @return the latency percentile in nanoseconds, or -1 if there are less samples than the minimum samples
+     */
+    long percentileNanos(int minSamples) {
+        if (recorded.get() < minSamples) {
+            return -1L;
+        }
+        long current = this.percentileNanos;
+        return current < 0 ? this.computePercentile() : current;
+    }
+
+    private synchronized void decay() {
+        if (samples.get() < 2 * WINDOW) {
+            return;
+        }
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.updateAndGet(i, count -> count >>> 1);
+        }
+        samples.set(total);
+    }
+
+    private long computePercentile() {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return -1L;
+        }
+        long target = (long) Math.ceil(percentile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    static int bucketOf(long latencyNanos) {
+        if (latencyNanos < (1L << MIN_EXPONENT)) {
+            return 0;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(latencyNanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (latencyNanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket + 1;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket == 0) {
+            return 1L << MIN_EXPONENT;
+        }
+        int exponent = (bucket - 1) / SUB_BUCKETS + MIN_EXPONENT;
+        int subBucket = (bucket - 1) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+}
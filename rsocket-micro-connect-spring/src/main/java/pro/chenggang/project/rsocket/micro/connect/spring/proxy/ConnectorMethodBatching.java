@@ -0,0 +1,296 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketClient;
+import io.rsocket.util.ByteBufPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Batched;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec.BatchResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The batching of a connector method annotated with {@link Batched}.
+ * <p>
+ * The request payloads of the executions are encoded by the rsocket requester as usual and captured instead of being sent,
+ * the captured payloads of a batch window are sent as one request-channel after a batch header,
+ * see {@link ConnectorBatchMetadataCodec}, and the indexed results are demultiplexed back to the executions.
+ * The executions cancelled before the batch is sent are removed from it, the results of the executions cancelled
+ * afterward are discarded.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+final class ConnectorMethodBatching implements ConnectorRequesterDecorator {
+
+    private final Method connectorMethod;
+    private final String route;
+    private final int maxSize;
+    private final long windowNanos;
+    private final Scheduler scheduler = Schedulers.parallel();
+    @Nullable
+    private PendingBatch pendingBatch;
+
+    private ConnectorMethodBatching(Method connectorMethod, String route, int maxSize, Duration window) {
+        this.connectorMethod = connectorMethod;
+        this.route = route;
+        this.maxSize = maxSize;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Resolve the batching of the connector method.
+     *
+     * @param connectorMethod the connector method
+     * @param route           the original route of the connector method
+     * @return the connector method batching or null if the method is not annotated with {@link Batched}
+     */
+    @Nullable
+    static ConnectorMethodBatching resolve(Method connectorMethod, String route) {
+        Batched batched = AnnotatedElementUtils.findMergedAnnotation(connectorMethod, Batched.class);
+        if (Objects.isNull(batched)) {
+            return null;
+        }
+        if (batched.maxSize() <= 0) {
+            throw new IllegalArgumentException("The max size of @Batched should be positive, connector method: " + connectorMethod);
+        }
+        Duration window = DurationStyle.detectAndParse(batched.window());
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("The window of @Batched should be positive, connector method: " + connectorMethod);
+        }
+        return new ConnectorMethodBatching(connectorMethod, route, batched.maxSize(), window);
+    }
+
+    /**
+     * Gets the batching rsocket requester of the connector execution,
+     * the executions whose request payloads can not be captured are not batched.
+     *
+     * @param rSocketRequester   the rsocket requester
+     * @param connectorExecution the resolved connector execution
+     * @return the batching rsocket requester, or the given rsocket requester if the execution is not batched
+     */
+    @Override
+    public RSocketRequester decorate(RSocketRequester rSocketRequester, ConnectorExecution connectorExecution) {
+        if (!ConnectorRequesterDecorator.canCapture(rSocketRequester, connectorExecution)) {
+            return rSocketRequester;
+        }
+        return RSocketRequester.wrap(new BatchingRSocket(rSocketRequester.rsocketClient()),
+                rSocketRequester.dataMimeType(),
+                rSocketRequester.metadataMimeType(),
+                rSocketRequester.strategies()
+        );
+    }
+
+    /**
+     * Add the captured payload to the pending batch, a new batch is started if there isn't one.
+     */
+    private void enqueue(RSocketClient rSocketClient, Payload payload, MonoSink<Payload> sink) {
+        BatchItem batchItem = new BatchItem(payload, sink);
+        PendingBatch batch;
+        boolean started;
+        boolean full;
+        synchronized (this) {
+            batch = this.pendingBatch;
+            started = Objects.isNull(batch);
+            if (started) {
+                batch = new PendingBatch(rSocketClient);
+                this.pendingBatch = batch;
+            }
+            batch.items.add(batchItem);
+            full = batch.items.size() >= maxSize;
+            if (full) {
+                this.pendingBatch = null;
+            }
+        }
+        sink.onCancel(batchItem::cancel);
+        if (full) {
+            this.send(batch);
+            return;
+        }
+        if (started) {
+            PendingBatch windowBatch = batch;
+            scheduler.schedule(() -> this.flush(windowBatch), windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Send the batch when its window elapses, unless it's already sent because it's full.
+     */
+    private void flush(PendingBatch batch) {
+        synchronized (this) {
+            if (this.pendingBatch != batch) {
+                return;
+            }
+            this.pendingBatch = null;
+        }
+        this.send(batch);
+    }
+
+    private void send(PendingBatch batch) {
+        List<BatchItem> sentItems = new ArrayList<>(batch.items.size());
+        for (BatchItem batchItem : batch.items) {
+            if (batchItem.markSent()) {
+                sentItems.add(batchItem);
+            }
+        }
+        if (sentItems.isEmpty()) {
+            return;
+        }
+        log.debug("Send {} batched executions, connector method: {}", sentItems.size(), connectorMethod);
+        Flux<Payload> payloads = Flux.concat(
+                Mono.fromCallable(() -> ByteBufPayload.create(Unpooled.EMPTY_BUFFER,
+                        ConnectorBatchMetadataCodec.encodeBatchHeader(ByteBufAllocator.DEFAULT, route)
+                )),
+                Flux.fromIterable(sentItems).map(batchItem -> batchItem.payload)
+        );
+        batch.rSocketClient.requestChannel(payloads)
+                .subscribe(response -> this.onResult(sentItems, response),
+                        throwable -> {
+                            for (BatchItem batchItem : sentItems) {
+                                batchItem.error(throwable);
+                            }
+                        },
+                        () -> {
+                            for (BatchItem batchItem : sentItems) {
+                                batchItem.error(new IllegalStateException("No batched response is received, connector method: " + connectorMethod));
+                            }
+                        }
+                );
+    }
+
+    private void onResult(List<BatchItem> sentItems, Payload response) {
+        BatchResult batchResult;
+        try {
+            batchResult = ConnectorBatchMetadataCodec.decodeBatchResult(response);
+        } catch (Throwable t) {
+            response.release();
+            throw t;
+        }
+        if (Objects.isNull(batchResult) || batchResult.index() < 0 || batchResult.index() >= sentItems.size()) {
+            response.release();
+            log.warn("Discard the invalid batched response, connector method: {}", connectorMethod);
+            return;
+        }
+        BatchItem batchItem = sentItems.get(batchResult.index());
+        switch (batchResult.status()) {
+            case ConnectorBatchMetadataCodec.STATUS_VALUE -> batchItem.success(response);
+            case ConnectorBatchMetadataCodec.STATUS_EMPTY -> {
+                response.release();
+                batchItem.success(null);
+            }
+            default -> {
+                String message = response.getDataUtf8();
+                response.release();
+                batchItem.error(ConnectorBatchMetadataCodec.newBatchError(batchResult.errorCode(), message));
+            }
+        }
+    }
+
+    /**
+     * The rsocket which captures the request-response payloads into the pending batch.
+     */
+    private final class BatchingRSocket implements RSocket {
+
+        private final RSocketClient rSocketClient;
+
+        BatchingRSocket(RSocketClient rSocketClient) {
+            this.rSocketClient = rSocketClient;
+        }
+
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            return Mono.create(sink -> enqueue(rSocketClient, payload, sink));
+        }
+    }
+
+    private static final class PendingBatch {
+
+        private final RSocketClient rSocketClient;
+        private final List<BatchItem> items = new ArrayList<>();
+
+        PendingBatch(RSocketClient rSocketClient) {
+            this.rSocketClient = rSocketClient;
+        }
+    }
+
+    /**
+     * The batched payload of an execution.
+     */
+    private static final class BatchItem {
+
+        private static final int PENDING = 0;
+        private static final int SENT = 1;
+        private static final int TERMINATED = 2;
+
+        private final Payload payload;
+        private final MonoSink<Payload> sink;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        BatchItem(Payload payload, MonoSink<Payload> sink) {
+            this.payload = payload;
+            this.sink = sink;
+        }
+
+        boolean markSent() {
+            return state.compareAndSet(PENDING, SENT);
+        }
+
+        void cancel() {
+            if (state.compareAndSet(PENDING, TERMINATED)) {
+                payload.release();
+                return;
+            }
+            state.set(TERMINATED);
+        }
+
+        void success(@Nullable Payload response) {
+            if (state.compareAndSet(SENT, TERMINATED)) {
+                sink.success(response);
+            } else if (Objects.nonNull(response)) {
+                response.release();
+            }
+        }
+
+        void error(Throwable throwable) {
+            if (state.compareAndSet(SENT, TERMINATED)) {
+                sink.error(throwable);
+            }
+        }
+    }
+}
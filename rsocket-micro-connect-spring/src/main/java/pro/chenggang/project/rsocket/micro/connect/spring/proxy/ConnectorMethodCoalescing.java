@@ -0,0 +1,197 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Coalesce;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The coalescing of a connector method annotated with {@link Coalesce}.
+ * <p>
+ * The in-flight request of each {@link ConnectorExecutionKey} is shared by all the executions which subscribe before it terminates,
+ * the executions subscribing afterward send a new request. The executions with a streaming body or a request part
+ * are never coalesced.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+final class ConnectorMethodCoalescing {
+
+    private final Method connectorMethod;
+    private final String[] headerNames;
+    private final Map<ConnectorExecutionKey, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+
+    private ConnectorMethodCoalescing(Method connectorMethod, Coalesce coalesce) {
+        this.connectorMethod = connectorMethod;
+        this.headerNames = ConnectorExecutionKey.normalizeHeaderNames(coalesce.headers());
+    }
+
+    /**
+     * Resolve the coalescing of the connector method.
+     *
+     * @param connectorMethod the connector method
+     * @return the connector method coalescing or null if the method is not annotated with {@link Coalesce}
+     */
+    @Nullable
+    static ConnectorMethodCoalescing resolve(Method connectorMethod) {
+        Coalesce coalesce = AnnotatedElementUtils.findMergedAnnotation(connectorMethod, Coalesce.class);
+        if (Objects.isNull(coalesce)) {
+            return null;
+        }
+        return new ConnectorMethodCoalescing(connectorMethod, coalesce);
+    }
+
+    /**
+     * Coalesce the request with the identical in-flight request of the connector execution.
+     *
+     * @param connectorExecution the resolved connector execution
+     * @param request            the request mono
+     * @param <R>                the response type
+     * @return the coalesced request mono
+     */
+    @SuppressWarnings("unchecked")
+    <R> Mono<R> coalesce(ConnectorExecution connectorExecution, Mono<R> request) {
+        ConnectorExecutionKey coalescingKey = ConnectorExecutionKey.of(connectorExecution, headerNames);
+        if (Objects.isNull(coalescingKey)) {
+            return request;
+        }
+        return Mono.create(sink -> {
+            MonoSink<Object> joinedSink = (MonoSink<Object>) (MonoSink<?>) sink;
+            while (true) {
+                InFlightRequest inFlightRequest = inFlightRequests.get(coalescingKey);
+                if (Objects.nonNull(inFlightRequest)) {
+                    if (inFlightRequest.join(joinedSink)) {
+                        log.debug("Execution is coalesced with the in-flight request, connector method: {}", connectorMethod);
+                        return;
+                    }
+                    inFlightRequests.remove(coalescingKey, inFlightRequest);
+                    continue;
+                }
+                // the cancel callback is only registered once the created request is published,
+                // since a sink runs any later registered cancel callback immediately
+                InFlightRequest created = new InFlightRequest(coalescingKey, joinedSink);
+                if (Objects.isNull(inFlightRequests.putIfAbsent(coalescingKey, created))) {
+                    created.leaveOnCancel(joinedSink);
+                    created.subscribe((Mono<Object>) (Mono<?>) request.contextWrite(sink.contextView()));
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * The in-flight request shared by the joined executions.
+     * The request is cancelled when the last joined execution is cancelled.
+     */
+    private final class InFlightRequest {
+
+        private final ConnectorExecutionKey coalescingKey;
+        private final List<MonoSink<Object>> sinks = new ArrayList<>(2);
+        @Nullable
+        private Disposable disposable;
+        private boolean terminated;
+
+        InFlightRequest(ConnectorExecutionKey coalescingKey, MonoSink<Object> firstSink) {
+            this.coalescingKey = coalescingKey;
+            this.sinks.add(firstSink);
+        }
+
+        boolean join(MonoSink<Object> sink) {
+            synchronized (this) {
+                if (terminated) {
+                    return false;
+                }
+                sinks.add(sink);
+            }
+            this.leaveOnCancel(sink);
+            return true;
+        }
+
+        void leaveOnCancel(MonoSink<Object> sink) {
+            sink.onCancel(() -> this.leave(sink));
+        }
+
+        void subscribe(Mono<Object> request) {
+            Disposable subscribed = request.subscribe(this::onSuccess, this::onError, () -> this.onSuccess(null));
+            boolean cancelled;
+            synchronized (this) {
+                cancelled = terminated && sinks.isEmpty();
+                if (!cancelled) {
+                    this.disposable = subscribed;
+                }
+            }
+            if (cancelled) {
+                subscribed.dispose();
+            }
+        }
+
+        private void leave(MonoSink<Object> sink) {
+            Disposable cancelled;
+            synchronized (this) {
+                if (terminated || !sinks.remove(sink) || !sinks.isEmpty()) {
+                    return;
+                }
+                terminated = true;
+                cancelled = this.disposable;
+            }
+            inFlightRequests.remove(coalescingKey, this);
+            if (Objects.nonNull(cancelled)) {
+                cancelled.dispose();
+            }
+        }
+
+        private void onSuccess(@Nullable Object response) {
+            for (MonoSink<Object> sink : this.terminate()) {
+                sink.success(response);
+            }
+        }
+
+        private void onError(Throwable throwable) {
+            for (MonoSink<Object> sink : this.terminate()) {
+                sink.error(throwable);
+            }
+        }
+
+        private List<MonoSink<Object>> terminate() {
+            List<MonoSink<Object>> joinedSinks;
+            synchronized (this) {
+                if (terminated) {
+                    return Collections.emptyList();
+                }
+                terminated = true;
+                joinedSinks = new ArrayList<>(sinks);
+                sinks.clear();
+            }
+            inFlightRequests.remove(coalescingKey, this);
+            return joinedSinks;
+        }
+    }
+}
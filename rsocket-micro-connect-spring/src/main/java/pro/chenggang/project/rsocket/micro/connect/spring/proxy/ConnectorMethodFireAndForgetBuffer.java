@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketClient;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.BufferedFireAndForget;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBuffer;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.buffer.RSocketFireAndForgetBufferRegistry;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The fire-and-forget buffer of a connector method annotated with {@link BufferedFireAndForget}.
+ * <p>
+ * The fire-and-forget payloads of the executions are encoded by the rsocket requester as usual and offered
+ * to the {@link RSocketFireAndForgetBuffer} instead of being sent.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class ConnectorMethodFireAndForgetBuffer implements ConnectorRequesterDecorator {
+
+    private final RSocketFireAndForgetBuffer fireAndForgetBuffer;
+
+    private ConnectorMethodFireAndForgetBuffer(RSocketFireAndForgetBuffer fireAndForgetBuffer) {
+        this.fireAndForgetBuffer = fireAndForgetBuffer;
+    }
+
+    /**
+     * Resolve the fire-and-forget buffer of the connector method.
+     *
+     * @param connectorInterface          the connector interface
+     * @param connectorMethod             the connector method
+     * @param route                       the original route of the connector method
+     * @param fireAndForgetBufferRegistry the fire-and-forget buffer registry
+     * @return the connector method fire-and-forget buffer or null if the method is not annotated with {@link BufferedFireAndForget}
+     */
+    @Nullable
+    static ConnectorMethodFireAndForgetBuffer resolve(Class<?> connectorInterface,
+                                                      Method connectorMethod,
+                                                      String route,
+                                                      RSocketFireAndForgetBufferRegistry fireAndForgetBufferRegistry) {
+        BufferedFireAndForget bufferedFireAndForget = AnnotatedElementUtils.findMergedAnnotation(connectorMethod,
+                BufferedFireAndForget.class
+        );
+        if (Objects.isNull(bufferedFireAndForget)) {
+            return null;
+        }
+        // the parameter types tell the overloaded methods apart, which may have their own buffer settings
+        String name = connectorInterface.getName() + "#" + connectorMethod.getName()
+                + Arrays.stream(connectorMethod.getGenericParameterTypes())
+                .map(Type::getTypeName)
+                .collect(Collectors.joining(",", "(", ")"));
+        RSocketFireAndForgetBuffer fireAndForgetBuffer = fireAndForgetBufferRegistry.getFireAndForgetBuffer(name,
+                route,
+                bufferedFireAndForget.maxSize(),
+                DurationStyle.detectAndParse(bufferedFireAndForget.window()),
+                bufferedFireAndForget.maxInFlight(),
+                bufferedFireAndForget.overflow()
+        );
+        return new ConnectorMethodFireAndForgetBuffer(fireAndForgetBuffer);
+    }
+
+    /**
+     * Gets the buffering rsocket requester of the connector execution,
+     * the executions whose request payloads can not be captured are not buffered.
+     *
+     * @param rSocketRequester   the rsocket requester
+     * @param connectorExecution the resolved connector execution
+     * @return the buffering rsocket requester, or the given rsocket requester if the execution is not buffered
+     */
+    @Override
+    public RSocketRequester decorate(RSocketRequester rSocketRequester, ConnectorExecution connectorExecution) {
+        if (!ConnectorRequesterDecorator.canCapture(rSocketRequester, connectorExecution)) {
+            return rSocketRequester;
+        }
+        return RSocketRequester.wrap(new BufferingRSocket(rSocketRequester.rsocketClient()),
+                rSocketRequester.dataMimeType(),
+                rSocketRequester.metadataMimeType(),
+                rSocketRequester.strategies()
+        );
+    }
+
+    /**
+     * The rsocket which offers the fire-and-forget payloads to the buffer.
+     */
+    private final class BufferingRSocket implements RSocket {
+
+        private final RSocketClient rSocketClient;
+
+        BufferingRSocket(RSocketClient rSocketClient) {
+            this.rSocketClient = rSocketClient;
+        }
+
+        @Override
+        public Mono<Void> fireAndForget(Payload payload) {
+            return fireAndForgetBuffer.offer(rSocketClient, payload);
+        }
+    }
+}
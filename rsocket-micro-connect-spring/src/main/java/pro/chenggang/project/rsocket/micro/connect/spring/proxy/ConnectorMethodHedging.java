@@ -0,0 +1,192 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Hedged;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The hedging of a connector method annotated with {@link Hedged}.
+ * <p>
+ * The hedged request is a new subscription of the same request, so it's dispatched by the load-balancer again
+ * and is sent to another rsocket server instance as long as the load-balancer doesn't pick the same one.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+final class ConnectorMethodHedging {
+
+    private final Method connectorMethod;
+    private final HedgeBudget hedgeBudget;
+    private final ConnectorLatencyTracker latencyTracker;
+    @Nullable
+    private final Duration fixedDelay;
+    private final int minSamples;
+
+    private ConnectorMethodHedging(Method connectorMethod, Hedged hedged, HedgeBudget hedgeBudget) {
+        Assert.isTrue(hedged.percentile() > 0D && hedged.percentile() < 1D,
+                () -> "Hedged percentile should be between 0 and 1, connector method: " + connectorMethod
+        );
+        this.connectorMethod = connectorMethod;
+        this.hedgeBudget = hedgeBudget;
+        this.latencyTracker = new ConnectorLatencyTracker(hedged.percentile());
+        this.fixedDelay = StringUtils.hasText(hedged.delay()) ? DurationStyle.detectAndParse(hedged.delay()) : null;
+        this.minSamples = Math.max(1, hedged.minSamples());
+    }
+
+    /**
+     * Resolve the hedging of the connector method.
+     *
+     * @param connectorMethod the connector method
+     * @param hedgeBudget     the shared hedge budget
+     * @return the connector method hedging or null if the method is not annotated with {@link Hedged}
+     */
+    @Nullable
+    static ConnectorMethodHedging resolve(Method connectorMethod, HedgeBudget hedgeBudget) {
+        Hedged hedged = AnnotatedElementUtils.findMergedAnnotation(connectorMethod, Hedged.class);
+        if (Objects.isNull(hedged)) {
+            return null;
+        }
+        return new ConnectorMethodHedging(connectorMethod, hedged, hedgeBudget);
+    }
+
+    /**
+     * Hedge the request.
+     * Every subscription of the request mono sends a new request.
+     *
+     * @param request the request mono
+     * @param <R>     the response type
+     * @return the hedged request mono
+     */
+    <R> Mono<R> hedge(Mono<R> request) {
+        return Mono.defer(() -> {
+            hedgeBudget.deposit();
+            long delayNanos = this.resolveDelayNanos();
+            if (delayNanos < 0) {
+                return this.track(request);
+            }
+            return Mono.create(sink -> new HedgedExecution<>(sink, request, Duration.ofNanos(delayNanos)).start());
+        });
+    }
+
+    /**
+     * Gets the latency tracker of the connector method.
+     *
+     * @return the latency tracker
+     */
+    ConnectorLatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    private long resolveDelayNanos() {
+        if (Objects.nonNull(fixedDelay)) {
+            return fixedDelay.toNanos();
+        }
+        return latencyTracker.percentileNanos(minSamples);
+    }
+
+    private <R> Mono<R> track(Mono<R> request) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return request.doOnSuccess(response -> latencyTracker.record(System.nanoTime() - startNanos));
+        });
+    }
+
+    /**
+     * The execution racing the request with the hedged request.
+     * An error is only propagated when there is no other request in flight,
+     * the latency is recorded from the first request until the first response.
+     *
+     * @param <R> the response type
+     */
+    private final class HedgedExecution<R> {
+
+        private final MonoSink<R> sink;
+        private final Mono<R> request;
+        private final Duration delay;
+        private final long startNanos = System.nanoTime();
+        private final Disposable.Composite disposables = Disposables.composite();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        HedgedExecution(MonoSink<R> sink, Mono<R> request, Duration delay) {
+            this.sink = sink;
+            this.request = request.contextWrite(sink.contextView());
+            this.delay = delay;
+        }
+
+        void start() {
+            sink.onDispose(disposables);
+            this.send();
+            disposables.add(Mono.delay(delay).subscribe(tick -> this.sendHedged()));
+        }
+
+        private void sendHedged() {
+            if (terminated.get()) {
+                return;
+            }
+            if (!hedgeBudget.tryWithdraw()) {
+                log.debug("Hedged request is rejected by the hedge budget, connector method: {}", connectorMethod);
+                return;
+            }
+            log.debug("Send hedged request after {}, connector method: {}", delay, connectorMethod);
+            this.send();
+        }
+
+        private void send() {
+            inFlight.incrementAndGet();
+            disposables.add(request.subscribe(this::onResponse, this::onError, () -> this.onResponse(null)));
+        }
+
+        private void onResponse(@Nullable R response) {
+            if (!terminated.compareAndSet(false, true)) {
+                return;
+            }
+            latencyTracker.record(System.nanoTime() - startNanos);
+            if (Objects.isNull(response)) {
+                sink.success();
+            } else {
+                sink.success(response);
+            }
+            disposables.dispose();
+        }
+
+        private void onError(Throwable throwable) {
+            if (inFlight.decrementAndGet() > 0 || !terminated.compareAndSet(false, true)) {
+                return;
+            }
+            sink.error(throwable);
+            disposables.dispose();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.CachedResponse;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCache;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheRegistry;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The client-side response cache of a connector method annotated with {@link CachedResponse}.
+ * <p>
+ * The responses are cached by the {@link ConnectorExecutionKey} of the executions, the executions with a streaming body
+ * or a request part are never cached. The cached response instance is shared by the executions without being copied.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class ConnectorMethodResponseCache {
+
+    private final RSocketResponseCache responseCache;
+    private final String[] headerNames;
+
+    private ConnectorMethodResponseCache(RSocketResponseCache responseCache, CachedResponse cachedResponse) {
+        this.responseCache = responseCache;
+        this.headerNames = ConnectorExecutionKey.normalizeHeaderNames(cachedResponse.headers());
+    }
+
+    /**
+     * Resolve the response cache of the connector method.
+     *
+     * @param connectorInterface    the connector interface
+     * @param connectorMethod       the connector method
+     * @param transportURI          the transport uri of the connector
+     * @param responseCacheRegistry the response cache registry
+     * @return the connector method response cache or null if the method is not annotated with {@link CachedResponse}
+     */
+    @Nullable
+    static ConnectorMethodResponseCache resolve(Class<?> connectorInterface,
+                                                Method connectorMethod,
+                                                URI transportURI,
+                                                RSocketResponseCacheRegistry responseCacheRegistry) {
+        CachedResponse cachedResponse = AnnotatedElementUtils.findMergedAnnotation(connectorMethod, CachedResponse.class);
+        if (Objects.isNull(cachedResponse)) {
+            return null;
+        }
+        Duration ttl = DurationStyle.detectAndParse(cachedResponse.ttl());
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The ttl of @CachedResponse should be positive, connector method: " + connectorMethod);
+        }
+        if (cachedResponse.maxSize() <= 0) {
+            throw new IllegalArgumentException("The max size of @CachedResponse should be positive, connector method: " + connectorMethod);
+        }
+        // the parameter types tell the overloaded methods apart, which may differ in the response type
+        String name = connectorInterface.getName() + "#" + connectorMethod.getName()
+                + Arrays.stream(connectorMethod.getGenericParameterTypes())
+                .map(Type::getTypeName)
+                .collect(Collectors.joining(",", "(", ")"));
+        RSocketResponseCache responseCache = responseCacheRegistry.getResponseCache(name, transportURI, ttl, cachedResponse.maxSize());
+        return new ConnectorMethodResponseCache(responseCache, cachedResponse);
+    }
+
+    /**
+     * Serve the cached response of the connector execution, or cache the response of the request.
+     *
+     * @param connectorExecution the resolved connector execution
+     * @param request            the request mono
+     * @param <R>                the response type
+     * @return the cached request mono
+     */
+    @SuppressWarnings("unchecked")
+    <R> Mono<R> cache(ConnectorExecution connectorExecution, Mono<R> request) {
+        ConnectorExecutionKey cacheKey = ConnectorExecutionKey.of(connectorExecution, headerNames);
+        if (Objects.isNull(cacheKey)) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            Object cached = responseCache.get(cacheKey);
+            if (Objects.nonNull(cached)) {
+                return Mono.just((R) cached);
+            }
+            long generation = responseCache.getGeneration();
+            return request.doOnNext(response -> responseCache.put(cacheKey, response, generation));
+        });
+    }
+}
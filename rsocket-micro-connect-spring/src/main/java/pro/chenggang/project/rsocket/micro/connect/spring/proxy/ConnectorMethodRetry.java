@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import io.rsocket.exceptions.ConnectionCloseException;
+import io.rsocket.exceptions.Retryable;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketInstanceNotFoundException;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Retry;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The retry of a connector method annotated with {@link Retry}.
+ * <p>
+ * The retry is a new subscription of the same request, so it's dispatched by the load-balancer again
+ * and is sent to another rsocket server instance as long as the load-balancer doesn't pick the same one.
+ * The last failure is propagated when the attempts are exhausted or the retry budget is used up.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+final class ConnectorMethodRetry {
+
+    private static final List<Class<? extends Throwable>> DEFAULT_IDEMPOTENT_RETRY_ON = List.of(IOException.class,
+            TimeoutException.class,
+            ConnectionCloseException.class
+    );
+
+    private final Method connectorMethod;
+    private final RetryBudget retryBudget;
+    private final boolean idempotent;
+    private final List<Class<? extends Throwable>> retryOn;
+    private final RetryBackoffSpec retrySpec;
+
+    private ConnectorMethodRetry(Method connectorMethod, Retry retry, RetryBudget retryBudget) {
+        Assert.isTrue(retry.maxAttempts() >= 1, () -> "Retry max attempts should be greater than 0, connector method: " + connectorMethod);
+        Assert.isTrue(retry.jitter() >= 0D && retry.jitter() <= 1D,
+                () -> "Retry jitter should be between 0 and 1, connector method: " + connectorMethod
+        );
+        this.connectorMethod = connectorMethod;
+        this.retryBudget = retryBudget;
+        this.idempotent = retry.idempotent();
+        this.retryOn = retry.retryOn().length == 0 ? DEFAULT_IDEMPOTENT_RETRY_ON : List.of(retry.retryOn());
+        this.retrySpec = reactor.util.retry.Retry.backoff(retry.maxAttempts() - 1, DurationStyle.detectAndParse(retry.backoff()))
+                .maxBackoff(DurationStyle.detectAndParse(retry.maxBackoff()))
+                .jitter(retry.jitter())
+                .filter(this::shouldRetry)
+                .doBeforeRetry(retrySignal -> log.debug("Retry #{} of connector method: {}, failure: {}",
+                        retrySignal.totalRetries() + 1,
+                        this.connectorMethod,
+                        retrySignal.failure().toString()
+                ))
+                .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure());
+    }
+
+    /**
+     * Resolve the retry of the connector method.
+     *
+     * @param connectorMethod the connector method
+     * @param retryBudget     the retry budget of the transport uri
+     * @return the connector method retry or null if the method is not annotated with {@link Retry}
+     */
+    @Nullable
+    static ConnectorMethodRetry resolve(Method connectorMethod, RetryBudget retryBudget) {
+        Retry retry = AnnotatedElementUtils.findMergedAnnotation(connectorMethod, Retry.class);
+        if (Objects.isNull(retry)) {
+            return null;
+        }
+        return new ConnectorMethodRetry(connectorMethod, retry, retryBudget);
+    }
+
+    /**
+     * Retry the request.
+     * Every subscription of the request mono sends a new request.
+     *
+     * @param request the request mono
+     * @param <R>     the response type
+     * @return the retried request mono
+     */
+    <R> Mono<R> retry(Mono<R> request) {
+        return request.retryWhen(retrySpec);
+    }
+
+    private boolean shouldRetry(Throwable throwable) {
+        if (!isNotProcessed(throwable) && !(idempotent && this.isRetryOn(throwable))) {
+            return false;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            log.debug("Retry is rejected by the retry budget of {}, connector method: {}", retryBudget.getTransportURI(), connectorMethod);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isRetryOn(Throwable throwable) {
+        for (Class<? extends Throwable> retryOnClass : retryOn) {
+            if (retryOnClass.isInstance(throwable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNotProcessed(Throwable throwable) {
+        return throwable instanceof Retryable
+                || throwable instanceof RSocketInstanceNotFoundException
+                || throwable instanceof ConnectException;
+    }
+}
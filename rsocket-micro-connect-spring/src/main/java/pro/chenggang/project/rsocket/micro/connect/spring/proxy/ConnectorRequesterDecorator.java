@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import io.rsocket.metadata.WellKnownMimeType;
+import org.reactivestreams.Publisher;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Objects;
+
+/**
+ * The decorator of the rsocket requester of a resolved connector execution,
+ * e.g. to capture the encoded request payloads into a batch instead of sending them.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+interface ConnectorRequesterDecorator {
+
+    MimeType COMPOSITE_METADATA_MIME_TYPE = MimeTypeUtils.parseMimeType(
+            WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA.getString()
+    );
+
+    /**
+     * Decorate the rsocket requester of the connector execution.
+     *
+     * @param rSocketRequester   the rsocket requester
+     * @param connectorExecution the resolved connector execution
+     * @return the decorated rsocket requester, or the given rsocket requester if the execution is not decorated
+     */
+    RSocketRequester decorate(RSocketRequester rSocketRequester, ConnectorExecution connectorExecution);
+
+    /**
+     * Whether the request payload of the connector execution can be captured.
+     * The executions with a routing key, a streaming body or a request part, and the requesters without
+     * the composite metadata can not be captured.
+     *
+     * @param rSocketRequester   the rsocket requester
+     * @param connectorExecution the resolved connector execution
+     * @return true if the request payload can be captured
+     */
+    static boolean canCapture(RSocketRequester rSocketRequester, ConnectorExecution connectorExecution) {
+        return Objects.isNull(connectorExecution.getRoutingKey())
+                && Objects.isNull(connectorExecution.getRequestPartName())
+                && !(connectorExecution.getBodyData() instanceof Publisher<?>)
+                && COMPOSITE_METADATA_MIME_TYPE.equals(rSocketRequester.metadataMimeType());
+    }
+}
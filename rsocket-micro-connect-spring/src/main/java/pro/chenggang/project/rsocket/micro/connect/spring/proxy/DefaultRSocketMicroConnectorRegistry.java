@@ -16,28 +16,51 @@
 package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
 
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.ConversionService;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRequesterRegistry;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default rsocket micro connector registry.
+ * <p>
+ * The connector instance of each interface is cached, so a dynamic lookup neither creates a new proxy
+ * nor compiles the connector methods again.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
-@RequiredArgsConstructor
 public class DefaultRSocketMicroConnectorRegistry implements RSocketMicroConnectorRegistry {
 
     private final RSocketRequesterRegistry rSocketRequesterRegistry;
     private final ConversionService conversionService;
     private final Map<Class<?>, RSocketMicroConnectorProxyFactory<?>> connectorProxyFactoryCache = new ConcurrentHashMap<>();
     private final List<RSocketMicroConnectorExecutionCustomizer> rSocketMicroConnectorExecutionCustomizers;
+    private final ConnectorExecutionPolicies connectorExecutionPolicies;
+
+    public DefaultRSocketMicroConnectorRegistry(RSocketRequesterRegistry rSocketRequesterRegistry,
+                                                ConversionService conversionService,
+                                                List<RSocketMicroConnectorExecutionCustomizer> rSocketMicroConnectorExecutionCustomizers) {
+        this(rSocketRequesterRegistry,
+                conversionService,
+                rSocketMicroConnectorExecutionCustomizers,
+                ConnectorExecutionPolicies.defaults()
+        );
+    }
+
+    public DefaultRSocketMicroConnectorRegistry(RSocketRequesterRegistry rSocketRequesterRegistry,
+                                                ConversionService conversionService,
+                                                List<RSocketMicroConnectorExecutionCustomizer> rSocketMicroConnectorExecutionCustomizers,
+                                                @NonNull ConnectorExecutionPolicies connectorExecutionPolicies) {
+        this.rSocketRequesterRegistry = rSocketRequesterRegistry;
+        this.conversionService = conversionService;
+        this.rSocketMicroConnectorExecutionCustomizers = rSocketMicroConnectorExecutionCustomizers;
+        this.connectorExecutionPolicies = connectorExecutionPolicies;
+    }
 
     @SuppressWarnings("unchecked")
     @Override
@@ -45,12 +68,16 @@ public class DefaultRSocketMicroConnectorRegistry implements RSocketMicroConnect
         if (!type.isInterface()) {
             throw new IllegalArgumentException("Type " + type + " should be an interface");
         }
-        RSocketMicroConnectorProxyFactory<?> rSocketMicroConnectorProxyFactory = connectorProxyFactoryCache.computeIfAbsent(type,
-                connectorInterface -> new RSocketMicroConnectorProxyFactory<>(connectorInterface,
-                        rSocketMicroConnectorExecutionCustomizers
-                )
-        );
-        return (T) rSocketMicroConnectorProxyFactory.newInstance(rSocketRequesterRegistry, conversionService);
+        RSocketMicroConnectorProxyFactory<?> rSocketMicroConnectorProxyFactory = connectorProxyFactoryCache.get(type);
+        if (Objects.isNull(rSocketMicroConnectorProxyFactory)) {
+            rSocketMicroConnectorProxyFactory = connectorProxyFactoryCache.computeIfAbsent(type,
+                    connectorInterface -> new RSocketMicroConnectorProxyFactory<>(connectorInterface,
+                            rSocketMicroConnectorExecutionCustomizers,
+                            connectorExecutionPolicies
+                    )
+            );
+        }
+        return (T) rSocketMicroConnectorProxyFactory.getInstance(rSocketRequesterRegistry, conversionService);
     }
 
 }
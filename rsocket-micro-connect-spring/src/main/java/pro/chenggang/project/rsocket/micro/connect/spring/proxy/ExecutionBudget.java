@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The token bucket budget of the extra requests, such as the hedged requests and the retries.
+ * <p>
+ * Every execution deposits a fraction of a token and every extra request withdraws a token,
+ * so the extra requests never exceed the ratio of the executions plus the burst.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ExecutionBudget {
+
+    private static final long TOKEN = 1_000_000L;
+
+    private final long deposit;
+    private final long maxBalance;
+    private final AtomicLong balance = new AtomicLong();
+    private final LongAdder withdrawnCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Instantiates a new execution budget.
+     *
+     * @param ratio the ratio of the extra requests to the executions, between 0 and 1
+     * @param burst the maximum extra requests which can be sent in a burst
+     */
+    public ExecutionBudget(double ratio, int burst) {
+        Assert.isTrue(ratio >= 0D && ratio <= 1D, "Budget ratio should be between 0 and 1");
+        Assert.isTrue(burst >= 1, "Budget burst should be greater than 0");
+        this.deposit = (long) (ratio * TOKEN);
+        this.maxBalance = burst * TOKEN;
+    }
+
+    /**
+     * Deposit the budget of an execution.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= maxBalance) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(maxBalance, current + deposit)));
+    }
+
+    /**
+     * Try to withdraw the budget of an extra request.
+     *
+     * @return true if the extra request is allowed
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                rejectedCount.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        withdrawnCount.increment();
+        return true;
+    }
+
+    /**
+     * Gets the count of the allowed extra requests.
+     *
+     * @return the allowed extra request count
+     */
+    public long getWithdrawnCount() {
+        return withdrawnCount.sum();
+    }
+
+    /**
+     * Gets the count of the extra requests rejected by the budget.
+     *
+     * @return the rejected extra request count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+/**
+ * The hedge budget shared by all the hedged connector methods.
+ * <p>
+ * Every hedged execution deposits a fraction of a token and every hedged request withdraws a token,
+ * so the hedged requests never exceed the ratio of the hedged executions plus the burst.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class HedgeBudget extends ExecutionBudget {
+
+    /**
+     * The default ratio of the hedged requests to the hedged executions.
+     */
+    public static final double DEFAULT_RATIO = 0.05D;
+
+    /**
+     * The default maximum hedged requests which can be sent in a burst.
+     */
+    public static final int DEFAULT_BURST = 10;
+
+    /**
+     * Instantiates a new hedge budget with the default ratio and burst.
+     */
+    public HedgeBudget() {
+        this(DEFAULT_RATIO, DEFAULT_BURST);
+    }
+
+    /**
+     * Instantiates a new hedge budget.
+     *
+     * @param ratio the ratio of the hedged requests to the hedged executions, between 0 and 1
+     * @param burst the maximum hedged requests which can be sent in a burst
+     */
+    public HedgeBudget(double ratio, int burst) {
+        super(ratio, burst);
+    }
+
+    /**
+     * Gets the count of the sent hedged requests.
+     *
+     * @return the hedged request count
+     */
+    public long getHedgedCount() {
+        return this.getWithdrawnCount();
+    }
+}
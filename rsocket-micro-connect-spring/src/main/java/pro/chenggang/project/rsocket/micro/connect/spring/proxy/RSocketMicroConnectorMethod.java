@@ -31,6 +31,7 @@ import org.springframework.messaging.rsocket.RSocketRequester;
 import org.springframework.messaging.rsocket.RSocketRequester.RequestSpec;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
@@ -43,7 +44,11 @@ import org.springframework.web.bind.annotation.RequestPart;
 import pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil;
 import pro.chenggang.project.rsocket.micro.connect.spring.annotation.RSocketMicroConnector;
 import pro.chenggang.project.rsocket.micro.connect.spring.annotation.RequestPartName;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.RoutingKey;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.breaker.RSocketCircuitBreaker;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.limit.RSocketConcurrencyLimiter;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.RoutingKeyContext;
 import pro.chenggang.project.rsocket.micro.connect.spring.proxy.ConnectorExecution.ConnectorExecutionBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -59,7 +64,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 import static pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil.resolveReturnType;
 import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_FILE_PART_NAME_MEDIA_TYPE;
@@ -70,33 +74,102 @@ import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketM
  * The RSocket Micro Connect Method.
  *
  * @author Gang Cheng
+ * @version 0.3.0
  */
 @Slf4j
 public class RSocketMicroConnectorMethod {
 
+    private static final MimeType CONNECTOR_HEADER_MIME_TYPE = MimeTypeUtils.parseMimeType(CONNECTOR_HEADER_MEDIA_TYPE.toString());
+    private static final MimeType CONNECTOR_QUERY_MIME_TYPE = MimeTypeUtils.parseMimeType(CONNECTOR_QUERY_MEDIA_TYPE.toString());
+    private static final MimeType CONNECTOR_FILE_PART_NAME_MIME_TYPE = MimeTypeUtils.parseMimeType(CONNECTOR_FILE_PART_NAME_MEDIA_TYPE.toString());
+
     private final MethodSignature methodSignature;
     private final ConnectorData connectorData;
-    private final ResolvedParameterIndexInfo resolvedParameterIndexInfo;
-    @Nullable
-    private final ConversionService conversionService;
+    private final RequestTemplate requestTemplate;
     private final List<RSocketMicroConnectorExecutionCustomizer> executionCustomizers;
+    @Nullable
+    private final ConnectorMethodHedging hedging;
+    @Nullable
+    private final ConnectorMethodCoalescing coalescing;
+    @Nullable
+    private final ConnectorMethodResponseCache responseCache;
+    @Nullable
+    private final ConnectorMethodBatching batching;
+    @Nullable
+    private final ConnectorMethodFireAndForgetBuffer fireAndForgetBuffer;
+    @Nullable
+    private final RSocketCircuitBreaker circuitBreaker;
+    @Nullable
+    private final RSocketConcurrencyLimiter concurrencyLimiter;
+    private final RetryBudget retryBudget;
+    @Nullable
+    private final ConnectorMethodRetry retry;
 
     public RSocketMicroConnectorMethod(Class<?> connectorInterface,
                                        Method method,
                                        ConversionService conversionService,
                                        List<RSocketMicroConnectorExecutionCustomizer> executionCustomizers) {
-        this.conversionService = conversionService;
+        this(connectorInterface, method, conversionService, executionCustomizers, ConnectorExecutionPolicies.defaults());
+    }
+
+    public RSocketMicroConnectorMethod(Class<?> connectorInterface,
+                                       Method method,
+                                       ConversionService conversionService,
+                                       List<RSocketMicroConnectorExecutionCustomizer> executionCustomizers,
+                                       @NonNull ConnectorExecutionPolicies executionPolicies) {
         this.methodSignature = new MethodSignature(connectorInterface, method);
         this.connectorData = new ConnectorData(connectorInterface, method);
-        this.resolvedParameterIndexInfo = new ResolvedParameterIndexInfo(connectorInterface,
-                method,
-                connectorData.getOriginalRoute()
+        this.requestTemplate = new RequestTemplate(this.methodSignature,
+                this.connectorData.getOriginalRoute(),
+                new ResolvedParameterIndexInfo(connectorInterface, method, this.connectorData.getOriginalRoute()),
+                conversionService
         );
         if (Objects.isNull(executionCustomizers) || executionCustomizers.isEmpty()) {
             this.executionCustomizers = Collections.emptyList();
         } else {
             this.executionCustomizers = executionCustomizers;
         }
+        this.hedging = ConnectorMethodHedging.resolve(method, executionPolicies.getHedgeBudget());
+        this.coalescing = ConnectorMethodCoalescing.resolve(method);
+        this.responseCache = ConnectorMethodResponseCache.resolve(connectorInterface,
+                method,
+                this.connectorData.getTransportURI(),
+                executionPolicies.getResponseCacheRegistry()
+        );
+        this.batching = ConnectorMethodBatching.resolve(method, this.connectorData.getOriginalRoute());
+        this.fireAndForgetBuffer = ConnectorMethodFireAndForgetBuffer.resolve(connectorInterface,
+                method,
+                this.connectorData.getOriginalRoute(),
+                executionPolicies.getFireAndForgetBufferRegistry()
+        );
+        this.circuitBreaker = executionPolicies.getCircuitBreakerRegistry().getCircuitBreaker(this.connectorData.getTransportURI());
+        this.concurrencyLimiter = this.methodSignature.returnsVoid || this.methodSignature.returnsMany
+                ? null
+                : executionPolicies.getConcurrencyLimiterRegistry()
+                .getConcurrencyLimiter(this.connectorData.getTransportURI(), this.connectorData.getOriginalRoute());
+        this.retryBudget = executionPolicies.getRetryBudgetRegistry().getRetryBudget(this.connectorData.getTransportURI());
+        this.retry = ConnectorMethodRetry.resolve(method, this.retryBudget);
+        if (Objects.nonNull(this.retry) && this.methodSignature.returnsMany && !this.methodSignature.returnsVoid) {
+            throw new IllegalArgumentException("Only the request-response or fire-and-forget connector method can be retried, connector method: " + method);
+        }
+        if (Objects.nonNull(this.hedging) && (this.methodSignature.returnsVoid || this.methodSignature.returnsMany)) {
+            throw new IllegalArgumentException("Only the request-response connector method can be hedged, connector method: " + method);
+        }
+        if (Objects.nonNull(this.coalescing) && (this.methodSignature.returnsVoid || this.methodSignature.returnsMany)) {
+            throw new IllegalArgumentException("Only the request-response connector method can be coalesced, connector method: " + method);
+        }
+        if (Objects.nonNull(this.responseCache) && (this.methodSignature.returnsVoid || this.methodSignature.returnsMany)) {
+            throw new IllegalArgumentException("Only the request-response connector method can cache responses, connector method: " + method);
+        }
+        if (Objects.nonNull(this.batching) && (this.methodSignature.returnsVoid || this.methodSignature.returnsMany)) {
+            throw new IllegalArgumentException("Only the request-response connector method can be batched, connector method: " + method);
+        }
+        if (Objects.nonNull(this.fireAndForgetBuffer) && !this.methodSignature.returnsVoid) {
+            throw new IllegalArgumentException("Only the fire-and-forget connector method can be buffered, connector method: " + method);
+        }
+        if (Objects.nonNull(this.fireAndForgetBuffer) && Objects.nonNull(this.retry)) {
+            throw new IllegalArgumentException("The buffered fire-and-forget connector method can not be retried, connector method: " + method);
+        }
     }
 
     /**
@@ -107,7 +180,7 @@ public class RSocketMicroConnectorMethod {
      * @return the result value
      */
     public Publisher<?> execute(RSocketRequesterRegistry rSocketRequesterRegistry, Object[] args) {
-        final ConnectorExecution connectorExecution = this.initConnectionExecution(args);
+        final ConnectorExecution connectorExecution = this.requestTemplate.bind(args);
         if (this.methodSignature.returnsVoid) {
             return this.executeFireAndForget(rSocketRequesterRegistry, connectorExecution);
         }
@@ -126,7 +199,9 @@ public class RSocketMicroConnectorMethod {
     }
 
     /**
-     * Execute fire-and-forget by rsocket
+     * Execute fire-and-forget by rsocket, the request is guarded by the circuit breaker of the transport uri,
+     * retried if the connector method is annotated with {@code @Retry} and buffered if it's annotated with {@code @BufferedFireAndForget},
+     * every subscribed execution deposits to the retry budget of the transport uri
      *
      * @param rSocketRequesterRegistry the rsocket requester registry
      * @param connectorExecution       the connector execution
@@ -134,8 +209,19 @@ public class RSocketMicroConnectorMethod {
      */
     private Publisher<Void> executeFireAndForget(RSocketRequesterRegistry rSocketRequesterRegistry,
                                                  ConnectorExecution connectorExecution) {
-        Mono<Void> fireAndForgetMono = this.resolveRequestSpec(rSocketRequesterRegistry, connectorExecution)
-                .flatMap(RequestSpec::send);
+        Mono<Void> fireAndForgetMono = this.resolveExecution(connectorExecution)
+                .flatMap(execution -> this.newRequestSpec(rSocketRequesterRegistry, execution, fireAndForgetBuffer))
+                .flatMap(requestSpec -> {
+                    retryBudget.deposit();
+                    Mono<Void> sendMono = RoutingKeyContext.withRoutingKey(requestSpec.send(), connectorExecution.getRoutingKey());
+                    if (Objects.nonNull(circuitBreaker)) {
+                        sendMono = circuitBreaker.decorate(sendMono);
+                    }
+                    if (Objects.isNull(retry)) {
+                        return sendMono;
+                    }
+                    return retry.retry(sendMono);
+                });
         if (this.methodSignature.returnsMany) {
             return Flux.from(fireAndForgetMono);
         }
@@ -143,7 +229,7 @@ public class RSocketMicroConnectorMethod {
     }
 
     /**
-     * Execute request-stream by rsocket
+     * Execute request-stream by rsocket, the request is guarded by the circuit breaker of the transport uri
      *
      * @param rSocketRequesterRegistry the rsocket requester registry
      * @param connectorExecution       the connector execution
@@ -153,17 +239,27 @@ public class RSocketMicroConnectorMethod {
                                                       ConnectorExecution connectorExecution) {
         return this.resolveRequestSpec(rSocketRequesterRegistry, connectorExecution)
                 .flatMapMany(requestSpec -> {
-                    return requestSpec.retrieveFlux(new ParameterizedTypeReference<>() {
+                    Flux<R> retrieveFlux = requestSpec.retrieveFlux(new ParameterizedTypeReference<>() {
                         @Override
                         public Type getType() {
                             return methodSignature.getReturnType();
                         }
                     });
+                    retrieveFlux = RoutingKeyContext.withRoutingKey(retrieveFlux, connectorExecution.getRoutingKey());
+                    if (Objects.nonNull(circuitBreaker)) {
+                        retrieveFlux = circuitBreaker.decorate(retrieveFlux);
+                    }
+                    return retrieveFlux;
                 });
     }
 
     /**
-     * Execute request-response by rsocket
+     * Execute request-response by rsocket, every attempt is guarded by the circuit breaker of the transport uri
+     * and limited by its concurrency limiter, the request is hedged if the connector method is annotated with {@code @Hedged},
+     * retried if it's annotated with {@code @Retry}, shared by the identical in-flight executions if it's annotated with {@code @Coalesce},
+     * served from the client-side cache if it's annotated with {@code @CachedResponse}, the cached responses are served
+     * even if the circuit breaker is open, and sent in batches if it's annotated with {@code @Batched}.
+     * Only the execution actually sent deposits to the retry budget of the transport uri, not the cached or coalesced ones
      *
      * @param rSocketRequesterRegistry the rsocket requester registry
      * @param connectorExecution       the connector execution
@@ -171,14 +267,45 @@ public class RSocketMicroConnectorMethod {
      */
     private <R> Mono<R> executeRequestResponse(RSocketRequesterRegistry rSocketRequesterRegistry,
                                                ConnectorExecution connectorExecution) {
-        return this.resolveRequestSpec(rSocketRequesterRegistry, connectorExecution)
-                .flatMap(requestSpec -> {
-                    return requestSpec.retrieveMono(new ParameterizedTypeReference<>() {
-                        @Override
-                        public Type getType() {
-                            return methodSignature.getReturnType();
-                        }
-                    });
+        Mono<ConnectorExecution> executionMono = Objects.isNull(responseCache)
+                ? this.resolveExecution(connectorExecution)
+                : this.customizeExecution(connectorExecution);
+        return executionMono
+                .flatMap(execution -> {
+                    Mono<R> responseMono = this.newRequestSpec(rSocketRequesterRegistry, execution, batching)
+                            .flatMap(requestSpec -> {
+                                retryBudget.deposit();
+                                Mono<R> retrieveMono = requestSpec.retrieveMono(new ParameterizedTypeReference<>() {
+                                    @Override
+                                    public Type getType() {
+                                        return methodSignature.getReturnType();
+                                    }
+                                });
+                                retrieveMono = RoutingKeyContext.withRoutingKey(retrieveMono, execution.getRoutingKey());
+                                if (Objects.nonNull(circuitBreaker)) {
+                                    retrieveMono = circuitBreaker.decorate(retrieveMono);
+                                }
+                                if (Objects.nonNull(concurrencyLimiter)) {
+                                    retrieveMono = concurrencyLimiter.limit(retrieveMono);
+                                }
+                                if (Objects.nonNull(hedging)) {
+                                    retrieveMono = hedging.hedge(retrieveMono);
+                                }
+                                if (Objects.nonNull(retry)) {
+                                    retrieveMono = retry.retry(retrieveMono);
+                                }
+                                return retrieveMono;
+                            });
+                    if (Objects.nonNull(responseCache)) {
+                        responseMono = this.checkCallPermitted(execution).then(responseMono);
+                    }
+                    if (Objects.nonNull(coalescing)) {
+                        responseMono = coalescing.coalesce(execution, responseMono);
+                    }
+                    if (Objects.nonNull(responseCache)) {
+                        responseMono = responseCache.cache(execution, responseMono);
+                    }
+                    return responseMono;
                 });
     }
 
@@ -191,15 +318,81 @@ public class RSocketMicroConnectorMethod {
      */
     private Mono<RequestSpec> resolveRequestSpec(RSocketRequesterRegistry rSocketRequesterRegistry,
                                                  ConnectorExecution connectorExecution) {
-        return Mono.just(connectorExecution)
-                .flatMap(execution -> Flux.fromIterable(executionCustomizers)
-                        .concatMap(executionCustomizer -> executionCustomizer.customize(execution))
-                        .then(Mono.defer(() -> Mono.just(execution)))
-                )
-                .flatMap(execution -> Mono.fromCallable(() -> {
-                    RSocketRequester rSocketRequester = rSocketRequesterRegistry.getRSocketRequester(connectorData.getTransportURI());
-                    return this.resolveRequestSpec(rSocketRequester, execution);
-                }));
+        return this.resolveExecution(connectorExecution)
+                .flatMap(execution -> this.newRequestSpec(rSocketRequesterRegistry, execution));
+    }
+
+    /**
+     * Resolve the connector execution by the execution customizers,
+     * the execution fails immediately if the circuit breaker of the transport uri is open
+     *
+     * @param connectorExecution the connector execution
+     * @return the resolved connector execution
+     */
+    private Mono<ConnectorExecution> resolveExecution(ConnectorExecution connectorExecution) {
+        return this.checkCallPermitted(connectorExecution).flatMap(this::customizeExecution);
+    }
+
+    /**
+     * Check whether the circuit breaker of the transport uri permits the call
+     *
+     * @param connectorExecution the connector execution
+     * @return the connector execution, or the error if the circuit breaker is open
+     */
+    private Mono<ConnectorExecution> checkCallPermitted(ConnectorExecution connectorExecution) {
+        if (Objects.isNull(circuitBreaker)) {
+            return Mono.just(connectorExecution);
+        }
+        return Mono.fromCallable(() -> {
+            if (!circuitBreaker.isCallPermitted()) {
+                throw circuitBreaker.callNotPermitted();
+            }
+            return connectorExecution;
+        });
+    }
+
+    /**
+     * Customize the connector execution by the execution customizers
+     *
+     * @param connectorExecution the connector execution
+     * @return the customized connector execution
+     */
+    private Mono<ConnectorExecution> customizeExecution(ConnectorExecution connectorExecution) {
+        return Flux.fromIterable(executionCustomizers)
+                .concatMap(executionCustomizer -> executionCustomizer.customize(connectorExecution))
+                .then(Mono.defer(() -> Mono.just(connectorExecution)));
+    }
+
+    /**
+     * New request spec of the resolved connector execution
+     *
+     * @param rSocketRequesterRegistry the rsocket requester registry
+     * @param connectorExecution       the resolved connector execution
+     * @return the prepared request spec
+     */
+    private Mono<RequestSpec> newRequestSpec(RSocketRequesterRegistry rSocketRequesterRegistry,
+                                             ConnectorExecution connectorExecution) {
+        return this.newRequestSpec(rSocketRequesterRegistry, connectorExecution, null);
+    }
+
+    /**
+     * New request spec of the resolved connector execution, whose requester is decorated if the requester decorator is present
+     *
+     * @param rSocketRequesterRegistry the rsocket requester registry
+     * @param connectorExecution       the resolved connector execution
+     * @param requesterDecorator       the requester decorator
+     * @return the prepared request spec
+     */
+    private Mono<RequestSpec> newRequestSpec(RSocketRequesterRegistry rSocketRequesterRegistry,
+                                             ConnectorExecution connectorExecution,
+                                             @Nullable ConnectorRequesterDecorator requesterDecorator) {
+        return Mono.fromCallable(() -> {
+            RSocketRequester rSocketRequester = rSocketRequesterRegistry.getRSocketRequester(connectorData.getTransportURI());
+            if (Objects.nonNull(requesterDecorator)) {
+                rSocketRequester = requesterDecorator.decorate(rSocketRequester, connectorExecution);
+            }
+            return this.resolveRequestSpec(rSocketRequester, connectorExecution);
+        });
     }
 
     /**
@@ -211,19 +404,20 @@ public class RSocketMicroConnectorMethod {
      */
     private RSocketRequester.RequestSpec resolveRequestSpec(RSocketRequester rSocketRequester,
                                                             ConnectorExecution connectorExecution) {
-        RequestSpec requestSpec = getPathVariables(connectorExecution)
-                .map(pathVariables -> rSocketRequester.route(connectorExecution.getRoute(), pathVariables))
-                .orElseGet(() -> rSocketRequester.route(connectorExecution.getRoute()));
+        Object[] routeVariables = this.requestTemplate.resolveRouteVariables(connectorExecution);
+        RequestSpec requestSpec = Objects.isNull(routeVariables)
+                ? rSocketRequester.route(connectorExecution.getRoute())
+                : rSocketRequester.route(connectorExecution.getRoute(), routeVariables);
         MultiValueMap<String, String> headers = connectorExecution.getHeaders();
         if (!headers.isEmpty()) {
             requestSpec.metadata(metadataSpec -> {
-                metadataSpec.metadata(headers, MimeTypeUtils.parseMimeType(CONNECTOR_HEADER_MEDIA_TYPE.toString()));
+                metadataSpec.metadata(headers, CONNECTOR_HEADER_MIME_TYPE);
             });
         }
         MultiValueMap<String, String> queryParams = connectorExecution.getQueryParams();
         if (!queryParams.isEmpty()) {
             requestSpec.metadata(metadataSpec -> {
-                metadataSpec.metadata(queryParams, MimeTypeUtils.parseMimeType(CONNECTOR_QUERY_MEDIA_TYPE.toString()));
+                metadataSpec.metadata(queryParams, CONNECTOR_QUERY_MIME_TYPE);
             });
         }
         Object bodyData = connectorExecution.getBodyData();
@@ -233,182 +427,222 @@ public class RSocketMicroConnectorMethod {
         String requestPartName = connectorExecution.getRequestPartName();
         if (Objects.nonNull(requestPartName)) {
             requestSpec.metadata(metadataSpec -> {
-                metadataSpec.metadata(requestPartName,
-                        MimeTypeUtils.parseMimeType(CONNECTOR_FILE_PART_NAME_MEDIA_TYPE.toString())
-                );
+                metadataSpec.metadata(requestPartName, CONNECTOR_FILE_PART_NAME_MIME_TYPE);
             });
         }
         return requestSpec;
     }
 
     /**
-     * Gets path variables from connector execution
-     *
-     * @param connectorExecution the connector execution
-     * @return the optional path variable
-     */
-    private Optional<Object[]> getPathVariables(ConnectorExecution connectorExecution) {
-        String route = connectorExecution.getRoute();
-        String[] pathVariableNames = RSocketMicroConnectUtil.substringsBetween(route, "{", "}");
-        if (Objects.isNull(pathVariableNames) || pathVariableNames.length == 0) {
-            return Optional.empty();
-        }
-        Map<String, String> pathVariables = connectorExecution.getPathVariables();
-        if (pathVariables.isEmpty()) {
-            return Optional.empty();
-        }
-        Object[] pathVariableValues = new Object[pathVariableNames.length];
-        for (int i = 0; i < pathVariableNames.length; i++) {
-            String pathVariableName = pathVariableNames[i];
-            String pathVariableValue = pathVariables.get(pathVariableName);
-            Assert.notNull(pathVariableValue, () -> "Path variable " + pathVariableName + " can not be null");
-            pathVariableValues[i] = pathVariableValue;
-        }
-        return Optional.of(pathVariableValues);
-    }
-
-    /**
-     * Init connection execution
-     *
-     * @param args the method execution args
-     * @return the connector execution
+     * The compiled request template of the connector method.
+     * The route variables, path variables, headers, query params, body and request part name are resolved
+     * into argument slots once, so binding the method args only allocates the connector execution.
      */
-    private ConnectorExecution initConnectionExecution(Object[] args) {
-        ConnectorExecutionMetadata connectorExecutionMetadata = ConnectorExecutionMetadata.builder()
-                .originalRoute(this.connectorData.getOriginalRoute())
-                .parameters(this.methodSignature.getParameters())
-                .parameterAnnotations(this.methodSignature.getParameterAnnotations())
-                .connectorInterface(this.methodSignature.getConnectorInterface())
-                .connectorMethod(this.methodSignature.connectorMethod)
-                .args(args)
-                .build();
-        ConnectorExecutionBuilder connectorExecutionBuilder = ConnectorExecution.builder()
-                .connectorExecutionMetadata(connectorExecutionMetadata)
-                .route(this.connectorData.getOriginalRoute());
-        this.resolvePathVariables(args).ifPresent(connectorExecutionBuilder::pathVariables);
-        this.resolveBody(args).ifPresent(connectorExecutionBuilder::bodyData);
-        this.resolveRequestPartName(args).ifPresent(connectorExecutionBuilder::requestPartName);
-        this.resolveHeaderValues(args).ifPresent(connectorExecutionBuilder::headers);
-        this.resolveQueryParams(args).ifPresent(connectorExecutionBuilder::queryParams);
-        return connectorExecutionBuilder.build();
-    }
+    static class RequestTemplate {
 
-    private Optional<Map<String, String>> resolvePathVariables(Object[] args) {
-        if (Objects.isNull(args) || args.length == 0) {
-            return Optional.empty();
-        }
-        Map<String, String> pathVariables = new HashMap<>();
-        this.resolvedParameterIndexInfo.getPathVariableIndex()
-                .forEach((pathVariableName, valueIndex) -> {
-                    Object argValue = args[valueIndex];
-                    if (Objects.nonNull(argValue)) {
-                        pathVariables.put(pathVariableName, this.applyConversionService(argValue));
-                    }
-                });
-        if (pathVariables.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(pathVariables);
-    }
+        private static final int NONE = -1;
+        private static final String[] EMPTY_NAMES = new String[0];
 
-    private Optional<Object> resolveBody(Object[] args) {
-        if (Objects.isNull(args) || args.length == 0) {
-            return Optional.empty();
-        }
-        Integer bodyIndex = this.resolvedParameterIndexInfo.getBodyIndex();
-        if (Objects.isNull(bodyIndex)) {
-            return Optional.empty();
+        private final String originalRoute;
+        private final String[] routeVariableNames;
+        private final Class<?> connectorInterface;
+        private final Method connectorMethod;
+        private final Parameter[] parameters;
+        private final Annotation[][] parameterAnnotations;
+        private final String[] pathVariableNames;
+        private final int[] pathVariableIndexes;
+        private final int bodyIndex;
+        private final int partNameIndex;
+        private final int routingKeyIndex;
+        private final int singleHeaderIndex;
+        private final String[] headerNames;
+        private final int[] headerIndexes;
+        private final String[] queryParamNames;
+        private final int[] queryParamIndexes;
+        @Nullable
+        private final ConversionService conversionService;
+
+        RequestTemplate(MethodSignature methodSignature,
+                        String originalRoute,
+                        ResolvedParameterIndexInfo resolvedParameterIndexInfo,
+                        @Nullable ConversionService conversionService) {
+            this.originalRoute = originalRoute;
+            String[] resolvedRouteVariableNames = RSocketMicroConnectUtil.substringsBetween(originalRoute, "{", "}");
+            this.routeVariableNames = Objects.isNull(resolvedRouteVariableNames) ? EMPTY_NAMES : resolvedRouteVariableNames;
+            this.connectorInterface = methodSignature.getConnectorInterface();
+            this.connectorMethod = methodSignature.getConnectorMethod();
+            this.parameters = methodSignature.getParameters();
+            this.parameterAnnotations = methodSignature.getParameterAnnotations();
+            Map<String, Integer> pathVariableIndex = resolvedParameterIndexInfo.getPathVariableIndex();
+            this.pathVariableNames = new String[pathVariableIndex.size()];
+            this.pathVariableIndexes = new int[pathVariableIndex.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : pathVariableIndex.entrySet()) {
+                this.pathVariableNames[i] = entry.getKey();
+                this.pathVariableIndexes[i] = entry.getValue();
+                i++;
+            }
+            this.bodyIndex = indexOrNone(resolvedParameterIndexInfo.getBodyIndex());
+            this.partNameIndex = indexOrNone(resolvedParameterIndexInfo.getPartNameIndex());
+            this.routingKeyIndex = indexOrNone(resolvedParameterIndexInfo.getRoutingKeyIndex());
+            ResolvedHeaderIndex headerIndex = resolvedParameterIndexInfo.getHeaderIndex();
+            this.singleHeaderIndex = indexOrNone(headerIndex.singleHeaders());
+            MultiValueMap<String, Integer> namedHeaderIndex = headerIndex.namedHeader();
+            this.headerNames = new String[countSlots(namedHeaderIndex)];
+            this.headerIndexes = new int[this.headerNames.length];
+            fillSlots(namedHeaderIndex, this.headerNames, this.headerIndexes);
+            MultiValueMap<String, Integer> queryParamIndex = resolvedParameterIndexInfo.getQueryParamIndex();
+            this.queryParamNames = new String[countSlots(queryParamIndex)];
+            this.queryParamIndexes = new int[this.queryParamNames.length];
+            fillSlots(queryParamIndex, this.queryParamNames, this.queryParamIndexes);
+            this.conversionService = conversionService;
         }
-        Object argValue = args[bodyIndex];
-        return Optional.ofNullable(argValue);
-    }
 
-    private Optional<MultiValueMap<String, String>> resolveHeaderValues(Object[] args) {
-        if (Objects.isNull(args) || args.length == 0) {
-            return Optional.empty();
-        }
-        ResolvedHeaderIndex headerIndex = this.resolvedParameterIndexInfo.getHeaderIndex();
-        Integer singleHeaderIndex = headerIndex.singleHeaders();
-        MultiValueMap<String, Integer> namedHeaderIndex = headerIndex.namedHeader();
-        MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
-        if (Objects.nonNull(singleHeaderIndex)) {
-            Object arg = args[singleHeaderIndex];
-            if (Objects.nonNull(arg)) {
-                if (arg instanceof HttpHeaders argValue) {
-                    headers.addAll(argValue);
-                } else if (arg instanceof MultiValueMap<?, ?> argValue) {
-                    argValue.forEach((k, v) -> {
-                        if (!(k instanceof String)) {
-                            return;
-                        }
-                        for (Object item : v) {
-                            if (!(item instanceof String)) {
-                                headers.add((String) k, String.valueOf(item));
-                            } else {
-                                headers.add((String) k, (String) item);
-                            }
-                        }
-                    });
+        /**
+         * Bind the method args to a new connector execution.
+         *
+         * @param args the method execution args
+         * @return the connector execution
+         */
+        ConnectorExecution bind(Object[] args) {
+            ConnectorExecutionMetadata connectorExecutionMetadata = ConnectorExecutionMetadata.builder()
+                    .originalRoute(this.originalRoute)
+                    .parameters(this.parameters)
+                    .parameterAnnotations(this.parameterAnnotations)
+                    .connectorInterface(this.connectorInterface)
+                    .connectorMethod(this.connectorMethod)
+                    .args(args)
+                    .build();
+            ConnectorExecutionBuilder connectorExecutionBuilder = ConnectorExecution.builder()
+                    .connectorExecutionMetadata(connectorExecutionMetadata)
+                    .route(this.originalRoute);
+            if (Objects.isNull(args) || args.length == 0) {
+                return connectorExecutionBuilder.build();
+            }
+            if (this.bodyIndex != NONE) {
+                connectorExecutionBuilder.bodyData(args[this.bodyIndex]);
+            }
+            if (this.partNameIndex != NONE) {
+                connectorExecutionBuilder.requestPartName(this.resolveRequestPartName(args[this.partNameIndex]));
+            }
+            if (this.routingKeyIndex != NONE && Objects.nonNull(args[this.routingKeyIndex])) {
+                connectorExecutionBuilder.routingKey(this.applyConversionService(args[this.routingKeyIndex]));
+            }
+            ConnectorExecution connectorExecution = connectorExecutionBuilder.build();
+            for (int i = 0; i < this.pathVariableNames.length; i++) {
+                Object argValue = args[this.pathVariableIndexes[i]];
+                if (Objects.nonNull(argValue)) {
+                    connectorExecution.addPathVariable(this.pathVariableNames[i], this.applyConversionService(argValue));
                 }
             }
-        }
-        namedHeaderIndex.forEach((name, indexList) -> {
-            indexList.forEach(index -> {
-                Object argValue = args[index];
+            if (this.singleHeaderIndex != NONE) {
+                this.bindHeaders(connectorExecution, args[this.singleHeaderIndex]);
+            }
+            for (int i = 0; i < this.headerNames.length; i++) {
+                Object argValue = args[this.headerIndexes[i]];
                 if (Objects.nonNull(argValue)) {
-                    headers.add(name, this.applyConversionService(argValue));
+                    connectorExecution.addHeader(this.headerNames[i], this.applyConversionService(argValue));
                 }
-            });
-        });
-        if (headers.isEmpty()) {
-            return Optional.empty();
+            }
+            for (int i = 0; i < this.queryParamNames.length; i++) {
+                Object argValue = args[this.queryParamIndexes[i]];
+                if (Objects.nonNull(argValue)) {
+                    connectorExecution.addQueryParam(this.queryParamNames[i], this.applyConversionService(argValue));
+                }
+            }
+            return connectorExecution;
         }
-        return Optional.of(headers);
-    }
 
-    private Optional<MultiValueMap<String, String>> resolveQueryParams(Object[] args) {
-        if (Objects.isNull(args) || args.length == 0) {
-            return Optional.empty();
-        }
-        MultiValueMap<String, String> multiValueMap = new LinkedMultiValueMap<>();
-        this.resolvedParameterIndexInfo.getQueryParamIndex()
-                .forEach((name, indexList) -> {
-                    indexList.forEach(index -> {
-                        Object argValue = args[index];
-                        if (Objects.nonNull(argValue)) {
-                            multiValueMap.add(name, this.applyConversionService(argValue));
+        /**
+         * Resolve the route variable values of connector execution in route order.
+         * The precompiled route variable names are used unless the route was changed by a customizer.
+         *
+         * @param connectorExecution the connector execution
+         * @return the route variable values or null if there is no route variable
+         */
+        @Nullable
+        Object[] resolveRouteVariables(ConnectorExecution connectorExecution) {
+            String route = connectorExecution.getRoute();
+            String[] variableNames = this.originalRoute.equals(route)
+                    ? this.routeVariableNames
+                    : RSocketMicroConnectUtil.substringsBetween(route, "{", "}");
+            if (Objects.isNull(variableNames) || variableNames.length == 0) {
+                return null;
+            }
+            Map<String, String> pathVariables = connectorExecution.getPathVariables();
+            if (pathVariables.isEmpty()) {
+                return null;
+            }
+            Object[] pathVariableValues = new Object[variableNames.length];
+            for (int i = 0; i < variableNames.length; i++) {
+                String pathVariableName = variableNames[i];
+                String pathVariableValue = pathVariables.get(pathVariableName);
+                Assert.notNull(pathVariableValue, () -> "Path variable " + pathVariableName + " can not be null");
+                pathVariableValues[i] = pathVariableValue;
+            }
+            return pathVariableValues;
+        }
+
+        private void bindHeaders(ConnectorExecution connectorExecution, Object arg) {
+            if (arg instanceof HttpHeaders argValue) {
+                connectorExecution.addHeaders(argValue);
+            } else if (arg instanceof MultiValueMap<?, ?> argValue) {
+                argValue.forEach((k, v) -> {
+                    if (!(k instanceof String)) {
+                        return;
+                    }
+                    for (Object item : v) {
+                        if (!(item instanceof String)) {
+                            connectorExecution.addHeader((String) k, String.valueOf(item));
+                        } else {
+                            connectorExecution.addHeader((String) k, (String) item);
                         }
-                    });
+                    }
                 });
-        if (multiValueMap.isEmpty()) {
-            return Optional.empty();
+            }
         }
-        return Optional.of(multiValueMap);
-    }
 
-    private Optional<String> resolveRequestPartName(Object[] args) {
-        if (Objects.isNull(args) || args.length == 0) {
-            return Optional.empty();
-        }
-        Integer partNameIndex = this.resolvedParameterIndexInfo.getPartNameIndex();
-        if (Objects.nonNull(partNameIndex)) {
-            Object argValue = args[partNameIndex];
-            if (Objects.nonNull(argValue)) {
-                if (!(argValue instanceof CharSequence)) {
-                    throw new IllegalArgumentException("Request part name should be a CharSequence, but got: " + argValue.getClass()
-                            .getName());
-                }
-                return Optional.of(argValue.toString());
+        @Nullable
+        private String resolveRequestPartName(Object argValue) {
+            if (Objects.isNull(argValue)) {
+                return null;
+            }
+            if (!(argValue instanceof CharSequence)) {
+                throw new IllegalArgumentException("Request part name should be a CharSequence, but got: " + argValue.getClass()
+                        .getName());
             }
+            return argValue.toString();
         }
-        return Optional.empty();
-    }
 
-    private String applyConversionService(@NonNull Object argValue) {
-        if (Objects.nonNull(this.conversionService)) {
-            return conversionService.convert(argValue, String.class);
+        private String applyConversionService(@NonNull Object argValue) {
+            if (Objects.nonNull(this.conversionService)) {
+                return conversionService.convert(argValue, String.class);
+            }
+            return String.valueOf(argValue);
+        }
+
+        private static int indexOrNone(@Nullable Integer index) {
+            return Objects.isNull(index) ? NONE : index;
+        }
+
+        private static int countSlots(MultiValueMap<String, Integer> nameIndex) {
+            int count = 0;
+            for (List<Integer> indexList : nameIndex.values()) {
+                count += indexList.size();
+            }
+            return count;
+        }
+
+        private static void fillSlots(MultiValueMap<String, Integer> nameIndex, String[] names, int[] indexes) {
+            int i = 0;
+            for (Map.Entry<String, List<Integer>> entry : nameIndex.entrySet()) {
+                for (Integer index : entry.getValue()) {
+                    names[i] = entry.getKey();
+                    indexes[i] = index;
+                    i++;
+                }
+            }
         }
-        return String.valueOf(argValue);
     }
 
     @Getter
@@ -419,6 +653,7 @@ public class RSocketMicroConnectorMethod {
         private final ResolvedHeaderIndex headerIndex;
         private final MultiValueMap<String, Integer> queryParamIndex;
         private final Integer partNameIndex;
+        private final Integer routingKeyIndex;
 
         ResolvedParameterIndexInfo(Class<?> connectorInterface, Method connectorMethod, String originalRoute) {
             this.pathVariableIndex = this.resolvePathVariableIndex(connectorMethod, originalRoute);
@@ -426,6 +661,7 @@ public class RSocketMicroConnectorMethod {
             this.headerIndex = this.resolveHeaderIndex(connectorMethod);
             this.queryParamIndex = this.resolveQueryParamIndex(connectorMethod);
             this.partNameIndex = this.resolveRequestPartNameIndex(connectorMethod);
+            this.routingKeyIndex = this.resolveRoutingKeyIndex(connectorMethod);
         }
 
         private Map<String, Integer> resolvePathVariableIndex(Method connectorMethod, String originalRoute) {
@@ -503,7 +739,8 @@ public class RSocketMicroConnectorMethod {
                             || DestinationVariable.class.equals(annotation.annotationType())
                             || RequestParam.class.equals(annotation.annotationType())
                             || RequestHeader.class.equals(annotation.annotationType())
-                            || RequestPartName.class.equals(annotation.annotationType())) {
+                            || RequestPartName.class.equals(annotation.annotationType())
+                            || RoutingKey.class.equals(annotation.annotationType())) {
                         isAnyResolvedAnnotationMatched = true;
                         break;
                     }
@@ -593,6 +830,19 @@ public class RSocketMicroConnectorMethod {
             return null;
         }
 
+        private Integer resolveRoutingKeyIndex(Method connectorMethod) {
+            Annotation[][] parameterAnnotations = connectorMethod.getParameterAnnotations();
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                Annotation[] annotations = parameterAnnotations[i];
+                for (Annotation annotation : annotations) {
+                    if (RoutingKey.class.equals(annotation.annotationType())) {
+                        return i;
+                    }
+                }
+            }
+            return null;
+        }
+
     }
 
     private record ResolvedHeaderIndex(Integer singleHeaders, MultiValueMap<String, Integer> namedHeader) {
@@ -31,6 +31,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static pro.chenggang.project.rsocket.micro.connect.core.util.RSocketMicroConnectUtil.unwrapThrowable;
@@ -82,7 +83,8 @@ public class RSocketMicroConnectorProxy<T> implements InvocationHandler, Seriali
     @Nullable
     private final ConversionService conversionService;
     private final List<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers;
-    private final Map<Method, MicroConnectorMethodInvoker> connectorMethodCache = new ConcurrentHashMap<>();
+    private final ConnectorExecutionPolicies connectorExecutionPolicies;
+    private final Map<Method, MicroConnectorMethodInvoker> connectorMethodCache;
 
     /**
      * Instantiates a new rsocket connector proxy.
@@ -96,10 +98,37 @@ public class RSocketMicroConnectorProxy<T> implements InvocationHandler, Seriali
                                       RSocketRequesterRegistry rSocketRequesterRegistry,
                                       ConversionService conversionService,
                                       List<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers) {
+        this(connectorInterface,
+                rSocketRequesterRegistry,
+                conversionService,
+                connectorExecutionCustomizers,
+                ConnectorExecutionPolicies.defaults(),
+                new ConcurrentHashMap<>()
+        );
+    }
+
+    /**
+     * Instantiates a new rsocket connector proxy sharing the compiled connector methods with other proxies.
+     *
+     * @param connectorInterface            the connector interface
+     * @param rSocketRequesterRegistry      the rsocket requester registry
+     * @param conversionService             the conversion service
+     * @param connectorExecutionCustomizers the connector execution customizer list
+     * @param connectorExecutionPolicies    the shared connector execution policies
+     * @param connectorMethodCache          the shared compiled connector method cache
+     */
+    RSocketMicroConnectorProxy(Class<T> connectorInterface,
+                               RSocketRequesterRegistry rSocketRequesterRegistry,
+                               ConversionService conversionService,
+                               List<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers,
+                               ConnectorExecutionPolicies connectorExecutionPolicies,
+                               Map<Method, MicroConnectorMethodInvoker> connectorMethodCache) {
         this.connectorInterface = connectorInterface;
         this.rSocketRequesterRegistry = rSocketRequesterRegistry;
         this.conversionService = conversionService;
         this.connectorExecutionCustomizers = connectorExecutionCustomizers;
+        this.connectorExecutionPolicies = connectorExecutionPolicies;
+        this.connectorMethodCache = connectorMethodCache;
     }
 
     @Override
@@ -115,6 +144,10 @@ public class RSocketMicroConnectorProxy<T> implements InvocationHandler, Seriali
     }
 
     private MicroConnectorMethodInvoker cachedInvoker(Method method) throws Throwable {
+        MicroConnectorMethodInvoker invoker = connectorMethodCache.get(method);
+        if (Objects.nonNull(invoker)) {
+            return invoker;
+        }
         try {
             return connectorMethodCache.computeIfAbsent(method, m -> {
                         if (m.isDefault()) {
@@ -131,7 +164,8 @@ public class RSocketMicroConnectorProxy<T> implements InvocationHandler, Seriali
                             return new PlainMicroConnectorMethodInvoker(new RSocketMicroConnectorMethod(connectorInterface,
                                     method,
                                     conversionService,
-                                    connectorExecutionCustomizers
+                                    connectorExecutionCustomizers,
+                                    connectorExecutionPolicies
                             ));
                         }
                     }
@@ -15,14 +15,20 @@
  */
 package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.convert.ConversionService;
 import pro.chenggang.project.rsocket.micro.connect.spring.client.RSocketRequesterRegistry;
+import pro.chenggang.project.rsocket.micro.connect.spring.proxy.RSocketMicroConnectorProxy.MicroConnectorMethodInvoker;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The rsocket micro connector proxy factory.
@@ -33,6 +39,8 @@ import java.util.List;
 @Getter
 public class RSocketMicroConnectorProxyFactory<T> {
 
+    private static final Object NO_CONVERSION_SERVICE = new Object();
+
     /**
      * The connector interface
      */
@@ -43,6 +51,23 @@ public class RSocketMicroConnectorProxyFactory<T> {
      */
     private final List<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers;
 
+    /**
+     * The connector execution policies shared by all the proxies
+     */
+    private final ConnectorExecutionPolicies connectorExecutionPolicies;
+
+    /**
+     * The compiled connector methods shared by all the proxies with the same conversion service
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, Map<Method, MicroConnectorMethodInvoker>> connectorMethodCaches = new ConcurrentHashMap<>();
+
+    /**
+     * The connector instances of each rsocket requester registry and conversion service combination
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<ConnectorInstanceKey, T> connectorInstanceCache = new ConcurrentHashMap<>();
+
     /**
      * Instantiates a new rsocket micro connector proxy factory.
      *
@@ -51,12 +76,47 @@ public class RSocketMicroConnectorProxyFactory<T> {
      */
     public RSocketMicroConnectorProxyFactory(Class<T> connectorInterface,
                                              List<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers) {
+        this(connectorInterface, connectorExecutionCustomizers, ConnectorExecutionPolicies.defaults());
+    }
+
+    /**
+     * Instantiates a new rsocket micro connector proxy factory.
+     *
+     * @param connectorInterface            the rsocket micro connector interface
+     * @param connectorExecutionCustomizers the connector execution customizer list
+     * @param connectorExecutionPolicies    the shared connector execution policies
+     */
+    public RSocketMicroConnectorProxyFactory(Class<T> connectorInterface,
+                                             List<RSocketMicroConnectorExecutionCustomizer> connectorExecutionCustomizers,
+                                             @NonNull ConnectorExecutionPolicies connectorExecutionPolicies) {
         this.connectorInterface = connectorInterface;
         this.connectorExecutionCustomizers = connectorExecutionCustomizers;
+        this.connectorExecutionPolicies = connectorExecutionPolicies;
+    }
+
+    /**
+     * Gets the cached rsocket micro connector proxy instance, a new one is only created for a new
+     * rsocket requester registry and conversion service combination.
+     *
+     * @param rSocketRequesterRegistry the rsocket requester registry
+     * @param conversionService        the optional conversion service
+     * @return the rsocket micro connector proxy instance
+     */
+    public T getInstance(@NonNull RSocketRequesterRegistry rSocketRequesterRegistry,
+                         @Nullable ConversionService conversionService) {
+        ConnectorInstanceKey connectorInstanceKey = new ConnectorInstanceKey(rSocketRequesterRegistry, conversionService);
+        T instance = connectorInstanceCache.get(connectorInstanceKey);
+        if (Objects.nonNull(instance)) {
+            return instance;
+        }
+        return connectorInstanceCache.computeIfAbsent(connectorInstanceKey,
+                key -> newInstance(rSocketRequesterRegistry, conversionService)
+        );
     }
 
     /**
      * New rsocket micro connector proxy instance.
+     * The compiled connector methods are shared with the other instances with the same conversion service.
      *
      * @param rSocketRequesterRegistry the rsocket requester registry
      * @param conversionService        the optional conversion service
@@ -67,7 +127,11 @@ public class RSocketMicroConnectorProxyFactory<T> {
         final RSocketMicroConnectorProxy<T> serviceProxy = new RSocketMicroConnectorProxy<>(connectorInterface,
                 rSocketRequesterRegistry,
                 conversionService,
-                connectorExecutionCustomizers
+                connectorExecutionCustomizers,
+                connectorExecutionPolicies,
+                connectorMethodCaches.computeIfAbsent(Objects.isNull(conversionService) ? NO_CONVERSION_SERVICE : conversionService,
+                        key -> new ConcurrentHashMap<>()
+                )
         );
         return newInstance(serviceProxy);
     }
@@ -78,4 +142,13 @@ public class RSocketMicroConnectorProxyFactory<T> {
         );
     }
 
+    /**
+     * The connector instance key.
+     *
+     * @param rSocketRequesterRegistry the rsocket requester registry
+     * @param conversionService        the optional conversion service
+     */
+    private record ConnectorInstanceKey(RSocketRequesterRegistry rSocketRequesterRegistry,
+                                        @Nullable ConversionService conversionService) {
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import lombok.Getter;
+
+import java.net.URI;
+
+/**
+ * The retry budget of a transport uri shared by all the connector methods of it.
+ * <p>
+ * Every request-response or fire-and-forget execution sent to the transport uri deposits a fraction of a token
+ * once it's subscribed, and every retry withdraws a token,
+ * so the retries never exceed the ratio of the executions plus the burst.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RetryBudget extends ExecutionBudget {
+
+    /**
+     * The default ratio of the retries to the executions.
+     */
+    public static final double DEFAULT_RATIO = 0.1D;
+
+    /**
+     * The default maximum retries which can be sent in a burst.
+     */
+    public static final int DEFAULT_BURST = 10;
+
+    /**
+     * The transport uri of the retry budget
+     */
+    @Getter
+    private final URI transportURI;
+
+    /**
+     * Instantiates a new retry budget.
+     *
+     * @param transportURI the transport uri
+     * @param ratio        the ratio of the retries to the executions, between 0 and 1
+     * @param burst        the maximum retries which can be sent in a burst
+     */
+    public RetryBudget(URI transportURI, double ratio, int burst) {
+        super(ratio, burst);
+        this.transportURI = transportURI;
+    }
+
+    /**
+     * Gets the count of the sent retries.
+     *
+     * @return the retry count
+     */
+    public long getRetriedCount() {
+        return this.getWithdrawnCount();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the retry budgets of each transport uri.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RetryBudgetRegistry {
+
+    private final double ratio;
+    private final int burst;
+    private final Map<URI, RetryBudget> retryBudgets = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new retry budget registry with the default ratio and burst.
+     */
+    public RetryBudgetRegistry() {
+        this(RetryBudget.DEFAULT_RATIO, RetryBudget.DEFAULT_BURST);
+    }
+
+    /**
+     * Instantiates a new retry budget registry.
+     *
+     * @param ratio the ratio of the retries to the executions of each transport uri, between 0 and 1
+     * @param burst the maximum retries of each transport uri which can be sent in a burst
+     */
+    public RetryBudgetRegistry(double ratio, int burst) {
+        Assert.isTrue(ratio >= 0D && ratio <= 1D, "Retry budget ratio should be between 0 and 1");
+        Assert.isTrue(burst >= 1, "Retry budget burst should be greater than 0");
+        this.ratio = ratio;
+        this.burst = burst;
+    }
+
+    /**
+     * Gets the retry budget of the transport uri, it's created on the first time.
+     *
+     * @param transportURI the transport uri
+     * @return the retry budget
+     */
+    public RetryBudget getRetryBudget(@NonNull URI transportURI) {
+        return retryBudgets.computeIfAbsent(transportURI, uri -> new RetryBudget(uri, ratio, burst));
+    }
+
+    /**
+     * Gets all the created retry budgets.
+     *
+     * @return the retry budgets
+     */
+    public Collection<RetryBudget> getRetryBudgets() {
+        return Collections.unmodifiableCollection(retryBudgets.values());
+    }
+}
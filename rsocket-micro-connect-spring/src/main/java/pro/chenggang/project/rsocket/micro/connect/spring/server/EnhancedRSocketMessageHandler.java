@@ -15,6 +15,7 @@
  */
 package pro.chenggang.project.rsocket.micro.connect.spring.server;
 
+import io.rsocket.SocketAcceptor;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.messaging.handler.CompositeMessageCondition;
 import org.springframework.messaging.handler.DestinationPatternsMessageCondition;
@@ -25,19 +26,33 @@ import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHa
 import org.springframework.messaging.rsocket.service.RSocketExchange;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.SharedMetadataExtractor;
 
 import java.lang.reflect.AnnotatedElement;
 import java.util.Optional;
 
 /**
  * Enhanced RSocket Message Handler
+ * <p>
+ * When the metadata extractor is a {@link SharedMetadataExtractor}, the responders are decorated by it,
+ * so the message handler takes the request metadata extracted by the interceptors.
  *
  * @author Gang Cheng
- * @version 0.1.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 public class EnhancedRSocketMessageHandler extends RSocketMessageHandler {
 
+    @Override
+    public SocketAcceptor responder() {
+        SocketAcceptor responder = super.responder();
+        if (!(getMetadataExtractor() instanceof SharedMetadataExtractor sharedMetadataExtractor)) {
+            return responder;
+        }
+        return (setupPayload, sendingRSocket) -> responder.accept(setupPayload, sendingRSocket)
+                .map(sharedMetadataExtractor::share);
+    }
+
     @Override
     protected CompositeMessageCondition getCondition(AnnotatedElement element) {
         MessageMapping ann1 = AnnotatedElementUtils.findMergedAnnotation(element, MessageMapping.class);
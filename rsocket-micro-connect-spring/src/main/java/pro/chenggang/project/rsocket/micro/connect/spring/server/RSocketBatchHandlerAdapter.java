@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.plugins.SocketAcceptorInterceptor;
+import io.rsocket.util.ByteBufPayload;
+import io.rsocket.util.RSocketProxy;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec.STATUS_EMPTY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec.STATUS_VALUE;
+
+/**
+ * The batch handler adapter, which handles the batched requests sent by the connector methods annotated with {@code @Batched}
+ * and {@code @BufferedFireAndForget}.
+ * <p>
+ * The request-channel starting with a batch header is handled here, see {@link ConnectorBatchMetadataCodec},
+ * every batched payload is dispatched as a request-response to the responder, so it's handled by the existing
+ * request-response handler method and intercepted as usual. The batched payloads are handled with the bounded concurrency
+ * and their results are sent back in completion order with their indexes, an error result keeps the rsocket error code
+ * of the error, e.g. of a {@code CustomRSocketException}. The other request-channels are delegated
+ * to the responder.
+ * <p>
+ * Every message of a fire-and-forget batch is dispatched as a fire-and-forget to the responder with the bounded concurrency,
+ * the failure of a message doesn't affect the others. A fire-and-forget batch sent as a request-response is acknowledged
+ * with an empty response once all its messages are handled. The other fire-and-forgets and request-responses are
+ * delegated to the responder.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketBatchHandlerAdapter implements SocketAcceptorInterceptor {
+
+    private final int maxConcurrency;
+
+    public RSocketBatchHandlerAdapter(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The max concurrency of the batch handler should be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public SocketAcceptor apply(SocketAcceptor socketAcceptor) {
+        return (setup, sendingSocket) -> socketAcceptor.accept(setup, sendingSocket).map(BatchHandlerRSocket::new);
+    }
+
+    private final class BatchHandlerRSocket extends RSocketProxy {
+
+        BatchHandlerRSocket(RSocket source) {
+            super(source);
+        }
+
+        @Override
+        public Mono<Void> fireAndForget(Payload payload) {
+            if (!ConnectorBatchMetadataCodec.isFireAndForgetBatch(payload)) {
+                return source.fireAndForget(payload);
+            }
+            return this.handleFireAndForgetBatch(payload);
+        }
+
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            if (!ConnectorBatchMetadataCodec.isFireAndForgetBatch(payload)) {
+                return source.requestResponse(payload);
+            }
+            return this.handleFireAndForgetBatch(payload).then(Mono.empty());
+        }
+
+        private Mono<Void> handleFireAndForgetBatch(Payload payload) {
+            List<Payload> payloads;
+            try {
+                payloads = ConnectorBatchMetadataCodec.decodeFireAndForgetBatch(payload);
+            } catch (Throwable t) {
+                return Mono.error(t);
+            } finally {
+                payload.release();
+            }
+            return Flux.fromIterable(payloads)
+                    .flatMap(message -> source.fireAndForget(message)
+                            .onErrorResume(throwable -> {
+                                log.debug("Buffered fire-and-forget message failed, message: {}", throwable.getMessage());
+                                return Mono.empty();
+                            }), maxConcurrency)
+                    .then();
+        }
+
+        @Override
+        public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+            return Flux.from(payloads)
+                    .switchOnFirst((signal, inbound) -> {
+                        Payload first = signal.get();
+                        if (Objects.nonNull(first) && ConnectorBatchMetadataCodec.isBatchHeader(first)) {
+                            return this.handleBatch(inbound);
+                        }
+                        return source.requestChannel(inbound);
+                    });
+        }
+
+        private Flux<Payload> handleBatch(Flux<Payload> inbound) {
+            return inbound.index()
+                    .flatMap(indexed -> {
+                        Payload payload = indexed.getT2();
+                        if (indexed.getT1() == 0L) {
+                            payload.release();
+                            return Mono.empty();
+                        }
+                        return this.dispatch((int) (indexed.getT1() - 1), payload);
+                    }, maxConcurrency);
+        }
+
+        private Mono<Payload> dispatch(int index, Payload payload) {
+            return source.requestResponse(payload)
+                    .map(response -> {
+                        ByteBuf data = response.data().retain();
+                        response.release();
+                        return result(data, index, STATUS_VALUE);
+                    })
+                    .switchIfEmpty(Mono.fromCallable(() -> result(Unpooled.EMPTY_BUFFER, index, STATUS_EMPTY)))
+                    .onErrorResume(throwable -> {
+                        log.debug("Batched request failed, index: {}, message: {}", index, throwable.getMessage());
+                        String message = Objects.isNull(throwable.getMessage()) ? throwable.getClass().getName() : throwable.getMessage();
+                        return Mono.just(ByteBufPayload.create(ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, message),
+                                ConnectorBatchMetadataCodec.encodeBatchErrorResult(ByteBufAllocator.DEFAULT, index, throwable)
+                        ));
+                    });
+        }
+    }
+
+    private static Payload result(ByteBuf data, int index, byte status) {
+        return ByteBufPayload.create(data, ConnectorBatchMetadataCodec.encodeBatchResult(ByteBufAllocator.DEFAULT, index, status));
+    }
+}
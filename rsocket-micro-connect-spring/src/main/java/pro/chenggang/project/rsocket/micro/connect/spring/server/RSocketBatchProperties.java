@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.server;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The batch handler properties of the batched requests sent by the connector methods annotated with {@code @Batched}.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Getter
+@Setter
+public class RSocketBatchProperties {
+
+    /**
+     * Whether the batched requests are handled.
+     * Default value is false.
+     */
+    public boolean enabled = false;
+
+    /**
+     * The maximum batched requests of a batch which are handled concurrently.
+     */
+    public int maxConcurrency = 16;
+}
@@ -57,4 +57,16 @@ public class RSocketMicroConnectServerProperties {
      * The Default metadata mime type.
      */
     public WellKnownMimeType defaultMetadataMimeType = WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA;
+
+    /**
+     * Whether the response cache invalidator which pushes the invalidation keys to the connected clients is enabled.
+     * Default value is false.
+     */
+    public boolean enableResponseCacheInvalidation = false;
+
+    /**
+     * The batch handler properties.
+     */
+    @NestedConfigurationProperty
+    public RSocketBatchProperties batch = new RSocketBatchProperties();
 }
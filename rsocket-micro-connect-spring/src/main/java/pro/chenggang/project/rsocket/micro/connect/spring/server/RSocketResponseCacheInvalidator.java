@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.rsocket.RSocket;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.metadata.CompositeMetadataCodec;
+import io.rsocket.plugins.SocketAcceptorInterceptor;
+import io.rsocket.util.ByteBufPayload;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE;
+
+/**
+ * The invalidator of the client-side response caches, which pushes the invalidation keys to all the connected clients.
+ * <p>
+ * The invalidation keys are the destinations of the cached responses, e.g. {@code /server/user/1},
+ * a key ending with {@code *} invalidates the destinations starting with its prefix, e.g. {@code /server/user/*},
+ * and the key {@code *} invalidates all the cached responses.
+ * The keys are sent as a composite metadata entry of {@code application/connector-cache-invalidation} by metadata push,
+ * the clients which fail to receive it keep their cached responses until they expire.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RSocketResponseCacheInvalidator implements SocketAcceptorInterceptor {
+
+    private static final String INVALIDATION_MIME_TYPE = CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE.toString();
+
+    private final Set<RSocket> connectedClients = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public SocketAcceptor apply(SocketAcceptor socketAcceptor) {
+        return (setup, sendingSocket) -> socketAcceptor.accept(setup, sendingSocket)
+                .doOnNext(rSocket -> {
+                    connectedClients.add(sendingSocket);
+                    sendingSocket.onClose()
+                            .doFinally(signalType -> connectedClients.remove(sendingSocket))
+                            .subscribe(null, throwable -> {});
+                });
+    }
+
+    /**
+     * Gets the number of the connected clients.
+     *
+     * @return the number of the connected clients
+     */
+    public int getConnectedClientCount() {
+        return connectedClients.size();
+    }
+
+    /**
+     * Invalidate the cached responses of the invalidation keys on all the connected clients.
+     *
+     * @param invalidationKeys the invalidation keys
+     * @return the mono completes when the invalidation keys are pushed to all the connected clients
+     */
+    public Mono<Void> invalidate(@NonNull String... invalidationKeys) {
+        return this.invalidate(List.of(invalidationKeys));
+    }
+
+    /**
+     * Invalidate the cached responses of the invalidation keys on all the connected clients.
+     *
+     * @param invalidationKeys the invalidation keys
+     * @return the mono completes when the invalidation keys are pushed to all the connected clients
+     */
+    public Mono<Void> invalidate(@NonNull Collection<String> invalidationKeys) {
+        if (invalidationKeys.isEmpty()) {
+            return Mono.empty();
+        }
+        byte[] content = String.join("\n", invalidationKeys).getBytes(StandardCharsets.UTF_8);
+        return Flux.fromIterable(connectedClients)
+                .flatMap(client -> client.metadataPush(ByteBufPayload.create(Unpooled.EMPTY_BUFFER, encodeMetadata(content)))
+                        .onErrorResume(throwable -> {
+                            log.warn("Failed to push the cache invalidation keys {} to the client, message: {}",
+                                    invalidationKeys,
+                                    throwable.getMessage()
+                            );
+                            return Mono.empty();
+                        })
+                )
+                .then();
+    }
+
+    private static ByteBuf encodeMetadata(byte[] content) {
+        CompositeByteBuf metadata = ByteBufAllocator.DEFAULT.compositeBuffer();
+        CompositeMetadataCodec.encodeAndAddMetadata(metadata,
+                ByteBufAllocator.DEFAULT,
+                INVALIDATION_MIME_TYPE,
+                Unpooled.wrappedBuffer(content)
+        );
+        return metadata;
+    }
+}
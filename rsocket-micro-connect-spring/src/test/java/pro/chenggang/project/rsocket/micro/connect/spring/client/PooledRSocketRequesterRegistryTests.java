@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client;
+
+import io.rsocket.transport.ClientTransport;
+import lombok.NonNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.rsocket.RSocketRequester;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class PooledRSocketRequesterRegistryTests {
+
+    static final URI TRANSPORT_URI = URI.create("tcp://localhost:7878");
+
+    final List<StubPooledConnection> openedConnections = new ArrayList<>();
+    PooledRSocketRequesterRegistry registry;
+
+    @AfterEach
+    void afterEach() throws Exception {
+        if (Objects.nonNull(registry)) {
+            registry.destroy();
+        }
+    }
+
+    @Test
+    void testReuseIdleConnection() {
+        registry = new StubPooledRSocketRequesterRegistry(2);
+        RSocketRequester first = registry.getRSocketRequester(TRANSPORT_URI);
+        RSocketRequester second = registry.getRSocketRequester(TRANSPORT_URI);
+        assertThat(second).isSameAs(first);
+        assertThat(openedConnections).hasSize(1);
+    }
+
+    @Test
+    void testOpenConnectionWhenBusy() {
+        registry = new StubPooledRSocketRequesterRegistry(2);
+        RSocketRequester first = registry.getRSocketRequester(TRANSPORT_URI);
+        openedConnections.get(0).outstanding.set(1);
+        RSocketRequester second = registry.getRSocketRequester(TRANSPORT_URI);
+        assertThat(second).isNotSameAs(first);
+        assertThat(openedConnections).hasSize(2);
+    }
+
+    @Test
+    void testSelectLeastOutstandingWhenFull() {
+        registry = new StubPooledRSocketRequesterRegistry(2);
+        registry.getRSocketRequester(TRANSPORT_URI);
+        openedConnections.get(0).outstanding.set(3);
+        registry.getRSocketRequester(TRANSPORT_URI);
+        openedConnections.get(1).outstanding.set(1);
+        RSocketRequester selected = registry.getRSocketRequester(TRANSPORT_URI);
+        assertThat(selected).isSameAs(openedConnections.get(1).getRSocketRequester());
+        assertThat(openedConnections).hasSize(2);
+    }
+
+    @Test
+    void testReturnSelectedConnectionWhenFilledConcurrently() {
+        registry = new StubPooledRSocketRequesterRegistry(2);
+        registry.getRSocketRequester(TRANSPORT_URI);
+        StubPooledConnection busy = openedConnections.get(0);
+        busy.outstanding.set(1);
+        // the pool is filled by a concurrent lookup while this lookup is scanning the opened connections
+        busy.onOutstanding = () -> {
+            registry.getRSocketRequester(TRANSPORT_URI);
+            openedConnections.get(1).outstanding.set(5);
+        };
+        RSocketRequester selected = registry.getRSocketRequester(TRANSPORT_URI);
+        assertThat(openedConnections).hasSize(2);
+        assertThat(selected).isSameAs(busy.getRSocketRequester());
+    }
+
+    @Test
+    void testGetAllRSocketRequesters() {
+        registry = new StubPooledRSocketRequesterRegistry(3);
+        RSocketRequester first = registry.getRSocketRequester(TRANSPORT_URI);
+        List<RSocketRequester> rSocketRequesters = registry.getRSocketRequesters(TRANSPORT_URI);
+        assertThat(openedConnections).hasSize(3);
+        assertThat(rSocketRequesters).hasSize(3).first().isSameAs(first);
+        assertThat(rSocketRequesters).doesNotHaveDuplicates();
+    }
+
+    class StubPooledRSocketRequesterRegistry extends PooledRSocketRequesterRegistry {
+
+        StubPooledRSocketRequesterRegistry(int size) {
+            super(RSocketRequester::builder, size);
+        }
+
+        @Override
+        protected PooledConnection newPooledConnection(@NonNull URI transportURI) {
+            ClientTransport clientTransport = getClientTransport(transportURI).orElseThrow();
+            StubPooledConnection connection = new StubPooledConnection(RSocketRequester.builder(), clientTransport);
+            openedConnections.add(connection);
+            return connection;
+        }
+    }
+
+    static class StubPooledConnection extends PooledRSocketRequesterRegistry.PooledConnection {
+
+        final AtomicInteger outstanding = new AtomicInteger();
+        Runnable onOutstanding;
+
+        StubPooledConnection(RSocketRequester.Builder builder, ClientTransport clientTransport) {
+            super(builder, clientTransport);
+        }
+
+        @Override
+        public int getOutstanding() {
+            Runnable callback = onOutstanding;
+            if (Objects.nonNull(callback)) {
+                onOutstanding = null;
+                callback.run();
+            }
+            return outstanding.get();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.breaker;
+
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.ConnectionErrorException;
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketCircuitBreakerOpenException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketCircuitBreakerTests {
+
+    @Test
+    void testOpensOnFailureRateAfterMinimumCalls() {
+        RSocketCircuitBreaker circuitBreaker = newCircuitBreaker(Duration.ofMinutes(1));
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onError(new ConnectionErrorException("connection failed"), -1L);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(-1F);
+        circuitBreaker.onSuccess(-1L);
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(75F);
+    }
+
+    @Test
+    void testRejectsWhileOpen() {
+        RSocketCircuitBreaker circuitBreaker = newCircuitBreaker(Duration.ofMinutes(1));
+        open(circuitBreaker);
+        assertThat(circuitBreaker.isCallPermitted()).isFalse();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThatThrownBy(() -> circuitBreaker.decorate(Mono.just("response")).block())
+                .isInstanceOf(RSocketCircuitBreakerOpenException.class);
+        assertThat(circuitBreaker.getNotPermittedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testHalfOpenClosesOnSuccesses() throws InterruptedException {
+        RSocketCircuitBreaker circuitBreaker = newCircuitBreaker(Duration.ofMillis(50));
+        open(circuitBreaker);
+        Thread.sleep(100);
+        assertThat(circuitBreaker.isCallPermitted()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onSuccess(-1L);
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.onSuccess(-1L);
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(-1F);
+    }
+
+    @Test
+    void testHalfOpenReopensOnFailures() throws InterruptedException {
+        RSocketCircuitBreaker circuitBreaker = newCircuitBreaker(Duration.ofMillis(50));
+        open(circuitBreaker);
+        Thread.sleep(100);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onError(new ConnectionErrorException("connection failed"), -1L);
+        circuitBreaker.onError(new ConnectionErrorException("connection failed"), -1L);
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void testCancelledHalfOpenCallReleasesPermission() throws InterruptedException {
+        RSocketCircuitBreaker circuitBreaker = newCircuitBreaker(Duration.ofMillis(50));
+        open(circuitBreaker);
+        Thread.sleep(100);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.releasePermission();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void testApplicationErrorIsNotFailure() {
+        RSocketCircuitBreaker circuitBreaker = newCircuitBreaker(Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> circuitBreaker.decorate(Mono.error(new ApplicationErrorException("application failed"))).block())
+                    .isInstanceOf(ApplicationErrorException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(0F);
+    }
+
+    @Test
+    void testSlowCallsOpen() {
+        RSocketCircuitBreakerProperties properties = newProperties(Duration.ofMinutes(1));
+        properties.setSlowCallRateThreshold(50);
+        properties.setSlowCallDuration(Duration.ofMillis(10));
+        RSocketCircuitBreaker circuitBreaker = new RSocketCircuitBreaker("slow", RSocketCircuitBreaker.Scope.TRANSPORT, properties);
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onSuccess(Duration.ofMillis(20).toNanos());
+        }
+        assertThat(circuitBreaker.getSlowCallRate()).isEqualTo(100F);
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.OPEN);
+    }
+
+    private static void open(RSocketCircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onError(new ConnectionErrorException("connection failed"), -1L);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(RSocketCircuitBreaker.State.OPEN);
+    }
+
+    private static RSocketCircuitBreaker newCircuitBreaker(Duration waitDurationInOpenState) {
+        return new RSocketCircuitBreaker("tcp://localhost:7000",
+                RSocketCircuitBreaker.Scope.TRANSPORT,
+                newProperties(waitDurationInOpenState)
+        );
+    }
+
+    private static RSocketCircuitBreakerProperties newProperties(Duration waitDurationInOpenState) {
+        RSocketCircuitBreakerProperties properties = new RSocketCircuitBreakerProperties();
+        properties.setSlidingWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setWaitDurationInOpenState(waitDurationInOpenState);
+        properties.setPermittedCallsInHalfOpenState(2);
+        return properties;
+    }
+}
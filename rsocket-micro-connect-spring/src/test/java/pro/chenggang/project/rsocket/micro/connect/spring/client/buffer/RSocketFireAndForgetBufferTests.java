@@ -0,0 +1,211 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.buffer;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.core.RSocketClient;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec;
+import pro.chenggang.project.rsocket.micro.connect.spring.server.RSocketBatchHandlerAdapter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketFireAndForgetBufferTests {
+
+    private final BlockingQueue<SentBatch> sentBatches = new LinkedBlockingQueue<>();
+    private final RSocketClient rSocketClient = RSocketClient.from(new RSocket() {
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            List<Payload> payloads = ConnectorBatchMetadataCodec.decodeFireAndForgetBatch(payload);
+            payload.release();
+            List<String> messages = payloads.stream().map(Payload::getDataUtf8).toList();
+            payloads.forEach(Payload::release);
+            Sinks.Empty<Void> acknowledgement = Sinks.empty();
+            sentBatches.add(new SentBatch(messages, acknowledgement));
+            return acknowledgement.asMono().then(Mono.empty());
+        }
+    });
+
+    @Test
+    void testBatchSentWhenFull() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(2, Duration.ofSeconds(10), 10, RSocketFireAndForgetOverflowPolicy.DROP_NEWEST);
+        this.offer(buffer, "first").block();
+        this.offer(buffer, "second").block();
+        SentBatch sentBatch = this.nextBatch();
+        assertThat(sentBatch.messages()).containsExactly("first", "second");
+        sentBatch.acknowledgement().tryEmitEmpty();
+        assertThat(buffer.getFlushedCount()).isEqualTo(2);
+        assertThat(buffer.getFlushedBatchCount()).isEqualTo(1);
+        assertThat(buffer.getInFlight()).isZero();
+    }
+
+    @Test
+    void testBatchSentWhenWindowElapses() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(64, Duration.ofMillis(50), 10, RSocketFireAndForgetOverflowPolicy.DROP_NEWEST);
+        this.offer(buffer, "first").block();
+        this.offer(buffer, "second").block();
+        assertThat(this.nextBatch().messages()).containsExactly("first", "second");
+    }
+
+    @Test
+    void testBudgetHeldUntilAcknowledged() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(1, Duration.ofSeconds(10), 1, RSocketFireAndForgetOverflowPolicy.DROP_NEWEST);
+        this.offer(buffer, "first").block();
+        SentBatch sentBatch = this.nextBatch();
+        assertThat(buffer.getInFlight()).isEqualTo(1);
+        this.offer(buffer, "second").block();
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        assertThat(sentBatches).isEmpty();
+        sentBatch.acknowledgement().tryEmitEmpty();
+        assertThat(buffer.getInFlight()).isZero();
+        this.offer(buffer, "third").block();
+        assertThat(this.nextBatch().messages()).containsExactly("third");
+    }
+
+    @Test
+    void testFailedBatchReleasesBudget() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(2, Duration.ofSeconds(10), 2, RSocketFireAndForgetOverflowPolicy.DROP_NEWEST);
+        this.offer(buffer, "first").block();
+        this.offer(buffer, "second").block();
+        this.nextBatch().acknowledgement().tryEmitError(new IllegalStateException("batch failed"));
+        assertThat(buffer.getFailedCount()).isEqualTo(2);
+        assertThat(buffer.getFlushedCount()).isZero();
+        assertThat(buffer.getInFlight()).isZero();
+    }
+
+    @Test
+    void testDropOldestPendingMessage() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(3, Duration.ofMillis(100), 2, RSocketFireAndForgetOverflowPolicy.DROP_OLDEST);
+        this.offer(buffer, "first").block();
+        this.offer(buffer, "second").block();
+        this.offer(buffer, "third").block();
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        assertThat(this.nextBatch().messages()).containsExactly("second", "third");
+    }
+
+    @Test
+    void testDropOldestWithoutPendingMessage() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(1, Duration.ofSeconds(10), 1, RSocketFireAndForgetOverflowPolicy.DROP_OLDEST);
+        this.offer(buffer, "first").block();
+        this.nextBatch();
+        this.offer(buffer, "second").block();
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        assertThat(sentBatches).isEmpty();
+    }
+
+    @Test
+    void testBlockUntilBudgetReleased() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(1, Duration.ofSeconds(10), 1, RSocketFireAndForgetOverflowPolicy.BLOCK);
+        this.offer(buffer, "first").block();
+        SentBatch sentBatch = this.nextBatch();
+        CompletableFuture<Void> blocked = this.offer(buffer, "second").toFuture();
+        assertThat(blocked).isNotDone();
+        assertThat(buffer.getBlocked()).isEqualTo(1);
+        sentBatch.acknowledgement().tryEmitEmpty();
+        assertThat(blocked).isDone();
+        assertThat(buffer.getBlocked()).isZero();
+        assertThat(this.nextBatch().messages()).containsExactly("second");
+    }
+
+    @Test
+    void testBlockedExecutionsCapped() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(1, Duration.ofSeconds(10), 1, RSocketFireAndForgetOverflowPolicy.BLOCK);
+        this.offer(buffer, "first").block();
+        this.nextBatch();
+        CompletableFuture<Void> blocked = this.offer(buffer, "second").toFuture();
+        this.offer(buffer, "third").block();
+        assertThat(blocked).isNotDone();
+        assertThat(buffer.getBlocked()).isEqualTo(1);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCancelBlockedExecution() throws InterruptedException {
+        RSocketFireAndForgetBuffer buffer = newBuffer(1, Duration.ofSeconds(10), 1, RSocketFireAndForgetOverflowPolicy.BLOCK);
+        this.offer(buffer, "first").block();
+        SentBatch sentBatch = this.nextBatch();
+        this.offer(buffer, "second").subscribe().dispose();
+        assertThat(buffer.getBlocked()).isZero();
+        sentBatch.acknowledgement().tryEmitEmpty();
+        assertThat(buffer.getInFlight()).isZero();
+        assertThat(sentBatches).isEmpty();
+    }
+
+    @Test
+    void testAcknowledgedByBatchHandlerAdapter() {
+        Queue<String> handledMessages = new ConcurrentLinkedQueue<>();
+        Sinks.Empty<Void> handled = Sinks.empty();
+        RSocket handler = new RSocket() {
+            @Override
+            public Mono<Void> fireAndForget(Payload payload) {
+                handledMessages.add(payload.getDataUtf8());
+                payload.release();
+                return handled.asMono();
+            }
+        };
+        RSocket batchHandler = new RSocketBatchHandlerAdapter(4)
+                .apply((setup, sendingSocket) -> Mono.just(handler))
+                .accept(null, null)
+                .block();
+        RSocketClient batchClient = RSocketClient.from(batchHandler);
+        RSocketFireAndForgetBuffer buffer = newBuffer(2, Duration.ofSeconds(10), 2, RSocketFireAndForgetOverflowPolicy.DROP_NEWEST);
+        buffer.offer(batchClient, DefaultPayload.create("first")).block();
+        buffer.offer(batchClient, DefaultPayload.create("second")).block();
+        assertThat(handledMessages).containsExactly("first", "second");
+        assertThat(buffer.getInFlight()).isEqualTo(2);
+        handled.tryEmitEmpty();
+        assertThat(buffer.getInFlight()).isZero();
+        assertThat(buffer.getFlushedCount()).isEqualTo(2);
+    }
+
+    private RSocketFireAndForgetBuffer newBuffer(int maxSize,
+                                                 Duration window,
+                                                 int maxInFlight,
+                                                 RSocketFireAndForgetOverflowPolicy overflowPolicy) {
+        return new RSocketFireAndForgetBuffer("EventConnector#report", "/server/event", maxSize, window, maxInFlight, overflowPolicy);
+    }
+
+    private Mono<Void> offer(RSocketFireAndForgetBuffer buffer, String message) {
+        return buffer.offer(rSocketClient, DefaultPayload.create(message));
+    }
+
+    private SentBatch nextBatch() throws InterruptedException {
+        SentBatch sentBatch = sentBatches.poll(5, TimeUnit.SECONDS);
+        assertThat(sentBatch).isNotNull();
+        return sentBatch;
+    }
+
+    private record SentBatch(List<String> messages, Sinks.Empty<Void> acknowledgement) {
+    }
+}
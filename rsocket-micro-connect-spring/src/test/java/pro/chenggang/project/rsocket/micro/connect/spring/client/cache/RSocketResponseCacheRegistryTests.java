@@ -0,0 +1,123 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.cache;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.metadata.CompositeMetadataCodec;
+import io.rsocket.util.ByteBufPayload;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketResponseCacheRegistryTests {
+
+    static final URI USER_TRANSPORT_URI = URI.create("tcp://user-server:7000");
+    static final URI ORDER_TRANSPORT_URI = URI.create("tcp://order-server:7000");
+    static final RSocketResponseCacheKey USER_KEY = () -> "/server/user/1";
+
+    @Test
+    void testResponseCacheCreatedOnce() {
+        RSocketResponseCacheRegistry registry = RSocketResponseCacheRegistry.withoutListeners();
+        RSocketResponseCache responseCache = registry.getResponseCache("com.example.UserClient#getUser", USER_TRANSPORT_URI, Duration.ofMinutes(1), 100);
+        assertThat(registry.getResponseCache("com.example.UserClient#getUser", USER_TRANSPORT_URI, Duration.ofMinutes(1), 100))
+                .isSameAs(responseCache);
+        assertThat(registry.getResponseCaches()).containsExactly(responseCache);
+    }
+
+    @Test
+    void testInvalidationScopedToTransportURI() {
+        RSocketResponseCacheRegistry registry = RSocketResponseCacheRegistry.withoutListeners();
+        RSocketResponseCache userCache = registry.getResponseCache("com.example.UserClient#getUser", USER_TRANSPORT_URI, Duration.ofMinutes(1), 100);
+        RSocketResponseCache otherUserCache = registry.getResponseCache("com.example.OrderClient#getUser", ORDER_TRANSPORT_URI, Duration.ofMinutes(1), 100);
+        userCache.put(USER_KEY, "user-1", userCache.getGeneration());
+        otherUserCache.put(USER_KEY, "other-user-1", otherUserCache.getGeneration());
+        long otherGeneration = otherUserCache.getGeneration();
+        registry.invalidate(ORDER_TRANSPORT_URI, List.of("/server/user/1"));
+        assertThat(userCache.get(USER_KEY)).isEqualTo("user-1");
+        assertThat(otherUserCache.get(USER_KEY)).isNull();
+        assertThat(otherUserCache.getGeneration()).isGreaterThan(otherGeneration);
+        registry.invalidate(USER_TRANSPORT_URI, List.of(RSocketResponseCacheRegistry.WILDCARD));
+        assertThat(userCache.get(USER_KEY)).isNull();
+    }
+
+    @Test
+    void testInvalidationKeys() {
+        RSocketResponseCacheRegistry registry = RSocketResponseCacheRegistry.withoutListeners();
+        RSocketResponseCache responseCache = registry.getResponseCache("com.example.UserClient#getUser", USER_TRANSPORT_URI, Duration.ofMinutes(1), 100);
+        RSocketResponseCacheKey user2 = () -> "/server/user/2";
+        RSocketResponseCacheKey order = () -> "/server/order/1";
+        responseCache.put(USER_KEY, "user-1", responseCache.getGeneration());
+        responseCache.put(user2, "user-2", responseCache.getGeneration());
+        responseCache.put(order, "order-1", responseCache.getGeneration());
+        registry.invalidate(USER_TRANSPORT_URI, List.of("/server/user/1"));
+        assertThat(responseCache.get(USER_KEY)).isNull();
+        assertThat(responseCache.get(user2)).isEqualTo("user-2");
+        registry.invalidate(USER_TRANSPORT_URI, List.of("/server/user/*"));
+        assertThat(responseCache.get(user2)).isNull();
+        assertThat(responseCache.get(order)).isEqualTo("order-1");
+    }
+
+    @Test
+    void testInvalidationMetadataPush() {
+        RSocketResponseCacheRegistry registry = RSocketResponseCacheRegistry.withoutListeners();
+        RSocketResponseCache userCache = registry.getResponseCache("com.example.UserClient#getUser", USER_TRANSPORT_URI, Duration.ofMinutes(1), 100);
+        RSocketResponseCache otherUserCache = registry.getResponseCache("com.example.OrderClient#getUser", ORDER_TRANSPORT_URI, Duration.ofMinutes(1), 100);
+        userCache.put(USER_KEY, "user-1", userCache.getGeneration());
+        otherUserCache.put(USER_KEY, "other-user-1", otherUserCache.getGeneration());
+        AtomicBoolean delegated = new AtomicBoolean();
+        RSocket responder = new ResponseCacheInvalidationRSocketInterceptor(registry, USER_TRANSPORT_URI).apply(new RSocket() {
+            @Override
+            public Mono<Void> metadataPush(Payload payload) {
+                payload.release();
+                delegated.set(true);
+                return Mono.empty();
+            }
+        });
+        responder.metadataPush(newMetadataPush(CONNECTOR_CACHE_INVALIDATION_MEDIA_TYPE.toString(), "/server/user/1\n")).block();
+        assertThat(delegated).isFalse();
+        assertThat(userCache.get(USER_KEY)).isNull();
+        assertThat(otherUserCache.get(USER_KEY)).isEqualTo("other-user-1");
+        responder.metadataPush(newMetadataPush("text/plain", "other")).block();
+        assertThat(delegated).isTrue();
+    }
+
+    private static Payload newMetadataPush(String mimeType, String content) {
+        CompositeByteBuf metadata = ByteBufAllocator.DEFAULT.compositeBuffer();
+        CompositeMetadataCodec.encodeAndAddMetadata(metadata,
+                ByteBufAllocator.DEFAULT,
+                mimeType,
+                Unpooled.wrappedBuffer(content.getBytes(StandardCharsets.UTF_8))
+        );
+        return ByteBufPayload.create(Unpooled.EMPTY_BUFFER, metadata);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketResponseCacheTests {
+
+    static final URI TRANSPORT_URI = URI.create("tcp://localhost:7000");
+
+    @Test
+    void testPutAndGet() {
+        RSocketResponseCache responseCache = newResponseCache();
+        RSocketResponseCacheKey key = () -> "/server/user/1";
+        responseCache.put(key, "user-1", responseCache.getGeneration());
+        assertThat(responseCache.get(key)).isEqualTo("user-1");
+    }
+
+    @Test
+    void testResponseOfStaleGenerationIsDiscarded() {
+        RSocketResponseCache responseCache = newResponseCache();
+        RSocketResponseCacheKey key = () -> "/server/user/1";
+        long generation = responseCache.getGeneration();
+        responseCache.invalidate("/server/user/1");
+        assertThat(responseCache.getGeneration()).isEqualTo(generation + 1);
+        responseCache.put(key, "stale-user-1", generation);
+        assertThat(responseCache.get(key)).isNull();
+        responseCache.put(key, "user-1", responseCache.getGeneration());
+        assertThat(responseCache.get(key)).isEqualTo("user-1");
+    }
+
+    @Test
+    void testInvalidateDestination() {
+        RSocketResponseCache responseCache = newResponseCache();
+        RSocketResponseCacheKey user1 = () -> "/server/user/1";
+        RSocketResponseCacheKey user2 = () -> "/server/user/2";
+        responseCache.put(user1, "user-1", responseCache.getGeneration());
+        responseCache.put(user2, "user-2", responseCache.getGeneration());
+        responseCache.invalidate("/server/user/1");
+        assertThat(responseCache.get(user1)).isNull();
+        assertThat(responseCache.get(user2)).isEqualTo("user-2");
+    }
+
+    @Test
+    void testInvalidatePrefix() {
+        RSocketResponseCache responseCache = newResponseCache();
+        RSocketResponseCacheKey user = () -> "/server/user/1";
+        RSocketResponseCacheKey order = () -> "/server/order/1";
+        responseCache.put(user, "user-1", responseCache.getGeneration());
+        responseCache.put(order, "order-1", responseCache.getGeneration());
+        responseCache.invalidatePrefix("/server/user/");
+        assertThat(responseCache.get(user)).isNull();
+        assertThat(responseCache.get(order)).isEqualTo("order-1");
+    }
+
+    @Test
+    void testInvalidateAll() {
+        RSocketResponseCache responseCache = newResponseCache();
+        RSocketResponseCacheKey user = () -> "/server/user/1";
+        RSocketResponseCacheKey order = () -> "/server/order/1";
+        responseCache.put(user, "user-1", responseCache.getGeneration());
+        responseCache.put(order, "order-1", responseCache.getGeneration());
+        long generation = responseCache.getGeneration();
+        responseCache.invalidateAll();
+        assertThat(responseCache.getGeneration()).isGreaterThan(generation);
+        assertThat(responseCache.get(user)).isNull();
+        assertThat(responseCache.get(order)).isNull();
+    }
+
+    private static RSocketResponseCache newResponseCache() {
+        return new RSocketResponseCache("com.example.UserClient#getUser", TRANSPORT_URI, Duration.ofMinutes(1), 100);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.limit;
+
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.core.exception.RSocketConcurrencyLimitExceededException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketConcurrencyLimiterTests {
+
+    static final URI TRANSPORT_URI = URI.create("tcp://localhost:7000");
+
+    @Test
+    void testQueueAndRejectOverLimit() {
+        RSocketConcurrencyLimiter limiter = newLimiter(1, 1, Duration.ofSeconds(5));
+        Sinks.One<String> first = Sinks.one();
+        AtomicReference<String> queuedResponse = new AtomicReference<>();
+        Disposable running = limiter.limit(first.asMono()).subscribe();
+        Disposable queued = limiter.limit(Mono.just("queued")).subscribe(queuedResponse::set);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+        assertThatThrownBy(() -> limiter.limit(Mono.just("rejected")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(RSocketConcurrencyLimitExceededException.class);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        first.tryEmitValue("first");
+        assertThat(queuedResponse.get()).isEqualTo("queued");
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueueDepth()).isZero();
+        running.dispose();
+        queued.dispose();
+    }
+
+    @Test
+    void testRejectOnQueueTimeout() {
+        RSocketConcurrencyLimiter limiter = newLimiter(1, 1, Duration.ofMillis(50));
+        Disposable running = limiter.limit(Mono.never()).subscribe();
+        assertThatThrownBy(() -> limiter.limit(Mono.just("queued")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(RSocketConcurrencyLimitExceededException.class);
+        assertThat(limiter.getQueueDepth()).isZero();
+        running.dispose();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testCancelQueuedExecution() {
+        RSocketConcurrencyLimiter limiter = newLimiter(1, 1, Duration.ofSeconds(5));
+        Disposable running = limiter.limit(Mono.never()).subscribe();
+        Disposable queued = limiter.limit(Mono.just("queued")).subscribe();
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+        queued.dispose();
+        assertThat(limiter.getQueueDepth()).isZero();
+        running.dispose();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testQueuedExecutionStartedConcurrently() {
+        RSocketConcurrencyLimiter limiter = newLimiter(1, 1_000, Duration.ofMillis(200));
+        // the queued executions are started by the concurrent releases, racing with arming their queue timeout
+        Long completed = Flux.range(0, 10_000)
+                .flatMap(i -> limiter.limit(Mono.just(i).publishOn(Schedulers.parallel())), 8)
+                .count()
+                .block(Duration.ofSeconds(30));
+        assertThat(completed).isEqualTo(10_000L);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueueDepth()).isZero();
+        assertThat(limiter.getRejectedCount()).isZero();
+    }
+
+    static RSocketConcurrencyLimiter newLimiter(int limit, int maxQueueSize, Duration queueTimeout) {
+        RSocketConcurrencyLimitProperties properties = new RSocketConcurrencyLimitProperties();
+        properties.setEnabled(true);
+        properties.setInitialLimit(limit);
+        properties.setMinLimit(limit);
+        properties.setMaxLimit(limit);
+        properties.setMaxQueueSize(maxQueueSize);
+        properties.setQueueTimeout(queueTimeout);
+        return new RSocketConcurrencyLimiter(TRANSPORT_URI, null, properties);
+    }
+}
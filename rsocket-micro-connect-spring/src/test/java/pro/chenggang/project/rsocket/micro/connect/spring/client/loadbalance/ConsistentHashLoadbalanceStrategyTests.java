@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.RSocket;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.loadbalance.LoadbalanceRSocketClient;
+import io.rsocket.loadbalance.LoadbalanceTarget;
+import io.rsocket.loadbalance.RoundRobinLoadbalanceStrategy;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConsistentHashLoadbalanceStrategyTests {
+
+    static final String HOLD = "hold";
+
+    final List<CloseableChannel> servers = new ArrayList<>();
+    LoadbalanceRSocketClient rSocketClient;
+    RSocket routingKeyRSocket;
+
+    @BeforeEach
+    void beforeEach() {
+        List<LoadbalanceTarget> targets = List.of(this.startServer("server-1"), this.startServer("server-2"));
+        rSocketClient = LoadbalanceRSocketClient.builder(Mono.just(targets))
+                .connector(RSocketConnector.create())
+                .loadbalanceStrategy(new ConsistentHashLoadbalanceStrategy(new RoundRobinLoadbalanceStrategy(), 1D))
+                .build();
+        routingKeyRSocket = new RoutingKeyRSocket(rSocketClient);
+        // establish both connections through the fallback strategy
+        this.requestResponse(null, "request-and-response").block(Duration.ofSeconds(5));
+        this.requestResponse(null, "request-and-response").block(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void afterEach() {
+        rSocketClient.dispose();
+        servers.forEach(CloseableChannel::dispose);
+        servers.clear();
+    }
+
+    @Test
+    void testSameRoutingKeySameInstance() {
+        String home = this.requestResponse("user-1", "request-and-response").block(Duration.ofSeconds(5));
+        for (int i = 0; i < 10; i++) {
+            assertThat(this.requestResponse("user-1", "request-and-response").block(Duration.ofSeconds(5))).isEqualTo(home);
+        }
+    }
+
+    @Test
+    void testSpillOverWhenOverloaded() {
+        String home = this.requestResponse("user-1", "request-and-response").block(Duration.ofSeconds(5));
+        Disposable held = this.requestResponse("user-1", HOLD).subscribe();
+        try {
+            String spilled = this.requestResponse("user-1", "request-and-response").block(Duration.ofSeconds(5));
+            assertThat(spilled).isNotNull().isNotEqualTo(home);
+        } finally {
+            held.dispose();
+        }
+        assertThat(this.requestResponse("user-1", "request-and-response").block(Duration.ofSeconds(5))).isEqualTo(home);
+    }
+
+    private Mono<String> requestResponse(String routingKey, String data) {
+        Mono<String> execution = routingKeyRSocket.requestResponse(DefaultPayload.create(data))
+                .map(payload -> {
+                    String response = payload.getDataUtf8();
+                    payload.release();
+                    return response;
+                });
+        return RoutingKeyContext.withRoutingKey(execution, routingKey);
+    }
+
+    private LoadbalanceTarget startServer(String name) {
+        CloseableChannel server = RSocketServer.create(SocketAcceptor.forRequestResponse(payload -> {
+                    boolean hold = HOLD.equals(payload.getDataUtf8());
+                    payload.release();
+                    return hold ? Mono.never() : Mono.just(DefaultPayload.create(name));
+                }))
+                .bind(TcpServerTransport.create("127.0.0.1", 0))
+                .block();
+        servers.add(server);
+        int port = server.address().getPort();
+        return LoadbalanceTarget.from("tcp://127.0.0.1:" + port, TcpClientTransport.create("127.0.0.1", port));
+    }
+}
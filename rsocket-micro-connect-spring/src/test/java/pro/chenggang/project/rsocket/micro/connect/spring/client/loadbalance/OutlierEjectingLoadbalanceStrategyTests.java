@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.SocketAcceptor;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.exceptions.RejectedException;
+import io.rsocket.loadbalance.RoundRobinLoadbalanceStrategy;
+import io.rsocket.metadata.WellKnownMimeType;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import pro.chenggang.project.rsocket.micro.connect.core.interceptor.ChainedRSocketInterceptor;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class OutlierEjectingLoadbalanceStrategyTests {
+
+    static final String SERVICE_ID = "outlier-service";
+    static final URI TRANSPORT_URI = URI.create("tcp://" + SERVICE_ID + ":7000");
+
+    final List<CloseableChannel> servers = new ArrayList<>();
+    final StubReactiveDiscoveryClient discoveryClient = new StubReactiveDiscoveryClient();
+    RSocketOutlierDetector outlierDetector;
+    DiscoverRSocketRequesterRegistry registry;
+
+    @BeforeEach
+    void beforeEach() {
+        outlierDetector = new RSocketOutlierDetector(RSocketOutlierDetectorTests.newProperties(Duration.ofMinutes(1)));
+        OutlierDetectionRSocketInterceptor outlierDetectionRSocketInterceptor = new OutlierDetectionRSocketInterceptor(outlierDetector);
+        ChainedRSocketInterceptor chainedRSocketInterceptor = new ChainedRSocketInterceptor(WellKnownMimeType.TEXT_PLAIN,
+                WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA,
+                List.of(),
+                List.of(outlierDetectionRSocketInterceptor)
+        );
+        RSocketRequester.Builder builder = RSocketRequester.builder()
+                .rsocketConnector(connector -> connector.interceptors(interceptorRegistry -> interceptorRegistry.forRequester(chainedRSocketInterceptor)));
+        registry = new DiscoverRSocketRequesterRegistry(builder,
+                discoveryClient,
+                transportURI -> new OutlierEjectingLoadbalanceStrategy(new RoundRobinLoadbalanceStrategy(),
+                        outlierDetector,
+                        Duration.ofSeconds(1),
+                        50
+                ),
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        registry.destroy();
+        servers.forEach(CloseableChannel::dispose);
+        servers.clear();
+    }
+
+    @Test
+    void testEjectFailingInstance() {
+        this.startServer("healthy", null);
+        int failingPort = this.startServer("failing", new RejectedException("overloaded"));
+        RSocketRequester rSocketRequester = registry.getRSocketRequester(TRANSPORT_URI);
+        for (int i = 0; i < 6; i++) {
+            this.requestResponse(rSocketRequester);
+        }
+        assertThat(outlierDetector.isEjected("127.0.0.1:" + failingPort)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            assertThat(this.requestResponse(rSocketRequester)).isEqualTo("healthy");
+        }
+    }
+
+    @Test
+    void testApplicationErrorIsNotFailure() {
+        this.startServer("healthy", null);
+        int applicationErrorPort = this.startServer("application-error", new IllegalStateException("business failure"));
+        RSocketRequester rSocketRequester = registry.getRSocketRequester(TRANSPORT_URI);
+        Set<String> responses = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(this.requestResponse(rSocketRequester));
+        }
+        assertThat(outlierDetector.isEjected("127.0.0.1:" + applicationErrorPort)).isFalse();
+        assertThat(outlierDetector.hasEjections()).isFalse();
+        assertThat(responses).containsExactlyInAnyOrder("healthy", "error");
+    }
+
+    private String requestResponse(RSocketRequester rSocketRequester) {
+        return rSocketRequester.rsocketClient()
+                .requestResponse(Mono.fromSupplier(() -> DefaultPayload.create("request-and-response")))
+                .map(payload -> {
+                    String data = payload.getDataUtf8();
+                    payload.release();
+                    return data;
+                })
+                .onErrorReturn("error")
+                .block(Duration.ofSeconds(5));
+    }
+
+    private int startServer(String name, Throwable error) {
+        CloseableChannel server = RSocketServer.create(SocketAcceptor.forRequestResponse(payload -> {
+                    payload.release();
+                    return Objects.isNull(error) ? Mono.just(DefaultPayload.create(name)) : Mono.error(error);
+                }))
+                .bind(TcpServerTransport.create("127.0.0.1", 0))
+                .block();
+        servers.add(server);
+        int port = server.address().getPort();
+        discoveryClient.register(SERVICE_ID, "127.0.0.1", port);
+        return port;
+    }
+}
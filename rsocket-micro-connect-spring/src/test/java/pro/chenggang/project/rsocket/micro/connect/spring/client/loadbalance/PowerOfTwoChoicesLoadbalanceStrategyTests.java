@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.loadbalance.LoadbalanceRSocketClient;
+import io.rsocket.loadbalance.LoadbalanceTarget;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance.PowerOfTwoChoicesLoadbalanceStrategy.LoadStatsRSocket;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class PowerOfTwoChoicesLoadbalanceStrategyTests {
+
+    static final double DECAY_NANOS = Duration.ofMinutes(1).toNanos();
+
+    final List<CloseableChannel> servers = new ArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        servers.forEach(CloseableChannel::dispose);
+        servers.clear();
+    }
+
+    @Test
+    void testFireAndForgetIsOutstanding() {
+        LoadStatsRSocket loadStatsRSocket = new LoadStatsRSocket(new RSocket() {
+            @Override
+            public Mono<Void> fireAndForget(Payload payload) {
+                payload.release();
+                return Mono.never();
+            }
+        }, DECAY_NANOS);
+        assertThat(loadStatsRSocket.cost(System.nanoTime())).isZero();
+        Disposable pending = loadStatsRSocket.fireAndForget(DefaultPayload.create("fire-and-forget")).subscribe();
+        assertThat(loadStatsRSocket.cost(System.nanoTime())).isPositive();
+        pending.dispose();
+        assertThat(loadStatsRSocket.cost(System.nanoTime())).isZero();
+    }
+
+    @Test
+    void testSelectFasterPooledConnection() {
+        LoadbalanceTarget slowTarget = this.startServer("slow", Duration.ofMillis(200));
+        LoadbalanceTarget fastTarget = this.startServer("fast", Duration.ZERO);
+        LoadbalanceRSocketClient rSocketClient = LoadbalanceRSocketClient.builder(Mono.just(List.of(slowTarget, fastTarget)))
+                .connector(RSocketConnector.create())
+                .loadbalanceStrategy(new PowerOfTwoChoicesLoadbalanceStrategy(Duration.ofMinutes(1)))
+                .build();
+        try {
+            // the connections not established yet cost nothing, so both of them are probed first
+            this.requestResponse(rSocketClient);
+            this.requestResponse(rSocketClient);
+            for (int i = 0; i < 10; i++) {
+                assertThat(this.requestResponse(rSocketClient)).isEqualTo("fast");
+            }
+        } finally {
+            rSocketClient.dispose();
+        }
+    }
+
+    private String requestResponse(LoadbalanceRSocketClient rSocketClient) {
+        return rSocketClient.requestResponse(Mono.fromSupplier(() -> DefaultPayload.create("request-and-response")))
+                .map(payload -> {
+                    String data = payload.getDataUtf8();
+                    payload.release();
+                    return data;
+                })
+                .block(Duration.ofSeconds(5));
+    }
+
+    private LoadbalanceTarget startServer(String name, Duration latency) {
+        CloseableChannel server = RSocketServer.create(SocketAcceptor.forRequestResponse(payload -> {
+                    payload.release();
+                    return Mono.delay(latency).thenReturn(DefaultPayload.create(name));
+                }))
+                .bind(TcpServerTransport.create("127.0.0.1", 0))
+                .block();
+        servers.add(server);
+        int port = server.address().getPort();
+        return LoadbalanceTarget.from(name, TcpClientTransport.create("127.0.0.1", port));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RSocketOutlierDetectorTests {
+
+    @Test
+    void testEjectAfterConsecutiveFailures() {
+        RSocketOutlierDetector outlierDetector = new RSocketOutlierDetector(newProperties(Duration.ofMinutes(1)));
+        outlierDetector.onFailure("127.0.0.1:7001");
+        outlierDetector.onFailure("127.0.0.1:7001");
+        outlierDetector.onSuccess("127.0.0.1:7001", -1L);
+        outlierDetector.onFailure("127.0.0.1:7001");
+        outlierDetector.onFailure("127.0.0.1:7001");
+        assertThat(outlierDetector.isEjected("127.0.0.1:7001")).isFalse();
+        outlierDetector.onFailure("127.0.0.1:7001");
+        assertThat(outlierDetector.isEjected("127.0.0.1:7001")).isTrue();
+        assertThat(outlierDetector.hasEjections()).isTrue();
+    }
+
+    @Test
+    void testEjectLatencyOutlier() {
+        RSocketOutlierDetector outlierDetector = new RSocketOutlierDetector(newProperties(Duration.ofMinutes(1)));
+        List<String> addresses = List.of("127.0.0.1:7001", "127.0.0.1:7002", "127.0.0.1:7003", "127.0.0.1:7004");
+        for (int i = 0; i < 10; i++) {
+            outlierDetector.onSuccess("127.0.0.1:7001", Duration.ofMillis(1).toNanos());
+            outlierDetector.onSuccess("127.0.0.1:7002", Duration.ofMillis(1).toNanos());
+            outlierDetector.onSuccess("127.0.0.1:7003", Duration.ofMillis(1).toNanos());
+            outlierDetector.onSuccess("127.0.0.1:7004", Duration.ofMillis(50).toNanos());
+        }
+        outlierDetector.evaluateLatency(addresses);
+        assertThat(outlierDetector.isEjected("127.0.0.1:7004")).isTrue();
+        assertThat(outlierDetector.isEjected("127.0.0.1:7001")).isFalse();
+    }
+
+    @Test
+    void testEvictIdleStats() {
+        RSocketOutlierDetector outlierDetector = new RSocketOutlierDetector(newProperties(Duration.ofMillis(10)));
+        outlierDetector.onSuccess("127.0.0.1:7001", -1L);
+        assertThat(outlierDetector.getTrackedInstances()).isEqualTo(1);
+        LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+        outlierDetector.onSuccess("127.0.0.1:7002", -1L);
+        assertThat(outlierDetector.getTrackedInstances()).isEqualTo(1);
+        assertThat(outlierDetector.isEjected("127.0.0.1:7001")).isFalse();
+    }
+
+    static RSocketOutlierDetectionProperties newProperties(Duration ejectionTime) {
+        RSocketOutlierDetectionProperties properties = new RSocketOutlierDetectionProperties();
+        properties.setEnabled(true);
+        properties.setConsecutiveFailures(3);
+        properties.setLatencyZScoreThreshold(1.5D);
+        properties.setLatencyMinimumHosts(3);
+        properties.setLatencyMinimumSamples(5);
+        properties.setBaseEjectionTime(ejectionTime);
+        properties.setMaxEjectionTime(ejectionTime);
+        properties.setMaxEjectionPercent(50);
+        return properties;
+    }
+}
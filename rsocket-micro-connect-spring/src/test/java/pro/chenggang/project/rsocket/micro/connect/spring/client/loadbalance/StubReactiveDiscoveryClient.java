@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.client.loadbalance;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.DISCOVER_ENABLE_RSOCKET_METADATA_KEY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.DISCOVER_RSOCKET_PORT_METADATA_KEY;
+
+/**
+ * The stand-in reactive discovery client serving the registered rsocket server instances.
+ *
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+class StubReactiveDiscoveryClient implements ReactiveDiscoveryClient {
+
+    private final Map<String, List<ServiceInstance>> serviceInstances = new ConcurrentHashMap<>();
+
+    /**
+     * Register a rsocket server instance of the service.
+     *
+     * @param serviceId the service id
+     * @param host      the host of the rsocket server
+     * @param port      the port of the rsocket server
+     */
+    void register(String serviceId, String host, int port) {
+        Map<String, String> metadata = Map.of(DISCOVER_ENABLE_RSOCKET_METADATA_KEY, "true",
+                DISCOVER_RSOCKET_PORT_METADATA_KEY, String.valueOf(port)
+        );
+        serviceInstances.computeIfAbsent(serviceId, key -> new CopyOnWriteArrayList<>())
+                .add(new DefaultServiceInstance(serviceId + "-" + port, serviceId, host, port, false, metadata));
+    }
+
+    @Override
+    public String description() {
+        return "Stub Reactive Discovery Client";
+    }
+
+    @Override
+    public Flux<ServiceInstance> getInstances(String serviceId) {
+        return Flux.fromIterable(serviceInstances.getOrDefault(serviceId, List.of()));
+    }
+
+    @Override
+    public Flux<String> getServices() {
+        return Flux.fromIterable(serviceInstances.keySet());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.rsocket.Payload;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.CanceledException;
+import io.rsocket.exceptions.CustomRSocketException;
+import io.rsocket.exceptions.InvalidException;
+import io.rsocket.exceptions.RejectedException;
+import io.rsocket.frame.ErrorFrameCodec;
+import io.rsocket.util.ByteBufPayload;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec.BatchResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec.STATUS_EMPTY;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.ConnectorBatchMetadataCodec.STATUS_ERROR;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorBatchMetadataCodecTests {
+
+    @Test
+    void testBatchResult() {
+        Payload payload = ByteBufPayload.create(ByteBufAllocator.DEFAULT.buffer(),
+                ConnectorBatchMetadataCodec.encodeBatchResult(ByteBufAllocator.DEFAULT, 3, STATUS_EMPTY)
+        );
+        try {
+            assertThat(ConnectorBatchMetadataCodec.decodeBatchResult(payload))
+                    .isEqualTo(new BatchResult(3, STATUS_EMPTY, ErrorFrameCodec.APPLICATION_ERROR));
+        } finally {
+            payload.release();
+        }
+    }
+
+    @Test
+    void testBatchErrorResultKeepsErrorCode() {
+        assertErrorCode(new CustomRSocketException(0x00000301, "custom"), 0x00000301);
+        assertErrorCode(new RejectedException("rejected"), ErrorFrameCodec.REJECTED);
+        assertErrorCode(new IllegalStateException("illegal"), ErrorFrameCodec.APPLICATION_ERROR);
+    }
+
+    @Test
+    void testNewBatchError() {
+        assertThat(ConnectorBatchMetadataCodec.newBatchError(0x00000301, "custom"))
+                .isInstanceOfSatisfying(CustomRSocketException.class, throwable -> {
+                    assertThat(throwable.errorCode()).isEqualTo(0x00000301);
+                    assertThat(throwable.getMessage()).isEqualTo("custom");
+                });
+        assertThat(ConnectorBatchMetadataCodec.newBatchError(ErrorFrameCodec.MAX_USER_ALLOWED_ERROR_CODE, "max"))
+                .isInstanceOf(CustomRSocketException.class);
+        assertThat(ConnectorBatchMetadataCodec.newBatchError(ErrorFrameCodec.REJECTED, "rejected"))
+                .isInstanceOf(RejectedException.class);
+        assertThat(ConnectorBatchMetadataCodec.newBatchError(ErrorFrameCodec.CANCELED, "canceled"))
+                .isInstanceOf(CanceledException.class);
+        assertThat(ConnectorBatchMetadataCodec.newBatchError(ErrorFrameCodec.INVALID, "invalid"))
+                .isInstanceOf(InvalidException.class);
+        assertThat(ConnectorBatchMetadataCodec.newBatchError(ErrorFrameCodec.APPLICATION_ERROR, "application"))
+                .isExactlyInstanceOf(ApplicationErrorException.class)
+                .hasMessage("application");
+    }
+
+    @Test
+    void testFireAndForgetBatch() {
+        Payload batchPayload = ConnectorBatchMetadataCodec.encodeFireAndForgetBatch(ByteBufAllocator.DEFAULT,
+                "/server/event",
+                List.of(DefaultPayload.create("first"), DefaultPayload.create("second"))
+        );
+        try {
+            assertThat(ConnectorBatchMetadataCodec.isFireAndForgetBatch(batchPayload)).isTrue();
+            List<Payload> payloads = ConnectorBatchMetadataCodec.decodeFireAndForgetBatch(batchPayload);
+            assertThat(payloads).extracting(Payload::getDataUtf8).containsExactly("first", "second");
+            payloads.forEach(Payload::release);
+        } finally {
+            batchPayload.release();
+        }
+    }
+
+    private static void assertErrorCode(Throwable throwable, int errorCode) {
+        Payload payload = ByteBufPayload.create(ByteBufAllocator.DEFAULT.buffer(),
+                ConnectorBatchMetadataCodec.encodeBatchErrorResult(ByteBufAllocator.DEFAULT, 1, throwable)
+        );
+        try {
+            assertThat(ConnectorBatchMetadataCodec.decodeBatchResult(payload))
+                    .isEqualTo(new BatchResult(1, STATUS_ERROR, errorCode));
+        } finally {
+            payload.release();
+        }
+    }
+}
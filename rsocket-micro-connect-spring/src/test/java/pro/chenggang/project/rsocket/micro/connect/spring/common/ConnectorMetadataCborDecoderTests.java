@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.LazyCborMultiValueMapTests.bytes;
+import static pro.chenggang.project.rsocket.micro.connect.spring.common.LazyCborMultiValueMapTests.text;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMetadataCborDecoderTests {
+
+    private final ConnectorMetadataCborDecoder decoder = new ConnectorMetadataCborDecoder();
+    private final ResolvableType targetType = ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, String.class);
+
+    @Test
+    void testDecode() {
+        MultiValueMap<String, String> decoded = this.decode(bytes(0xA1, text("Authorization"), 0x81, text("token")));
+        assertThat(decoded.getFirst("authorization")).isEqualTo("token");
+    }
+
+    @Test
+    void testMalformedMetadataFailsOnDecode() {
+        assertThatThrownBy(() -> this.decode(bytes(0xA1, text("Authorization"), 0x81, 0x65, 't')))
+                .isInstanceOf(DecodingException.class);
+        assertThatThrownBy(() -> this.decode(bytes(text("Authorization"))))
+                .isInstanceOf(DecodingException.class);
+        assertThatThrownBy(() -> this.decode(bytes()))
+                .isInstanceOf(DecodingException.class);
+    }
+
+    private MultiValueMap<String, String> decode(byte[] encoded) {
+        return decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(encoded), targetType, CONNECTOR_HEADER_MEDIA_TYPE, null);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_HEADER_MEDIA_TYPE;
+import static pro.chenggang.project.rsocket.micro.connect.spring.option.RSocketMicroConnectConstant.CONNECTOR_QUERY_MEDIA_TYPE;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMetadataCborEncoderTests {
+
+    private final ConnectorMetadataCborEncoder encoder = new ConnectorMetadataCborEncoder();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void testCanEncode() {
+        ResolvableType stringMapType = ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, String.class);
+        assertThat(encoder.canEncode(stringMapType, CONNECTOR_HEADER_MEDIA_TYPE)).isTrue();
+        assertThat(encoder.canEncode(stringMapType, CONNECTOR_QUERY_MEDIA_TYPE)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(HttpHeaders.class), CONNECTOR_HEADER_MEDIA_TYPE)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forInstance(new LinkedMultiValueMap<>()), CONNECTOR_HEADER_MEDIA_TYPE)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClassWithGenerics(MultiValueMap.class, String.class, Object.class),
+                CONNECTOR_HEADER_MEDIA_TYPE
+        )).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClassWithGenerics(LinkedMultiValueMap.class, Integer.class, String.class),
+                CONNECTOR_HEADER_MEDIA_TYPE
+        )).isFalse();
+        assertThat(encoder.canEncode(stringMapType, MimeTypeUtils.APPLICATION_JSON)).isFalse();
+        assertThat(encoder.canEncode(stringMapType, null)).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClass(Map.class), CONNECTOR_HEADER_MEDIA_TYPE)).isFalse();
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        MultiValueMap<String, String> source = new LinkedMultiValueMap<>();
+        source.add("Authorization", "Bearer token");
+        source.addAll("X-Tags", List.of("first", "second"));
+        source.add("X-Empty", "");
+        source.put("X-No-Values", List.of());
+        source.add("Überschrift", "中文值 😀");
+        source.add("X-Short", "a".repeat(23));
+        source.add("X-One-Byte-Length", "b".repeat(24));
+        source.add("X-Two-Byte-Length", "c".repeat(256));
+        source.add("X-Four-Byte-Length", "d".repeat(70_000));
+        source.add("X-Multi-Byte-Length", "é".repeat(200));
+        this.assertRoundTrip(source);
+    }
+
+    @Test
+    void testNullValues() throws Exception {
+        MultiValueMap<String, String> source = new LinkedMultiValueMap<>();
+        source.put("X-Nullable", Arrays.asList("value", null));
+        byte[] encoded = this.encode(source);
+        Map<String, List<String>> decoded = cborMapper.readValue(encoded, new TypeReference<>() {
+        });
+        assertThat(decoded.get("X-Nullable")).containsExactly("value", null);
+        assertThat(new LazyCborMultiValueMap(encoded).get("x-nullable")).containsExactly("value", null);
+    }
+
+    @Test
+    void testKeysBeyondCacheLimit() throws Exception {
+        MultiValueMap<String, String> source = new LinkedMultiValueMap<>();
+        for (int i = 0; i < 1500; i++) {
+            source.add("X-Key-" + i, "value-" + i);
+        }
+        this.assertRoundTrip(source);
+        // the cached keys and the keys beyond the cache limit are encoded the same way
+        this.assertRoundTrip(source);
+    }
+
+    private void assertRoundTrip(MultiValueMap<String, String> source) throws Exception {
+        byte[] encoded = this.encode(source);
+        Map<String, List<String>> decoded = cborMapper.readValue(encoded, new TypeReference<>() {
+        });
+        assertThat(decoded).containsExactlyEntriesOf(source);
+        LazyCborMultiValueMap.validate(encoded);
+        LazyCborMultiValueMap lazyMap = new LazyCborMultiValueMap(encoded);
+        for (Map.Entry<String, List<String>> entry : source.entrySet()) {
+            assertThat(lazyMap.get(entry.getKey().toLowerCase(Locale.ROOT))).isEqualTo(entry.getValue());
+        }
+        assertThat(new LazyCborMultiValueMap(encoded)).containsExactlyEntriesOf(source);
+    }
+
+    private byte[] encode(MultiValueMap<String, String> source) {
+        DataBuffer dataBuffer = encoder.encodeValue(source,
+                DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forInstance(source),
+                CONNECTOR_HEADER_MEDIA_TYPE,
+                null
+        );
+        try {
+            byte[] encoded = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(encoded);
+            return encoded;
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
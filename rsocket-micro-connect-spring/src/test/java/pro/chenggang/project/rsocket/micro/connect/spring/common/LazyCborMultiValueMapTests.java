@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class LazyCborMultiValueMapTests {
+
+    @Test
+    void testJacksonEncodedMap() throws Exception {
+        MultiValueMap<String, String> source = new LinkedMultiValueMap<>();
+        source.add("Authorization", "Bearer token");
+        source.addAll("X-Tags", List.of("first", "second"));
+        byte[] encoded = new ObjectMapper(new CBORFactory()).writeValueAsBytes(source);
+        LazyCborMultiValueMap.validate(encoded);
+        LazyCborMultiValueMap lazyMap = new LazyCborMultiValueMap(encoded);
+        assertThat(lazyMap.get("authorization")).containsExactly("Bearer token");
+        assertThat(lazyMap.getFirst("X-TAGS")).isEqualTo("first");
+        assertThat(lazyMap.get("x-tags")).containsExactly("first", "second");
+        assertThat(lazyMap.get("absent")).isNull();
+        assertThat(lazyMap.size()).isEqualTo(2);
+        assertThat(lazyMap.toSingleValueMap()).containsEntry("Authorization", "Bearer token");
+    }
+
+    @Test
+    void testIndefiniteLengthMap() {
+        byte[] encoded = bytes(
+                0xBF,
+                text("Key"),
+                0x9F, 0x7F, text("val"), text("ue"), 0xFF, 0xF6, 0xFF,
+                text("Other"),
+                0x80,
+                0xFF
+        );
+        LazyCborMultiValueMap.validate(encoded);
+        LazyCborMultiValueMap lazyMap = new LazyCborMultiValueMap(encoded);
+        assertThat(lazyMap.isEmpty()).isFalse();
+        assertThat(lazyMap.get("KEY")).containsExactly("value", null);
+        assertThat(lazyMap.get("other")).isEmpty();
+        assertThat(lazyMap.keySet()).containsExactly("Key", "Other");
+    }
+
+    @Test
+    void testCaseInsensitiveLookup() {
+        byte[] encoded = bytes(0xA2, text("Content-Type"), 0x81, text("text/plain"), text("Überschrift"), 0x81, text("wert"));
+        LazyCborMultiValueMap lazyMap = new LazyCborMultiValueMap(encoded);
+        assertThat(lazyMap.getFirst("content-type")).isEqualTo("text/plain");
+        assertThat(lazyMap.getFirst("CONTENT-TYPE")).isEqualTo("text/plain");
+        assertThat(lazyMap.getFirst("überschrift")).isEqualTo("wert");
+        assertThat(lazyMap.containsKey("content-typ")).isFalse();
+        assertThat(lazyMap.containsKey(1)).isFalse();
+    }
+
+    @Test
+    void testRepeatedKeysLastWins() {
+        byte[] encoded = bytes(0xA2, text("Key"), 0x81, text("first"), text("KEY"), 0x81, text("second"));
+        assertThat(new LazyCborMultiValueMap(encoded).get("key")).containsExactly("second");
+        LazyCborMultiValueMap decodedMap = new LazyCborMultiValueMap(encoded);
+        assertThat(decodedMap.size()).isEqualTo(1);
+        assertThat(decodedMap.get("key")).containsExactly("second");
+    }
+
+    @Test
+    void testEmptyMap() {
+        for (byte[] encoded : List.of(bytes(0xA0), bytes(0xBF, 0xFF))) {
+            LazyCborMultiValueMap.validate(encoded);
+            LazyCborMultiValueMap lazyMap = new LazyCborMultiValueMap(encoded);
+            assertThat(lazyMap.isEmpty()).isTrue();
+            assertThat(lazyMap.get("key")).isNull();
+            assertThat(lazyMap.size()).isZero();
+        }
+    }
+
+    @Test
+    void testMutationDecodesMap() {
+        LazyCborMultiValueMap lazyMap = new LazyCborMultiValueMap(bytes(0xA1, text("Key"), 0x81, text("value")));
+        lazyMap.add("key", "other");
+        lazyMap.set("Added", "added");
+        assertThat(lazyMap.get("KEY")).containsExactly("value", "other");
+        assertThat(lazyMap.getFirst("added")).isEqualTo("added");
+    }
+
+    @Test
+    void testMalformedMap() {
+        List<byte[]> malformed = List.of(
+                bytes(),
+                bytes(text("not a map")),
+                bytes(0xA1, text("Key")),
+                bytes(0xA1, text("Key"), 0x81, 0x65, 'v', 'a'),
+                bytes(0xA1, text("Key"), text("not an array")),
+                bytes(0xA1, 0x01, 0x81, text("value")),
+                bytes(0xBF, text("Key"), 0x80),
+                bytes(0xA1, text("Key"), 0x80, 0x00),
+                bytes(0xBB, 0, 0, 0, 0, 0, 0, 0, 1)
+        );
+        for (byte[] encoded : malformed) {
+            assertThatThrownBy(() -> LazyCborMultiValueMap.validate(encoded))
+                    .as(Arrays.toString(encoded))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    static byte[] text(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[ConnectorMetadataCborEncoder.headLength(utf8.length) + utf8.length];
+        int offset = 1;
+        if (utf8.length < 24) {
+            encoded[0] = (byte) (0x60 | utf8.length);
+        } else {
+            encoded[0] = (byte) (0x60 | 24);
+            encoded[1] = (byte) utf8.length;
+            offset = 2;
+        }
+        System.arraycopy(utf8, 0, encoded, offset, utf8.length);
+        return encoded;
+    }
+
+    static byte[] bytes(Object... items) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (Object item : items) {
+            if (item instanceof byte[] itemBytes) {
+                outputStream.writeBytes(itemBytes);
+            } else if (item instanceof Character character) {
+                outputStream.write(character);
+            } else {
+                outputStream.write((Integer) item);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorLatencyTrackerTests {
+
+    @Test
+    void testBucketBoundaries() {
+        long minLatency = 1L << 14;
+        assertThat(ConnectorLatencyTracker.bucketOf(0L)).isZero();
+        assertThat(ConnectorLatencyTracker.bucketOf(minLatency - 1)).isZero();
+        assertThat(ConnectorLatencyTracker.upperBoundOf(0)).isEqualTo(minLatency);
+        assertThat(ConnectorLatencyTracker.bucketOf(minLatency)).isEqualTo(1);
+        // 4 buckets per power of two
+        assertThat(ConnectorLatencyTracker.upperBoundOf(1)).isEqualTo(5L << 12);
+        assertThat(ConnectorLatencyTracker.bucketOf((5L << 12) - 1)).isEqualTo(1);
+        assertThat(ConnectorLatencyTracker.bucketOf(5L << 12)).isEqualTo(2);
+        assertThat(ConnectorLatencyTracker.bucketOf(minLatency << 1)).isEqualTo(5);
+        for (long latency = minLatency; latency < (1L << 38); latency = latency * 9 / 8 + 1) {
+            int bucket = ConnectorLatencyTracker.bucketOf(latency);
+            assertThat(ConnectorLatencyTracker.upperBoundOf(bucket - 1)).isLessThanOrEqualTo(latency);
+            assertThat(ConnectorLatencyTracker.upperBoundOf(bucket)).isGreaterThan(latency);
+        }
+        int lastBucket = ConnectorLatencyTracker.bucketOf(Long.MAX_VALUE);
+        assertThat(ConnectorLatencyTracker.bucketOf(1L << 38)).isEqualTo(lastBucket);
+        assertThat(ConnectorLatencyTracker.bucketOf((1L << 38) - 1)).isEqualTo(lastBucket);
+    }
+
+    @Test
+    void testMinSamples() {
+        ConnectorLatencyTracker latencyTracker = new ConnectorLatencyTracker(0.5D);
+        assertThat(latencyTracker.percentileNanos(1)).isEqualTo(-1L);
+        latencyTracker.record(nanos(Duration.ofMillis(1)));
+        assertThat(latencyTracker.percentileNanos(2)).isEqualTo(-1L);
+        assertThat(latencyTracker.percentileNanos(1)).isEqualTo(upperBoundOf(Duration.ofMillis(1)));
+    }
+
+    @Test
+    void testPercentile() {
+        ConnectorLatencyTracker p50Tracker = new ConnectorLatencyTracker(0.5D);
+        ConnectorLatencyTracker p95Tracker = new ConnectorLatencyTracker(0.95D);
+        for (int i = 0; i < 160; i++) {
+            long latency = i % 10 == 0 ? nanos(Duration.ofMillis(100)) : nanos(Duration.ofMillis(1));
+            p50Tracker.record(latency);
+            p95Tracker.record(latency);
+        }
+        assertThat(p50Tracker.percentileNanos(1)).isEqualTo(upperBoundOf(Duration.ofMillis(1)));
+        assertThat(p95Tracker.percentileNanos(1)).isEqualTo(upperBoundOf(Duration.ofMillis(100)));
+    }
+
+    @Test
+    void testDecay() {
+        ConnectorLatencyTracker latencyTracker = new ConnectorLatencyTracker(0.5D);
+        for (int i = 0; i < 2048; i++) {
+            latencyTracker.record(nanos(Duration.ofMillis(100)));
+        }
+        assertThat(latencyTracker.percentileNanos(1)).isEqualTo(upperBoundOf(Duration.ofMillis(100)));
+        // the slow latencies are halved, so fewer fast latencies than the slow ones recorded shift the percentile
+        for (int i = 0; i < 1200; i++) {
+            latencyTracker.record(nanos(Duration.ofMillis(1)));
+        }
+        assertThat(latencyTracker.percentileNanos(1)).isEqualTo(upperBoundOf(Duration.ofMillis(1)));
+    }
+
+    private static long nanos(Duration latency) {
+        return latency.toNanos();
+    }
+
+    private static long upperBoundOf(Duration latency) {
+        return ConnectorLatencyTracker.upperBoundOf(ConnectorLatencyTracker.bucketOf(latency.toNanos()));
+    }
+}
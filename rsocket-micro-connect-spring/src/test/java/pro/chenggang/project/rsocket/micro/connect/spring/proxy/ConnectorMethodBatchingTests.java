@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.CustomRSocketException;
+import io.rsocket.exceptions.RejectedException;
+import io.rsocket.util.DefaultPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.util.MimeTypeUtils;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Batched;
+import pro.chenggang.project.rsocket.micro.connect.spring.server.RSocketBatchHandlerAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMethodBatchingTests {
+
+    static final int CUSTOM_ERROR_CODE = 0x00000301;
+
+    private final AtomicInteger batches = new AtomicInteger();
+    private RSocketRequester rSocketRequester;
+
+    @BeforeEach
+    void setUp() {
+        RSocket handler = new RSocket() {
+            @Override
+            public Mono<Payload> requestResponse(Payload payload) {
+                String data = payload.getDataUtf8();
+                payload.release();
+                return switch (data) {
+                    case "empty" -> Mono.empty();
+                    case "custom" -> Mono.error(new CustomRSocketException(CUSTOM_ERROR_CODE, "custom failure"));
+                    case "rejected" -> Mono.error(new RejectedException("rejected failure"));
+                    case "illegal" -> Mono.error(new IllegalStateException("illegal failure"));
+                    default -> Mono.just(DefaultPayload.create("item-" + data));
+                };
+            }
+        };
+        RSocket batchHandler = new RSocketBatchHandlerAdapter(4)
+                .apply((setup, sendingSocket) -> Mono.just(handler))
+                .accept(null, null)
+                .block();
+        RSocket countingBatchHandler = new RSocket() {
+            @Override
+            public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+                batches.incrementAndGet();
+                return batchHandler.requestChannel(payloads);
+            }
+        };
+        rSocketRequester = RSocketRequester.wrap(countingBatchHandler,
+                MimeTypeUtils.TEXT_PLAIN,
+                ConnectorRequesterDecorator.COMPOSITE_METADATA_MIME_TYPE,
+                RSocketStrategies.create()
+        );
+    }
+
+    @Test
+    void testResultsDemultiplexedWithErrorCodes() throws NoSuchMethodException {
+        RSocket batching = newBatchingRSocket(5);
+        List<Signal<String>> results = Flux.just("1", "empty", "custom", "rejected", "illegal")
+                .flatMapSequential(data -> batching.requestResponse(DefaultPayload.create(data))
+                        .map(response -> {
+                            String value = response.getDataUtf8();
+                            response.release();
+                            return value;
+                        })
+                        .materialize()
+                )
+                .collectList()
+                .block(Duration.ofSeconds(5));
+        assertThat(batches).hasValue(1);
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0).get()).isEqualTo("item-1");
+        assertThat(results.get(1).isOnComplete()).isTrue();
+        assertThat(results.get(2).getThrowable())
+                .isInstanceOfSatisfying(CustomRSocketException.class, throwable -> {
+                    assertThat(throwable.errorCode()).isEqualTo(CUSTOM_ERROR_CODE);
+                    assertThat(throwable.getMessage()).isEqualTo("custom failure");
+                });
+        assertThat(results.get(3).getThrowable()).isInstanceOf(RejectedException.class).hasMessage("rejected failure");
+        assertThat(results.get(4).getThrowable())
+                .isExactlyInstanceOf(ApplicationErrorException.class)
+                .hasMessage("illegal failure");
+    }
+
+    @Test
+    void testBatchSentWhenWindowElapses() throws NoSuchMethodException {
+        RSocket batching = newBatchingRSocket(64);
+        List<String> results = Flux.just("1", "2", "3")
+                .flatMapSequential(data -> batching.requestResponse(DefaultPayload.create(data))
+                        .map(response -> {
+                            String value = response.getDataUtf8();
+                            response.release();
+                            return value;
+                        })
+                )
+                .collectList()
+                .block(Duration.ofSeconds(5));
+        assertThat(results).containsExactly("item-1", "item-2", "item-3");
+        assertThat(batches).hasValue(1);
+    }
+
+    private RSocket newBatchingRSocket(int maxSize) throws NoSuchMethodException {
+        String methodName = maxSize == 5 ? "getItem" : "getItems";
+        ConnectorMethodBatching batching = ConnectorMethodBatching.resolve(ItemConnector.class.getMethod(methodName), "/server/item");
+        assertThat(batching).isNotNull();
+        ConnectorExecution connectorExecution = ConnectorExecution.builder()
+                .connectorExecutionMetadata(ConnectorExecutionMetadata.builder()
+                        .originalRoute("/server/item")
+                        .connectorInterface(ItemConnector.class)
+                        .connectorMethod(ItemConnector.class.getMethod(methodName))
+                        .build()
+                )
+                .route("/server/item")
+                .build();
+        RSocketRequester decorated = batching.decorate(rSocketRequester, connectorExecution);
+        assertThat(decorated).isNotSameAs(rSocketRequester);
+        return decorated.rsocket();
+    }
+
+    interface ItemConnector {
+
+        @Batched(maxSize = 5, window = "1s")
+        Mono<String> getItem();
+
+        @Batched(maxSize = 64, window = "10ms")
+        Mono<String> getItems();
+    }
+}
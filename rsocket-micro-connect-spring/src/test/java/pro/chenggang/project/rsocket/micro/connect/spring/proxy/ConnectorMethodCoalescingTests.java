@@ -0,0 +1,205 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Coalesce;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMethodCoalescingTests {
+
+    @Test
+    void testIdenticalExecutionsShareRequestAndResponse() throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        AtomicInteger subscriptions = new AtomicInteger();
+        Sinks.One<Object> response = Sinks.one();
+        Mono<Object> request = response.asMono().doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+        AtomicReference<Object> first = new AtomicReference<>();
+        AtomicReference<Object> second = new AtomicReference<>();
+        coalescing.coalesce(newExecution("/user/{id}", "1", null), request).subscribe(first::set);
+        coalescing.coalesce(newExecution("/user/{id}", "1", null), request).subscribe(second::set);
+        assertThat(subscriptions).hasValue(1);
+        Object user = new Object();
+        response.tryEmitValue(user);
+        assertThat(first.get()).isSameAs(user);
+        assertThat(second.get()).isSameAs(user);
+    }
+
+    @Test
+    void testConcurrentExecutionsAllComplete() throws Exception {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        ConnectorExecution connectorExecution = newExecution("/user/{id}", "1", null);
+        Object user = new Object();
+        Mono<Object> request = Mono.just(user).delayElement(Duration.ofMillis(1));
+        int concurrency = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int round = 0; round < 200; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<CompletableFuture<Object>>> subscriptions = new ArrayList<>(concurrency);
+                for (int i = 0; i < concurrency; i++) {
+                    subscriptions.add(executorService.submit(() -> {
+                        start.await();
+                        return coalescing.coalesce(connectorExecution, request).toFuture();
+                    }));
+                }
+                start.countDown();
+                for (Future<CompletableFuture<Object>> subscription : subscriptions) {
+                    assertThat(subscription.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS)).isSameAs(user);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDifferentExecutionsAreNotCoalesced() throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<Object> request = Mono.never().doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+        Disposable first = coalescing.coalesce(newExecution("/user/{id}", "1", null), request).subscribe();
+        Disposable second = coalescing.coalesce(newExecution("/user/{id}", "2", null), request).subscribe();
+        Disposable third = coalescing.coalesce(newExecution("/user/{id}", "1", "other-token"), request).subscribe();
+        assertThat(subscriptions).hasValue(3);
+        first.dispose();
+        second.dispose();
+        third.dispose();
+    }
+
+    @Test
+    void testRequestCancelledWhenAllExecutionsCancelled() throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<Object> request = Mono.never()
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet())
+                .doOnCancel(() -> cancelled.set(true));
+        Disposable first = coalescing.coalesce(newExecution("/user/{id}", "1", null), request).subscribe();
+        Disposable second = coalescing.coalesce(newExecution("/user/{id}", "1", null), request).subscribe();
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        second.dispose();
+        assertThat(cancelled).isTrue();
+        Disposable third = coalescing.coalesce(newExecution("/user/{id}", "1", null), request).subscribe();
+        assertThat(subscriptions).hasValue(2);
+        third.dispose();
+    }
+
+    @Test
+    void testExecutionAfterTerminationSendsNewRequest() throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<Object> request = Mono.fromSupplier(Object::new)
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+        Object first = coalescing.coalesce(newExecution("/user/{id}", "1", null), request).block();
+        Object second = coalescing.coalesce(newExecution("/user/{id}", "1", null), request).block();
+        assertThat(subscriptions).hasValue(2);
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void testSharedRequestUsesFirstSubscriberContext() throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        Sinks.One<Object> response = Sinks.one();
+        AtomicReference<String> requestContext = new AtomicReference<>();
+        Mono<Object> request = Mono.deferContextual(contextView -> {
+            requestContext.set(contextView.get("caller"));
+            return response.asMono();
+        });
+        AtomicReference<Object> second = new AtomicReference<>();
+        coalescing.coalesce(newExecution("/user/{id}", "1", null), request)
+                .contextWrite(context -> context.put("caller", "first"))
+                .subscribe();
+        coalescing.coalesce(newExecution("/user/{id}", "1", null), request)
+                .contextWrite(context -> context.put("caller", "second"))
+                .subscribe(second::set);
+        response.tryEmitValue("user");
+        assertThat(requestContext).hasValue("first");
+        assertThat(second).hasValue("user");
+    }
+
+    @Test
+    void testStreamingBodyIsNotCoalesced() throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = resolve("getUser");
+        Mono<Object> request = Mono.never();
+        Mono<Object> coalesced = coalescing.coalesce(newExecution("/user/{id}", "1", null).bodyData(Flux.just("body")), request);
+        assertThat(coalesced).isSameAs(request);
+    }
+
+    @Test
+    void testMethodWithoutCoalesceIsNotResolved() throws NoSuchMethodException {
+        assertThat(ConnectorMethodCoalescing.resolve(UserConnector.class.getMethod("updateUser"))).isNull();
+    }
+
+    private static ConnectorMethodCoalescing resolve(String methodName) throws NoSuchMethodException {
+        ConnectorMethodCoalescing coalescing = ConnectorMethodCoalescing.resolve(UserConnector.class.getMethod(methodName));
+        assertThat(coalescing).isNotNull();
+        return coalescing;
+    }
+
+    private static ConnectorExecution newExecution(String route, String id, String token) throws NoSuchMethodException {
+        Method connectorMethod = UserConnector.class.getMethod("getUser");
+        ConnectorExecution connectorExecution = ConnectorExecution.builder()
+                .connectorExecutionMetadata(ConnectorExecutionMetadata.builder()
+                        .originalRoute(route)
+                        .connectorInterface(UserConnector.class)
+                        .connectorMethod(connectorMethod)
+                        .build()
+                )
+                .route(route)
+                .build()
+                .addPathVariable("id", id)
+                .addHeader("Trace-Id", id + "-" + System.nanoTime());
+        if (Objects.nonNull(token)) {
+            connectorExecution.addHeader("Authorization", token);
+        }
+        return connectorExecution;
+    }
+
+    interface UserConnector {
+
+        @Coalesce(headers = "Authorization")
+        Mono<Object> getUser();
+
+        Mono<Void> updateUser();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.Hedged;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMethodHedgingTests {
+
+    @Test
+    void testHedgeAfterFixedDelay() throws NoSuchMethodException {
+        HedgeBudget hedgeBudget = new HedgeBudget(1D, 10);
+        ConnectorMethodHedging hedging = resolve("fixedDelay", hedgeBudget);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.never();
+        });
+        StepVerifier.withVirtualTime(() -> hedging.hedge(request))
+                .expectSubscription()
+                .then(() -> assertThat(subscriptions).hasValue(1))
+                .expectNoEvent(Duration.ofMillis(99))
+                .then(() -> assertThat(subscriptions).hasValue(1))
+                .thenAwait(Duration.ofMillis(1))
+                .then(() -> assertThat(subscriptions).hasValue(2))
+                .thenAwait(Duration.ofMinutes(1))
+                .then(() -> assertThat(subscriptions).hasValue(2))
+                .thenCancel()
+                .verify();
+        assertThat(hedgeBudget.getHedgedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testHedgeAfterPercentileDelay() throws NoSuchMethodException {
+        ConnectorMethodHedging hedging = resolve("percentileDelay", new HedgeBudget(1D, 10));
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.never();
+        });
+        // not hedged until there are enough samples
+        StepVerifier.withVirtualTime(() -> hedging.hedge(request))
+                .expectSubscription()
+                .thenAwait(Duration.ofMinutes(1))
+                .then(() -> assertThat(subscriptions).hasValue(1))
+                .thenCancel()
+                .verify();
+        long latencyNanos = Duration.ofMillis(40).toNanos();
+        for (int i = 0; i < 16; i++) {
+            hedging.getLatencyTracker().record(latencyNanos);
+        }
+        Duration percentileDelay = Duration.ofNanos(ConnectorLatencyTracker.upperBoundOf(ConnectorLatencyTracker.bucketOf(latencyNanos)));
+        subscriptions.set(0);
+        StepVerifier.withVirtualTime(() -> hedging.hedge(request))
+                .expectSubscription()
+                .expectNoEvent(percentileDelay.minusNanos(1))
+                .then(() -> assertThat(subscriptions).hasValue(1))
+                .thenAwait(Duration.ofNanos(1))
+                .then(() -> assertThat(subscriptions).hasValue(2))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testFirstResponseWinsAndLoserIsCancelled() throws NoSuchMethodException {
+        ConnectorMethodHedging hedging = resolve("fixedDelay", new HedgeBudget(1D, 10));
+        AtomicBoolean firstCancelled = new AtomicBoolean();
+        StepVerifier.withVirtualTime(() -> hedging.hedge(requests(
+                        Mono.delay(Duration.ofMillis(300)).thenReturn("first").doOnCancel(() -> firstCancelled.set(true)),
+                        Mono.delay(Duration.ofMillis(50)).thenReturn("hedged")
+                )))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(149))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("hedged")
+                .verifyComplete();
+        assertThat(firstCancelled).isTrue();
+    }
+
+    @Test
+    void testErrorPropagatedOnlyWithoutOtherRequestInFlight() throws NoSuchMethodException {
+        ConnectorMethodHedging hedging = resolve("fixedDelay", new HedgeBudget(1D, 10));
+        StepVerifier.withVirtualTime(() -> hedging.hedge(requests(
+                        Mono.delay(Duration.ofMillis(150)).then(Mono.<String>error(new IllegalStateException("first failed"))),
+                        Mono.delay(Duration.ofMillis(100)).then(Mono.<String>error(new IllegalStateException("hedged failed")))
+                )))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(199))
+                .thenAwait(Duration.ofMillis(1))
+                .expectErrorMessage("hedged failed")
+                .verify();
+    }
+
+    @Test
+    void testErrorOfFirstRequestSkippedWhileHedgedInFlight() throws NoSuchMethodException {
+        ConnectorMethodHedging hedging = resolve("fixedDelay", new HedgeBudget(1D, 10));
+        StepVerifier.withVirtualTime(() -> hedging.hedge(requests(
+                        Mono.delay(Duration.ofMillis(150)).then(Mono.<String>error(new IllegalStateException("first failed"))),
+                        Mono.delay(Duration.ofMillis(100)).thenReturn("hedged")
+                )))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(199))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("hedged")
+                .verifyComplete();
+    }
+
+    @Test
+    void testErrorBeforeHedgeIsPropagated() throws NoSuchMethodException {
+        ConnectorMethodHedging hedging = resolve("fixedDelay", new HedgeBudget(1D, 10));
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(50)).then(Mono.error(new IllegalStateException("first failed")));
+        });
+        StepVerifier.withVirtualTime(() -> hedging.hedge(request))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(49))
+                .thenAwait(Duration.ofMillis(1))
+                .expectErrorMessage("first failed")
+                .verify();
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    void testHedgeRejectedWhenBudgetExhausted() throws NoSuchMethodException {
+        HedgeBudget hedgeBudget = new HedgeBudget(0.5D, 1);
+        ConnectorMethodHedging hedging = resolve("fixedDelay", hedgeBudget);
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            subscriptions.incrementAndGet();
+            return Mono.never();
+        });
+        StepVerifier.withVirtualTime(() -> hedging.hedge(request))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(100))
+                .then(() -> assertThat(subscriptions).hasValue(1))
+                .thenCancel()
+                .verify();
+        assertThat(hedgeBudget.getRejectedCount()).isEqualTo(1);
+        subscriptions.set(0);
+        StepVerifier.withVirtualTime(() -> hedging.hedge(request))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(100))
+                .then(() -> assertThat(subscriptions).hasValue(2))
+                .thenCancel()
+                .verify();
+        assertThat(hedgeBudget.getHedgedCount()).isEqualTo(1);
+    }
+
+    private static ConnectorMethodHedging resolve(String methodName, HedgeBudget hedgeBudget) throws NoSuchMethodException {
+        ConnectorMethodHedging hedging = ConnectorMethodHedging.resolve(HedgedConnector.class.getMethod(methodName), hedgeBudget);
+        assertThat(hedging).isNotNull();
+        return hedging;
+    }
+
+    /**
+     * The request whose subscriptions are the given monos in order,
+     * the monos are assembled within the virtual time so their delays are virtual.
+     */
+    private static <R> Mono<R> requests(Mono<R> first, Mono<R> hedged) {
+        List<Mono<R>> requests = List.of(first, hedged);
+        AtomicInteger subscriptions = new AtomicInteger();
+        return Mono.defer(() -> requests.get(subscriptions.getAndIncrement()));
+    }
+
+    interface HedgedConnector {
+
+        @Hedged(delay = "100ms")
+        Mono<String> fixedDelay();
+
+        @Hedged(percentile = 0.5D, minSamples = 10)
+        Mono<String> percentileDelay();
+    }
+}
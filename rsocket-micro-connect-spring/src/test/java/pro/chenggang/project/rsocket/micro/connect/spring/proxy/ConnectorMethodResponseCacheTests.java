@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.junit.jupiter.api.Test;
+import pro.chenggang.project.rsocket.micro.connect.spring.annotation.CachedResponse;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCache;
+import pro.chenggang.project.rsocket.micro.connect.spring.client.cache.RSocketResponseCacheRegistry;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class ConnectorMethodResponseCacheTests {
+
+    @Test
+    void testOverloadedMethodsHaveTheirOwnCaches() throws NoSuchMethodException {
+        RSocketResponseCacheRegistry registry = RSocketResponseCacheRegistry.withoutListeners();
+        URI transportURI = URI.create("tcp://user-server:7000");
+        assertThat(ConnectorMethodResponseCache.resolve(UserConnector.class,
+                UserConnector.class.getMethod("getUser", String.class),
+                transportURI,
+                registry
+        )).isNotNull();
+        assertThat(ConnectorMethodResponseCache.resolve(UserConnector.class,
+                UserConnector.class.getMethod("getUser", List.class),
+                transportURI,
+                registry
+        )).isNotNull();
+        assertThat(registry.getResponseCaches())
+                .extracting(RSocketResponseCache::getName, RSocketResponseCache::getTtl)
+                .containsExactlyInAnyOrder(
+                        tuple(UserConnector.class.getName() + "#getUser(java.lang.String)", Duration.ofMinutes(1)),
+                        tuple(UserConnector.class.getName() + "#getUser(java.util.List<java.lang.String>)", Duration.ofSeconds(10))
+                );
+    }
+
+    @Test
+    void testMethodWithoutCachedResponseIsNotResolved() throws NoSuchMethodException {
+        assertThat(ConnectorMethodResponseCache.resolve(UserConnector.class,
+                UserConnector.class.getMethod("updateUser", String.class),
+                URI.create("tcp://user-server:7000"),
+                RSocketResponseCacheRegistry.withoutListeners()
+        )).isNull();
+    }
+
+    interface UserConnector {
+
+        @CachedResponse(ttl = "1m")
+        Mono<Object> getUser(String id);
+
+        @CachedResponse(ttl = "10s")
+        Mono<List<Object>> getUser(List<String> ids);
+
+        Mono<Void> updateUser(String id);
+    }
+}
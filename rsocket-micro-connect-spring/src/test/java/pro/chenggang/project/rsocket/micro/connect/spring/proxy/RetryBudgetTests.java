@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2025 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package pro.chenggang.project.rsocket.micro.connect.spring.proxy;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Gang Cheng
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public class RetryBudgetTests {
+
+    static final URI TRANSPORT_URI = URI.create("tcp://localhost:7000");
+
+    @Test
+    void testRetriesWithinRatioOfDeposits() {
+        RetryBudget retryBudget = new RetryBudget(TRANSPORT_URI, 0.1D, 10);
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+        for (int i = 0; i < 9; i++) {
+            retryBudget.deposit();
+        }
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+        retryBudget.deposit();
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+        assertThat(retryBudget.getRetriedCount()).isEqualTo(1);
+        assertThat(retryBudget.getRejectedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testBalanceCappedByBurst() {
+        RetryBudget retryBudget = new RetryBudget(TRANSPORT_URI, 1D, 2);
+        for (int i = 0; i < 100; i++) {
+            retryBudget.deposit();
+        }
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isTrue();
+        assertThat(retryBudget.tryWithdraw()).isFalse();
+    }
+}